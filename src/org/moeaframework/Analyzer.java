@@ -28,24 +28,36 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
 import org.apache.commons.math3.stat.descriptive.rank.Max;
 import org.apache.commons.math3.stat.descriptive.rank.Median;
 import org.apache.commons.math3.stat.descriptive.rank.Min;
+import org.moeaframework.analysis.sensitivity.BinaryResultFileReader;
+import org.moeaframework.analysis.sensitivity.BinaryResultFileWriter;
+import org.moeaframework.analysis.sensitivity.OutputWriter;
 import org.moeaframework.analysis.sensitivity.ResultEntry;
 import org.moeaframework.analysis.sensitivity.ResultFileReader;
 import org.moeaframework.analysis.sensitivity.ResultFileWriter;
+import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.Indicator;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.PopulationIO;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
 import org.moeaframework.core.indicator.AdditiveEpsilonIndicator;
 import org.moeaframework.core.indicator.Contribution;
+import org.moeaframework.core.indicator.FusedIndicatorEvaluator;
 import org.moeaframework.core.indicator.GenerationalDistance;
 import org.moeaframework.core.indicator.Hypervolume;
 import org.moeaframework.core.indicator.InvertedGenerationalDistance;
 import org.moeaframework.core.indicator.MaximumParetoFrontError;
+import org.moeaframework.core.indicator.MonteCarloHypervolume;
 import org.moeaframework.core.indicator.R1Indicator;
 import org.moeaframework.core.indicator.R2Indicator;
 import org.moeaframework.core.indicator.R3Indicator;
@@ -94,6 +106,12 @@ public class Analyzer extends ProblemBuilder {
 	 */
 	private boolean includeHypervolume;
 	
+	/**
+	 * {@code true} if the approximate hypervolume metric is to be computed;
+	 * {@code false} otherwise.
+	 */
+	private boolean includeApproximateHypervolume;
+	
 	/**
 	 * {@code true} if the generational distance metric is to be computed; 
 	 * {@code false} otherwise.
@@ -193,6 +211,18 @@ public class Analyzer extends ProblemBuilder {
 	 */
 	private double[] referencePoint;
 	
+	/**
+	 * {@code true} if result files are saved in the binary format;
+	 * {@code false} if result files are saved in the text format.
+	 */
+	private boolean binaryFormat;
+	
+	/**
+	 * The number of threads used to evaluate the indicators and merge the
+	 * aggregate sets.
+	 */
+	private int numberOfThreads;
+	
 	/**
 	 * The collection of end-of-run approximation sets.
 	 */
@@ -205,6 +235,7 @@ public class Analyzer extends ProblemBuilder {
 		super();
 		
 		significanceLevel = 0.05;
+		numberOfThreads = 1;
 		statistics = new ArrayList<UnivariateStatistic>();
 		data = new HashMap<String, List<NondominatedPopulation>>();
 	}
@@ -263,6 +294,20 @@ public class Analyzer extends ProblemBuilder {
 		return this;
 	}
 	
+	/**
+	 * Enables the evaluation of the approximate hypervolume metric, which is
+	 * estimated by {@link MonteCarloHypervolume} and reported as
+	 * {@code MonteCarloHypervolume}.  This is intended for many-objective
+	 * problems where the exact hypervolume is too expensive to compute.
+	 * 
+	 * @return a reference to this analyzer
+	 */
+	public Analyzer includeApproximateHypervolume() {
+		includeApproximateHypervolume = true;
+		
+		return this;
+	}
+	
 	/**
 	 * Enables the evaluation of the generational distance metric.
 	 * 
@@ -482,6 +527,48 @@ public class Analyzer extends ProblemBuilder {
 		return this;
 	}
 
+	/**
+	 * Saves result files in the binary format written by
+	 * {@link BinaryResultFileWriter} instead of the text format.  Result files
+	 * in either format can be loaded regardless of this setting.
+	 * 
+	 * @return a reference to this analyzer
+	 */
+	public Analyzer usingBinaryFormat() {
+		binaryFormat = true;
+		
+		return this;
+	}
+
+	/**
+	 * Enables this analyzer to evaluate the indicators and merge the
+	 * aggregate sets across the specified number of threads.  The results of
+	 * the analysis are identical to those produced using a single thread.
+	 * 
+	 * @param numberOfThreads the number of threads
+	 * @return a reference to this analyzer
+	 * @throws IllegalArgumentException if {@code numberOfThreads <= 0}
+	 */
+	public Analyzer distributeOn(int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException("invalid number of threads");
+		}
+		
+		this.numberOfThreads = numberOfThreads;
+		
+		return this;
+	}
+	
+	/**
+	 * Enables this analyzer to evaluate the indicators and merge the
+	 * aggregate sets across all processors on the local host.
+	 * 
+	 * @return a reference to this analyzer
+	 */
+	public Analyzer distributeOnAllCores() {
+		return distributeOn(Runtime.getRuntime().availableProcessors());
+	}
+
 	/**
 	 * Adds the collection of new samples with the specified name.
 	 * 
@@ -569,7 +656,8 @@ public class Analyzer extends ProblemBuilder {
 	}
 	
 	/**
-	 * Loads the samples stored in a result file using {@link ResultFileReader}.
+	 * Loads the samples stored in a result file using {@link ResultFileReader}
+	 * or, if the file is in the binary format, {@link BinaryResultFileReader}.
 	 * 
 	 * @param name the name of the samples
 	 * @param resultFile the result file to load
@@ -578,20 +666,37 @@ public class Analyzer extends ProblemBuilder {
 	 */
 	public Analyzer loadAs(String name, File resultFile) throws IOException {
 		Problem problem = null;
-		ResultFileReader reader = null;
 		
 		try {
 			problem = getProblemInstance();
 
-			try {
-				reader = new ResultFileReader(problem, resultFile);
-						
-				while (reader.hasNext()) {
-					add(name, reader.next().getPopulation());
+			if (BinaryResultFileReader.isBinaryResultFile(resultFile)) {
+				BinaryResultFileReader reader = null;
+
+				try {
+					reader = new BinaryResultFileReader(problem, resultFile);
+
+					while (reader.hasNext()) {
+						add(name, reader.next().getPopulation());
+					}
+				} finally {
+					if (reader != null) {
+						reader.close();
+					}
 				}
-			} finally {
-				if (reader != null) {
-					reader.close();
+			} else {
+				ResultFileReader reader = null;
+
+				try {
+					reader = new ResultFileReader(problem, resultFile);
+
+					while (reader.hasNext()) {
+						add(name, reader.next().getPopulation());
+					}
+				} finally {
+					if (reader != null) {
+						reader.close();
+					}
 				}
 			}
 		} finally {
@@ -604,8 +709,9 @@ public class Analyzer extends ProblemBuilder {
 	}
 	
 	/**
-	 * Saves the samples to a result file using {@link ResultFileWriter}.  If
-	 * {@code name} is {@code null}, the reference set is saved.  Otherwise,
+	 * Saves the samples to a result file using {@link ResultFileWriter} or, if
+	 * {@link #usingBinaryFormat()} was called, {@link BinaryResultFileWriter}.
+	 * If {@code name} is {@code null}, the reference set is saved.  Otherwise,
 	 * the approximation sets for the named entries are saved.
 	 * 
 	 * @param name the name of the samples
@@ -615,7 +721,7 @@ public class Analyzer extends ProblemBuilder {
 	 */
 	public Analyzer saveAs(String name, File resultFile) throws IOException {
 		Problem problem = null;
-		ResultFileWriter writer = null;
+		OutputWriter writer = null;
 		
 		try {
 			problem = getProblemInstance();
@@ -624,7 +730,11 @@ public class Analyzer extends ProblemBuilder {
 			FileUtils.delete(resultFile);
 
 			try {
-				writer = new ResultFileWriter(problem, resultFile);
+				if (binaryFormat) {
+					writer = new BinaryResultFileWriter(problem, resultFile);
+				} else {
+					writer = new ResultFileWriter(problem, resultFile);
+				}
 				
 				if (name == null) {
 					writer.append(new ResultEntry(getReferenceSet()));
@@ -720,15 +830,14 @@ public class Analyzer extends ProblemBuilder {
 		} catch (IllegalArgumentException e) {
 			if (referenceSetFile == null) {
 				//return the combination of all approximation sets
-				NondominatedPopulation referenceSet = newArchive();
+				List<NondominatedPopulation> sets =
+						new ArrayList<NondominatedPopulation>();
 				
 				for (List<NondominatedPopulation> entry : data.values()) {
-					for (NondominatedPopulation set : entry) {
-						referenceSet.addAll(set);
-					}
+					sets.addAll(entry);
 				}
 				
-				return referenceSet;
+				return merge(sets);
 			} else {
 				throw e;
 			}
@@ -736,84 +845,315 @@ public class Analyzer extends ProblemBuilder {
 	}
 	
 	/**
-	 * Generates the analysis of all data recorded in this analyzer.  
+	 * Returns the combination of the specified approximation sets, as if each
+	 * set were added in order to a new archive.  When multiple threads are
+	 * enabled, the sets are first archived individually and then adjacent
+	 * archives are merged pairwise until one remains.  Each merge adds the
+	 * solutions of the right archive to the left archive, so the surviving
+	 * solutions and their order match the serial combination.
 	 * 
-	 * @return an object storing the results of the analysis
+	 * @param sets the approximation sets
+	 * @return the combination of the specified approximation sets
 	 */
-	public AnalyzerResults getAnalysis() {
-		if (data.isEmpty()) {
-			return new AnalyzerResults();
+	private NondominatedPopulation merge(List<NondominatedPopulation> sets) {
+		if ((numberOfThreads <= 1) || (sets.size() < 2)) {
+			NondominatedPopulation result = newArchive();
+			
+			for (NondominatedPopulation set : sets) {
+				result.addAll(set);
+			}
+			
+			return result;
 		}
 		
-		Problem problem = null;
+		ExecutorService executor = Executors.newFixedThreadPool(
+				numberOfThreads);
 		
 		try {
-			problem = getProblemInstance();
+			List<Merge> merges = new ArrayList<Merge>();
 			
-			//instantiate the reference set
-			NondominatedPopulation referenceSet = getReferenceSet();
+			for (NondominatedPopulation set : sets) {
+				merges.add(new Merge(newArchive(), set));
+			}
 			
-			//setup the quality indicators
-			List<Indicator> indicators = new ArrayList<Indicator>();
+			List<NondominatedPopulation> archives = invokeAll(executor,
+					merges);
 			
-			if (includeHypervolume) {
-				if ((idealPoint != null) && (referencePoint != null)) {
-					indicators.add(new Hypervolume(problem, idealPoint, referencePoint));
-				} else if (referencePoint != null) {
-					indicators.add(new Hypervolume(problem, referenceSet, referencePoint));
-				} else {
-					indicators.add(new Hypervolume(problem, referenceSet));
+			while (archives.size() > 1) {
+				merges.clear();
+				
+				for (int i = 0; i < archives.size(); i += 2) {
+					if (i + 1 < archives.size()) {
+						merges.add(new Merge(archives.get(i),
+								archives.get(i + 1)));
+					} else {
+						merges.add(new Merge(archives.get(i),
+								new NondominatedPopulation()));
+					}
 				}
+				
+				archives = invokeAll(executor, merges);
 			}
 			
-			if (includeGenerationalDistance) {
-				indicators.add(new GenerationalDistance(problem, referenceSet));
+			return archives.get(0);
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Creates the quality indicators enabled in this analyzer.
+	 * 
+	 * @param problem the problem
+	 * @param referenceSet the reference set
+	 * @return the quality indicators enabled in this analyzer
+	 */
+	private List<Indicator> createIndicators(Problem problem,
+			NondominatedPopulation referenceSet) {
+		List<Indicator> indicators = new ArrayList<Indicator>();
+		
+		if (includeHypervolume) {
+			if ((idealPoint != null) && (referencePoint != null)) {
+				indicators.add(new Hypervolume(problem, idealPoint, referencePoint));
+			} else if (referencePoint != null) {
+				indicators.add(new Hypervolume(problem, referenceSet, referencePoint));
+			} else {
+				indicators.add(new Hypervolume(problem, referenceSet));
 			}
-			
-			if (includeInvertedGenerationalDistance) {
-				indicators.add(new InvertedGenerationalDistance(problem, 
+		}
+		
+		if (includeApproximateHypervolume) {
+			if ((idealPoint != null) && (referencePoint != null)) {
+				indicators.add(new MonteCarloHypervolume(problem,
+						idealPoint, referencePoint));
+			} else if (referencePoint != null) {
+				indicators.add(new MonteCarloHypervolume(problem,
+						referenceSet, referencePoint));
+			} else {
+				indicators.add(new MonteCarloHypervolume(problem,
 						referenceSet));
 			}
+		}
+		
+		if (includeGenerationalDistance) {
+			indicators.add(new GenerationalDistance(problem, referenceSet));
+		}
+		
+		if (includeInvertedGenerationalDistance) {
+			indicators.add(new InvertedGenerationalDistance(problem, 
+					referenceSet));
+		}
+		
+		if (includeAdditiveEpsilonIndicator) {
+			indicators.add(new AdditiveEpsilonIndicator(problem, 
+					referenceSet));
+		}
+		
+		if (includeMaximumParetoFrontError) {
+			indicators.add(new MaximumParetoFrontError(problem, 
+					referenceSet));
+		}
+		
+		if (includeSpacing) {
+			indicators.add(new Spacing(problem));
+		}
+		
+		if (includeContribution) {
+			if (epsilon == null) {
+				indicators.add(new Contribution(referenceSet));
+			} else {
+				indicators.add(new Contribution(referenceSet, epsilon));
+			}
+		}
+		
+		if (includeR1) {
+			indicators.add(new R1Indicator(problem,
+					R1Indicator.getDefaultSubdivisions(problem),
+					referenceSet));
+		}
+		
+		if (includeR2) {
+			indicators.add(new R2Indicator(problem,
+					R2Indicator.getDefaultSubdivisions(problem),
+					referenceSet));
+		}
+		
+		if (includeR3) {
+			indicators.add(new R3Indicator(problem,
+					R3Indicator.getDefaultSubdivisions(problem),
+					referenceSet));
+		}
+		
+		return indicators;
+	}
+	
+	/**
+	 * Returns {@code true} if the specified indicator must be evaluated
+	 * serially in a fixed order; {@code false} otherwise.  A
+	 * {@link MonteCarloHypervolume} draws the seed of each estimate from the
+	 * stream of the instance, so its value depends on the number of sets the
+	 * instance evaluated before.  Evaluating it on per-thread copies or in
+	 * completion order would give different estimates than the serial
+	 * analysis.
+	 * 
+	 * @param indicator the indicator
+	 * @return {@code true} if the specified indicator must be evaluated
+	 *         serially in a fixed order; {@code false} otherwise
+	 */
+	private static boolean isSequential(Indicator indicator) {
+		return indicator instanceof MonteCarloHypervolume;
+	}
+	
+	/**
+	 * Evaluates the indicators on each seed and aggregate set across multiple
+	 * threads.  Each thread creates its own indicators, since indicators are
+	 * not required to be thread safe, and evaluates all indicators on one set
+	 * at a time so the normalized set can be shared.  Sequential indicators
+	 * are evaluated afterwards in the same order as the serial analysis.
+	 * 
+	 * @param problem the problem
+	 * @param referenceSet the reference set
+	 * @param indicators the indicators
+	 * @param aggregateSets the aggregate sets
+	 * @param indicatorValues the map storing the indicator values of each
+	 *        seed, indexed by indicator and then by seed
+	 * @param aggregateValues the map storing the indicator values of each
+	 *        aggregate set
+	 */
+	private void evaluateInParallel(final Problem problem,
+			final NondominatedPopulation referenceSet,
+			List<Indicator> indicators,
+			Map<String, NondominatedPopulation> aggregateSets,
+			Map<String, double[][]> indicatorValues,
+			Map<String, double[]> aggregateValues) {
+		ThreadLocal<IndicatorContext> contexts =
+				new ThreadLocal<IndicatorContext>() {
 			
-			if (includeAdditiveEpsilonIndicator) {
-				indicators.add(new AdditiveEpsilonIndicator(problem, 
-						referenceSet));
+			@Override
+			protected IndicatorContext initialValue() {
+				return new IndicatorContext(problem, referenceSet,
+						createIndicators(problem, referenceSet),
+						epsilon == null ? null :
+								new EpsilonBoxDominanceComparator(epsilon));
 			}
 			
-			if (includeMaximumParetoFrontError) {
-				indicators.add(new MaximumParetoFrontError(problem, 
-						referenceSet));
+		};
+		
+		List<Evaluation> evaluations = new ArrayList<Evaluation>();
+		
+		for (String algorithm : data.keySet()) {
+			for (NondominatedPopulation set : data.get(algorithm)) {
+				evaluations.add(new Evaluation(contexts, set));
 			}
 			
-			if (includeSpacing) {
-				indicators.add(new Spacing(problem));
+			if (showAggregate) {
+				evaluations.add(new Evaluation(contexts,
+						aggregateSets.get(algorithm)));
 			}
+		}
+		
+		ExecutorService executor = Executors.newFixedThreadPool(
+				numberOfThreads);
+		List<double[]> results = null;
+		
+		try {
+			results = invokeAll(executor, evaluations);
+		} finally {
+			executor.shutdown();
+		}
+		
+		int index = 0;
+		
+		for (String algorithm : data.keySet()) {
+			List<NondominatedPopulation> sets = data.get(algorithm);
+			double[][] algorithmValues = new double[indicators.size()][
+					sets.size()];
+			double[] algorithmAggregateValues = new double[indicators.size()];
 			
-			if (includeContribution) {
-				if (epsilon == null) {
-					indicators.add(new Contribution(referenceSet));
-				} else {
-					indicators.add(new Contribution(referenceSet, epsilon));
+			for (int i=0; i<sets.size(); i++) {
+				double[] result = results.get(index++);
+				
+				for (int j=0; j<indicators.size(); j++) {
+					algorithmValues[j][i] = result[j];
 				}
 			}
 			
-			if (includeR1) {
-				indicators.add(new R1Indicator(problem,
-						R1Indicator.getDefaultSubdivisions(problem),
-						referenceSet));
+			if (showAggregate) {
+				System.arraycopy(results.get(index++), 0,
+						algorithmAggregateValues, 0, indicators.size());
 			}
 			
-			if (includeR2) {
-				indicators.add(new R2Indicator(problem,
-						R2Indicator.getDefaultSubdivisions(problem),
-						referenceSet));
+			for (int j=0; j<indicators.size(); j++) {
+				Indicator indicator = indicators.get(j);
+				
+				if (isSequential(indicator)) {
+					for (int i=0; i<sets.size(); i++) {
+						algorithmValues[j][i] = indicator.evaluate(sets.get(i));
+					}
+					
+					if (showAggregate) {
+						algorithmAggregateValues[j] = indicator.evaluate(
+								aggregateSets.get(algorithm));
+					}
+				}
 			}
 			
-			if (includeR3) {
-				indicators.add(new R3Indicator(problem,
-						R3Indicator.getDefaultSubdivisions(problem),
-						referenceSet));
+			indicatorValues.put(algorithm, algorithmValues);
+			aggregateValues.put(algorithm, algorithmAggregateValues);
+		}
+	}
+	
+	/**
+	 * Invokes the specified tasks and returns their results in order.
+	 * 
+	 * @param executor the executor service running the tasks
+	 * @param tasks the tasks
+	 * @return the results of the tasks
+	 * @throws FrameworkException if a task was interrupted or threw a checked
+	 *         exception
+	 */
+	private static <T> List<T> invokeAll(ExecutorService executor,
+			List<? extends Callable<T>> tasks) {
+		List<T> results = new ArrayList<T>();
+		
+		try {
+			for (Future<T> future : executor.invokeAll(tasks)) {
+				results.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			throw new FrameworkException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			} else {
+				throw new FrameworkException(e.getCause());
 			}
+		}
+		
+		return results;
+	}
+	
+	/**
+	 * Generates the analysis of all data recorded in this analyzer.  
+	 * 
+	 * @return an object storing the results of the analysis
+	 */
+	public AnalyzerResults getAnalysis() {
+		if (data.isEmpty()) {
+			return new AnalyzerResults();
+		}
+		
+		Problem problem = null;
+		
+		try {
+			problem = getProblemInstance();
+			
+			//instantiate the reference set
+			NondominatedPopulation referenceSet = getReferenceSet();
+			
+			//setup the quality indicators
+			List<Indicator> indicators = createIndicators(problem,
+					referenceSet);
 			
 			if (indicators.isEmpty()) {
 				System.err.println("no indicators selected");
@@ -826,40 +1166,63 @@ public class Analyzer extends ProblemBuilder {
 			
 			if (showAggregate) {
 				for (String algorithm : data.keySet()) {
-					NondominatedPopulation aggregateSet = newArchive();
+					aggregateSets.put(algorithm, merge(data.get(algorithm)));
+				}
+			}
+			
+			//precompute the individual seed metrics, as they are used both
+			//for descriptive statistics and statistical significance tests
+			Map<String, double[][]> indicatorValues =
+					new HashMap<String, double[][]>();
+			Map<String, double[]> aggregateValues =
+					new HashMap<String, double[]>();
+			
+			if (numberOfThreads > 1) {
+				evaluateInParallel(problem, referenceSet, indicators,
+						aggregateSets, indicatorValues, aggregateValues);
+			} else {
+				for (String algorithm : data.keySet()) {
+					List<NondominatedPopulation> sets = data.get(algorithm);
+					double[][] algorithmValues = new double[indicators.size()][
+							sets.size()];
+					double[] algorithmAggregateValues =
+							new double[indicators.size()];
 					
-					for (NondominatedPopulation set : data.get(algorithm)) {
-						aggregateSet.addAll(set);
+					for (int j=0; j<indicators.size(); j++) {
+						Indicator indicator = indicators.get(j);
+						
+						for (int i=0; i<sets.size(); i++) {
+							algorithmValues[j][i] = indicator.evaluate(
+									sets.get(i));
+						}
+						
+						if (showAggregate) {
+							algorithmAggregateValues[j] = indicator.evaluate(
+									aggregateSets.get(algorithm));
+						}
 					}
 					
-					aggregateSets.put(algorithm, aggregateSet);
+					indicatorValues.put(algorithm, algorithmValues);
+					aggregateValues.put(algorithm, algorithmAggregateValues);
 				}
 			}
 			
-			//precompute the individual seed metrics, as they are used both
-			//for descriptive statistics and statistical significance tests
 			AnalyzerResults analyzerResults = new AnalyzerResults();
 			
 			for (String algorithm : data.keySet()) {
 				AlgorithmResult algorithmResult = new AlgorithmResult(
 						algorithm);
 				
-				for (Indicator indicator : indicators) {
-					String indicatorName = indicator.getClass().getSimpleName();
-					List<NondominatedPopulation> sets = data.get(algorithm);
-					double[] values = new double[sets.size()];
-					
-					for (int i=0; i<sets.size(); i++) {
-						values[i] = indicator.evaluate(sets.get(i));
-					}
+				for (int j=0; j<indicators.size(); j++) {
+					String indicatorName = indicators.get(j).getClass()
+							.getSimpleName();
 					
 					algorithmResult.add(new IndicatorResult(
-							indicatorName, values));
+							indicatorName, indicatorValues.get(algorithm)[j]));
 					
 					if (showAggregate) {
 						algorithmResult.get(indicatorName).setAggregateValue(
-								indicator.evaluate(
-										aggregateSets.get(algorithm)));
+								aggregateValues.get(algorithm)[j]);
 					}
 				}
 				
@@ -967,6 +1330,166 @@ public class Analyzer extends ProblemBuilder {
 		return this;
 	}
 	
+	/**
+	 * Merges the solutions of one approximation set into an archive.
+	 */
+	private static class Merge implements Callable<NondominatedPopulation> {
+		
+		/**
+		 * The archive receiving the solutions.
+		 */
+		private final NondominatedPopulation archive;
+		
+		/**
+		 * The approximation set whose solutions are added to the archive.
+		 */
+		private final NondominatedPopulation set;
+		
+		/**
+		 * Constructs a task merging the solutions of the approximation set
+		 * into the archive.
+		 * 
+		 * @param archive the archive receiving the solutions
+		 * @param set the approximation set whose solutions are added to the
+		 *        archive
+		 */
+		public Merge(NondominatedPopulation archive,
+				NondominatedPopulation set) {
+			super();
+			this.archive = archive;
+			this.set = set;
+		}
+		
+		@Override
+		public NondominatedPopulation call() {
+			archive.addAll(set);
+			return archive;
+		}
+		
+	}
+	
+	/**
+	 * The indicators used by one thread of a parallel analysis.  When two or
+	 * more of the indicators are supported by
+	 * {@link FusedIndicatorEvaluator}, those indicators are computed together
+	 * from a single normalization of each approximation set.
+	 */
+	private static class IndicatorContext {
+		
+		/**
+		 * The indicators.
+		 */
+		private final List<Indicator> indicators;
+		
+		/**
+		 * The fused evaluator computing the supported indicators; or
+		 * {@code null} if fewer than two indicators are supported.
+		 */
+		private final FusedIndicatorEvaluator evaluator;
+		
+		/**
+		 * Constructs the indicators used by one thread of a parallel
+		 * analysis.
+		 * 
+		 * @param problem the problem
+		 * @param referenceSet the reference set
+		 * @param indicators the indicators
+		 * @param comparator the &epsilon;-box dominance comparator used by
+		 *        the contribution indicator, or {@code null}
+		 */
+		public IndicatorContext(Problem problem,
+				NondominatedPopulation referenceSet, List<Indicator> indicators,
+				EpsilonBoxDominanceComparator comparator) {
+			super();
+			this.indicators = indicators;
+			
+			int count = 0;
+			
+			for (Indicator indicator : indicators) {
+				if (FusedIndicatorEvaluator.isSupported(indicator.getClass())) {
+					count++;
+				}
+			}
+			
+			if (count > 1) {
+				evaluator = new FusedIndicatorEvaluator(problem, referenceSet,
+						comparator);
+			} else {
+				evaluator = null;
+			}
+		}
+		
+		/**
+		 * Evaluates the indicators on the specified approximation set.
+		 * Sequential indicators are skipped and their values left as
+		 * {@code NaN}.
+		 * 
+		 * @param set the approximation set
+		 * @return the value of each indicator
+		 */
+		public double[] evaluate(NondominatedPopulation set) {
+			double[] values = new double[indicators.size()];
+			
+			if (evaluator != null) {
+				evaluator.calculate(set);
+			}
+			
+			for (int i=0; i<indicators.size(); i++) {
+				Indicator indicator = indicators.get(i);
+				
+				if (isSequential(indicator)) {
+					values[i] = Double.NaN;
+				} else if ((evaluator != null) &&
+						FusedIndicatorEvaluator.isSupported(
+								indicator.getClass())) {
+					values[i] = evaluator.getValue(indicator.getClass());
+				} else {
+					values[i] = indicator.evaluate(set);
+				}
+			}
+			
+			return values;
+		}
+		
+	}
+	
+	/**
+	 * Evaluates the indicators of the current thread on one approximation
+	 * set.
+	 */
+	private static class Evaluation implements Callable<double[]> {
+		
+		/**
+		 * The indicators of each thread.
+		 */
+		private final ThreadLocal<IndicatorContext> contexts;
+		
+		/**
+		 * The approximation set.
+		 */
+		private final NondominatedPopulation set;
+		
+		/**
+		 * Constructs a task evaluating the indicators on the approximation
+		 * set.
+		 * 
+		 * @param contexts the indicators of each thread
+		 * @param set the approximation set
+		 */
+		public Evaluation(ThreadLocal<IndicatorContext> contexts,
+				NondominatedPopulation set) {
+			super();
+			this.contexts = contexts;
+			this.set = set;
+		}
+		
+		@Override
+		public double[] call() {
+			return contexts.get().evaluate(set);
+		}
+		
+	}
+	
 	/**
 	 * Stores the results produced by this analyzer.
 	 */
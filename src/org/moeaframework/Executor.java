@@ -22,15 +22,25 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.moeaframework.algorithm.Checkpoints;
+import org.moeaframework.analysis.collector.Accumulator;
+import org.moeaframework.analysis.collector.InstrumentedAlgorithm;
 import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.TerminationCondition;
+import org.moeaframework.core.XoroshiroRandom;
 import org.moeaframework.core.spi.AlgorithmFactory;
 import org.moeaframework.core.spi.ProblemFactory;
 import org.moeaframework.core.termination.CompoundTerminationCondition;
@@ -89,6 +99,9 @@ import org.moeaframework.util.progress.ProgressListener;
  *       .withCheckpointFile(new File("example.state"))
  *       .run();
  * </pre>
+ * <p>
+ * When the function evaluations are inexpensive, independent seeds can
+ * instead be run concurrently using {@link #runSeedsInParallel(int, int)}.
  */
 public class Executor extends ProblemBuilder {
 	
@@ -138,6 +151,12 @@ public class Executor extends ProblemBuilder {
 	 */
 	private Instrumenter instrumenter;
 	
+	/**
+	 * The accumulators produced by the instrumenter for each seed of the last
+	 * run, indexed by seed; or {@code null} if no instrumenter is used.
+	 */
+	private Accumulator[] accumulators;
+	
 	/**
 	 * Manages reporting progress, elapsed time, and time remaining to
 	 * {@link ProgressListener}s.
@@ -212,6 +231,30 @@ public class Executor extends ProblemBuilder {
 		return instrumenter;
 	}
 	
+	/**
+	 * Returns the accumulators produced by the instrumenter for each seed of
+	 * the last run, in seed order.  Unlike
+	 * {@link Instrumenter#getLastAccumulator()}, this retains the accumulator
+	 * of every seed, including seeds run concurrently by
+	 * {@link #runSeedsInParallel(int, int)}.  The accumulators of seeds that
+	 * were not completed due to cancellation are {@code null}.
+	 * 
+	 * @return the accumulators produced by the instrumenter for each seed of
+	 *         the last run, in seed order; or an empty list if no instrumenter
+	 *         was assigned
+	 */
+	public List<Accumulator> getAccumulators() {
+		List<Accumulator> result = new ArrayList<Accumulator>();
+		
+		if (accumulators != null) {
+			for (Accumulator accumulator : accumulators) {
+				result.add(accumulator);
+			}
+		}
+		
+		return result;
+	}
+	
 	/**
 	 * Sets the algorithm factory used by this executor.
 	 * 
@@ -698,6 +741,10 @@ public class Executor extends ProblemBuilder {
 	 * returning the individual end-of-run approximation sets.  If the run
 	 * is canceled, the list contains any complete seeds that finished prior
 	 * to cancellation.
+	 * <p>
+	 * Each seed is run on its own stream of random numbers, derived from
+	 * {@code PRNG} in the same way as {@link #runSeedsInParallel(int, int)},
+	 * so both methods produce identical results.
 	 * 
 	 * @param numberOfSeeds the number of seeds to run
 	 * @return the individual end-of-run approximation sets
@@ -716,13 +763,23 @@ public class Executor extends ProblemBuilder {
 		List<NondominatedPopulation> results =
 				new ArrayList<NondominatedPopulation>();
 		
+		accumulators = instrumenter == null ? null :
+			new Accumulator[numberOfSeeds];
 		progress.start(numberOfSeeds, maxEvaluations, maxTime);
 		
+		XoroshiroRandom random = createSeedStreams();
+		
 		for (int i = 0; i < numberOfSeeds && !isCanceled.get(); i++) {
-			NondominatedPopulation result = runSingleSeed(i+1, numberOfSeeds,
-					createTerminationCondition());
+			PRNG.setLocalRandom(random.split());
 			
-			results.add(result);
+			try {
+				NondominatedPopulation result = runSingleSeed(i+1,
+						numberOfSeeds, createTerminationCondition());
+				
+				results.add(result);
+			} finally {
+				PRNG.setLocalRandom(null);
+			}
 				
 			progress.nextSeed();
 		}
@@ -733,7 +790,9 @@ public class Executor extends ProblemBuilder {
 	}
 	
 	/**
-	 * Runs this executor with its configured settings.
+	 * Runs this executor with its configured settings.  The run uses the same
+	 * stream of random numbers as the first seed of {@link #runSeeds(int)},
+	 * so both methods produce identical results.
 	 * 
 	 * @return the end-of-run approximation set; or {@code null} if canceled
 	 */
@@ -742,10 +801,18 @@ public class Executor extends ProblemBuilder {
 		
 		int maxEvaluations = properties.getInt("maxEvaluations", -1);
 		long maxTime = properties.getLong("maxTime", -1);
+		NondominatedPopulation result = null;
 		
+		accumulators = instrumenter == null ? null : new Accumulator[1];
 		progress.start(1, maxEvaluations, maxTime);
 		
-		NondominatedPopulation result = runSingleSeed(1, 1, createTerminationCondition());
+		PRNG.setLocalRandom(createSeedStreams().split());
+		
+		try {
+			result = runSingleSeed(1, 1, createTerminationCondition());
+		} finally {
+			PRNG.setLocalRandom(null);
+		}
 		
 		progress.nextSeed();
 		progress.stop();
@@ -753,6 +820,142 @@ public class Executor extends ProblemBuilder {
 		return result;
 	}
 
+	/**
+	 * Runs this executor with its configured settings multiple times, running
+	 * up to {@code numberOfThreads} seeds concurrently.  Each seed creates its
+	 * own problem and algorithm instances and, if an instrumenter is assigned,
+	 * its own accumulator, which are available from
+	 * {@link #getAccumulators()}.
+	 * <p>
+	 * Each seed is assigned its own, non-overlapping stream of random numbers
+	 * with {@link PRNG#setLocalRandom(java.util.Random)}, split from a
+	 * {@link XoroshiroRandom} seeded from {@code PRNG} before any seeds are
+	 * started.  Consequently, the results depend only on the state of
+	 * {@code PRNG} when this method is called and are identical regardless of
+	 * the number of threads, and identical to the results of
+	 * {@link #runSeeds(int)}.  For this to hold, the problem
+	 * instance, if set using {@link #withProblem(Problem)}, and any
+	 * termination conditions added with
+	 * {@link #withTerminationCondition(TerminationCondition)} are shared by
+	 * all seeds and must be thread-safe.
+	 * <p>
+	 * Progress listeners are notified as each seed completes.  If the run is
+	 * canceled, the list contains any complete seeds that finished prior to
+	 * cancellation, in seed order.
+	 * 
+	 * @param numberOfSeeds the number of seeds to run
+	 * @param numberOfThreads the maximum number of seeds run concurrently
+	 * @return the individual end-of-run approximation sets, in seed order
+	 * @throws IllegalArgumentException if {@code numberOfThreads <= 0}
+	 */
+	public List<NondominatedPopulation> runSeedsInParallel(
+			final int numberOfSeeds, int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException("invalid number of threads");
+		}
+		
+		isCanceled.set(false);
+		
+		if ((checkpointFile != null) && (numberOfSeeds > 1)) {
+			System.err.println(
+					"checkpoints not supported when running multiple seeds");
+			checkpointFile = null;
+		}
+		
+		int maxEvaluations = properties.getInt("maxEvaluations", -1);
+		long maxTime = properties.getLong("maxTime", -1);
+		final NondominatedPopulation[] results =
+				new NondominatedPopulation[numberOfSeeds];
+		
+		accumulators = instrumenter == null ? null :
+			new Accumulator[numberOfSeeds];
+		progress.start(numberOfSeeds, maxEvaluations, maxTime);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(
+				Math.max(1, Math.min(numberOfSeeds, numberOfThreads)));
+		List<Future<Void>> futures = new ArrayList<Future<Void>>();
+		
+		try {
+			CompletionService<Void> completionService =
+					new ExecutorCompletionService<Void>(executor);
+			
+			XoroshiroRandom random = createSeedStreams();
+			
+			for (int i = 0; i < numberOfSeeds; i++) {
+				final int index = i;
+				final XoroshiroRandom stream = random.split();
+				final TerminationCondition terminationCondition =
+						createTerminationCondition();
+				
+				futures.add(completionService.submit(new Callable<Void>() {
+
+					@Override
+					public Void call() {
+						PRNG.setLocalRandom(stream);
+						
+						try {
+							results[index] = runSingleSeed(index+1,
+									numberOfSeeds, terminationCondition,
+									false);
+						} finally {
+							PRNG.setLocalRandom(null);
+						}
+						
+						return null;
+					}
+					
+				}));
+			}
+			
+			for (int i = 0; i < numberOfSeeds; i++) {
+				try {
+					completionService.take().get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					
+					for (Future<Void> future : futures) {
+						future.cancel(true);
+					}
+					
+					throw new FrameworkException(e);
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException)e.getCause();
+					} else {
+						throw new FrameworkException(e.getCause());
+					}
+				}
+				
+				progress.nextSeed();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		
+		progress.stop();
+		
+		List<NondominatedPopulation> result =
+				new ArrayList<NondominatedPopulation>();
+		
+		for (NondominatedPopulation population : results) {
+			if (population != null) {
+				result.add(population);
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the generator from which the stream of random numbers of each
+	 * seed is split, seeded from {@code PRNG}.
+	 * 
+	 * @return the generator from which the stream of each seed is split
+	 */
+	private XoroshiroRandom createSeedStreams() {
+		return new XoroshiroRandom(PRNG.getRandom().nextLong());
+	}
+
 	/**
 	 * Runs this executor with its configured settings.
 	 * 
@@ -765,6 +968,24 @@ public class Executor extends ProblemBuilder {
 	 */
 	protected NondominatedPopulation runSingleSeed(int seed, int numberOfSeeds,
 			TerminationCondition terminationCondition) {
+		return runSingleSeed(seed, numberOfSeeds, terminationCondition, true);
+	}
+	
+	/**
+	 * Runs this executor with its configured settings.
+	 * 
+	 * @param seed the current seed being run, such that
+	 *        {@code 1 <= seed <= numberOfSeeds}
+	 * @param numberOfSeeds to total number of seeds being run
+	 * @param terminationCondition the termination conditions for the run
+	 * @param reportProgress {@code true} if the progress of the run is
+	 *        reported to the progress listeners; {@code false} if the seed
+	 *        is run concurrently with other seeds
+	 * 
+	 * @return the end-of-run approximation set; or {@code null} if canceled
+	 */
+	private NondominatedPopulation runSingleSeed(int seed, int numberOfSeeds,
+			TerminationCondition terminationCondition, boolean reportProgress) {
 		if (algorithmName == null) {
 			throw new IllegalArgumentException("no algorithm specified");
 		}
@@ -811,11 +1032,22 @@ public class Executor extends ProblemBuilder {
 					}
 					
 					if (instrumenter != null) {
-						algorithm = instrumenter.instrument(algorithm);
+						InstrumentedAlgorithm instrumentedAlgorithm =
+								instrumenter.instrument(algorithm);
+						
+						if (accumulators != null) {
+							accumulators[seed-1] =
+									instrumentedAlgorithm.getAccumulator();
+						}
+						
+						algorithm = instrumentedAlgorithm;
 					}
 					
 					terminationCondition.initialize(algorithm);
-					progress.setCurrentAlgorithm(algorithm);
+					
+					if (reportProgress) {
+						progress.setCurrentAlgorithm(algorithm);
+					}
 
 					while (!algorithm.isTerminated() &&
 							!terminationCondition.shouldTerminate(algorithm)) {
@@ -825,12 +1057,18 @@ public class Executor extends ProblemBuilder {
 						}
 						
 						algorithm.step();
-						progress.setCurrentNFE(algorithm.getNumberOfEvaluations());
+						
+						if (reportProgress) {
+							progress.setCurrentNFE(
+									algorithm.getNumberOfEvaluations());
+						}
 					}
 
 					result.addAll(algorithm.getResult());
 					
-					progress.setCurrentAlgorithm(null);
+					if (reportProgress) {
+						progress.setCurrentAlgorithm(null);
+					}
 				} finally {
 					if (algorithm != null) {
 						algorithm.terminate();
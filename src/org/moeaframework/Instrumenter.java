@@ -41,14 +41,17 @@ import org.moeaframework.analysis.collector.InstrumentedAlgorithm;
 import org.moeaframework.analysis.collector.PopulationSizeCollector;
 import org.moeaframework.core.Algorithm;
 import org.moeaframework.core.EpsilonBoxDominanceArchive;
+import org.moeaframework.core.Indicator;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.indicator.AdditiveEpsilonIndicator;
 import org.moeaframework.core.indicator.Contribution;
+import org.moeaframework.core.indicator.FusedIndicatorEvaluator;
 import org.moeaframework.core.indicator.GenerationalDistance;
 import org.moeaframework.core.indicator.Hypervolume;
 import org.moeaframework.core.indicator.InvertedGenerationalDistance;
+import org.moeaframework.core.indicator.MonteCarloHypervolume;
 import org.moeaframework.core.indicator.R1Indicator;
 import org.moeaframework.core.indicator.R2Indicator;
 import org.moeaframework.core.indicator.R3Indicator;
@@ -91,6 +94,12 @@ public class Instrumenter extends ProblemBuilder {
 	 */
 	private boolean includeHypervolume;
 	
+	/**
+	 * {@code true} if the approximate hypervolume collector is included;
+	 * {@code false} otherwise.
+	 */
+	private boolean includeApproximateHypervolume;
+	
 	/**
 	 * {@code true} if the generational distance collector is included;
 	 * {@code false} otherwise.
@@ -222,7 +231,7 @@ public class Instrumenter extends ProblemBuilder {
 	 * 
 	 * @return the accumulator from the last instrumented algorithm
 	 */
-	public Accumulator getLastAccumulator() {
+	public synchronized Accumulator getLastAccumulator() {
 		return lastAccumulator;
 	}
 	
@@ -340,6 +349,20 @@ public class Instrumenter extends ProblemBuilder {
 		return this;
 	}
 	
+	/**
+	 * Includes the approximate hypervolume collector when instrumenting
+	 * algorithms.  The hypervolume is estimated by
+	 * {@link MonteCarloHypervolume} and recorded as
+	 * {@code MonteCarloHypervolume}.
+	 * 
+	 * @return a reference to this instrumenter
+	 */
+	public Instrumenter attachApproximateHypervolumeCollector() {
+		includeApproximateHypervolume = true;
+		
+		return this;
+	}
+	
 	/**
 	 * Includes the generational distance collector when instrumenting 
 	 * algorithms.
@@ -730,10 +753,11 @@ public class Instrumenter extends ProblemBuilder {
 	 * @throws IllegalArgumentException if no reference set is available or
 	 *         could not be loaded
 	 */
-	public InstrumentedAlgorithm instrument(Algorithm algorithm) {
+	public synchronized InstrumentedAlgorithm instrument(Algorithm algorithm) {
 		List<Collector> collectors = new ArrayList<Collector>();
 		
-		if (includeHypervolume || includeGenerationalDistance || 
+		if (includeHypervolume || includeApproximateHypervolume ||
+				includeGenerationalDistance || 
 				includeInvertedGenerationalDistance || includeSpacing ||
 				includeAdditiveEpsilonIndicator || includeContribution ||
 				includeR1 || includeR2 || includeR3) {
@@ -745,18 +769,55 @@ public class Instrumenter extends ProblemBuilder {
 				archive = (EpsilonBoxDominanceArchive)newArchive();
 			}
 			
+			// indicators supported by the fused evaluator are computed
+			// together when more than one is requested
+			List<Class<? extends Indicator>> fusedIndicators =
+					new ArrayList<Class<? extends Indicator>>();
+			
+			if (includeGenerationalDistance) {
+				fusedIndicators.add(GenerationalDistance.class);
+			}
+			
+			if (includeInvertedGenerationalDistance) {
+				fusedIndicators.add(InvertedGenerationalDistance.class);
+			}
+			
+			if (includeAdditiveEpsilonIndicator) {
+				fusedIndicators.add(AdditiveEpsilonIndicator.class);
+			}
+			
+			if (includeContribution) {
+				fusedIndicators.add(Contribution.class);
+			}
+			
+			boolean fused = fusedIndicators.size() > 1;
+			
+			if (fused) {
+				collectors.add(new IndicatorCollector(
+						new FusedIndicatorEvaluator(problem, referenceSet,
+								archive == null ? null :
+								archive.getComparator()),
+						fusedIndicators, archive));
+			}
+			
 			if (includeHypervolume) {
 				collectors.add(new IndicatorCollector(
 						new Hypervolume(problem, referenceSet), archive));
 			}
 			
-			if (includeGenerationalDistance) {
+			if (includeApproximateHypervolume) {
+				collectors.add(new IndicatorCollector(
+						new MonteCarloHypervolume(problem, referenceSet),
+						archive));
+			}
+			
+			if (includeGenerationalDistance && !fused) {
 				collectors.add(new IndicatorCollector(
 						new GenerationalDistance(problem, referenceSet), 
 						archive));
 			}
 			
-			if (includeInvertedGenerationalDistance) {
+			if (includeInvertedGenerationalDistance && !fused) {
 				collectors.add(new IndicatorCollector(
 						new InvertedGenerationalDistance(problem, 
 								referenceSet), archive));
@@ -767,13 +828,13 @@ public class Instrumenter extends ProblemBuilder {
 						archive));
 			}
 			
-			if (includeAdditiveEpsilonIndicator) {
+			if (includeAdditiveEpsilonIndicator && !fused) {
 				collectors.add(new IndicatorCollector(
 						new AdditiveEpsilonIndicator(problem, referenceSet),
 						archive));
 			}
 			
-			if (includeContribution) {
+			if (includeContribution && !fused) {
 				collectors.add(new IndicatorCollector(
 						archive == null ? new Contribution(referenceSet) :
 						new Contribution(referenceSet, archive.getComparator()),
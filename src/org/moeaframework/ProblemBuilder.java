@@ -24,9 +24,11 @@ import java.lang.reflect.InvocationTargetException;
 import org.apache.commons.lang3.reflect.ConstructorUtils;
 import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.HashedEpsilonBoxDominanceArchive;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.PopulationIO;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.comparator.ParetoDominanceComparator;
 import org.moeaframework.core.spi.ProblemFactory;
 
@@ -233,6 +235,8 @@ class ProblemBuilder {
 	NondominatedPopulation newArchive() {
 		if (epsilon == null) {
 			return new NondominatedPopulation(new ParetoDominanceComparator());
+		} else if (Settings.useHashedEpsilonArchive()) {
+			return new HashedEpsilonBoxDominanceArchive(epsilon);
 		} else {
 			return new EpsilonBoxDominanceArchive(epsilon);
 		}
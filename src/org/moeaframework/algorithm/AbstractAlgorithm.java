@@ -19,9 +19,14 @@ package org.moeaframework.algorithm;
 
 import java.io.NotSerializableException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.BatchProblem;
+import org.moeaframework.core.Changes;
+import org.moeaframework.core.DeltaProblem;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
 
@@ -71,15 +76,41 @@ public abstract class AbstractAlgorithm implements Algorithm {
 
 	/**
 	 * Evaluates the specified solutions. This method calls
-	 * {@link #evaluate(Solution)} on each of the solutions. Subclasses should
-	 * prefer calling this method over {@code evaluate} whenever possible,
-	 * as this ensures the solutions can be evaluated in parallel.
+	 * {@link #evaluate(Solution)} on each of the solutions, unless the problem
+	 * is a {@link BatchProblem}, in which case all solutions are passed to the
+	 * problem in a single call. If the problem is also a {@link DeltaProblem},
+	 * the solutions with recorded {@link Changes} are instead evaluated
+	 * incrementally, one at a time, before the batch. Subclasses should prefer
+	 * calling this method over {@code evaluate} whenever possible, as this
+	 * ensures the solutions can be evaluated in parallel.
 	 * 
 	 * @param solutions the solutions to evaluate
 	 */
 	public void evaluateAll(Iterable<Solution> solutions) {
-		for (Solution solution : solutions) {
-			evaluate(solution);
+		if (problem instanceof BatchProblem) {
+			List<Solution> batch = new ArrayList<Solution>();
+			
+			for (Solution solution : solutions) {
+				if ((problem instanceof DeltaProblem) &&
+						(Changes.getChanges(solution) != null)) {
+					evaluate(solution);
+				} else {
+					batch.add(solution);
+				}
+			}
+			
+			((BatchProblem)problem).evaluateAll(batch);
+			numberOfEvaluations += batch.size();
+			
+			if (problem instanceof DeltaProblem) {
+				for (Solution solution : batch) {
+					Changes.markEvaluated(solution);
+				}
+			}
+		} else {
+			for (Solution solution : solutions) {
+				evaluate(solution);
+			}
 		}
 	}
 	
@@ -93,9 +124,33 @@ public abstract class AbstractAlgorithm implements Algorithm {
 		evaluateAll(Arrays.asList(solutions));
 	}
 
+	/**
+	 * Evaluates the specified solution.  If the problem is a
+	 * {@link DeltaProblem} and the variation operators recorded the
+	 * {@link Changes} of the solution relative to its parent, the solution is
+	 * evaluated incrementally from its parent.  Solutions evaluated by
+	 * delta problems are marked as evaluated so their offspring can record
+	 * changes; otherwise, no changes are recorded.
+	 * 
+	 * @param solution the solution to evaluate
+	 */
 	@Override
 	public void evaluate(Solution solution) {
-		problem.evaluate(solution);
+		if (problem instanceof DeltaProblem) {
+			Changes changes = Changes.getChanges(solution);
+			
+			if (changes == null) {
+				problem.evaluate(solution);
+			} else {
+				((DeltaProblem)problem).evaluateDelta(changes.getParent(),
+						solution, changes);
+			}
+			
+			Changes.markEvaluated(solution);
+		} else {
+			problem.evaluate(solution);
+		}
+		
 		numberOfEvaluations++;
 	}
 
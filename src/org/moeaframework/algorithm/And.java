@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.moeaframework.core.AttributeKey;
 import org.moeaframework.core.Initialization;
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Population;
@@ -15,9 +16,10 @@ import org.moeaframework.util.Vector;
 public class AnD extends AbstractEvolutionaryAlgorithm {
 
 	/**
-	 * The name of the attribute for storing the normalized objectives.
+	 * The typed attribute for storing the normalized objectives.
 	 */
-	private static final String NORMALIZED_OBJECTIVES = "Normalized Objectives";
+	private static final AttributeKey NORMALIZED_OBJECTIVES_KEY =
+			ReferencePointNondominatedSortingPopulation.NORMALIZED_OBJECTIVES_KEY;
 
 	/**
 	 * The name of the attribute for storing the Shift normalized objectives.
@@ -124,7 +126,7 @@ public class AnD extends AbstractEvolutionaryAlgorithm {
 					/ (this.maxOBjBounds[i] - this.minObjBounds[i]));
 		}
 
-		solution.setAttribute(NORMALIZED_OBJECTIVES, objectives);
+		solution.setAttribute(NORMALIZED_OBJECTIVES_KEY, objectives);
 
 	}
 
@@ -152,10 +154,10 @@ public class AnD extends AbstractEvolutionaryAlgorithm {
 		int populationSize = population.size();
 
 		for (int i = 0; i < populationSize; i++) {
-			double[] normalizedObjectives1 = (double[]) population.get(i).getAttribute(NORMALIZED_OBJECTIVES);
+			double[] normalizedObjectives1 = (double[]) population.get(i).getAttribute(NORMALIZED_OBJECTIVES_KEY);
 
 			for (int j = i + 1; j < populationSize; j++) {
-				double[] normalizedObjectives2 = (double[]) population.get(j).getAttribute(NORMALIZED_OBJECTIVES);
+				double[] normalizedObjectives2 = (double[]) population.get(j).getAttribute(NORMALIZED_OBJECTIVES_KEY);
 
 				double angle = acosine(normalizedObjectives1, normalizedObjectives2);
 				if (angle < smallestAngle) {
@@ -177,13 +179,13 @@ public class AnD extends AbstractEvolutionaryAlgorithm {
 	protected void shiftIndividuals(int index) {
 		int populationSize = population.size();
 
-		double[] normalizedObjectivesRef = (double[]) population.get(index).getAttribute(NORMALIZED_OBJECTIVES);
+		double[] normalizedObjectivesRef = (double[]) population.get(index).getAttribute(NORMALIZED_OBJECTIVES_KEY);
 
 		for (int i = 0; i < populationSize; i++) {
 			if (i == index)
 				continue;
 
-			double[] normalizedObjectives = (double[]) population.get(i).getAttribute(NORMALIZED_OBJECTIVES);
+			double[] normalizedObjectives = (double[]) population.get(i).getAttribute(NORMALIZED_OBJECTIVES_KEY);
 			double[] shiftNormalizedObjectives = new double[problem.getNumberOfObjectives()];
 
 			for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
@@ -209,7 +211,7 @@ public class AnD extends AbstractEvolutionaryAlgorithm {
 		int populationSize = population.size();
 		List<Double> distances = new ArrayList<Double>();
 
-		double[] normalizedObjectivesRef = (double[]) population.get(index).getAttribute(NORMALIZED_OBJECTIVES);
+		double[] normalizedObjectivesRef = (double[]) population.get(index).getAttribute(NORMALIZED_OBJECTIVES_KEY);
 
 		for (int i = 0; i < populationSize; i++) {
 			if (i == index)
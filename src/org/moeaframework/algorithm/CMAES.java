@@ -290,8 +290,8 @@ public class CMAES extends AbstractAlgorithm {
 		}
 		
 		for (int i = 0; i < problem.getNumberOfVariables(); i++) {
-			if (prototypeSolution.getVariable(i) instanceof RealVariable) {
-				RealVariable variable = (RealVariable)prototypeSolution.getVariable(i);
+			if (prototypeSolution.getVariableReadOnly(i) instanceof RealVariable) {
+				RealVariable variable = (RealVariable)prototypeSolution.getVariableReadOnly(i);
 				
 				if (initialSearchPoint != null) {
 					if (initialSearchPoint[i] > variable.getUpperBound()) {
@@ -404,7 +404,7 @@ public class CMAES extends AbstractAlgorithm {
 			
 			if (initialSearchPoint == null) {
 				for (int i = 0; i < N; i++) {
-					RealVariable variable = (RealVariable)prototypeSolution.getVariable(i);
+					RealVariable variable = (RealVariable)prototypeSolution.getVariableReadOnly(i);
 					double offset = sigma * diagD[i];
 					double range = (variable.getUpperBound() - variable.getLowerBound() - 2*sigma*diagD[i]);
 					
@@ -669,7 +669,7 @@ public class CMAES extends AbstractAlgorithm {
 			xmean[i] = 0;
 
 			for (int j = 0; j < mu; j++) {
-				xmean[i] += weights[j] * EncodingUtils.getReal(population.get(j).getVariable(i));
+				xmean[i] += weights[j] * EncodingUtils.getReal(population.get(j).getVariableReadOnly(i));
 			}
 
 			BDz[i] = Math.sqrt(mueff) * (xmean[i] - xold[i]) / sigma;
@@ -727,7 +727,7 @@ public class CMAES extends AbstractAlgorithm {
 				C[i][j] = (1.0 - (diagonalIterations >= iteration ? ccovsep : ccov)) * C[i][j] + ccov * (1.0 / mueff) * (pc[i] * pc[j] + (1 - hsig) * cc * (2.0 - cc) * C[i][j]);
 
 				for (int k = 0; k < mu; k++) {
-					C[i][j] += ccov * (1 - 1.0 / mueff) * weights[k] * (EncodingUtils.getReal(population.get(k).getVariable(i)) - xold[i]) * (EncodingUtils.getReal(population.get(k).getVariable(j)) - xold[j]) / sigma / sigma;
+					C[i][j] += ccov * (1 - 1.0 / mueff) * weights[k] * (EncodingUtils.getReal(population.get(k).getVariableReadOnly(i)) - xold[i]) * (EncodingUtils.getReal(population.get(k).getVariableReadOnly(j)) - xold[j]) / sigma / sigma;
 				}
 			}
 		}
@@ -17,6 +17,8 @@
  */
 package org.moeaframework.algorithm;
 
+import java.io.NotSerializableException;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,6 +26,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.EpsilonBoxEvolutionaryAlgorithm;
 import org.moeaframework.core.Initialization;
+import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
@@ -44,6 +47,13 @@ import org.moeaframework.core.comparator.ParetoDominanceComparator;
  *   <li>Deb et al. "A Fast Multi-Objective Evolutionary Algorithm for Finding
  *   Well-Spread Pareto-Optimal Solutions." KanGAL Report No 2003002. Feb 2003.
  * </ol>
+ * <p>
+ * When the problem evaluates solutions asynchronously, such as a
+ * {@link org.moeaframework.util.distributed.DistributedProblem}, setting
+ * {@link #setMaximumPendingEvaluations(int)} keeps several offspring in
+ * flight.  Each offspring is added to the population and archive once its
+ * evaluation completes, while new offspring are generated from the current
+ * population and archive.
  */
 public class EpsilonMOEA extends AbstractEvolutionaryAlgorithm implements
 		EpsilonBoxEvolutionaryAlgorithm {
@@ -63,6 +73,11 @@ public class EpsilonMOEA extends AbstractEvolutionaryAlgorithm implements
 	 */
 	private final Variation variation;
 
+	/**
+	 * The offspring whose evaluations are in flight.
+	 */
+	private final PendingEvaluations<Void> pendingEvaluations;
+
 	/**
 	 * Constructs the &epsilon;-MOEA algorithm with the specified components.
 	 * 
@@ -100,6 +115,53 @@ public class EpsilonMOEA extends AbstractEvolutionaryAlgorithm implements
 		this.variation = variation;
 		this.selection = selection;
 		this.dominanceComparator = dominanceComparator;
+		this.pendingEvaluations = new PendingEvaluations<Void>();
+	}
+	
+	/**
+	 * Returns the maximum number of offspring whose evaluations can be in
+	 * flight at the same time.
+	 * 
+	 * @return the maximum number of offspring whose evaluations can be in
+	 *         flight at the same time
+	 */
+	public int getMaximumPendingEvaluations() {
+		return pendingEvaluations.getCapacity();
+	}
+	
+	/**
+	 * Sets the maximum number of offspring whose evaluations can be in flight
+	 * at the same time, typically the number of threads or nodes evaluating
+	 * solutions.  The default value of {@code 1} updates the population after
+	 * each evaluation, as in the original &epsilon;-MOEA.
+	 * 
+	 * <p>
+	 * {@link #getResult()} includes the offspring whose evaluations have
+	 * completed without adding them to the population, so observing the
+	 * result does not change the search.  {@link #getState()} instead waits
+	 * for all offspring in flight and adds them to the population, so saving
+	 * checkpoints changes the search when this value exceeds {@code 1}.
+	 * 
+	 * @param maximumPendingEvaluations the maximum number of offspring whose
+	 *        evaluations can be in flight at the same time
+	 * @throws IllegalArgumentException if
+	 *         {@code maximumPendingEvaluations < 1}
+	 */
+	public void setMaximumPendingEvaluations(int maximumPendingEvaluations) {
+		pendingEvaluations.setCapacity(maximumPendingEvaluations);
+	}
+	
+	@Override
+	public NondominatedPopulation getResult() {
+		NondominatedPopulation result = super.getResult();
+		result.addAll(pendingEvaluations.getCompleted());
+		return result;
+	}
+	
+	@Override
+	public Serializable getState() throws NotSerializableException {
+		integratePendingEvaluations();
+		return super.getState();
 	}
 
 	@Override
@@ -120,8 +182,32 @@ public class EpsilonMOEA extends AbstractEvolutionaryAlgorithm implements
 
 		for (Solution child : children) {
 			evaluate(child);
-			addToPopulation(child);
-			archive.add(child);
+			pendingEvaluations.add(child, null);
+			
+			while (pendingEvaluations.isFull()) {
+				integrate(pendingEvaluations.next().getSolution());
+			}
+		}
+	}
+	
+	/**
+	 * Adds an offspring whose evaluation is in flight to the population and
+	 * archive, blocking until its evaluation completes.
+	 * 
+	 * @param child the offspring
+	 */
+	private void integrate(Solution child) {
+		addToPopulation(child);
+		archive.add(child);
+	}
+	
+	/**
+	 * Adds all offspring whose evaluations are in flight to the population
+	 * and archive.
+	 */
+	private void integratePendingEvaluations() {
+		while (!pendingEvaluations.isEmpty()) {
+			integrate(pendingEvaluations.next().getSolution());
 		}
 	}
 
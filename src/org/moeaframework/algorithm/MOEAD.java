@@ -21,7 +21,6 @@ import java.io.NotSerializableException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -53,6 +52,12 @@ import org.moeaframework.util.weights.WeightGenerator;
  * CEC09 Unconstrained MOP Test Instances."  IEEE Congress on Evolutionary
  * Computation, 2009.
  * </ol>
+ * <p>
+ * When the problem evaluates solutions asynchronously, such as a
+ * {@link org.moeaframework.util.distributed.DistributedProblem}, setting
+ * {@link #setMaximumPendingEvaluations(int)} keeps several offspring in
+ * flight.  Each offspring updates its subproblems once its evaluation
+ * completes, while new offspring are generated from the current population.
  */
 public class MOEAD extends AbstractAlgorithm {
 
@@ -73,11 +78,6 @@ public class MOEAD extends AbstractAlgorithm {
 		 */
 		private double[] weights;
 
-		/**
-		 * The neighborhood of this individual.
-		 */
-		private List<Individual> neighbors;
-
 		/**
 		 * The utility of this individual.
 		 */
@@ -97,7 +97,6 @@ public class MOEAD extends AbstractAlgorithm {
 		public Individual(double[] weights) {
 			this.weights = weights;
 
-			neighbors = new ArrayList<Individual>();
 			utility = 1.0;
 		}
 
@@ -128,24 +127,6 @@ public class MOEAD extends AbstractAlgorithm {
 			return weights;
 		}
 
-		/**
-		 * Returns the neighborhood of this individual.
-		 * 
-		 * @return the neighborhood of this individual
-		 */
-		public List<Individual> getNeighbors() {
-			return neighbors;
-		}
-
-		/**
-		 * Adds a neighboring individual to the neighborhood of this individual.
-		 * 
-		 * @param neighbor the individual to be added to the neighborhood
-		 */
-		public void addNeighbor(Individual neighbor) {
-			neighbors.add(neighbor);
-		}
-
 		/**
 		 * Returns the utility of this individual.
 		 * 
@@ -189,48 +170,48 @@ public class MOEAD extends AbstractAlgorithm {
 	}
 
 	/**
-	 * Compares individuals based on their distance from a specified individual.
+	 * The current population.
 	 */
-	private static class WeightSorter implements Comparator<Individual> {
-
-		/**
-		 * The individual from which weight distances are computed.
-		 */
-		private final Individual individual;
-
-		/**
-		 * Constructs a comparator for comparing individuals based on their 
-		 * distance from the specified individual.
-		 * 
-		 * @param individual the individual from which weight distances are
-		 *        computed
-		 */
-		public WeightSorter(Individual individual) {
-			this.individual = individual;
-		}
-
-		@Override
-		public int compare(Individual o1, Individual o2) {
-			double d1 = MathArrays.distance(
-					individual.getWeights(), o1.getWeights());
-			double d2 = MathArrays.distance(
-					individual.getWeights(), o2.getWeights());
-
-			return Double.compare(d1, d2);
-		}
-
-	}
+	private List<Individual> population;
 
 	/**
-	 * The current population.
+	 * The neighborhood of each individual, storing the population indices of
+	 * the {@code neighborhoodSize} individuals with the closest weights in
+	 * order of increasing distance.  The neighborhoods are computed from the
+	 * weights and are not saved with the state.
 	 */
-	private List<Individual> population;
+	private int[][] neighborhoods;
+	
+	/**
+	 * The population indices {@code 0, 1, ..., N-1}, used when mating with
+	 * the entire population.
+	 */
+	private int[] populationIndices;
 
 	/**
 	 * The ideal point; each index stores the best observed value for each
 	 * objective.
 	 */
 	private double[] idealPoint;
+	
+	/**
+	 * Incremented each time the ideal point moves, invalidating the cached
+	 * fitness of the solutions occupying each individual.
+	 */
+	private int idealPointVersion;
+	
+	/**
+	 * The cached fitness of the solution occupying each individual with
+	 * respect to the individual's weights.
+	 */
+	private double[] cachedFitness;
+	
+	/**
+	 * The value of {@code idealPointVersion} when each cached fitness was
+	 * computed; the cached fitness is only valid if this matches the current
+	 * version.
+	 */
+	private int[] cachedFitnessVersion;
 
 	/**
 	 * The size of the neighborhood used for mating.
@@ -281,6 +262,12 @@ public class MOEAD extends AbstractAlgorithm {
 	 */
 	private int generation;
 	
+	/**
+	 * The offspring whose evaluations are in flight, each stored with the
+	 * population indices it can replace.
+	 */
+	private final PendingEvaluations<int[]> pendingEvaluations;
+	
 	/**
 	 * Constructs the MOEA/D algorithm with the specified components.  This
 	 * version of MOEA/D uses utility-based search as described in [2].
@@ -354,6 +341,7 @@ public class MOEAD extends AbstractAlgorithm {
 		this.delta = delta;
 		this.eta = eta;
 		this.updateUtility = updateUtility;
+		this.pendingEvaluations = new PendingEvaluations<int[]>();
 		
 		if (variation instanceof DifferentialEvolutionVariation) {
 			useDE = true;
@@ -445,19 +433,52 @@ public class MOEAD extends AbstractAlgorithm {
 
 	/**
 	 * Constructs the neighborhoods for all individuals in the population based
-	 * on the distances between weights.
+	 * on the distances between weights.  The pair-wise distances are computed
+	 * once.  As in the original implementation, one list of indices is sorted
+	 * for each individual in turn, so individuals at equal distances are
+	 * ordered as in the previous sort.  This also resets the cached fitness
+	 * values.
 	 */
 	private void initializeNeighborhoods() {
-		List<Individual> sortedPopulation = new ArrayList<Individual>(
-				population);
-
-		for (Individual individual : population) {
-			Collections.sort(sortedPopulation, new WeightSorter(individual));
+		int size = population.size();
+		final double[][] distances = new double[size][size];
+		Integer[] sorted = new Integer[size];
+		
+		for (int i = 0; i < size; i++) {
+			sorted[i] = i;
+			
+			for (int j = i+1; j < size; j++) {
+				distances[i][j] = distances[j][i] = MathArrays.distance(
+						population.get(i).getWeights(),
+						population.get(j).getWeights());
+			}
+		}
+		
+		neighborhoods = new int[size][Math.min(neighborhoodSize, size)];
+		populationIndices = new int[size];
+		
+		for (int i = 0; i < size; i++) {
+			final double[] row = distances[i];
+			
+			Arrays.sort(sorted, new Comparator<Integer>() {
 
-			for (int i = 0; i < neighborhoodSize; i++) {
-				individual.addNeighbor(sortedPopulation.get(i));
+				@Override
+				public int compare(Integer index1, Integer index2) {
+					return Double.compare(row[index1], row[index2]);
+				}
+				
+			});
+			
+			for (int j = 0; j < neighborhoods[i].length; j++) {
+				neighborhoods[i][j] = sorted[j];
 			}
+			
+			populationIndices[i] = i;
 		}
+		
+		cachedFitness = new double[size];
+		cachedFitnessVersion = new int[size];
+		Arrays.fill(cachedFitnessVersion, idealPointVersion - 1);
 	}
 
 	/**
@@ -474,11 +495,53 @@ public class MOEAD extends AbstractAlgorithm {
 	 * @param solution the solution
 	 */
 	private void updateIdealPoint(Solution solution) {
+		boolean moved = false;
+		
 		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
-			idealPoint[i] = Math.min(idealPoint[i], solution.getObjective(i));
+			if (solution.getObjective(i) < idealPoint[i]) {
+				idealPoint[i] = solution.getObjective(i);
+				moved = true;
+			}
+		}
+		
+		if (moved) {
+			idealPointVersion++;
 		}
 	}
 
+	/**
+	 * Returns the maximum number of offspring whose evaluations can be in
+	 * flight at the same time.
+	 * 
+	 * @return the maximum number of offspring whose evaluations can be in
+	 *         flight at the same time
+	 */
+	public int getMaximumPendingEvaluations() {
+		return pendingEvaluations.getCapacity();
+	}
+	
+	/**
+	 * Sets the maximum number of offspring whose evaluations can be in flight
+	 * at the same time, typically the number of threads or nodes evaluating
+	 * solutions.  The default value of {@code 1} updates the population after
+	 * each evaluation, as in the original MOEA/D.
+	 * 
+	 * <p>
+	 * {@link #getResult()} includes the offspring whose evaluations have
+	 * completed without adding them to the population, so observing the
+	 * result does not change the search.  {@link #getState()} instead waits
+	 * for all offspring in flight and adds them to the population, so saving
+	 * checkpoints changes the search when this value exceeds {@code 1}.
+	 * 
+	 * @param maximumPendingEvaluations the maximum number of offspring whose
+	 *        evaluations can be in flight at the same time
+	 * @throws IllegalArgumentException if
+	 *         {@code maximumPendingEvaluations < 1}
+	 */
+	public void setMaximumPendingEvaluations(int maximumPendingEvaluations) {
+		pendingEvaluations.setCapacity(maximumPendingEvaluations);
+	}
+
 	@Override
 	public NondominatedPopulation getResult() {
 		NondominatedPopulation result = new NondominatedPopulation();
@@ -488,6 +551,8 @@ public class MOEAD extends AbstractAlgorithm {
 				result.add(individual.getSolution());
 			}
 		}
+		
+		result.addAll(pendingEvaluations.getCompleted());
 
 		return result;
 	}
@@ -501,21 +566,24 @@ public class MOEAD extends AbstractAlgorithm {
 	 * @return the population indices to be operated on in the current
 	 *         generation
 	 */
-	private List<Integer> getSubproblemsToSearch() {
-		List<Integer> indices = new ArrayList<Integer>();
+	private int[] getSubproblemsToSearch() {
+		int[] indices = null;
 		
 		if (updateUtility < 0) {
 			// return all indices
-			for (int i = 0; i < population.size(); i++) {
-				indices.add(i);
-			}
+			indices = populationIndices.clone();
 		} else {
 			// return 1/5 of the indices chosen by their utility
-			for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-				indices.add(i);
+			int numberOfObjectives = problem.getNumberOfObjectives();
+			
+			indices = new int[Math.max(numberOfObjectives,
+					population.size() / 5)];
+			
+			for (int i = 0; i < numberOfObjectives; i++) {
+				indices[i] = i;
 			}
 	
-			for (int i = problem.getNumberOfObjectives(); i < population.size() / 5; i++) {
+			for (int i = numberOfObjectives; i < population.size() / 5; i++) {
 				int index = PRNG.nextInt(population.size());
 	
 				for (int j = 1; j < 10; j++) {
@@ -527,7 +595,7 @@ public class MOEAD extends AbstractAlgorithm {
 					}
 				}
 	
-				indices.add(index);
+				indices[i] = index;
 			}
 		}
 		
@@ -542,22 +610,15 @@ public class MOEAD extends AbstractAlgorithm {
 	 * entire population is returned.
 	 * 
 	 * @param index the index of the first parent
-	 * @return the population indices to be considered during mating
+	 * @return the population indices to be considered during mating, which
+	 *         must not be modified
 	 */
-	private List<Integer> getMatingIndices(int index) {
-		List<Integer> matingIndices = new ArrayList<Integer>();
-
+	private int[] getMatingIndices(int index) {
 		if (PRNG.nextDouble() <= delta) {
-			for (Individual individual : population.get(index).getNeighbors()) {
-				matingIndices.add(population.indexOf(individual));
-			}
+			return neighborhoods[index];
 		} else {
-			for (int i = 0; i < population.size(); i++) {
-				matingIndices.add(i);
-			}
+			return populationIndices;
 		}
-
-		return matingIndices;
 	}
 
 	/**
@@ -584,6 +645,26 @@ public class MOEAD extends AbstractAlgorithm {
 		return max;
 	}
 	
+	/**
+	 * Returns the fitness of the solution occupying the individual at the
+	 * specified index, which is cached until the solution is replaced or the
+	 * ideal point moves.
+	 * 
+	 * @param index the index of the individual
+	 * @return the fitness of the solution occupying the individual
+	 */
+	private double getCachedFitness(int index) {
+		if (cachedFitnessVersion[index] != idealPointVersion) {
+			Individual individual = population.get(index);
+			
+			cachedFitness[index] = fitness(individual.getSolution(),
+					individual.getWeights());
+			cachedFitnessVersion[index] = idealPointVersion;
+		}
+		
+		return cachedFitness[index];
+	}
+	
 	private double sumOfConstraintViolations(Solution solution) {
 		double sum = 0.0;
 		
@@ -601,16 +682,17 @@ public class MOEAD extends AbstractAlgorithm {
 	 * 
 	 * @param solution the solution
 	 * @param matingIndices the population indices that are available for
-	 *        updating
+	 *        updating, which are shuffled in place
 	 */
-	private void updateSolution(Solution solution,
-			List<Integer> matingIndices) {
+	private void updateSolution(Solution solution, int[] matingIndices) {
 		int c = 0;
 		PRNG.shuffle(matingIndices);
 		
-		for (int i = 0; i < matingIndices.size(); i++) {
-			Individual individual = population.get(matingIndices.get(i));
+		for (int i = 0; i < matingIndices.length; i++) {
+			int index = matingIndices[i];
+			Individual individual = population.get(index);
 			boolean canReplace = false;
+			double fitness = Double.NaN;
 			
 			if (solution.violatesConstraints() &&
 					individual.getSolution().violatesConstraints()) {
@@ -625,15 +707,18 @@ public class MOEAD extends AbstractAlgorithm {
 			} else if (solution.violatesConstraints()) {
 				// do nothing
 			} else {
-				if (fitness(solution, individual.getWeights()) <
-						fitness(individual.getSolution(),
-								individual.getWeights())) {
+				fitness = fitness(solution, individual.getWeights());
+				
+				if (fitness < getCachedFitness(index)) {
 					canReplace = true;
 				}
 			}
 			
 			if (canReplace) {
 				individual.setSolution(solution);
+				cachedFitness[index] = fitness;
+				cachedFitnessVersion[index] = Double.isNaN(fitness) ?
+						idealPointVersion - 1 : idealPointVersion;
 				c = c + 1;
 			}
 			
@@ -666,10 +751,11 @@ public class MOEAD extends AbstractAlgorithm {
 
 	@Override
 	public void iterate() {
-		List<Integer> indices = getSubproblemsToSearch();
+		int[] indices = getSubproblemsToSearch();
 
-		for (Integer index : indices) {
-			List<Integer> matingIndices = getMatingIndices(index);
+		for (int index : indices) {
+			// shuffled in place by each use, as in the original implementation
+			int[] matingIndices = getMatingIndices(index).clone();
 
 			Solution[] parents = new Solution[variation.getArity()];
 			parents[0] = population.get(index).getSolution();
@@ -679,16 +765,16 @@ public class MOEAD extends AbstractAlgorithm {
 				PRNG.shuffle(matingIndices);
 				
 				for (int i = 1; i < variation.getArity()-1; i++) {
-					parents[i] = population.get(
-							matingIndices.get(i-1)).getSolution();
+					parents[i] = population.get(matingIndices[i-1])
+							.getSolution();
 				}
 				
 				parents[variation.getArity()-1] = 
 						population.get(index).getSolution();
 			} else {
 				for (int i = 1; i < variation.getArity(); i++) {
-					parents[i] = population.get(
-							PRNG.nextItem(matingIndices)).getSolution();
+					parents[i] = population.get(matingIndices[
+							PRNG.nextInt(matingIndices.length)]).getSolution();
 				}
 			}
 
@@ -696,8 +782,11 @@ public class MOEAD extends AbstractAlgorithm {
 
 			for (Solution child : offspring) {
 				evaluate(child);
-				updateIdealPoint(child);
-				updateSolution(child, matingIndices);
+				pendingEvaluations.add(child, matingIndices);
+				
+				while (pendingEvaluations.isFull()) {
+					integrate(pendingEvaluations.next());
+				}
 			}
 		}
 
@@ -708,6 +797,29 @@ public class MOEAD extends AbstractAlgorithm {
 		}
 	}
 	
+	/**
+	 * Updates the ideal point and the population with an offspring whose
+	 * evaluation is in flight, blocking until its evaluation completes.
+	 * 
+	 * @param entry the offspring and the population indices it can replace
+	 */
+	private void integrate(PendingEvaluations.Entry<int[]> entry) {
+		Solution child = entry.getSolution();
+		
+		updateIdealPoint(child);
+		updateSolution(child, entry.getContext());
+	}
+	
+	/**
+	 * Updates the ideal point and the population with all offspring whose
+	 * evaluations are in flight.
+	 */
+	private void integratePendingEvaluations() {
+		while (!pendingEvaluations.isEmpty()) {
+			integrate(pendingEvaluations.next());
+		}
+	}
+	
 	/**
 	 * Proxy for serializing and deserializing the state of a
 	 * {@code MOEAD} instance. This proxy supports saving
@@ -806,6 +918,8 @@ public class MOEAD extends AbstractAlgorithm {
 
 	@Override
 	public Serializable getState() throws NotSerializableException {
+		integratePendingEvaluations();
+		
 		return new MOEADState(population, idealPoint, numberOfEvaluations,
 				generation);
 	}
@@ -820,6 +934,8 @@ public class MOEAD extends AbstractAlgorithm {
 		idealPoint = state.getIdealPoint();
 		numberOfEvaluations = state.getNumberOfEvaluations();
 		generation = state.getGeneration();
+		
+		initializeNeighborhoods();
 	}
 	
 }
@@ -17,7 +17,7 @@
  */
 package org.moeaframework.algorithm;
 
-import static org.moeaframework.core.FastNondominatedSorting.RANK_ATTRIBUTE;
+import static org.moeaframework.core.FastNondominatedSorting.RANK_KEY;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -357,7 +357,7 @@ public class MSOPSRankedPopulation extends Population {
 		});
 		
 		for (int i = 0; i < P; i++) {
-			get(indices[i]).setAttribute(RANK_ATTRIBUTE, i);
+			get(indices[i]).setIntAttribute(RANK_KEY, i);
 		}
 	}
 
@@ -0,0 +1,321 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.util.distributed.DistributedProblem;
+import org.moeaframework.util.distributed.FutureSolution;
+
+/**
+ * Queue of offspring whose evaluations are in flight, allowing steady-state
+ * algorithms to keep several evaluations running concurrently.  When solving
+ * a {@link DistributedProblem}, evaluating a solution submits the evaluation
+ * and returns immediately; the algorithm adds the offspring to this queue and
+ * integrates them into its population once the queue reaches its capacity,
+ * taking each offspring as soon as its evaluation completes.  Each
+ * offspring may carry a context, such as the subproblems it can replace, that
+ * the algorithm needs when integrating the offspring.
+ * <p>
+ * With a capacity of {@code 1}, each offspring is integrated immediately
+ * after it is evaluated, reproducing the behavior of the synchronous
+ * algorithm.
+ * 
+ * @param <T> the type of the context stored with each offspring
+ */
+class PendingEvaluations<T> {
+	
+	/**
+	 * The interval, in milliseconds, between checks for completed evaluations
+	 * that are not signalled, such as evaluations on remote nodes.
+	 */
+	private static final long POLL_INTERVAL = 10;
+	
+	/**
+	 * The offspring, in the order they were evaluated.
+	 */
+	private final LinkedList<Entry<T>> entries;
+	
+	/**
+	 * The offspring whose evaluations have finished, in the order they
+	 * finished.  An offspring may appear more than once or after it was
+	 * removed from {@code entries}.
+	 */
+	private final BlockingQueue<FutureSolution> completed;
+	
+	/**
+	 * The maximum number of offspring in flight.
+	 */
+	private int capacity;
+	
+	/**
+	 * Constructs an empty queue with a capacity of {@code 1}.
+	 */
+	public PendingEvaluations() {
+		super();
+		
+		entries = new LinkedList<Entry<T>>();
+		completed = new LinkedBlockingQueue<FutureSolution>();
+		capacity = 1;
+	}
+	
+	/**
+	 * Returns the maximum number of offspring in flight.
+	 * 
+	 * @return the maximum number of offspring in flight
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * Sets the maximum number of offspring in flight.  Typically this is the
+	 * number of threads or nodes evaluating solutions.
+	 * 
+	 * @param capacity the maximum number of offspring in flight
+	 * @throws IllegalArgumentException if {@code capacity < 1}
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException(
+					"capacity must be at least 1");
+		}
+		
+		this.capacity = capacity;
+	}
+	
+	/**
+	 * Adds an offspring whose evaluation has been started.
+	 * 
+	 * @param solution the offspring
+	 * @param context the context needed when integrating the offspring
+	 */
+	public void add(Solution solution, T context) {
+		entries.add(new Entry<T>(solution, context));
+		
+		if (solution instanceof FutureSolution) {
+			((FutureSolution)solution).setCompletionQueue(completed);
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if the number of offspring in flight has reached
+	 * the capacity of this queue; {@code false} otherwise.
+	 * 
+	 * @return {@code true} if the number of offspring in flight has reached
+	 *         the capacity of this queue; {@code false} otherwise
+	 */
+	public boolean isFull() {
+		return entries.size() >= capacity;
+	}
+	
+	/**
+	 * Returns {@code true} if no offspring are in flight; {@code false}
+	 * otherwise.
+	 * 
+	 * @return {@code true} if no offspring are in flight; {@code false}
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+	
+	/**
+	 * Returns the offspring whose evaluations have completed, oldest first,
+	 * without removing them from this queue or waiting for the evaluations
+	 * still in flight.
+	 * 
+	 * @return the offspring whose evaluations have completed
+	 */
+	public List<Solution> getCompleted() {
+		List<Solution> result = new ArrayList<Solution>();
+		
+		for (Entry<T> entry : entries) {
+			Solution solution = entry.getSolution();
+			
+			if (!(solution instanceof FutureSolution) ||
+					((FutureSolution)solution).isDone()) {
+				result.add(solution);
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Removes and returns the next offspring whose evaluation has completed,
+	 * waiting for whichever evaluation completes first if none have.
+	 * Offspring evaluated in this JVM are returned in the order their
+	 * evaluations finish; offspring that were evaluated synchronously or
+	 * whose completion is not signalled, such as those evaluated on remote
+	 * nodes, are returned oldest first once they are done.
+	 * 
+	 * @return the next offspring to integrate
+	 * @throws NoSuchElementException if no offspring are in flight
+	 */
+	public Entry<T> next() {
+		if (entries.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		
+		FutureSolution signalled = completed.poll();
+		
+		while (true) {
+			while (signalled != null) {
+				Entry<T> entry = remove(signalled);
+				
+				if (entry != null) {
+					return entry;
+				}
+				
+				signalled = completed.poll();
+			}
+			
+			Iterator<Entry<T>> iterator = entries.iterator();
+			
+			while (iterator.hasNext()) {
+				Entry<T> entry = iterator.next();
+				Solution solution = entry.getSolution();
+				
+				if (!(solution instanceof FutureSolution) ||
+						((FutureSolution)solution).isDone()) {
+					iterator.remove();
+					detach(entry);
+					return entry;
+				}
+			}
+			
+			try {
+				signalled = completed.poll(POLL_INTERVAL,
+						TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				// reading the objectives of the oldest offspring will block
+				Thread.currentThread().interrupt();
+				
+				Entry<T> entry = entries.removeFirst();
+				detach(entry);
+				return entry;
+			}
+		}
+	}
+	
+	/**
+	 * Removes and returns the entry of the specified offspring, or
+	 * {@code null} if the offspring is no longer in flight.
+	 * 
+	 * @param solution the offspring
+	 * @return the entry of the specified offspring, or {@code null} if the
+	 *         offspring is no longer in flight
+	 */
+	private Entry<T> remove(Solution solution) {
+		Iterator<Entry<T>> iterator = entries.iterator();
+		
+		while (iterator.hasNext()) {
+			Entry<T> entry = iterator.next();
+			
+			if (entry.getSolution() == solution) {
+				iterator.remove();
+				detach(entry);
+				return entry;
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Stops the offspring in the specified entry from signalling this queue.
+	 * 
+	 * @param entry the entry removed from this queue
+	 */
+	private void detach(Entry<T> entry) {
+		if (entry.getSolution() instanceof FutureSolution) {
+			((FutureSolution)entry.getSolution()).setCompletionQueue(null);
+		}
+	}
+	
+	/**
+	 * Removes all offspring from this queue.
+	 */
+	public void clear() {
+		for (Entry<T> entry : entries) {
+			detach(entry);
+		}
+		
+		entries.clear();
+		completed.clear();
+	}
+	
+	/**
+	 * An offspring and its context.
+	 * 
+	 * @param <T> the type of the context
+	 */
+	public static class Entry<T> {
+		
+		/**
+		 * The offspring.
+		 */
+		private final Solution solution;
+		
+		/**
+		 * The context needed when integrating the offspring.
+		 */
+		private final T context;
+		
+		/**
+		 * Constructs a new entry.
+		 * 
+		 * @param solution the offspring
+		 * @param context the context needed when integrating the offspring
+		 */
+		public Entry(Solution solution, T context) {
+			super();
+			this.solution = solution;
+			this.context = context;
+		}
+		
+		/**
+		 * Returns the offspring.
+		 * 
+		 * @return the offspring
+		 */
+		public Solution getSolution() {
+			return solution;
+		}
+		
+		/**
+		 * Returns the context needed when integrating the offspring.
+		 * 
+		 * @return the context needed when integrating the offspring
+		 */
+		public T getContext() {
+			return context;
+		}
+		
+	}
+
+}
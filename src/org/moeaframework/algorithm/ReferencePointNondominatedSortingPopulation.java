@@ -17,7 +17,7 @@
  */
 package org.moeaframework.algorithm;
 
-import static org.moeaframework.core.FastNondominatedSorting.RANK_ATTRIBUTE;
+import static org.moeaframework.core.FastNondominatedSorting.RANK_KEY;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,6 +26,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.moeaframework.core.AttributeKey;
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.NondominatedSortingPopulation;
 import org.moeaframework.core.PRNG;
@@ -73,6 +74,12 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 	 * The name of the attribute for storing the normalized objectives.
 	 */
 	static final String NORMALIZED_OBJECTIVES = "Normalized Objectives";
+	
+	/**
+	 * The typed attribute for storing the normalized objectives.
+	 */
+	static final AttributeKey NORMALIZED_OBJECTIVES_KEY = AttributeKey.register(
+			NORMALIZED_OBJECTIVES, AttributeKey.Type.OBJECT);
 
 	/**
 	 * The number of objectives.
@@ -100,6 +107,11 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 	 */
 	private List<double[]> weights;
 
+	/**
+	 * The packed reference points used to associate solutions.
+	 */
+	private ReferenceVectorAssociation association;
+
 	/**
 	 * Constructs an empty population that maintains the {@code rank}
 	 * attribute for its solutions.
@@ -265,6 +277,9 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 		
 		weights = new NormalBoundaryIntersectionGenerator(numberOfObjectives,
 				divisionsOuter, divisionsInner).generate();
+		
+		association = new ReferenceVectorAssociation(numberOfObjectives,
+				weights);
 	}
 
 	/**
@@ -295,7 +310,7 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 				objectives[i] -= idealPoint[i];
 			}
 
-			solution.setAttribute(NORMALIZED_OBJECTIVES, objectives);
+			solution.setAttribute(NORMALIZED_OBJECTIVES_KEY, objectives);
 		}
 	}
 
@@ -308,7 +323,7 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 	 */
 	protected void normalizeByIntercepts(double[] intercepts) {
 		for (Solution solution : this) {
-			double[] objectives = (double[])solution.getAttribute(NORMALIZED_OBJECTIVES);
+			double[] objectives = (double[])solution.getAttribute(NORMALIZED_OBJECTIVES_KEY);
 
 			for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
 				objectives[i] /= intercepts[i];
@@ -325,7 +340,7 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 	 */
 	protected static double achievementScalarizingFunction(Solution solution, double[] weights) {
 		double max = Double.NEGATIVE_INFINITY;
-		double[] objectives = (double[])solution.getAttribute(NORMALIZED_OBJECTIVES);
+		double[] objectives = (double[])solution.getAttribute(NORMALIZED_OBJECTIVES_KEY);
 
 		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
 			max = Math.max(max, objectives[i]/weights[i]);
@@ -409,7 +424,7 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 			double[][] A = new double[numberOfObjectives][numberOfObjectives];
 			
 			for (int i = 0; i < numberOfObjectives; i++) {
-				double[] objectives = (double[])extremePoints[i].getAttribute(NORMALIZED_OBJECTIVES);
+				double[] objectives = (double[])extremePoints[i].getAttribute(NORMALIZED_OBJECTIVES_KEY);
 
 				b[i] = 1.0;
 
@@ -522,9 +537,15 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 	 * @return the minimum distance
 	 */
 	protected static double pointLineDistance(double[] line, double[] point) {
-		return Vector.magnitude(Vector.subtract(Vector.multiply(
-				Vector.dot(line, point) / Vector.dot(line, line),
-				line), point));
+		double scale = Vector.dot(line, point) / Vector.dot(line, line);
+		double sum = 0.0;
+
+		for (int i = 0; i < line.length; i++) {
+			double difference = scale * line[i] - point[i];
+			sum += difference * difference;
+		}
+
+		return Math.sqrt(sum);
 	}
 
 	/**
@@ -543,21 +564,11 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 			result.add(new ArrayList<Solution>());
 		}
 
-		for (Solution solution : population) {
-			double[] objectives = (double[])solution.getAttribute(NORMALIZED_OBJECTIVES);
-			double minDistance = Double.POSITIVE_INFINITY;
-			int minIndex = -1;
-
-			for (int i = 0; i < weights.size(); i++) {
-				double distance = pointLineDistance(weights.get(i), objectives);
-
-				if (distance < minDistance) {
-					minDistance = distance;
-					minIndex = i;
-				}
-			}
+		int[] indices = association.associateByDistance(
+				ReferenceVectorAssociation.pack(population, numberOfObjectives));
 
-			result.get(minIndex).add(solution);
+		for (int i = 0; i < indices.length; i++) {
+			result.get(indices[i]).add(population.get(i));
 		}
 
 		return result;
@@ -576,7 +587,7 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 		Solution minSolution = null;
 
 		for (int i = 0; i < solutions.size(); i++) {
-			double[] objectives = (double[])solutions.get(i).getAttribute(NORMALIZED_OBJECTIVES);
+			double[] objectives = (double[])solutions.get(i).getAttribute(NORMALIZED_OBJECTIVES_KEY);
 			double distance = pointLineDistance(weight, objectives);
 			
 			if (distance < minDistance) {
@@ -598,11 +609,11 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 			// remove all solutions past the last front
 			sort(new RankComparator());
 
-			int maxRank = (Integer)super.get(size-1).getAttribute(RANK_ATTRIBUTE);
+			int maxRank = super.get(size-1).getIntAttribute(RANK_KEY);
 			Population front = new Population();
 
 			for (int i = 0; i < size(); i++) {
-				int rank = (Integer)get(i).getAttribute(RANK_ATTRIBUTE);
+				int rank = get(i).getIntAttribute(RANK_KEY);
 				
 				if (rank > maxRank) {
 					front.add(get(i));
@@ -625,7 +636,7 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 			front = new Population();
 
 			for (int i = 0; i < size(); i++) {
-				int rank = (Integer)get(i).getAttribute(RANK_ATTRIBUTE);
+				int rank = get(i).getIntAttribute(RANK_KEY);
 
 				if (rank == maxRank) {
 					front.add(get(i));
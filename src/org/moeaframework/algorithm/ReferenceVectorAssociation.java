@@ -0,0 +1,243 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.List;
+
+import org.moeaframework.core.AttributeKey;
+import org.moeaframework.core.Population;
+
+/**
+ * Associates normalized objective vectors with reference vectors, as used by
+ * NSGA-III and RVEA.  The reference vectors are scaled to unit length and
+ * packed into a single row-major matrix when this object is constructed, and
+ * the objective vectors are likewise packed by
+ * {@link #pack(Population, int)}, so the association performs a single dot
+ * product per pair without allocating temporary vectors.
+ * <p>
+ * Since the reference vectors have unit length, the perpendicular distance
+ * between a point {@code p} and the line through a reference vector {@code w}
+ * is {@code sqrt(|p|^2 - (p.w)^2)}, so the nearest line maximizes
+ * {@code (p.w)^2}; likewise, the smallest angle maximizes {@code p.w}.
+ */
+class ReferenceVectorAssociation {
+
+	/**
+	 * The typed attribute for storing the normalized objectives.
+	 */
+	private static final AttributeKey NORMALIZED_OBJECTIVES_KEY =
+			ReferencePointNondominatedSortingPopulation.NORMALIZED_OBJECTIVES_KEY;
+
+	/**
+	 * The number of objectives.
+	 */
+	private final int numberOfObjectives;
+
+	/**
+	 * The number of reference vectors.
+	 */
+	private final int numberOfVectors;
+
+	/**
+	 * The reference vectors scaled to unit length, stored in row-major order.
+	 */
+	private final double[] vectors;
+
+	/**
+	 * Constructs a new association with the specified reference vectors.
+	 *
+	 * @param numberOfObjectives the number of objectives
+	 * @param vectors the reference vectors, which need not have unit length
+	 */
+	public ReferenceVectorAssociation(int numberOfObjectives,
+			List<double[]> vectors) {
+		super();
+		this.numberOfObjectives = numberOfObjectives;
+
+		numberOfVectors = vectors.size();
+		this.vectors = new double[numberOfVectors * numberOfObjectives];
+
+		for (int i = 0; i < numberOfVectors; i++) {
+			double[] vector = vectors.get(i);
+			double norm = 0.0;
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				norm += vector[j] * vector[j];
+			}
+
+			norm = Math.sqrt(norm);
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				this.vectors[i * numberOfObjectives + j] = vector[j] / norm;
+			}
+		}
+	}
+
+	/**
+	 * Returns the normalized objectives of the specified solutions packed into
+	 * a single row-major matrix.
+	 *
+	 * @param population the solutions whose normalized objectives are packed
+	 * @param numberOfObjectives the number of objectives
+	 * @return the normalized objectives of the specified solutions
+	 */
+	public static double[] pack(Population population,
+			int numberOfObjectives) {
+		double[] points = new double[population.size() * numberOfObjectives];
+
+		for (int i = 0; i < population.size(); i++) {
+			double[] objectives = (double[])population.get(i).getAttribute(
+					NORMALIZED_OBJECTIVES_KEY);
+
+			System.arraycopy(objectives, 0, points, i * numberOfObjectives,
+					numberOfObjectives);
+		}
+
+		return points;
+	}
+
+	/**
+	 * Returns the number of reference vectors.
+	 *
+	 * @return the number of reference vectors
+	 */
+	public int getNumberOfVectors() {
+		return numberOfVectors;
+	}
+
+	/**
+	 * Returns the index of the reference vector whose line is nearest to each
+	 * point, measured by perpendicular distance.  Ties are resolved in favor
+	 * of the reference vector with the smallest index.
+	 *
+	 * @param points the packed points
+	 * @return the index of the nearest reference vector for each point, or
+	 *         {@code -1} if the distances are undefined
+	 */
+	public int[] associateByDistance(double[] points) {
+		int numberOfPoints = points.length / numberOfObjectives;
+		int[] result = new int[numberOfPoints];
+
+		for (int i = 0; i < numberOfPoints; i++) {
+			int offset = i * numberOfObjectives;
+			double maxProjection = Double.NEGATIVE_INFINITY;
+			int maxIndex = -1;
+
+			for (int j = 0; j < numberOfVectors; j++) {
+				double dot = dot(points, offset, j);
+				double projection = dot * dot;
+
+				if (projection > maxProjection) {
+					maxProjection = projection;
+					maxIndex = j;
+				}
+			}
+
+			result[i] = maxIndex;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the index of the reference vector with the smallest angle to
+	 * each point.  Ties are resolved in favor of the reference vector with the
+	 * smallest index.
+	 *
+	 * @param points the packed points
+	 * @return the index of the reference vector with the smallest angle for
+	 *         each point, or {@code -1} if the angles are undefined
+	 */
+	public int[] associateByAngle(double[] points) {
+		int numberOfPoints = points.length / numberOfObjectives;
+		int[] result = new int[numberOfPoints];
+
+		for (int i = 0; i < numberOfPoints; i++) {
+			int offset = i * numberOfObjectives;
+			double maxDot = Double.NEGATIVE_INFINITY;
+			int maxIndex = -1;
+
+			for (int j = 0; j < numberOfVectors; j++) {
+				double dot = dot(points, offset, j);
+
+				if (dot > maxDot) {
+					maxDot = dot;
+					maxIndex = j;
+				}
+			}
+
+			result[i] = maxIndex;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the smallest angle between each reference vector and all
+	 * remaining reference vectors.
+	 *
+	 * @return the smallest angle between each reference vector and all
+	 *         remaining reference vectors
+	 */
+	public double[] smallestAngles() {
+		double[] maxDots = new double[numberOfVectors];
+		double[] result = new double[numberOfVectors];
+
+		for (int i = 0; i < numberOfVectors; i++) {
+			maxDots[i] = Double.NEGATIVE_INFINITY;
+		}
+
+		// the angles are symmetric, so each pair is computed once
+		for (int i = 0; i < numberOfVectors; i++) {
+			for (int j = i + 1; j < numberOfVectors; j++) {
+				double dot = dot(vectors, i * numberOfObjectives, j);
+
+				maxDots[i] = Math.max(maxDots[i], dot);
+				maxDots[j] = Math.max(maxDots[j], dot);
+			}
+		}
+
+		for (int i = 0; i < numberOfVectors; i++) {
+			result[i] = maxDots[i] == Double.NEGATIVE_INFINITY ?
+					Double.POSITIVE_INFINITY :
+					Math.acos(Math.max(-1.0, Math.min(1.0, maxDots[i])));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the dot product between a packed point and a reference vector.
+	 *
+	 * @param points the packed points
+	 * @param offset the offset of the point within the packed points
+	 * @param vector the index of the reference vector
+	 * @return the dot product between the point and the reference vector
+	 */
+	private double dot(double[] points, int offset, int vector) {
+		int vectorOffset = vector * numberOfObjectives;
+		double sum = 0.0;
+
+		for (int k = 0; k < numberOfObjectives; k++) {
+			sum += points[offset + k] * vectors[vectorOffset + k];
+		}
+
+		return sum;
+	}
+
+}
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
+import org.moeaframework.core.AttributeKey;
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Solution;
@@ -43,9 +44,10 @@ import org.moeaframework.util.weights.NormalBoundaryIntersectionGenerator;
 public class ReferenceVectorGuidedPopulation extends Population {
 	
 	/**
-	 * The name of the attribute for storing the normalized objectives.
+	 * The typed attribute for storing the normalized objectives.
 	 */
-	private static final String NORMALIZED_OBJECTIVES = "Normalized Objectives";
+	private static final AttributeKey NORMALIZED_OBJECTIVES_KEY =
+			ReferencePointNondominatedSortingPopulation.NORMALIZED_OBJECTIVES_KEY;
 
 	/**
 	 * The number of objectives.
@@ -78,6 +80,12 @@ public class ReferenceVectorGuidedPopulation extends Population {
 	 */
 	List<double[]> weights;
 	
+	/**
+	 * The packed normalized reference vectors, rebuilt whenever the reference
+	 * vectors change.
+	 */
+	private ReferenceVectorAssociation association;
+	
 	/**
 	 * The minimum angle between reference vectors.
 	 */
@@ -224,12 +232,18 @@ public class ReferenceVectorGuidedPopulation extends Population {
 			weights.add(Vector.normalize(newWeight));
 		}
 		
-		// compute the minimum angles between reference vectors
-		minAngles = new double[weights.size()];
-		
-		for (int i = 0; i < weights.size(); i++) {
-			minAngles[i] = smallestAngleBetweenWeights(i);
-		}
+		updateReferenceVectors();
+	}
+
+	/**
+	 * Packs the normalized reference vectors and computes the minimum angles
+	 * between them.  This must be called whenever the reference vectors
+	 * change.
+	 */
+	private void updateReferenceVectors() {
+		association = new ReferenceVectorAssociation(numberOfObjectives,
+				weights);
+		minAngles = association.smallestAngles();
 	}
 
 	/**
@@ -258,12 +272,7 @@ public class ReferenceVectorGuidedPopulation extends Population {
 			weights.add(weight.clone());
 		}
 		
-		// compute the minimum angles between reference vectors
-		minAngles = new double[weights.size()];
-		
-		for (int i = 0; i < weights.size(); i++) {
-			minAngles[i] = smallestAngleBetweenWeights(i);
-		}
+		updateReferenceVectors();
 	}
 	
 	/**
@@ -287,7 +296,7 @@ public class ReferenceVectorGuidedPopulation extends Population {
 	/**
 	 * Offsets the solutions in this population by the ideal point.  This
 	 * method does not modify the objective values, it creates a new attribute
-	 * with the name {@value NORMALIZED_OBJECTIVES}.
+	 * with the name {@value ReferencePointNondominatedSortingPopulation#NORMALIZED_OBJECTIVES}.
 	 */
 	protected void translateByIdealPoint() {
 		for (Solution solution : this) {
@@ -297,7 +306,7 @@ public class ReferenceVectorGuidedPopulation extends Population {
 				objectives[i] -= idealPoint[i];
 			}
 
-			solution.setAttribute(NORMALIZED_OBJECTIVES, objectives);
+			solution.setAttribute(NORMALIZED_OBJECTIVES_KEY, objectives);
 		}
 	}
 	
@@ -343,53 +352,30 @@ public class ReferenceVectorGuidedPopulation extends Population {
 			result.add(new ArrayList<Solution>());
 		}
 
-		for (Solution solution : population) {
-			double[] objectives = (double[])solution.getAttribute(NORMALIZED_OBJECTIVES);
-			double maxDistance = Double.NEGATIVE_INFINITY;
-			int maxIndex = -1;
-
-			for (int i = 0; i < weights.size(); i++) {
-				double distance = cosine(weights.get(i), objectives);
+		int[] indices = association.associateByAngle(
+				ReferenceVectorAssociation.pack(population, numberOfObjectives));
 
-				if (distance > maxDistance) {
-					maxDistance = distance;
-					maxIndex = i;
-				}
-			}
-			
+		for (int i = 0; i < indices.length; i++) {
 			// if there is only a single solution, then the normalized
 			// objectives will be 0 (since the ideal point == the solution);
 			// in this case, the solution could be associated with any
 			// reference vector
-			if (maxIndex < 0) {
-				maxIndex = 0;
-			}
-
-			result.get(maxIndex).add(solution);
+			result.get(Math.max(0, indices[i])).add(population.get(i));
 		}
 
 		return result;
 	}
 	
 	/**
-	 * Computes the smallest angle between the given reference vector and all
-	 * remaining vectors.
+	 * Returns the smallest angle between the given reference vector and all
+	 * remaining vectors, as computed when the reference vectors last changed.
 	 * 
 	 * @param index the index of the reference vector
 	 * @return the smallest angle between the given reference vector and all
 	 *         remaining vectors
 	 */
 	protected double smallestAngleBetweenWeights(int index) {
-		double smallestAngle = Double.POSITIVE_INFINITY;
-		
-		for (int i = 0; i < weights.size(); i++) {
-			if (i != index) {
-				smallestAngle = Math.min(smallestAngle,
-						acosine(weights.get(index), weights.get(i)));
-			}
-		}
-		
-		return smallestAngle;
+		return minAngles[index];
 	}
 	
 	/**
@@ -407,7 +393,7 @@ public class ReferenceVectorGuidedPopulation extends Population {
 		for (Solution solution : solutions) {
 			if (!solution.violatesConstraints()) {
 				double[] objectives = (double[])solution.getAttribute(
-						NORMALIZED_OBJECTIVES);
+						NORMALIZED_OBJECTIVES_KEY);
 				
 				double penalty = numberOfObjectives *
 						Math.pow(scalingFactor, alpha) *
@@ -523,6 +509,13 @@ public class ReferenceVectorGuidedPopulation extends Population {
 			weights.add(weight.clone());
 		}
 		
+		association = new ReferenceVectorAssociation(numberOfObjectives,
+				weights);
+		
+		if (minAngles == null) {
+			minAngles = association.smallestAngles();
+		}
+		
 		addAll(state.getPopulation());
 	}
 	
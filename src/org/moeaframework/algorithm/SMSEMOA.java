@@ -17,12 +17,15 @@
  */
 package org.moeaframework.algorithm;
 
+import java.io.NotSerializableException;
 import java.io.Serializable;
 import java.util.Comparator;
 
-import org.moeaframework.core.FastNondominatedSorting;
 import org.moeaframework.core.FitnessEvaluator;
+import org.moeaframework.core.IncrementalNondominatedSorting;
 import org.moeaframework.core.Initialization;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.NondominatedSorting;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Selection;
@@ -43,6 +46,14 @@ import org.moeaframework.core.operator.TournamentSelection;
  *   <li>Emmerich, M., N. Beume, and B. Naujoks (2007).  An EMO Algorithm Using
  *       the Hypervolume Measure as Selection Criterion.  European Journal of
  *       Operational Research, 3:1653-1669.
+ * </ol>
+ * <p>
+ * When the problem evaluates solutions asynchronously, such as a
+ * {@link org.moeaframework.util.distributed.DistributedProblem}, setting
+ * {@link #setMaximumPendingEvaluations(int)} keeps several offspring in
+ * flight.  Each offspring replaces the worst solution in the population once
+ * its evaluation completes, while new offspring are generated from the
+ * current population.
  */
 public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 	
@@ -62,6 +73,18 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 	 */
 	private Variation variation;
 
+	/**
+	 * The offspring whose evaluations are in flight.
+	 */
+	private final PendingEvaluations<Void> pendingEvaluations;
+	
+	/**
+	 * The non-dominated sorting of the population.  When a fitness evaluator
+	 * is used, the sorting is updated as each offspring replaces the worst
+	 * solution.
+	 */
+	private final IncrementalNondominatedSorting nondominatedSorting;
+
 	/**
 	 * Constructs a new SMS-EMOA instance.
 	 * 
@@ -86,6 +109,68 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 			selection = new TournamentSelection(
 					new NondominatedFitnessComparator());
 		}
+		
+		pendingEvaluations = new PendingEvaluations<Void>();
+		nondominatedSorting = new IncrementalNondominatedSorting();
+	}
+	
+	/**
+	 * Returns the maximum number of offspring whose evaluations can be in
+	 * flight at the same time.
+	 * 
+	 * @return the maximum number of offspring whose evaluations can be in
+	 *         flight at the same time
+	 */
+	public int getMaximumPendingEvaluations() {
+		return pendingEvaluations.getCapacity();
+	}
+	
+	/**
+	 * Sets the maximum number of offspring whose evaluations can be in flight
+	 * at the same time, typically the number of threads or nodes evaluating
+	 * solutions.  The default value of {@code 1} updates the population after
+	 * each evaluation, as in the original SMS-EMOA.
+	 * 
+	 * <p>
+	 * {@link #getResult()} includes the offspring whose evaluations have
+	 * completed without adding them to the population, so observing the
+	 * result does not change the search.  {@link #getState()} instead waits
+	 * for all offspring in flight and adds them to the population, so saving
+	 * checkpoints changes the search when this value exceeds {@code 1}.
+	 * 
+	 * @param maximumPendingEvaluations the maximum number of offspring whose
+	 *        evaluations can be in flight at the same time
+	 * @throws IllegalArgumentException if
+	 *         {@code maximumPendingEvaluations < 1}
+	 */
+	public void setMaximumPendingEvaluations(int maximumPendingEvaluations) {
+		pendingEvaluations.setCapacity(maximumPendingEvaluations);
+	}
+	
+	@Override
+	public NondominatedPopulation getResult() {
+		NondominatedPopulation result = super.getResult();
+		result.addAll(pendingEvaluations.getCompleted());
+		return result;
+	}
+	
+	@Override
+	public Serializable getState() throws NotSerializableException {
+		integratePendingEvaluations();
+		return super.getState();
+	}
+	
+	@Override
+	public void setState(Object objState) throws NotSerializableException {
+		super.setState(objState);
+		
+		// the restored solutions keep the attributes assigned by the last
+		// iteration, but the fronts updated incrementally must be rebuilt;
+		// this assigns the same ranks, since the worst solution removed by
+		// the last iteration was in the last front
+		if (fitnessEvaluator != null) {
+			nondominatedSorting.evaluate(population);
+		}
 	}
 
 	@Override
@@ -93,7 +178,7 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 		super.initialize();
 		
 		// rank the solutions
-		new FastNondominatedSorting().evaluate(population);
+		nondominatedSorting.evaluate(population);
 		
 		if (fitnessEvaluator != null) {
 			fitnessEvaluator.evaluate(population);
@@ -102,27 +187,69 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 
 	@Override
 	protected void iterate() {
-		int populationSize = population.size();
 		Solution[] parents = selection.select(variation.getArity(), population);
 		Solution[] offspring = variation.evolve(parents);
 		
 		evaluate(offspring[0]);
-		population.add(offspring[0]);
+		pendingEvaluations.add(offspring[0], null);
 		
-		// rank the solutions and remove the worst
-		new FastNondominatedSorting().evaluate(population);
+		while (pendingEvaluations.isFull()) {
+			integrate(pendingEvaluations.next().getSolution());
+		}
+	}
+	
+	/**
+	 * Adds all offspring whose evaluations are in flight to the population,
+	 * each replacing the worst solution.
+	 */
+	private void integratePendingEvaluations() {
+		while (!pendingEvaluations.isEmpty()) {
+			integrate(pendingEvaluations.next().getSolution());
+		}
+	}
+	
+	/**
+	 * Adds an offspring whose evaluation is in flight to the population and
+	 * removes the worst solution, blocking until the evaluation completes.
+	 * 
+	 * @param child the offspring
+	 */
+	private void integrate(Solution child) {
+		population.add(child);
 		
 		if (fitnessEvaluator == null) {
-			population.truncate(populationSize, 
-					new NondominatedSortingComparator());
+			// the crowding distances depend on the order of the solutions in
+			// each front, so the population is ranked in full
+			nondominatedSorting.evaluate(population);
+			removeWorst(new NondominatedSortingComparator());
 		} else {
+			// only the ranks and the fitness of the last front are compared,
+			// so the ranks are updated incrementally
+			nondominatedSorting.add(child);
 			computeFitnessForLastFront();
-			
-			population.truncate(populationSize, 
-					new NondominatedFitnessComparator());
+			nondominatedSorting.remove(
+					removeWorst(new NondominatedFitnessComparator()));
 		}
 	}
 	
+	/**
+	 * Sorts the population from best to worst and removes the worst solution,
+	 * keeping the order of the remaining solutions as in the original
+	 * SMS-EMOA.
+	 * 
+	 * @param comparator the comparator ordering solutions from best to worst
+	 * @return the removed solution
+	 */
+	private Solution removeWorst(Comparator<Solution> comparator) {
+		int worst = population.size() - 1;
+		
+		population.sort(comparator);
+		Solution solution = population.get(worst);
+		population.remove(worst);
+		
+		return solution;
+	}
+	
 	/**
 	 * Computes the fitness for the last front.
 	 */
@@ -131,8 +258,8 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 		int rank = 0;
 		
 		for (Solution solution : population) {
-			int solutionRank = (Integer)solution.getAttribute(
-					FastNondominatedSorting.RANK_ATTRIBUTE);
+			int solutionRank = solution.getIntAttribute(
+					NondominatedSorting.RANK_KEY);
 			
 			if (solutionRank > rank) {
 				front.clear();
@@ -143,7 +270,7 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 				front.add(solution);
 			}
 			
-			solution.setAttribute(FitnessEvaluator.FITNESS_ATTRIBUTE, 0.0);
+			solution.setDoubleAttribute(FitnessEvaluator.FITNESS_KEY, 0.0);
 		}
 		
 		fitnessEvaluator.evaluate(front);
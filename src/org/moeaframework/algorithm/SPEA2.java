@@ -17,15 +17,8 @@
  */
 package org.moeaframework.algorithm;
 
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.ListIterator;
 
-import org.apache.commons.math3.util.KthSelector;
-import org.apache.commons.math3.util.Pair;
 import org.moeaframework.core.FitnessEvaluator;
 import org.moeaframework.core.Initialization;
 import org.moeaframework.core.Population;
@@ -157,8 +150,8 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 		
 		while (iterator.hasNext()) {
 			Solution solution = iterator.next();
-			double fitness = (Double)solution.getAttribute(
-					FitnessEvaluator.FITNESS_ATTRIBUTE);
+			double fitness = solution.getDoubleAttribute(
+					FitnessEvaluator.FITNESS_KEY);
 			
 			if (fitness < 1.0) {
 				survivors.add(solution);
@@ -214,17 +207,51 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 	
 	/**
 	 * Mapping of pair-wise distances between points.  This mapping is mutable,
-	 * allowing points to be removed.
+	 * allowing points to be removed.  Each point stores the indices of the
+	 * other points sorted by distance; removed points are skipped lazily
+	 * rather than deleted from every row, so truncating {@code n} points
+	 * requires {@code O(n^2 log n)} time overall.
 	 */
 	public static class MutableDistanceMap {
 		
 		/**
-		 * The internal mapping of distances.
+		 * The pair-wise distances between points, indexed by their original
+		 * position.  This matrix is not modified.
 		 */
-		private List<List<Pair<Integer, Double>>> distanceMatrix;
+		private double[][] distances;
 		
 		/**
-		 * Constructs a new mapping of pair-wise distances between points.
+		 * For each point, the original positions of all other points sorted
+		 * by increasing distance.
+		 */
+		private int[][] neighbors;
+		
+		/**
+		 * For each point, the position in {@code neighbors} before which all
+		 * neighbors have been removed.
+		 */
+		private int[] firsts;
+		
+		/**
+		 * {@code true} if the point at the original position was removed;
+		 * {@code false} otherwise.
+		 */
+		private boolean[] removed;
+		
+		/**
+		 * The original positions of the remaining points, in order.
+		 */
+		private int[] points;
+		
+		/**
+		 * The number of remaining points.
+		 */
+		private int size;
+		
+		/**
+		 * Constructs a new mapping of pair-wise distances between points.  The
+		 * distance matrix is referenced, not copied, and must not be modified
+		 * while this mapping is used.
 		 * 
 		 * @param rawDistanceMatrix the distance matrix
 		 */
@@ -239,29 +266,118 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 		 * @param rawDistanceMatrix the distance matrix
 		 */
 		protected void initialize(double[][] rawDistanceMatrix) {
-			distanceMatrix = new LinkedList<List<Pair<Integer, Double>>>();
+			int n = rawDistanceMatrix.length;
 			
-			for (int i = 0; i < rawDistanceMatrix.length; i++) {
-				List<Pair<Integer, Double>> distances = new LinkedList<Pair<Integer, Double>>();
+			distances = rawDistanceMatrix;
+			neighbors = new int[n][];
+			firsts = new int[n];
+			removed = new boolean[n];
+			points = new int[n];
+			size = n;
+			
+			for (int i = 0; i < n; i++) {
+				int[] indices = new int[n-1];
+				int count = 0;
 				
-				for (int j = 0; j < rawDistanceMatrix[i].length; j++) {
+				for (int j = 0; j < n; j++) {
 					if (i != j) {
-						distances.add(new Pair<Integer, Double>(j, rawDistanceMatrix[i][j]));
+						indices[count++] = j;
 					}
 				}
 				
-				Collections.sort(distances, new Comparator<Pair<Integer, Double>>() {
-
-					@Override
-					public int compare(Pair<Integer, Double> o1,
-							Pair<Integer, Double> o2) {
-						return Double.compare(o1.getSecond(), o2.getSecond());
-					}
+				sort(indices, rawDistanceMatrix[i]);
+				neighbors[i] = indices;
+				points[i] = i;
+			}
+		}
+		
+		/**
+		 * Sorts the indices by increasing key using a stable merge sort.
+		 * 
+		 * @param indices the indices to sort
+		 * @param keys the keys of the indices
+		 */
+		private static void sort(int[] indices, double[] keys) {
+			int n = indices.length;
+			int[] source = indices;
+			int[] target = new int[n];
+			
+			for (int width = 1; width < n; width *= 2) {
+				for (int low = 0; low < n; low += 2*width) {
+					int middle = Math.min(low + width, n);
+					int high = Math.min(low + 2*width, n);
+					int left = low;
+					int right = middle;
 					
-				});
+					for (int k = low; k < high; k++) {
+						if ((right < high) && ((left >= middle) ||
+								(keys[source[right]] < keys[source[left]]))) {
+							target[k] = source[right++];
+						} else {
+							target[k] = source[left++];
+						}
+					}
+				}
 				
-				distanceMatrix.add(distances);
+				int[] temp = source;
+				source = target;
+				target = temp;
 			}
+			
+			if (source != indices) {
+				System.arraycopy(source, 0, indices, 0, n);
+			}
+		}
+		
+		/**
+		 * Returns the position in {@code neighbors[point]} of the first
+		 * neighbor at or after the specified position that has not been
+		 * removed, or the length of the row if no such neighbor exists.
+		 * 
+		 * @param point the original position of the point
+		 * @param position the starting position in {@code neighbors[point]}
+		 * @return the position of the next neighbor that has not been removed
+		 */
+		private int skipRemoved(int point, int position) {
+			int[] row = neighbors[point];
+			
+			while ((position < row.length) && removed[row[position]]) {
+				position++;
+			}
+			
+			return position;
+		}
+		
+		/**
+		 * Compares the sorted distances from two points to their remaining
+		 * neighbors lexicographically.
+		 * 
+		 * @param point1 the original position of the first point
+		 * @param point2 the original position of the second point
+		 * @return {@code -1}, {@code 0}, or {@code 1} if the first point is
+		 *         more crowded, equally crowded, or less crowded than the
+		 *         second point
+		 */
+		private int compare(int point1, int point2) {
+			int position1 = firsts[point1] = skipRemoved(point1, firsts[point1]);
+			int position2 = firsts[point2] = skipRemoved(point2, firsts[point2]);
+			
+			while ((position1 < neighbors[point1].length) &&
+					(position2 < neighbors[point2].length)) {
+				double kdist1 = distances[point1][neighbors[point1][position1]];
+				double kdist2 = distances[point2][neighbors[point2][position2]];
+				
+				if (kdist1 < kdist2) {
+					return -1;
+				} else if (kdist2 < kdist1) {
+					return 1;
+				}
+				
+				position1 = skipRemoved(point1, position1 + 1);
+				position2 = skipRemoved(point2, position2 + 1);
+			}
+			
+			return 0;
 		}
 		
 		/**
@@ -273,28 +389,11 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 		 * @return the index of the most crowded point
 		 */
 		public int findMostCrowdedPoint() {
-			double minimumDistance = Double.POSITIVE_INFINITY;
-			int minimumIndex = -1;
+			int minimumIndex = 0;
 			
-			for (int i = 0; i < distanceMatrix.size(); i++) {
-				List<Pair<Integer, Double>> distances = distanceMatrix.get(i);
-				Pair<Integer, Double> point = distances.get(0);
-				
-				if (point.getSecond() < minimumDistance) {
-					minimumDistance = point.getSecond();
+			for (int i = 1; i < size; i++) {
+				if (compare(points[i], points[minimumIndex]) < 0) {
 					minimumIndex = i;
-				} else if (point.getSecond() == minimumDistance) {
-					for (int k = 0; k < distances.size(); k++) {
-						double kdist1 = distances.get(k).getSecond();
-						double kdist2 = distanceMatrix.get(minimumIndex).get(k).getSecond();
-
-						if (kdist1 < kdist2) {
-							minimumIndex = i;
-							break;
-						} else if (kdist2 < kdist1) {
-							break;
-						}
-					}
 				}
 			}
 			
@@ -302,29 +401,19 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 		}
 		
 		/**
-		 * Removes the point with the given index.
+		 * Removes the point with the given index.  The indices of all
+		 * subsequent points are decremented, remaining aligned with the
+		 * population from which the point is removed.
 		 * 
 		 * @param index the index to remove
 		 */
 		public void removePoint(int index) {
-			distanceMatrix.remove(index);
+			int point = points[index];
 			
-			for (List<Pair<Integer, Double>> distances : distanceMatrix) {
-				ListIterator<Pair<Integer, Double>> iterator = distances.listIterator();
-				
-				while (iterator.hasNext()) {
-					Pair<Integer, Double> point = iterator.next();
-					
-					if (point.getFirst() == index) {
-						iterator.remove();
-					} else if (point.getFirst() > index) {
-						// decrement the index so it stays aligned with the
-						// index in distanceMatrix
-						iterator.set(new Pair<Integer, Double>(
-								point.getFirst()-1, point.getSecond()));
-					}
-				}
-			}
+			removed[point] = true;
+			neighbors[point] = null;
+			System.arraycopy(points, index+1, points, index, size-index-1);
+			size--;
 		}
 		
 	}
@@ -393,19 +482,61 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 				}
 			}
 			
-			// add density to the fitness
-			double[][] distances = computeDistanceMatrix(population);
-			KthSelector selector = new KthSelector();
+			// add density to the fitness, where the distance to the k-th
+			// nearest neighbor is found by keeping the k smallest distances
+			// of each solution
+			int n = population.size();
+			double[][] nearest = new double[n][Math.max(0, Math.min(k, n-1))];
+			int[] counts = new int[n];
 			
-			for (int i = 0; i < population.size(); i++) {
-				double kdist = selector.select(distances[i], null, k);
+			for (int i = 0; i < n-1; i++) {
+				for (int j = i+1; j < n; j++) {
+					double distance = IndicatorUtils.euclideanDistance(problem,
+							population.get(i), population.get(j));
+					
+					counts[i] = insert(nearest[i], counts[i], distance);
+					counts[j] = insert(nearest[j], counts[j], distance);
+				}
+			}
+			
+			for (int i = 0; i < n; i++) {
+				double kdist = k == 0 ? 0.0 : nearest[i][k-1];
 				fitness[i] += 1.0 / (kdist + 2.0);
 			}
 			
 			// assign fitness attribute to solutions
 			for (int i = 0; i < population.size(); i++) {
-				population.get(i).setAttribute(FITNESS_ATTRIBUTE, fitness[i]);
+				population.get(i).setDoubleAttribute(FITNESS_KEY, fitness[i]);
+			}
+		}
+
+		/**
+		 * Inserts a distance into the sorted array of the smallest distances
+		 * seen so far, discarding the largest distance if the array is full.
+		 * 
+		 * @param nearest the smallest distances in increasing order
+		 * @param count the number of distances stored in the array
+		 * @param distance the distance to insert
+		 * @return the number of distances stored after the insertion
+		 */
+		private int insert(double[] nearest, int count, double distance) {
+			if (count == nearest.length) {
+				if ((count == 0) || (distance >= nearest[count-1])) {
+					return count;
+				}
+				
+				count--;
 			}
+			
+			int index = count;
+			
+			while ((index > 0) && (nearest[index-1] > distance)) {
+				nearest[index] = nearest[index-1];
+				index--;
+			}
+			
+			nearest[index] = distance;
+			return count + 1;
 		}
 
 		@Override
@@ -36,6 +36,7 @@ import org.moeaframework.core.Algorithm;
 import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.FitnessEvaluator;
 import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.HashedEpsilonBoxDominanceArchive;
 import org.moeaframework.core.Initialization;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.NondominatedSortingPopulation;
@@ -43,6 +44,7 @@ import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Selection;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
@@ -105,7 +107,8 @@ import org.moeaframework.util.weights.RandomGenerator;
  *     <td>eMOEA</td>
  *     <td>Any</td>
  *     <td>{@code populationSize, epsilon, sbx.rate,
- *         sbx.distributionIndex, pm.rate, pm.distributionIndex}</td>
+ *         sbx.distributionIndex, pm.rate, pm.distributionIndex,
+ *         pendingEvaluations}</td>
  *   </tr>
  *   <tr>
  *     <td>eNSGAII</td>
@@ -131,7 +134,7 @@ import org.moeaframework.util.weights.RandomGenerator;
  *     <td>Real</td>
  *     <td>{@code populationSize, de.crossoverRate, de.stepSize, pm.rate,
  *         pm.distributionIndex, neighborhoodSize, delta, eta, 
- *         updateUtility}</td>
+ *         updateUtility, pendingEvaluations}</td>
  *   </tr>
  *   <tr>
  *     <td>MSOPS</td>
@@ -194,7 +197,7 @@ import org.moeaframework.util.weights.RandomGenerator;
  *     <td>SMS-EMOA</td>
  *     <td>Any</td>
  *     <td>{@code populationSize, offset, sbx.rate, sbx.distributionIndex,
- *         pm.rate, pm.distributionIndex}</td>
+ *         pm.rate, pm.distributionIndex, pendingEvaluations}</td>
  *   </tr>
  *   <tr>
  *     <td>SPEA2</td>
@@ -347,7 +350,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		Solution solution = problem.newSolution();
 		
 		for (int i=0; i<solution.getNumberOfVariables(); i++) {
-			if (!type.isInstance(solution.getVariable(i))) {
+			if (!type.isInstance(solution.getVariableReadOnly(i))) {
 				return false;
 			}
 		}
@@ -355,6 +358,27 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		return true;
 	}
 	
+	/**
+	 * Returns a new, empty &epsilon;-box dominance archive.  The
+	 * {@link HashedEpsilonBoxDominanceArchive} is returned if enabled by
+	 * {@link Settings#useHashedEpsilonArchive()}.
+	 * 
+	 * @param properties the properties containing the {@code epsilon} values
+	 * @param problem the problem
+	 * @return a new, empty &epsilon;-box dominance archive
+	 */
+	private EpsilonBoxDominanceArchive newEpsilonBoxDominanceArchive(
+			TypedProperties properties, Problem problem) {
+		double[] epsilon = properties.getDoubleArray("epsilon", 
+				new double[] { EpsilonHelper.getEpsilon(problem) });
+		
+		if (Settings.useHashedEpsilonArchive()) {
+			return new HashedEpsilonBoxDominanceArchive(epsilon);
+		} else {
+			return new EpsilonBoxDominanceArchive(epsilon);
+		}
+	}
+	
 	/**
 	 * Returns a new AnD instance.
 	 * 
@@ -396,9 +420,8 @@ public class StandardAlgorithms extends AlgorithmProvider {
 
 		DominanceComparator comparator = new ParetoDominanceComparator();
 
-		EpsilonBoxDominanceArchive archive = new EpsilonBoxDominanceArchive(
-				properties.getDoubleArray("epsilon", 
-						new double[] { EpsilonHelper.getEpsilon(problem) }));
+		EpsilonBoxDominanceArchive archive = newEpsilonBoxDominanceArchive(
+				properties, problem);
 
 		final TournamentSelection selection = new TournamentSelection(
 				2, comparator);
@@ -408,6 +431,9 @@ public class StandardAlgorithms extends AlgorithmProvider {
 
 		EpsilonMOEA emoea = new EpsilonMOEA(problem, population, archive,
 				selection, variation, initialization, comparator);
+		
+		emoea.setMaximumPendingEvaluations(
+				(int)properties.getDouble("pendingEvaluations", 1));
 
 		return emoea;
 	}
@@ -619,6 +645,9 @@ public class StandardAlgorithms extends AlgorithmProvider {
 				properties.getDouble("delta", 0.9),
 				eta,
 				(int)properties.getDouble("updateUtility", -1));
+		
+		algorithm.setMaximumPendingEvaluations(
+				(int)properties.getDouble("pendingEvaluations", 1));
 
 		return algorithm;
 	}
@@ -675,9 +704,8 @@ public class StandardAlgorithms extends AlgorithmProvider {
 				new NondominatedSortingPopulation(
 						new ParetoDominanceComparator());
 
-		EpsilonBoxDominanceArchive archive = new EpsilonBoxDominanceArchive(
-				properties.getDoubleArray("epsilon", 
-						new double[] { EpsilonHelper.getEpsilon(problem) }));
+		EpsilonBoxDominanceArchive archive = newEpsilonBoxDominanceArchive(
+				properties, problem);
 
 		TournamentSelection selection = new TournamentSelection(2, 
 				new ChainedComparator(
@@ -733,9 +761,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		if (problem.getNumberOfObjectives() == 1) {
 			archive = new NondominatedPopulation();
 		} else {
-			archive = new EpsilonBoxDominanceArchive(
-					properties.getDoubleArray("epsilon", 
-							new double[] { EpsilonHelper.getEpsilon(problem) }));
+			archive = newEpsilonBoxDominanceArchive(properties, problem);
 		}
 		
 		if ("hypervolume".equals(indicator)) {
@@ -930,8 +956,13 @@ public class StandardAlgorithms extends AlgorithmProvider {
 					problem, offset);
 		}
 
-		return new SMSEMOA(problem, initialization, variation,
+		SMSEMOA algorithm = new SMSEMOA(problem, initialization, variation,
 				fitnessEvaluator);
+		
+		algorithm.setMaximumPendingEvaluations(
+				(int)properties.getDouble("pendingEvaluations", 1));
+		
+		return algorithm;
 	}
 	
 	/**
@@ -1116,9 +1147,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		NondominatedPopulation archive = null;
 		
 		if (properties.contains("epsilon")) {
-			archive = new EpsilonBoxDominanceArchive(
-					properties.getDoubleArray("epsilon", new double[] {
-							EpsilonHelper.getEpsilon(problem) }));
+			archive = newEpsilonBoxDominanceArchive(properties, problem);
 		} else {
 			archive = new NondominatedPopulation();
 		}
@@ -69,7 +69,7 @@ public class JMetalProblemAdapter extends jmetal.core.Problem {
 
 		try {
 			for (int i = 0; i < numberOfVariables_; i++) {
-				Variable variable = solution.getVariable(i);
+				Variable variable = solution.getVariableReadOnly(i);
 	
 				if (variable instanceof RealVariable) {
 					RealVariable real = (RealVariable)variable;
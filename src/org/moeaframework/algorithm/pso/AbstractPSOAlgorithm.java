@@ -162,9 +162,9 @@ public abstract class AbstractPSOAlgorithm extends AbstractAlgorithm {
 		double W = PRNG.nextDouble(0.1, 0.5);
 		
 		for (int j = 0; j < problem.getNumberOfVariables(); j++) {
-			double particleValue = EncodingUtils.getReal(particle.getVariable(j));
-			double localBestValue = EncodingUtils.getReal(localBestParticle.getVariable(j));
-			double leaderValue = EncodingUtils.getReal(leader.getVariable(j));
+			double particleValue = EncodingUtils.getReal(particle.getVariableReadOnly(j));
+			double localBestValue = EncodingUtils.getReal(localBestParticle.getVariableReadOnly(j));
+			double leaderValue = EncodingUtils.getReal(leader.getVariableReadOnly(j));
 			
 			velocities[i][j] = W * velocities[i][j] + 
 					C1*r1*(localBestValue - particleValue) +
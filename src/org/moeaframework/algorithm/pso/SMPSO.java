@@ -74,7 +74,7 @@ public class SMPSO extends AbstractPSOAlgorithm {
 		Solution prototypeSolution = problem.newSolution();
 		
 		for (int i = 0; i < problem.getNumberOfVariables(); i++) {
-			RealVariable variable = (RealVariable)prototypeSolution.getVariable(i);
+			RealVariable variable = (RealVariable)prototypeSolution.getVariableReadOnly(i);
 			maximumVelocity[i] = (variable.getUpperBound() - variable.getLowerBound()) / 2.0;
 			minimumVelocity[i] = -maximumVelocity[i];
 		}
@@ -93,9 +93,9 @@ public class SMPSO extends AbstractPSOAlgorithm {
 		double W = PRNG.nextDouble(0.1, 0.1);
 		
 		for (int j = 0; j < problem.getNumberOfVariables(); j++) {
-			double particleValue = EncodingUtils.getReal(particle.getVariable(j));
-			double localBestValue = EncodingUtils.getReal(localBestParticle.getVariable(j));
-			double leaderValue = EncodingUtils.getReal(leader.getVariable(j));
+			double particleValue = EncodingUtils.getReal(particle.getVariableReadOnly(j));
+			double localBestValue = EncodingUtils.getReal(localBestParticle.getVariableReadOnly(j));
+			double leaderValue = EncodingUtils.getReal(leader.getVariableReadOnly(j));
 			
 			double velocity = constrictionCoefficient(C1, C2) * 
 					(W * velocities[i][j] + 
@@ -17,20 +17,41 @@
  */
 package org.moeaframework.analysis.collector;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.moeaframework.core.Algorithm;
 import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.Indicator;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.indicator.FusedIndicatorEvaluator;
 
 /**
- * Collects performance indicator values from an {@link Algorithm}.
+ * Collects performance indicator values from an {@link Algorithm}.  A single
+ * collector can also record several of the indicators supported by a
+ * {@link FusedIndicatorEvaluator}, computing them together.
  */
 public class IndicatorCollector implements Collector {
 
 	/**
-	 * The performance indicator used by this collector.
+	 * The performance indicator used by this collector; or {@code null} if
+	 * this collector uses a fused indicator evaluator.
 	 */
 	private final Indicator indicator;
 
+	/**
+	 * The fused indicator evaluator used by this collector; or {@code null}
+	 * if this collector uses a single performance indicator.
+	 */
+	private final FusedIndicatorEvaluator evaluator;
+
+	/**
+	 * The types of the indicators recorded from the fused indicator
+	 * evaluator; or {@code null} if this collector uses a single performance
+	 * indicator.
+	 */
+	private final List<Class<? extends Indicator>> indicators;
+
 	/**
 	 * The algorithm instance used by this collector; or {@code null} if this 
 	 * collector has not yet been attached.
@@ -80,23 +101,82 @@ public class IndicatorCollector implements Collector {
 	 */
 	public IndicatorCollector(Indicator indicator, 
 			EpsilonBoxDominanceArchive archive, Algorithm algorithm) {
+		this(indicator, null, null, archive, algorithm);
+	}
+
+	/**
+	 * Constructs an unattached collector for recording the values of several
+	 * indicators computed together by a fused indicator evaluator.  Each
+	 * value is recorded under the simple name of the indicator's class, as
+	 * if a separate collector were used for each indicator.
+	 * 
+	 * @param evaluator the fused indicator evaluator used by this collector
+	 * @param indicators the types of the indicators recorded by this
+	 *        collector, which must be supported by
+	 *        {@link FusedIndicatorEvaluator#getValue(Class)}
+	 * @param archive the &epsilon;-box dominance archive used to prune the 
+	 *        approximation set to a desired resolution; or {@code null} if 
+	 *        no such pruning is used
+	 */
+	public IndicatorCollector(FusedIndicatorEvaluator evaluator,
+			List<Class<? extends Indicator>> indicators,
+			EpsilonBoxDominanceArchive archive) {
+		this(null, evaluator,
+				new ArrayList<Class<? extends Indicator>>(indicators),
+				archive, null);
+	}
+
+	/**
+	 * Constructs a collector using either a single performance indicator or
+	 * a fused indicator evaluator.
+	 * 
+	 * @param indicator the performance indicator used by this collector; or
+	 *        {@code null} if a fused indicator evaluator is used
+	 * @param evaluator the fused indicator evaluator used by this collector;
+	 *        or {@code null} if a single performance indicator is used
+	 * @param indicators the types of the indicators recorded from the fused
+	 *        indicator evaluator
+	 * @param archive the &epsilon;-box dominance archive used to prune the 
+	 *        approximation set to a desired resolution; or {@code null} if 
+	 *        no such pruning is used
+	 * @param algorithm the algorithm this collector records data from
+	 */
+	private IndicatorCollector(Indicator indicator,
+			FusedIndicatorEvaluator evaluator,
+			List<Class<? extends Indicator>> indicators,
+			EpsilonBoxDominanceArchive archive, Algorithm algorithm) {
 		super();
 		this.indicator = indicator;
+		this.evaluator = evaluator;
+		this.indicators = indicators;
 		this.archive = archive;
 		this.algorithm = algorithm;
 	}
 
 	@Override
 	public void collect(Accumulator accumulator) {
-		if (archive == null) {
-			accumulator.add(indicator.getClass().getSimpleName(),
-					indicator.evaluate(algorithm.getResult()));
-		} else {
+		NondominatedPopulation result = algorithm.getResult();
+		
+		if (archive != null) {
 			archive.clear();
-			archive.addAll(algorithm.getResult());
-			
+			archive.addAll(result);
+			result = archive;
+		}
+		
+		if (evaluator == null) {
 			accumulator.add(indicator.getClass().getSimpleName(),
-					indicator.evaluate(archive));
+					indicator.evaluate(result));
+		} else {
+			// the evaluator stores the values of the last calculation, so
+			// guard against collectors sharing the evaluator across threads
+			synchronized (evaluator) {
+				evaluator.calculate(result);
+				
+				for (Class<? extends Indicator> type : indicators) {
+					accumulator.add(type.getSimpleName(),
+							evaluator.getValue(type));
+				}
+			}
 		}
 	}
 
@@ -108,7 +188,8 @@ public class IndicatorCollector implements Collector {
 
 	@Override
 	public Collector attach(Object object) {
-		return new IndicatorCollector(indicator, archive, (Algorithm)object);
+		return new IndicatorCollector(indicator, evaluator, indicators, archive,
+				(Algorithm)object);
 	}
 
 }
@@ -61,6 +61,7 @@ import org.jfree.data.xy.XYSeriesCollection;
 import org.moeaframework.analysis.collector.Accumulator;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
 import org.moeaframework.core.variable.RealVariable;
 import org.moeaframework.util.Localization;
 
@@ -420,9 +421,10 @@ ActionListener, ChartChangeListener, ListSelectionListener {
 		}
 		
 		if (selection < solution.getNumberOfVariables()) {
-			if (solution.getVariable(selection) instanceof RealVariable) {
-				return ((RealVariable)solution.getVariable(selection))
-						.getValue();
+			Variable variable = solution.getVariableReadOnly(selection);
+			
+			if (variable instanceof RealVariable) {
+				return ((RealVariable)variable).getValue();
 			} else {
 				return 0.0;
 			}
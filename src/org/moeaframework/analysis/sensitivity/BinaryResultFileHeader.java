@@ -0,0 +1,568 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.sensitivity;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+
+/**
+ * The header of a binary result file, along with the routines for locating
+ * the entries in the file.  See {@link BinaryResultFileWriter} for a
+ * description of the file format.
+ */
+class BinaryResultFileHeader {
+
+	/**
+	 * The first four bytes of every binary result file, {@code "MOEA"}.
+	 */
+	static final int MAGIC = 0x41454F4D;
+
+	/**
+	 * The version of the file format.
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * The marker preceding each entry.
+	 */
+	static final int ENTRY_MARKER = 0x59544E45;
+
+	/**
+	 * The marker preceding and terminating the entry index.
+	 */
+	static final int FOOTER_MARKER = 0x58444E49;
+
+	/**
+	 * The type of real-valued decision variables, stored as one double.
+	 */
+	static final byte REAL = 0;
+
+	/**
+	 * The type of binary decision variables, stored as 64-bit words.
+	 */
+	static final byte BINARY = 1;
+
+	/**
+	 * The type of permutations, stored as one int per element.
+	 */
+	static final byte PERMUTATION = 2;
+
+	/**
+	 * The type of all other decision variables, stored as the length of their
+	 * serialized form followed by the serialized bytes.
+	 */
+	static final byte SERIALIZED = 3;
+
+	/**
+	 * The number of bytes preceding the payload of an entry, storing the entry
+	 * marker and the length of the payload.
+	 */
+	static final int ENTRY_HEADER_LENGTH = 8;
+
+	/**
+	 * The number of bytes at the end of the entry index, storing the position
+	 * of the entry index and the footer marker.
+	 */
+	private static final int TRAILER_LENGTH = 12;
+
+	/**
+	 * The character set used for the problem name.
+	 */
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	/**
+	 * The name of the problem.
+	 */
+	private final String problemName;
+
+	/**
+	 * The number of decision variables of the problem.
+	 */
+	private final int numberOfVariables;
+
+	/**
+	 * The number of objectives of the problem.
+	 */
+	private final int numberOfObjectives;
+
+	/**
+	 * {@code true} if the decision variables are stored; {@code false}
+	 * otherwise.
+	 */
+	private final boolean includeVariables;
+
+	/**
+	 * The type of each stored decision variable.
+	 */
+	private final byte[] types;
+
+	/**
+	 * The number of bits of binary variables or elements of permutations;
+	 * {@code 0} for other types.
+	 */
+	private final int[] sizes;
+
+	/**
+	 * Constructs the header describing the solutions of the specified problem.
+	 * The types of the decision variables are determined from a solution
+	 * created by the problem.
+	 *
+	 * @param problem the problem
+	 * @param includeVariables {@code true} if the decision variables are
+	 *        stored; {@code false} otherwise
+	 */
+	public BinaryResultFileHeader(Problem problem, boolean includeVariables) {
+		super();
+		this.problemName = problem.getName() == null ? "" : problem.getName();
+		this.numberOfVariables = problem.getNumberOfVariables();
+		this.numberOfObjectives = problem.getNumberOfObjectives();
+		this.includeVariables = includeVariables;
+
+		int storedVariables = includeVariables ? numberOfVariables : 0;
+		types = new byte[storedVariables];
+		sizes = new int[storedVariables];
+
+		if (storedVariables > 0) {
+			Solution solution = problem.newSolution();
+
+			for (int i = 0; i < storedVariables; i++) {
+				Variable variable = solution.getVariableReadOnly(i);
+				types[i] = getType(variable);
+				sizes[i] = getSize(variable);
+			}
+		}
+	}
+
+	/**
+	 * Constructs a header with the specified fields.
+	 *
+	 * @param problemName the name of the problem
+	 * @param numberOfVariables the number of decision variables
+	 * @param numberOfObjectives the number of objectives
+	 * @param includeVariables {@code true} if the decision variables are
+	 *        stored; {@code false} otherwise
+	 * @param types the type of each stored decision variable
+	 * @param sizes the size of each stored decision variable
+	 */
+	private BinaryResultFileHeader(String problemName, int numberOfVariables,
+			int numberOfObjectives, boolean includeVariables, byte[] types,
+			int[] sizes) {
+		super();
+		this.problemName = problemName;
+		this.numberOfVariables = numberOfVariables;
+		this.numberOfObjectives = numberOfObjectives;
+		this.includeVariables = includeVariables;
+		this.types = types;
+		this.sizes = sizes;
+	}
+
+	/**
+	 * Returns the type code of the specified decision variable.
+	 *
+	 * @param variable the decision variable
+	 * @return the type code of the specified decision variable
+	 */
+	static byte getType(Variable variable) {
+		if (variable instanceof RealVariable) {
+			return REAL;
+		} else if (variable instanceof BinaryVariable) {
+			return BINARY;
+		} else if (variable instanceof Permutation) {
+			return PERMUTATION;
+		} else {
+			return SERIALIZED;
+		}
+	}
+
+	/**
+	 * Returns the size of the specified decision variable, which is the
+	 * number of bits of binary variables, the number of elements of
+	 * permutations, and {@code 0} for all other types.
+	 *
+	 * @param variable the decision variable
+	 * @return the size of the specified decision variable
+	 */
+	static int getSize(Variable variable) {
+		if (variable instanceof BinaryVariable) {
+			return ((BinaryVariable)variable).getNumberOfBits();
+		} else if (variable instanceof Permutation) {
+			return ((Permutation)variable).size();
+		} else {
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns the name of the problem.
+	 *
+	 * @return the name of the problem
+	 */
+	public String getProblemName() {
+		return problemName;
+	}
+
+	/**
+	 * Returns the number of decision variables of the problem.
+	 *
+	 * @return the number of decision variables of the problem
+	 */
+	public int getNumberOfVariables() {
+		return numberOfVariables;
+	}
+
+	/**
+	 * Returns the number of objectives of the problem.
+	 *
+	 * @return the number of objectives of the problem
+	 */
+	public int getNumberOfObjectives() {
+		return numberOfObjectives;
+	}
+
+	/**
+	 * Returns {@code true} if the decision variables are stored;
+	 * {@code false} otherwise.
+	 *
+	 * @return {@code true} if the decision variables are stored;
+	 *         {@code false} otherwise
+	 */
+	public boolean isIncludeVariables() {
+		return includeVariables;
+	}
+
+	/**
+	 * Returns the type code of the specified stored decision variable.
+	 *
+	 * @param index the index of the decision variable
+	 * @return the type code of the specified stored decision variable
+	 */
+	public byte getType(int index) {
+		return types[index];
+	}
+
+	/**
+	 * Returns the size of the specified stored decision variable.
+	 *
+	 * @param index the index of the decision variable
+	 * @return the size of the specified stored decision variable
+	 */
+	public int getSize(int index) {
+		return sizes[index];
+	}
+
+	/**
+	 * Returns {@code true} if the specified variable can be stored as the
+	 * specified decision variable; {@code false} otherwise.
+	 *
+	 * @param index the index of the decision variable
+	 * @param variable the variable
+	 * @return {@code true} if the specified variable can be stored as the
+	 *         specified decision variable; {@code false} otherwise
+	 */
+	public boolean matches(int index, Variable variable) {
+		return (getType(variable) == types[index]) &&
+				(getSize(variable) == sizes[index]);
+	}
+
+	/**
+	 * Returns the header encoded as it is stored at the start of the file.
+	 *
+	 * @return the header encoded as it is stored at the start of the file
+	 */
+	public ByteBuffer encode() {
+		byte[] name = problemName.getBytes(UTF8);
+		ByteBuffer buffer = allocate(21 + name.length + 5 * types.length);
+
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(name.length);
+		buffer.put(name);
+		buffer.putInt(numberOfVariables);
+		buffer.putInt(numberOfObjectives);
+		buffer.put((byte)(includeVariables ? 1 : 0));
+
+		for (int i = 0; i < types.length; i++) {
+			buffer.put(types[i]);
+			buffer.putInt(sizes[i]);
+		}
+
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Returns the number of bytes occupied by this header in the file.
+	 *
+	 * @return the number of bytes occupied by this header in the file
+	 */
+	public int getLength() {
+		return encode().remaining();
+	}
+
+	/**
+	 * Reads the header stored at the start of the specified file.
+	 *
+	 * @param channel the file
+	 * @return the header stored at the start of the file
+	 * @throws IOException if an I/O error occurred
+	 * @throws FrameworkException if the file is not a binary result file or
+	 *         uses an unsupported version of the file format
+	 */
+	public static BinaryResultFileHeader read(FileChannel channel)
+			throws IOException {
+		ByteBuffer buffer = read(channel, 0, 12);
+
+		if (buffer.getInt() != MAGIC) {
+			throw new FrameworkException("not a binary result file");
+		}
+
+		if (buffer.getInt() != VERSION) {
+			throw new FrameworkException(
+					"unsupported binary result file version");
+		}
+
+		int nameLength = buffer.getInt();
+		long position = 12;
+
+		if ((nameLength < 0) || (nameLength > channel.size())) {
+			throw new FrameworkException("invalid binary result file header");
+		}
+
+		byte[] name = new byte[nameLength];
+		read(channel, position, nameLength).get(name);
+		position += nameLength;
+
+		buffer = read(channel, position, 9);
+		position += 9;
+
+		int numberOfVariables = buffer.getInt();
+		int numberOfObjectives = buffer.getInt();
+		boolean includeVariables = buffer.get() != 0;
+		int storedVariables = includeVariables ? numberOfVariables : 0;
+
+		if ((numberOfVariables < 0) || (numberOfObjectives < 0) ||
+				(5L * storedVariables > channel.size())) {
+			throw new FrameworkException("invalid binary result file header");
+		}
+
+		byte[] types = new byte[storedVariables];
+		int[] sizes = new int[storedVariables];
+		buffer = read(channel, position, 5 * storedVariables);
+
+		for (int i = 0; i < storedVariables; i++) {
+			types[i] = buffer.get();
+			sizes[i] = buffer.getInt();
+		}
+
+		return new BinaryResultFileHeader(new String(name, UTF8),
+				numberOfVariables, numberOfObjectives, includeVariables, types,
+				sizes);
+	}
+
+	/**
+	 * Returns the positions of the entries in the specified file.  If the file
+	 * ends with a valid entry index, the positions are read from the index.
+	 * Otherwise, such as when the writer did not finish, the entries are
+	 * scanned from the start of the file and any incomplete entry at the end
+	 * of the file is ignored.
+	 *
+	 * @param channel the file
+	 * @return the positions of the entries in the file, followed by the
+	 *         position immediately after the last entry
+	 * @throws IOException if an I/O error occurred
+	 */
+	public long[] findEntries(FileChannel channel) throws IOException {
+		long start = getLength();
+		long size = channel.size();
+
+		// read the entry index
+		if (size >= start + TRAILER_LENGTH + 8) {
+			ByteBuffer buffer = read(channel, size - TRAILER_LENGTH,
+					TRAILER_LENGTH);
+			long footer = buffer.getLong();
+
+			if ((buffer.getInt() == FOOTER_MARKER) && (footer >= start) &&
+					(footer <= size - TRAILER_LENGTH - 8)) {
+				buffer = read(channel, footer, 8);
+
+				int count = buffer.getInt(4);
+
+				if ((buffer.getInt(0) == FOOTER_MARKER) && (count >= 0) &&
+						(footer + 8 + 8L * count + TRAILER_LENGTH == size)) {
+					long[] positions = new long[count + 1];
+					buffer = read(channel, footer + 8, 8 * count);
+
+					for (int i = 0; i < count; i++) {
+						positions[i] = buffer.getLong();
+					}
+
+					positions[count] = footer;
+					return positions;
+				}
+			}
+		}
+
+		// otherwise, scan the entries
+		long[] positions = new long[16];
+		int count = 0;
+		long position = start;
+
+		while (position + ENTRY_HEADER_LENGTH <= size) {
+			ByteBuffer buffer = read(channel, position, ENTRY_HEADER_LENGTH);
+			int marker = buffer.getInt();
+			int length = buffer.getInt();
+
+			if ((marker != ENTRY_MARKER) || (length < 0) ||
+					(position + ENTRY_HEADER_LENGTH + length > size)) {
+				break;
+			}
+
+			if (count == positions.length - 1) {
+				positions = Arrays.copyOf(positions, 2 * positions.length);
+			}
+
+			positions[count++] = position;
+			position += ENTRY_HEADER_LENGTH + length;
+		}
+
+		positions[count] = position;
+		return Arrays.copyOf(positions, count + 1);
+	}
+
+	/**
+	 * Returns the entry index stored at the end of the file.
+	 *
+	 * @param positions the positions of the entries
+	 * @param count the number of entries
+	 * @param footer the position of the entry index
+	 * @return the entry index stored at the end of the file
+	 */
+	public static ByteBuffer encodeFooter(long[] positions, int count,
+			long footer) {
+		ByteBuffer buffer = allocate(8 + 8 * count + TRAILER_LENGTH);
+
+		buffer.putInt(FOOTER_MARKER);
+		buffer.putInt(count);
+
+		for (int i = 0; i < count; i++) {
+			buffer.putLong(positions[i]);
+		}
+
+		buffer.putLong(footer);
+		buffer.putInt(FOOTER_MARKER);
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Returns a new little-endian buffer with the specified capacity.
+	 *
+	 * @param capacity the capacity of the buffer
+	 * @return a new little-endian buffer with the specified capacity
+	 */
+	static ByteBuffer allocate(int capacity) {
+		return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Reads the specified number of bytes from a file.
+	 *
+	 * @param channel the file
+	 * @param position the position of the first byte
+	 * @param length the number of bytes
+	 * @return a little-endian buffer containing the bytes
+	 * @throws IOException if an I/O error occurred
+	 * @throws EOFException if the end of the file was reached
+	 */
+	private static ByteBuffer read(FileChannel channel, long position,
+			int length) throws IOException {
+		ByteBuffer buffer = allocate(length);
+
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new EOFException();
+			}
+		}
+
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Writes the buffer to a file.
+	 *
+	 * @param channel the file
+	 * @param position the position of the first byte
+	 * @param buffer the buffer
+	 * @throws IOException if an I/O error occurred
+	 */
+	static void write(FileChannel channel, long position, ByteBuffer buffer)
+			throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer, position + buffer.position());
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder()
+				.append(problemName)
+				.append(numberOfVariables)
+				.append(numberOfObjectives)
+				.append(includeVariables)
+				.append(types)
+				.append(sizes)
+				.toHashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		} else if ((obj == null) || (obj.getClass() != getClass())) {
+			return false;
+		} else {
+			BinaryResultFileHeader rhs = (BinaryResultFileHeader)obj;
+
+			return new EqualsBuilder()
+					.append(problemName, rhs.problemName)
+					.append(numberOfVariables, rhs.numberOfVariables)
+					.append(numberOfObjectives, rhs.numberOfObjectives)
+					.append(includeVariables, rhs.includeVariables)
+					.append(types, rhs.types)
+					.append(sizes, rhs.sizes)
+					.isEquals();
+		}
+	}
+
+}
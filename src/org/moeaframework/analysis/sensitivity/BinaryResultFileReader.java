@@ -0,0 +1,404 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.sensitivity;
+
+import static org.moeaframework.analysis.sensitivity.BinaryResultFileHeader.BINARY;
+import static org.moeaframework.analysis.sensitivity.BinaryResultFileHeader.ENTRY_HEADER_LENGTH;
+import static org.moeaframework.analysis.sensitivity.BinaryResultFileHeader.MAGIC;
+import static org.moeaframework.analysis.sensitivity.BinaryResultFileHeader.PERMUTATION;
+import static org.moeaframework.analysis.sensitivity.BinaryResultFileHeader.REAL;
+import static org.moeaframework.analysis.sensitivity.ResultFileWriter.ENCODING_WARNING;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+
+/**
+ * Reads binary result files created by {@link BinaryResultFileWriter}.  See
+ * the documentation for {@code BinaryResultFileWriter} for a description of
+ * the file format.  The file is mapped into memory and the entries are
+ * located using the index stored at the end of the file, so any entry can be
+ * read with {@link #get(int)} without reading the preceding entries.  If the
+ * index is missing, such as when the writer did not finish, the entries are
+ * located by scanning the file and any incomplete entry at the end of the file
+ * is ignored.
+ * <p>
+ * Since the file is mapped into memory, files larger than 2 GB are not
+ * supported.
+ *
+ * @see BinaryResultFileWriter
+ */
+public class BinaryResultFileReader implements Closeable,
+Iterator<ResultEntry>, Iterable<ResultEntry> {
+
+	/**
+	 * The problem.
+	 */
+	private final Problem problem;
+
+	/**
+	 * The file being read.
+	 */
+	private final RandomAccessFile file;
+
+	/**
+	 * The header of the file.
+	 */
+	private final BinaryResultFileHeader header;
+
+	/**
+	 * The positions of the entries in the file, followed by the position
+	 * immediately after the last entry.
+	 */
+	private final long[] positions;
+
+	/**
+	 * The contents of the file mapped into memory.
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * {@code true} if the decision variables are read; {@code false} if only
+	 * the objectives are read.
+	 */
+	private final boolean readVariables;
+
+	/**
+	 * The index of the next entry returned by {@link #next()}.
+	 */
+	private int index;
+
+	/**
+	 * {@code true} if the warning for unsupported decision variables was
+	 * displayed; {@code false} otherwise.
+	 */
+	private boolean printedWarning;
+
+	/**
+	 * Constructs a reader for reading the approximation sets from the
+	 * specified binary result file.
+	 *
+	 * @param problem the problem
+	 * @param file the file containing the results
+	 * @throws IOException if an I/O error occurred
+	 * @throws FrameworkException if the file is not a binary result file, the
+	 *         number of objectives differs from the problem, or the file is
+	 *         too large to be mapped into memory
+	 */
+	public BinaryResultFileReader(Problem problem, File file)
+			throws IOException {
+		super();
+		this.problem = problem;
+		this.file = new RandomAccessFile(file, "r");
+
+		try {
+			FileChannel channel = this.file.getChannel();
+
+			header = BinaryResultFileHeader.read(channel);
+			positions = header.findEntries(channel);
+
+			if (header.getNumberOfObjectives() !=
+					problem.getNumberOfObjectives()) {
+				throw new FrameworkException(
+						"result file contains invalid number of objectives");
+			}
+
+			if (positions[positions.length - 1] > Integer.MAX_VALUE) {
+				throw new FrameworkException(
+						"result file is too large to map into memory");
+			}
+
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+					positions[positions.length - 1]);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+		} catch (IOException e) {
+			this.file.close();
+			throw e;
+		} catch (RuntimeException e) {
+			this.file.close();
+			throw e;
+		}
+
+		// as with ResultFileReader, the decision variables are only read if
+		// the problem defines the same number of variables
+		readVariables = header.isIncludeVariables() &&
+				(header.getNumberOfVariables() > 0) &&
+				(header.getNumberOfVariables() ==
+						problem.getNumberOfVariables());
+
+		if (readVariables) {
+			Solution solution = problem.newSolution();
+
+			for (int i = 0; i < header.getNumberOfVariables(); i++) {
+				if (!header.matches(i, solution.getVariableReadOnly(i))) {
+					close();
+					throw new FrameworkException(
+							"result file variables do not match the problem");
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the specified file is a binary result file;
+	 * {@code false} otherwise.  Only the start of the file is checked, so the
+	 * file may still be incomplete or corrupt.
+	 *
+	 * @param file the file
+	 * @return {@code true} if the specified file is a binary result file;
+	 *         {@code false} otherwise
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static boolean isBinaryResultFile(File file) throws IOException {
+		if (!file.isFile() || (file.length() < 4)) {
+			return false;
+		}
+
+		DataInputStream stream = null;
+
+		try {
+			stream = new DataInputStream(new FileInputStream(file));
+			return Integer.reverseBytes(stream.readInt()) == MAGIC;
+		} finally {
+			if (stream != null) {
+				stream.close();
+			}
+		}
+	}
+
+	/**
+	 * Returns the name of the problem stored in the file header.
+	 *
+	 * @return the name of the problem stored in the file header
+	 */
+	public String getProblemName() {
+		return header.getProblemName();
+	}
+
+	/**
+	 * Returns the number of complete entries in the file.
+	 *
+	 * @return the number of complete entries in the file
+	 */
+	public int getNumberOfEntries() {
+		return positions.length - 1;
+	}
+
+	/**
+	 * Returns the entry at the specified index.
+	 *
+	 * @param index the index of the entry
+	 * @return the entry at the specified index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public ResultEntry get(int index) {
+		if ((index < 0) || (index >= getNumberOfEntries())) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		ByteBuffer entry = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		entry.position((int)positions[index] + ENTRY_HEADER_LENGTH);
+
+		try {
+			return readEntry(entry);
+		} catch (IOException e) {
+			throw new FrameworkException(e);
+		}
+	}
+
+	/**
+	 * Reads the entry starting at the current position of the buffer.
+	 *
+	 * @param entry the buffer positioned at the payload of the entry
+	 * @return the entry
+	 * @throws IOException if an error occurred reading the properties
+	 */
+	private ResultEntry readEntry(ByteBuffer entry) throws IOException {
+		int numberOfSolutions = entry.getInt();
+		int numberOfObjectives = header.getNumberOfObjectives();
+		Solution[] solutions = new Solution[numberOfSolutions];
+
+		// read properties
+		byte[] bytes = new byte[entry.getInt()];
+		entry.get(bytes);
+
+		Properties properties = new Properties();
+		properties.load(new ByteArrayInputStream(bytes));
+
+		// read objectives
+		for (int j = 0; j < numberOfSolutions; j++) {
+			solutions[j] = readVariables ? problem.newSolution() :
+					new Solution(0, numberOfObjectives);
+		}
+
+		for (int i = 0; i < numberOfObjectives; i++) {
+			for (int j = 0; j < numberOfSolutions; j++) {
+				solutions[j].setObjective(i, entry.getDouble());
+			}
+		}
+
+		// read decision variables
+		if (readVariables) {
+			for (int i = 0; i < header.getNumberOfVariables(); i++) {
+				for (int j = 0; j < numberOfSolutions; j++) {
+					readVariable(entry, i, solutions[j]);
+				}
+			}
+		}
+
+		NondominatedPopulation population = new NondominatedPopulation();
+
+		for (Solution solution : solutions) {
+			population.add(solution);
+		}
+
+		return new ResultEntry(population, properties);
+	}
+
+	/**
+	 * Reads a decision variable starting at the current position of the
+	 * buffer.
+	 *
+	 * @param entry the buffer positioned at the decision variable
+	 * @param index the index of the decision variable
+	 * @param solution the solution whose decision variable is read
+	 */
+	private void readVariable(ByteBuffer entry, int index, Solution solution) {
+		Variable variable = solution.getVariable(index);
+
+		switch (header.getType(index)) {
+		case REAL:
+			((RealVariable)variable).setValue(entry.getDouble());
+			break;
+		case BINARY:
+			BinaryVariable bv = (BinaryVariable)variable;
+
+			for (int k = 0; k < bv.getNumberOfWords(); k++) {
+				bv.setWord(k, entry.getLong());
+			}
+
+			break;
+		case PERMUTATION:
+			Permutation p = (Permutation)variable;
+			int[] array = new int[p.size()];
+
+			for (int k = 0; k < array.length; k++) {
+				array[k] = entry.getInt();
+			}
+
+			try {
+				p.fromArray(array);
+			} catch (IllegalArgumentException e) {
+				throw new FrameworkException("invalid permutation", e);
+			}
+
+			break;
+		default:
+			int length = entry.getInt();
+
+			if (length < 0) {
+				if (!printedWarning) {
+					System.err.println(ENCODING_WARNING);
+					printedWarning = true;
+				}
+			} else {
+				byte[] bytes = new byte[length];
+				entry.get(bytes);
+
+				try {
+					solution.setVariable(index, deserialize(bytes));
+				} catch (Exception e) {
+					throw new FrameworkException("deserialization failed", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the variable represented by the serialized bytes.
+	 *
+	 * @param bytes the serialized representation of the variable
+	 * @return the variable represented by the serialized bytes
+	 * @throws IOException if the variable could not be deserialized
+	 * @throws ClassNotFoundException if the class of the deserialized variable
+	 *         could not be found
+	 */
+	private Variable deserialize(byte[] bytes) throws IOException,
+	ClassNotFoundException {
+		ObjectInputStream ois = null;
+
+		try {
+			ois = new ObjectInputStream(new ByteArrayInputStream(bytes));
+			return (Variable)ois.readObject();
+		} finally {
+			if (ois != null) {
+				ois.close();
+			}
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		return index < getNumberOfEntries();
+	}
+
+	@Override
+	public ResultEntry next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return get(index++);
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Iterator<ResultEntry> iterator() {
+		return this;
+	}
+
+	@Override
+	public void close() throws IOException {
+		file.close();
+	}
+
+}
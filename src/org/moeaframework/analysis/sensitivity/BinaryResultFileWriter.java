@@ -0,0 +1,391 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.sensitivity;
+
+import static org.moeaframework.analysis.sensitivity.BinaryResultFileHeader.BINARY;
+import static org.moeaframework.analysis.sensitivity.BinaryResultFileHeader.ENTRY_HEADER_LENGTH;
+import static org.moeaframework.analysis.sensitivity.BinaryResultFileHeader.ENTRY_MARKER;
+import static org.moeaframework.analysis.sensitivity.BinaryResultFileHeader.PERMUTATION;
+import static org.moeaframework.analysis.sensitivity.BinaryResultFileHeader.REAL;
+import static org.moeaframework.analysis.sensitivity.ResultFileWriter.ENCODING_WARNING;
+import static org.moeaframework.analysis.sensitivity.ResultFileWriter.NO_VARIABLES_WARNING;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+
+/**
+ * Writes binary result files.  Binary result files store the same entries as
+ * the text format written by {@link ResultFileWriter}, but avoid formatting
+ * and parsing numbers, and can be read with random access to any entry using
+ * {@link BinaryResultFileReader}.  Use {@link ResultFileConverter} to convert
+ * between the two formats.
+ * <p>
+ * All numbers are stored in little-endian byte order.  The file starts with a
+ * header containing the four bytes {@code MOEA}, the version of the format,
+ * the length and UTF-8 bytes of the problem name, the number of decision
+ * variables, the number of objectives, a flag indicating if the decision
+ * variables are stored, and the type and size of each stored decision
+ * variable.  Each entry consists of a marker, the length of the remainder of
+ * the entry, the number of solutions, the length and bytes of the properties
+ * in the format of {@link Properties#store}, and the columns of the entry.
+ * Each column stores one objective or decision variable of every solution in
+ * the entry, in order.  Objectives and real-valued decision variables are
+ * stored as doubles, binary decision variables as 64-bit words, permutations
+ * as one int per element, and all other decision variables as the length of
+ * their serialized form followed by the serialized bytes, or {@code -1} if the
+ * variable could not be serialized.  When the writer is closed, an index
+ * containing the position of each entry is appended to the file, followed by
+ * the position of the index.
+ * <p>
+ * Like {@code ResultFileWriter}, this writer appends entries to an existing
+ * file.  Incomplete entries at the end of the file, such as those left when
+ * a previous run was interrupted, are discarded.  Query the
+ * {@link #getNumberOfEntries()} method to determine how many valid entries
+ * are contained in the file.
+ *
+ * @see BinaryResultFileReader
+ */
+public class BinaryResultFileWriter implements OutputWriter {
+
+	/**
+	 * The file to which entries are written.
+	 */
+	private final RandomAccessFile file;
+
+	/**
+	 * The channel for writing to the file.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * The header of the file.
+	 */
+	private final BinaryResultFileHeader header;
+
+	/**
+	 * The positions of the entries in the file.
+	 */
+	private long[] positions;
+
+	/**
+	 * The number of entries in the file.
+	 */
+	private int numberOfEntries;
+
+	/**
+	 * The position immediately after the last entry.
+	 */
+	private long position;
+
+	/**
+	 * {@code true} if the warning for unsupported decision variables was
+	 * displayed; {@code false} otherwise.
+	 */
+	private boolean printedWarning;
+
+	/**
+	 * Equivalent to {@code BinaryResultFileWriter(problem, file, true)}.
+	 *
+	 * @param problem the problem
+	 * @param file the file to which the results are stored
+	 * @throws IOException if an I/O error occurred
+	 */
+	public BinaryResultFileWriter(Problem problem, File file)
+			throws IOException {
+		this(problem, file, true);
+	}
+
+	/**
+	 * Constructs an output writer for writing the decision variables and
+	 * objectives of a sequence of non-dominated populations to a binary result
+	 * file.  If the file already exists, any valid entries are retained and
+	 * {@code getNumberOfEntries()} returns the number of valid entries.  This
+	 * allows resuming evaluation at the last valid result.
+	 *
+	 * @param problem the problem
+	 * @param file the file to which the results are stored
+	 * @param includeVariables {@code true} if this writer should save the
+	 *        decision variables; {@code false} otherwise.
+	 * @throws IOException if an I/O error occurred
+	 * @throws FrameworkException if the file already exists and is not a
+	 *         binary result file for the same problem
+	 */
+	public BinaryResultFileWriter(Problem problem, File file,
+			boolean includeVariables) throws IOException {
+		super();
+		header = new BinaryResultFileHeader(problem, includeVariables);
+
+		if (!includeVariables) {
+			System.err.println(NO_VARIABLES_WARNING);
+		}
+
+		this.file = new RandomAccessFile(file, "rw");
+		channel = this.file.getChannel();
+
+		try {
+			if (channel.size() > 0) {
+				// resume after the last complete entry in the existing file
+				if (!header.equals(BinaryResultFileHeader.read(channel))) {
+					throw new FrameworkException(
+							"existing file was written for a different problem");
+				}
+
+				positions = header.findEntries(channel);
+				numberOfEntries = positions.length - 1;
+				position = positions[numberOfEntries];
+				channel.truncate(position);
+			} else {
+				positions = new long[16];
+				position = 0;
+
+				ByteBuffer buffer = header.encode();
+				BinaryResultFileHeader.write(channel, position, buffer);
+				position += buffer.limit();
+			}
+		} catch (IOException e) {
+			this.file.close();
+			throw e;
+		} catch (RuntimeException e) {
+			this.file.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public int getNumberOfEntries() {
+		return numberOfEntries;
+	}
+
+	/**
+	 * Appends the decision variables, objectives and optional properties to
+	 * the output file.  Constraint violating solutions are not recorded.
+	 *
+	 * @param entry the entry to write
+	 * @throws IOException if an I/O error occurred
+	 */
+	@Override
+	public void append(ResultEntry entry) throws IOException {
+		// generate list of all feasible solutions
+		List<Solution> solutions = new ArrayList<Solution>();
+
+		for (Solution solution : entry.getPopulation()) {
+			if (!solution.violatesConstraints()) {
+				solutions.add(solution);
+			}
+		}
+
+		// encode the properties and any serialized variables, which determine
+		// the length of the entry
+		int numberOfSolutions = solutions.size();
+		int numberOfVariables = header.isIncludeVariables() ?
+				header.getNumberOfVariables() : 0;
+		byte[] properties = encodeProperties(entry.getProperties());
+		byte[][][] serialized = new byte[numberOfVariables][][];
+		long length = 8 + properties.length +
+				8L * numberOfSolutions * header.getNumberOfObjectives();
+
+		for (int i = 0; i < numberOfVariables; i++) {
+			for (Solution solution : solutions) {
+				if ((solution.getNumberOfVariables() != numberOfVariables) ||
+						!header.matches(i, solution.getVariableReadOnly(i))) {
+					throw new FrameworkException(
+							"decision variable does not match the file header");
+				}
+			}
+
+			switch (header.getType(i)) {
+			case REAL:
+				length += 8L * numberOfSolutions;
+				break;
+			case BINARY:
+				length += 8L * numberOfSolutions *
+						((header.getSize(i) + Long.SIZE - 1) / Long.SIZE);
+				break;
+			case PERMUTATION:
+				length += 4L * numberOfSolutions * header.getSize(i);
+				break;
+			default:
+				serialized[i] = new byte[numberOfSolutions][];
+
+				for (int j = 0; j < numberOfSolutions; j++) {
+					serialized[i][j] = serialize(solutions.get(j), i);
+					length += 4 + (serialized[i][j] == null ? 0 :
+						serialized[i][j].length);
+				}
+			}
+		}
+
+		if (length > Integer.MAX_VALUE - ENTRY_HEADER_LENGTH) {
+			throw new FrameworkException("entry is too large");
+		}
+
+		// write the entry
+		ByteBuffer buffer = BinaryResultFileHeader.allocate(
+				ENTRY_HEADER_LENGTH + (int)length);
+
+		buffer.putInt(ENTRY_MARKER);
+		buffer.putInt((int)length);
+		buffer.putInt(numberOfSolutions);
+		buffer.putInt(properties.length);
+		buffer.put(properties);
+
+		for (int i = 0; i < header.getNumberOfObjectives(); i++) {
+			for (Solution solution : solutions) {
+				buffer.putDouble(solution.getObjective(i));
+			}
+		}
+
+		for (int i = 0; i < numberOfVariables; i++) {
+			for (int j = 0; j < numberOfSolutions; j++) {
+				Solution solution = solutions.get(j);
+
+				switch (header.getType(i)) {
+				case REAL:
+					buffer.putDouble(((RealVariable)
+							solution.getVariableReadOnly(i)).getValue());
+					break;
+				case BINARY:
+					BinaryVariable bv =
+							(BinaryVariable)solution.getVariableReadOnly(i);
+
+					for (int k = 0; k < bv.getNumberOfWords(); k++) {
+						buffer.putLong(bv.getWord(k));
+					}
+
+					break;
+				case PERMUTATION:
+					Permutation p =
+							(Permutation)solution.getVariableReadOnly(i);
+
+					for (int k = 0; k < p.size(); k++) {
+						buffer.putInt(p.get(k));
+					}
+
+					break;
+				default:
+					if (serialized[i][j] == null) {
+						buffer.putInt(-1);
+					} else {
+						buffer.putInt(serialized[i][j].length);
+						buffer.put(serialized[i][j]);
+					}
+				}
+			}
+		}
+
+		buffer.flip();
+		BinaryResultFileHeader.write(channel, position, buffer);
+
+		if (numberOfEntries == positions.length - 1) {
+			positions = Arrays.copyOf(positions, 2 * positions.length);
+		}
+
+		positions[numberOfEntries++] = position;
+		position += buffer.limit();
+	}
+
+	/**
+	 * Returns the properties encoded in the format of {@link Properties#store}
+	 * without the leading timestamp comment.
+	 *
+	 * @param properties the properties, which may be {@code null}
+	 * @return the properties encoded in the format of {@code Properties#store}
+	 * @throws IOException if an I/O error occurred
+	 */
+	private byte[] encodeProperties(Properties properties) throws IOException {
+		if ((properties == null) || properties.isEmpty()) {
+			return new byte[0];
+		}
+
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		properties.store(stream, null);
+
+		byte[] bytes = stream.toByteArray();
+		int start = 0;
+
+		// skip first line that contains the timestamp
+		while ((start < bytes.length) && (bytes[start] != '\n')) {
+			start++;
+		}
+
+		return Arrays.copyOfRange(bytes, Math.min(start + 1, bytes.length),
+				bytes.length);
+	}
+
+	/**
+	 * Returns the serialized form of the specified decision variable, or
+	 * {@code null} and prints a warning if the variable could not be
+	 * serialized.
+	 *
+	 * @param solution the solution
+	 * @param index the index of the decision variable
+	 * @return the serialized form of the decision variable, or {@code null} if
+	 *         the variable could not be serialized
+	 */
+	private byte[] serialize(Solution solution, int index) {
+		ObjectOutputStream oos = null;
+
+		try {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			oos = new ObjectOutputStream(baos);
+			oos.writeObject(solution.getVariableReadOnly(index));
+			oos.close();
+			return baos.toByteArray();
+		} catch (IOException e) {
+			if (!printedWarning) {
+				System.err.println(ENCODING_WARNING);
+				printedWarning = true;
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the index of the entries and closes the file.
+	 *
+	 * @throws IOException if an I/O error occurred
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			BinaryResultFileHeader.write(channel, position,
+					BinaryResultFileHeader.encodeFooter(positions,
+							numberOfEntries, position));
+		} finally {
+			file.close();
+		}
+	}
+
+}
@@ -101,6 +101,12 @@ import org.moeaframework.util.TypedProperties;
  *     <td>{@code -n, --novariables}</td>
  *     <td>To save on space, do not save decision variables in the results.</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@code -y, --binary}</td>
+ *     <td>Save the results in the binary format written by
+ *         {@link BinaryResultFileWriter} instead of the text format.  This
+ *         option is ignored if -m is set.</td>
+ *   </tr>
  * </table>
  */
 public class Evaluator extends CommandLineUtility {
@@ -190,6 +196,9 @@ public class Evaluator extends CommandLineUtility {
 		options.addOption(OptionBuilder
 				.withLongOpt("novariables")
 				.create('n'));
+		options.addOption(OptionBuilder
+				.withLongOpt("binary")
+				.create('y'));
 		options.addOption(OptionBuilder
 				.withLongOpt("force")
 				.create('f'));
@@ -247,6 +256,10 @@ public class Evaluator extends CommandLineUtility {
 								problem, referenceSet);
 
 						output = new MetricFileWriter(indicator, outputFile);
+					} else if (commandLine.hasOption("binary")) {
+						output = new BinaryResultFileWriter(problem,
+								outputFile,
+								!commandLine.hasOption("novariables"));
 					} else {
 						output = new ResultFileWriter(problem, outputFile,
 								!commandLine.hasOption("novariables"));
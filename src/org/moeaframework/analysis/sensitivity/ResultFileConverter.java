@@ -0,0 +1,260 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.sensitivity;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.OptionBuilder;
+import org.apache.commons.cli.OptionGroup;
+import org.apache.commons.cli.Options;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.spi.ProblemFactory;
+import org.moeaframework.util.CommandLineUtility;
+import org.moeaframework.util.io.FileUtils;
+
+/**
+ * Command line utility for converting result files between the text format
+ * written by {@link ResultFileWriter} and the binary format written by
+ * {@link BinaryResultFileWriter}.  The format of the input file is detected
+ * automatically and the output file is written in the other format.
+ * <p>
+ * Usage: {@code java -cp "..." org.moeaframework.analysis.sensitivity.ResultFileConverter <options>}
+ * <p>
+ * Arguments:
+ * <table border="0" style="margin-left: 1em">
+ *   <tr>
+ *     <td>{@code -b, --problem}</td>
+ *     <td>The name of the problem.  This name should reference one of the
+ *         problems recognized by the MOEA Framework.</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code -d, --dimension}</td>
+ *     <td>The number of objectives (use instead of -b).</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code -i, --input}</td>
+ *     <td>The result file being converted.</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code -o, --output}</td>
+ *     <td>The converted result file, which is overwritten if it exists.</td>
+ *   </tr>
+ * </table>
+ */
+public class ResultFileConverter extends CommandLineUtility {
+
+	/**
+	 * Constructs the command line utility for converting result files between
+	 * the text and binary formats.
+	 */
+	public ResultFileConverter() {
+		super();
+	}
+
+	@SuppressWarnings("static-access")
+	@Override
+	public Options getOptions() {
+		Options options = super.getOptions();
+
+		OptionGroup group = new OptionGroup();
+		group.setRequired(true);
+		group.addOption(OptionBuilder
+				.withLongOpt("problem")
+				.hasArg()
+				.withArgName("name")
+				.create('b'));
+		group.addOption(OptionBuilder
+				.withLongOpt("dimension")
+				.hasArg()
+				.withArgName("number")
+				.create('d'));
+		options.addOptionGroup(group);
+
+		options.addOption(OptionBuilder
+				.withLongOpt("input")
+				.hasArg()
+				.withArgName("file")
+				.isRequired()
+				.create('i'));
+		options.addOption(OptionBuilder
+				.withLongOpt("output")
+				.hasArg()
+				.withArgName("file")
+				.isRequired()
+				.create('o'));
+
+		return options;
+	}
+
+	@Override
+	public void run(CommandLine commandLine) throws Exception {
+		Problem problem = null;
+		File inputFile = new File(commandLine.getOptionValue("input"));
+		File outputFile = new File(commandLine.getOptionValue("output"));
+
+		try {
+			// setup the problem
+			if (commandLine.hasOption("problem")) {
+				problem = ProblemFactory.getInstance().getProblem(commandLine
+						.getOptionValue("problem"));
+			} else {
+				problem = new ProblemStub(Integer.parseInt(commandLine
+						.getOptionValue("dimension")));
+			}
+
+			if (BinaryResultFileReader.isBinaryResultFile(inputFile)) {
+				toText(problem, inputFile, outputFile);
+			} else {
+				toBinary(problem, inputFile, outputFile);
+			}
+		} finally {
+			if (problem != null) {
+				problem.close();
+			}
+		}
+	}
+
+	/**
+	 * Converts a text result file to a binary result file.  The output file
+	 * is overwritten if it exists.  The decision variables are only stored if
+	 * the text result file contains decision variables.
+	 *
+	 * @param problem the problem
+	 * @param inputFile the text result file
+	 * @param outputFile the binary result file
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static void toBinary(Problem problem, File inputFile,
+			File outputFile) throws IOException {
+		ResultFileReader reader = null;
+		BinaryResultFileWriter writer = null;
+
+		try {
+			reader = new ResultFileReader(problem, inputFile);
+
+			//delete the file to avoid appending
+			FileUtils.delete(outputFile);
+
+			try {
+				writer = new BinaryResultFileWriter(problem, outputFile,
+						hasVariables(problem, inputFile));
+
+				while (reader.hasNext()) {
+					writer.append(reader.next());
+				}
+			} finally {
+				if (writer != null) {
+					writer.close();
+				}
+			}
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the solutions in the text result file contain
+	 * decision variables; {@code false} otherwise.  Only the first solution
+	 * is checked, since the binary format requires every solution to store
+	 * the same decision variables.
+	 *
+	 * @param problem the problem
+	 * @param file the text result file
+	 * @return {@code true} if the solutions in the text result file contain
+	 *         decision variables; {@code false} otherwise
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static boolean hasVariables(Problem problem, File file)
+			throws IOException {
+		ResultFileReader reader = null;
+
+		try {
+			reader = new ResultFileReader(problem, file);
+
+			while (reader.hasNext()) {
+				NondominatedPopulation population =
+						reader.next().getPopulation();
+
+				if (!population.isEmpty()) {
+					return population.get(0).getNumberOfVariables() > 0;
+				}
+			}
+
+			return problem.getNumberOfVariables() > 0;
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Converts a binary result file to a text result file.  The output file
+	 * is overwritten if it exists.
+	 *
+	 * @param problem the problem
+	 * @param inputFile the binary result file
+	 * @param outputFile the text result file
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static void toText(Problem problem, File inputFile,
+			File outputFile) throws IOException {
+		BinaryResultFileReader reader = null;
+		ResultFileWriter writer = null;
+
+		try {
+			reader = new BinaryResultFileReader(problem, inputFile);
+
+			//delete the file to avoid appending
+			FileUtils.delete(outputFile);
+
+			try {
+				writer = new ResultFileWriter(problem, outputFile);
+
+				while (reader.hasNext()) {
+					writer.append(reader.next());
+				}
+			} finally {
+				if (writer != null) {
+					writer.close();
+				}
+			}
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Starts the command line utility for converting result files between the
+	 * text and binary formats.
+	 *
+	 * @param args the command line arguments
+	 * @throws Exception if an error occurred
+	 */
+	public static void main(String[] args) throws Exception {
+		new ResultFileConverter().start(args);
+	}
+
+}
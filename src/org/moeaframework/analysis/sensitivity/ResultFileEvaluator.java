@@ -18,6 +18,8 @@
 package org.moeaframework.analysis.sensitivity;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.OptionBuilder;
@@ -52,8 +54,8 @@ import org.moeaframework.util.TypedProperties;
  *   </tr>
  *   <tr>
  *     <td>{@code -i, --input}</td>
- *     <td>The result file containing the input data.
- *     </td>
+ *     <td>The result file containing the input data, in either the text
+ *         or binary format.</td>
  *   </tr>
  *   <tr>
  *     <td>{@code -o, --output}</td>
@@ -139,8 +141,6 @@ public class ResultFileEvaluator extends CommandLineUtility {
 
 	@Override
 	public void run(CommandLine commandLine) throws Exception {
-		ResultFileReader reader = null;
-		MetricFileWriter writer = null;
 		Problem problem = null;
 		NondominatedPopulation referenceSet = null;
 
@@ -191,46 +191,29 @@ public class ResultFileEvaluator extends CommandLineUtility {
 			QualityIndicator indicator = new QualityIndicator(problem,
 					referenceSet);
 
-			try {
-				reader = new ResultFileReader(problem, inputFile);
+			// the format of the result file is detected automatically
+			if (BinaryResultFileReader.isBinaryResultFile(inputFile)) {
+				BinaryResultFileReader reader = null;
 
 				try {
-					writer = new MetricFileWriter(indicator, outputFile);
-
-					// resume at the last good output
-					for (int i = 0; i < writer.getNumberOfEntries(); i++) {
-						if (reader.hasNext()) {
-							reader.next();
-						} else {
-							throw new FrameworkException(
-									"output has more entries than input");
-						}
+					reader = new BinaryResultFileReader(problem, inputFile);
+					evaluate(commandLine, indicator, reader, outputFile);
+				} finally {
+					if (reader != null) {
+						reader.close();
 					}
+				}
+			} else {
+				ResultFileReader reader = null;
 
-					// evaluate the remaining entries
-					while (reader.hasNext()) {
-						ResultEntry entry = reader.next();
-						
-						if (commandLine.hasOption("epsilon")) {
-							TypedProperties typedProperties = new TypedProperties();
-							typedProperties.getProperties().setProperty("epsilon", commandLine.getOptionValue("epsilon"));
-
-							double[] epsilon = typedProperties.getDoubleArray("epsilon", null);
-							
-							entry = new ResultEntry(EpsilonHelper.convert(entry.getPopulation(), epsilon), entry.getProperties());
-						}
-						
-						writer.append(entry);
-					}
+				try {
+					reader = new ResultFileReader(problem, inputFile);
+					evaluate(commandLine, indicator, reader, outputFile);
 				} finally {
-					if (writer != null) {
-						writer.close();
+					if (reader != null) {
+						reader.close();
 					}
 				}
-			} finally {
-				if (reader != null) {
-					reader.close();
-				}
 			}
 		} finally {
 			if (problem != null) {
@@ -239,6 +222,56 @@ public class ResultFileEvaluator extends CommandLineUtility {
 		}
 	}
 	
+	/**
+	 * Evaluates the entries read from a result file, writing the metrics to
+	 * the output file.  If the output file already exists, evaluation resumes
+	 * after the last entry in the output file.
+	 * 
+	 * @param commandLine the command line
+	 * @param indicator the quality indicator
+	 * @param reader the entries read from the result file
+	 * @param outputFile the output file
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void evaluate(CommandLine commandLine, QualityIndicator indicator,
+			Iterator<ResultEntry> reader, File outputFile) throws IOException {
+		MetricFileWriter writer = null;
+
+		try {
+			writer = new MetricFileWriter(indicator, outputFile);
+
+			// resume at the last good output
+			for (int i = 0; i < writer.getNumberOfEntries(); i++) {
+				if (reader.hasNext()) {
+					reader.next();
+				} else {
+					throw new FrameworkException(
+							"output has more entries than input");
+				}
+			}
+
+			// evaluate the remaining entries
+			while (reader.hasNext()) {
+				ResultEntry entry = reader.next();
+				
+				if (commandLine.hasOption("epsilon")) {
+					TypedProperties typedProperties = new TypedProperties();
+					typedProperties.getProperties().setProperty("epsilon", commandLine.getOptionValue("epsilon"));
+
+					double[] epsilon = typedProperties.getDoubleArray("epsilon", null);
+					
+					entry = new ResultEntry(EpsilonHelper.convert(entry.getPopulation(), epsilon), entry.getProperties());
+				}
+				
+				writer.append(entry);
+			}
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+	}
+	
 	/**
 	 * Starts the command line utility for evaluating the approximation sets 
 	 * stored in a result file and computing its metric file.
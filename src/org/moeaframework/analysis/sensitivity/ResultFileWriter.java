@@ -277,7 +277,7 @@ public class ResultFileWriter implements OutputWriter {
 					writer.print(' ');
 				}
 
-				writer.print(encode(solution.getVariable(i)));
+				writer.print(encode(solution.getVariableReadOnly(i)));
 			}
 		}
 
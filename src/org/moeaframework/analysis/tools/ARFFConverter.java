@@ -223,9 +223,9 @@ public class ARFFConverter extends CommandLineUtility {
 					writer.print(",");
 				}
 					
-				if (solution.getVariable(i) instanceof RealVariable) {
+				if (solution.getVariableReadOnly(i) instanceof RealVariable) {
 					writer.print(EncodingUtils.getReal(
-							solution.getVariable(i)));
+							solution.getVariableReadOnly(i)));
 				} else {
 					writer.print("?");
 				}
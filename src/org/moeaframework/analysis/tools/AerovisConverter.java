@@ -250,7 +250,7 @@ public class AerovisConverter extends CommandLineUtility {
 						writer.print(" ");
 					}
 						
-					writer.print(solution.getVariable(i));
+					writer.print(solution.getVariableReadOnly(i));
 				}
 				
 				for (int i = 0; i < numberOfObjectives; i++) {
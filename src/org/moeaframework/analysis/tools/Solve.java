@@ -517,7 +517,7 @@ public class Solve extends CommandLineUtility {
 					System.out.print("  Variable ");
 					System.out.print(j+1);
 					System.out.print(" = ");
-					System.out.println(solution.getVariable(j));
+					System.out.println(solution.getVariableReadOnly(j));
 				}
 				
 				System.out.println("  * Evaluating solution *");
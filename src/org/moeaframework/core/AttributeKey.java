@@ -0,0 +1,228 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A typed key for solution attributes.  Values of typed attributes are stored
+ * in slots within each solution rather than in the attribute map, so reading
+ * and writing {@code int} and {@code double} values does not box or hash.
+ * Typed attributes remain accessible by name through
+ * {@link Solution#getAttribute(String)} and the other string-based methods,
+ * which box the value as needed.
+ * <p>
+ * Keys are registered globally by name, so the same name always refers to the
+ * same slot regardless of which population a solution belongs to.  At most
+ * {@value #MAXIMUM_KEYS} keys can be registered.
+ */
+public final class AttributeKey {
+
+	/**
+	 * The types of values stored by typed attributes.
+	 */
+	public static enum Type {
+
+		/**
+		 * An {@code int} value, boxed as an {@link Integer} when accessed by
+		 * name.
+		 */
+		INT,
+
+		/**
+		 * A {@code double} value, boxed as a {@link Double} when accessed by
+		 * name.
+		 */
+		DOUBLE,
+
+		/**
+		 * Any serializable object.
+		 */
+		OBJECT
+
+	}
+
+	/**
+	 * The maximum number of keys that can be registered.
+	 */
+	public static final int MAXIMUM_KEYS = 64;
+
+	/**
+	 * The registered keys indexed by name.
+	 */
+	private static final ConcurrentMap<String, AttributeKey> KEYS =
+			new ConcurrentHashMap<String, AttributeKey>();
+
+	/**
+	 * The registered keys indexed by their slot index.  A new array is
+	 * assigned whenever a key is registered.
+	 */
+	private static volatile AttributeKey[] indexedKeys = new AttributeKey[0];
+
+	/**
+	 * The name of this attribute.
+	 */
+	private final String name;
+
+	/**
+	 * The type of value stored by this attribute.
+	 */
+	private final Type type;
+
+	/**
+	 * The index of the slot storing this attribute.
+	 */
+	private final int index;
+
+	/**
+	 * Constructs a new typed attribute key.  Use {@link #register(String,
+	 * Type)} to obtain keys.
+	 *
+	 * @param name the name of the attribute
+	 * @param type the type of value stored by the attribute
+	 * @param index the index of the slot storing the attribute
+	 */
+	private AttributeKey(String name, Type type, int index) {
+		super();
+		this.name = name;
+		this.type = type;
+		this.index = index;
+	}
+
+	/**
+	 * Returns the key for the attribute with the specified name and type,
+	 * registering the key if it does not already exist.
+	 *
+	 * @param name the name of the attribute
+	 * @param type the type of value stored by the attribute
+	 * @return the key for the attribute with the specified name and type
+	 * @throws IllegalArgumentException if the name is already registered with
+	 *         a different type
+	 * @throws IllegalStateException if the maximum number of keys has been
+	 *         registered
+	 */
+	public static synchronized AttributeKey register(String name, Type type) {
+		AttributeKey key = KEYS.get(name);
+
+		if (key == null) {
+			if (KEYS.size() >= MAXIMUM_KEYS) {
+				throw new IllegalStateException(
+						"maximum number of attribute keys registered");
+			}
+
+			AttributeKey[] keys = Arrays.copyOf(indexedKeys,
+					indexedKeys.length + 1);
+
+			key = new AttributeKey(name, type, KEYS.size());
+			keys[key.index] = key;
+			indexedKeys = keys;
+			KEYS.put(name, key);
+		} else if (key.type != type) {
+			throw new IllegalArgumentException("attribute " + name +
+					" is registered with type " + key.type);
+		}
+
+		return key;
+	}
+
+	/**
+	 * Returns the key registered with the specified name, or {@code null} if
+	 * no such key is registered.
+	 *
+	 * @param name the name of the attribute
+	 * @return the key registered with the specified name, or {@code null} if
+	 *         no such key is registered
+	 */
+	public static AttributeKey forName(String name) {
+		return KEYS.get(name);
+	}
+
+	/**
+	 * Returns the key with the specified slot index.
+	 *
+	 * @param index the slot index
+	 * @return the key with the specified slot index
+	 */
+	static AttributeKey forIndex(int index) {
+		return indexedKeys[index];
+	}
+
+	/**
+	 * Returns the number of registered keys.
+	 *
+	 * @return the number of registered keys
+	 */
+	static int getNumberOfKeys() {
+		return indexedKeys.length;
+	}
+
+	/**
+	 * Returns the name of this attribute.
+	 *
+	 * @return the name of this attribute
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the type of value stored by this attribute.
+	 *
+	 * @return the type of value stored by this attribute
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the index of the slot storing this attribute.
+	 *
+	 * @return the index of the slot storing this attribute
+	 */
+	int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Returns {@code true} if the specified value can be stored in the slot
+	 * of this attribute; {@code false} if it must be stored in the attribute
+	 * map.
+	 *
+	 * @param value the value
+	 * @return {@code true} if the specified value can be stored in the slot
+	 *         of this attribute; {@code false} otherwise
+	 */
+	boolean accepts(Object value) {
+		switch (type) {
+		case INT:
+			return value instanceof Integer;
+		case DOUBLE:
+			return value instanceof Double;
+		default:
+			return value != null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+}
@@ -0,0 +1,41 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.List;
+
+/**
+ * Interface for problems capable of evaluating many solutions at once, such as
+ * by vectorizing the evaluation over all solutions, dividing the solutions
+ * across a thread pool, or sending the solutions to an external process in a
+ * single message.  Algorithms detect this interface when evaluating an entire
+ * population or set of offspring, passing all solutions in one call rather
+ * than invoking {@link #evaluate(Solution)} once per solution.
+ */
+public interface BatchProblem extends Problem {
+
+	/**
+	 * Evaluates the solutions, updating each solution's objectives and
+	 * constraints in place.  The result must be identical to calling
+	 * {@link #evaluate(Solution)} on each solution in order.
+	 * 
+	 * @param solutions the solutions to be evaluated
+	 */
+	public void evaluateAll(List<Solution> solutions);
+
+}
@@ -0,0 +1,295 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.Arrays;
+
+/**
+ * Records the positions where the decision variables of an offspring may
+ * differ from its parent, allowing a {@link DeltaProblem} to evaluate the
+ * offspring incrementally.  A position identifies a bit of a binary variable
+ * or an element of a permutation; variables without positions, such as real
+ * variables, are recorded as changed in their entirety.
+ * <p>
+ * Variation operators start recording with
+ * {@link #track(Solution, Solution)} after copying the parent, then obtain
+ * each variable they modify with {@link #getVariable(Solution, int)} and
+ * record each position they modify.  If the parent is itself an unevaluated
+ * offspring with recorded changes, the new record extends that record and
+ * refers to the same evaluated parent, so operators can be chained.  Since
+ * {@link Solution#copy()} does not copy the record, offspring produced by
+ * operators that do not record their changes are always fully evaluated, as
+ * are offspring of parents modified since their last evaluation.  Accessing a
+ * variable with {@link Solution#getVariable(int)}, which allows the variable
+ * to be modified in place, or replacing it with
+ * {@link Solution#setVariable(int, Variable)} discards the record.  The record is discarded once the offspring is evaluated by an
+ * algorithm.
+ * <p>
+ * Records are not serialized.
+ */
+public class Changes {
+
+	/**
+	 * The initial number of positions stored for each changed variable.
+	 */
+	private static final int INITIAL_CAPACITY = 4;
+
+	/**
+	 * Value of {@code sizes} indicating every position of a variable may have
+	 * changed.
+	 */
+	private static final int ALL = -1;
+
+	/**
+	 * The evaluated parent.
+	 */
+	private final Solution parent;
+
+	/**
+	 * The recorded positions of each variable, or {@code null} if no
+	 * positions are recorded.  The positions may be unordered and contain
+	 * duplicates.
+	 */
+	private final int[][] positions;
+
+	/**
+	 * The number of positions recorded for each variable, or {@code ALL} if
+	 * every position may have changed.
+	 */
+	private final int[] sizes;
+
+	/**
+	 * Constructs a record with no changes relative to the specified parent.
+	 *
+	 * @param parent the evaluated parent
+	 * @param numberOfVariables the number of variables of the offspring
+	 */
+	private Changes(Solution parent, int numberOfVariables) {
+		super();
+		this.parent = parent;
+
+		positions = new int[numberOfVariables][];
+		sizes = new int[numberOfVariables];
+	}
+
+	/**
+	 * Constructs a copy of the specified record.
+	 *
+	 * @param changes the record being copied
+	 */
+	private Changes(Changes changes) {
+		this(changes.parent, changes.sizes.length);
+
+		for (int i = 0; i < sizes.length; i++) {
+			sizes[i] = changes.sizes[i];
+
+			if (changes.positions[i] != null) {
+				positions[i] = changes.positions[i].clone();
+			}
+		}
+	}
+
+	/**
+	 * Starts recording the changes of an offspring copied from the specified
+	 * parent, replacing any existing record of the offspring.  If the parent
+	 * neither was evaluated by an algorithm nor has recorded changes, the
+	 * returned record is not attached to the offspring, so the offspring will
+	 * be fully evaluated.
+	 *
+	 * @param offspring the offspring, which must be an unmodified copy of the
+	 *        parent
+	 * @param parent the parent
+	 * @return the record of the changes of the offspring
+	 */
+	public static Changes track(Solution offspring, Solution parent) {
+		Changes previous = parent.getChanges();
+
+		if (previous != null) {
+			Changes changes = new Changes(previous);
+			offspring.setChanges(changes);
+			return changes;
+		} else {
+			Changes changes = new Changes(parent,
+					offspring.getNumberOfVariables());
+			offspring.setChanges(parent.isEvaluated() ? changes : null);
+			return changes;
+		}
+	}
+
+	/**
+	 * Returns the variable at the specified index of the offspring for
+	 * modification, keeping its recorded changes.  Unlike
+	 * {@link Solution#getVariable(int)}, the record is not discarded, so the
+	 * caller must record every position it modifies.
+	 *
+	 * @param offspring the offspring
+	 * @param index index of the variable to return
+	 * @return the variable at the specified index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0) || (index >= getNumberOfVariables())}
+	 */
+	public static Variable getVariable(Solution offspring, int index) {
+		return offspring.getRecordedVariable(index);
+	}
+
+	/**
+	 * Returns the recorded changes of the specified solution, or {@code null}
+	 * if no changes are recorded.
+	 *
+	 * @param solution the solution
+	 * @return the recorded changes of the specified solution, or {@code null}
+	 *         if no changes are recorded
+	 */
+	public static Changes getChanges(Solution solution) {
+		return solution.getChanges();
+	}
+
+	/**
+	 * Discards the recorded changes of the specified solution and marks it as
+	 * evaluated, so it can serve as the parent of its own offspring.  This is
+	 * called by algorithms after evaluating the solution with a
+	 * {@link DeltaProblem}.
+	 *
+	 * @param solution the evaluated solution
+	 */
+	public static void markEvaluated(Solution solution) {
+		solution.setChanges(null);
+		solution.setEvaluated(true);
+	}
+
+	/**
+	 * Returns the evaluated parent.
+	 *
+	 * @return the evaluated parent
+	 */
+	public Solution getParent() {
+		return parent;
+	}
+
+	/**
+	 * Returns the number of variables of the offspring.
+	 *
+	 * @return the number of variables of the offspring
+	 */
+	public int getNumberOfVariables() {
+		return sizes.length;
+	}
+
+	/**
+	 * Returns {@code true} if the specified variable may differ from the
+	 * parent; {@code false} if the variable is identical to the parent.
+	 *
+	 * @param variable the index of the variable
+	 * @return {@code true} if the specified variable may differ from the
+	 *         parent; {@code false} otherwise
+	 */
+	public boolean isChanged(int variable) {
+		return sizes[variable] != 0;
+	}
+
+	/**
+	 * Returns the positions of the specified variable that may differ from the
+	 * parent in ascending order without duplicates, or {@code null} if any
+	 * position may differ.  The returned array is empty if the variable is
+	 * identical to the parent.
+	 *
+	 * @param variable the index of the variable
+	 * @return the positions of the specified variable that may differ from the
+	 *         parent, or {@code null} if any position may differ
+	 */
+	public int[] getPositions(int variable) {
+		if (sizes[variable] == ALL) {
+			return null;
+		} else if (sizes[variable] == 0) {
+			return new int[0];
+		}
+
+		compact(variable);
+		return Arrays.copyOf(positions[variable], sizes[variable]);
+	}
+
+	/**
+	 * Records that the specified position of a variable may differ from the
+	 * parent.
+	 *
+	 * @param variable the index of the variable
+	 * @param position the position within the variable
+	 */
+	public void add(int variable, int position) {
+		int size = sizes[variable];
+
+		if (size == ALL) {
+			return;
+		} else if (positions[variable] == null) {
+			positions[variable] = new int[INITIAL_CAPACITY];
+		} else if (size == positions[variable].length) {
+			// duplicates are removed before growing, so the storage is bounded
+			// by the number of distinct positions
+			compact(variable);
+			size = sizes[variable];
+
+			if (size * 2 > positions[variable].length) {
+				positions[variable] = Arrays.copyOf(positions[variable],
+						2 * positions[variable].length);
+			}
+		}
+
+		positions[variable][size] = position;
+		sizes[variable] = size + 1;
+	}
+
+	/**
+	 * Records that any position of a variable may differ from the parent.
+	 * This is used for variables without positions, such as real variables,
+	 * or when an operator does not track the individual positions it
+	 * modifies.
+	 *
+	 * @param variable the index of the variable
+	 */
+	public void addAll(int variable) {
+		positions[variable] = null;
+		sizes[variable] = ALL;
+	}
+
+	/**
+	 * Sorts the recorded positions of a variable and removes duplicates.
+	 *
+	 * @param variable the index of the variable
+	 */
+	private void compact(int variable) {
+		int[] array = positions[variable];
+		int size = sizes[variable];
+
+		if (size <= 1) {
+			return;
+		}
+
+		Arrays.sort(array, 0, size);
+
+		int count = 1;
+
+		for (int i = 1; i < size; i++) {
+			if (array[i] != array[count - 1]) {
+				array[count++] = array[i];
+			}
+		}
+
+		sizes[variable] = count;
+	}
+
+}
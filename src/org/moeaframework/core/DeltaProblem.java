@@ -0,0 +1,53 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+/**
+ * Interface for problems capable of evaluating an offspring incrementally from
+ * the objectives and constraints of its parent.  Variation operators record
+ * the positions where an offspring may differ from its parent using
+ * {@link Changes}.  When an offspring has recorded changes, algorithms call
+ * {@link #evaluateDelta(Solution, Solution, Changes)} instead of
+ * {@link #evaluate(Solution)}, so the cost of evaluation depends on the number
+ * of changes rather than the number of decision variables.  Offspring without
+ * recorded changes are evaluated with {@code evaluate}.
+ */
+public interface DeltaProblem extends Problem {
+
+	/**
+	 * Evaluates the offspring, updating its objectives and constraints in
+	 * place, given its evaluated parent and the positions where the offspring
+	 * may differ from the parent.  The result must be identical to calling
+	 * {@link #evaluate(Solution)} on the offspring.
+	 * <p>
+	 * The recorded positions are a superset of the positions that differ, so
+	 * implementations must compare the values of the parent and offspring at
+	 * each position.  Variables for which {@link Changes#isChanged(int)}
+	 * returns {@code false} are identical in both solutions.
+	 *
+	 * @param parent the evaluated parent, which must not be modified; its
+	 *        variables should be read using
+	 *        {@link Solution#getVariableReadOnly(int)}
+	 * @param offspring the offspring being evaluated
+	 * @param changes the positions where the offspring may differ from the
+	 *        parent
+	 */
+	public void evaluateDelta(Solution parent, Solution offspring,
+			Changes changes);
+
+}
@@ -0,0 +1,758 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Dominance-aware index over a set of mutually non-dominated points, used by
+ * archives to avoid comparing a new point against every member.  Points are
+ * compared with the Pareto dominance relation using {@link Double#compare},
+ * matching {@link org.moeaframework.core.comparator.ParetoObjectiveComparator}.
+ * With two objectives, the points are kept in a balanced tree sorted by the
+ * first objective.  With three or more objectives, the points are stored in
+ * an ND-Tree [1], where each node tracks the ideal and nadir points of its
+ * subtree so entire subtrees can be accepted, rejected or skipped.
+ * <p>
+ * This index does not decide how duplicates are handled.  Instead,
+ * {@link #update(double[], List, List)} reports the non-dominated members
+ * within a margin of the new point, leaving the decision to the caller.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Jaszkiewicz, A. and Lust, T.  "ND-Tree-based update: a Fast Algorithm
+ *       for the Dynamic Non-Dominance Problem."  IEEE Transactions on
+ *       Evolutionary Computation, 22(5):778-791, 2018.
+ * </ol>
+ *
+ * @param <T> the type of value associated with each point
+ */
+abstract class DominanceIndex<T> {
+
+	/**
+	 * The maximum number of entries stored in a leaf node of the ND-Tree
+	 * before the leaf is split.
+	 */
+	private static final int MAX_LEAF_SIZE = 20;
+
+	/**
+	 * The margin within which non-dominated members are reported as nearby.
+	 */
+	protected final double margin;
+
+	/**
+	 * The number of entries created, used to order entries with identical
+	 * points.
+	 */
+	private long sequence;
+
+	/**
+	 * Constructs an empty dominance index.
+	 *
+	 * @param margin the margin within which non-dominated members are
+	 *        reported as nearby
+	 */
+	protected DominanceIndex(double margin) {
+		super();
+		this.margin = margin;
+	}
+
+	/**
+	 * Returns a new, empty dominance index suitable for the given number of
+	 * objectives.
+	 *
+	 * @param <T> the type of value associated with each point
+	 * @param numberOfObjectives the number of objectives
+	 * @param margin the margin within which non-dominated members are
+	 *        reported as nearby
+	 * @return a new, empty dominance index
+	 */
+	public static <T> DominanceIndex<T> create(int numberOfObjectives,
+			double margin) {
+		if (numberOfObjectives == 2) {
+			return new SortedFront<T>(margin);
+		} else {
+			return new NDTree<T>(numberOfObjectives, margin);
+		}
+	}
+
+	/**
+	 * Creates a new entry that can be inserted into this index.
+	 *
+	 * @param value the value associated with the point
+	 * @param point the point
+	 * @return the new entry
+	 */
+	public Entry<T> newEntry(T value, double[] point) {
+		return new Entry<T>(value, point, sequence++);
+	}
+
+	/**
+	 * Determines if the point is dominated by any member of this index and
+	 * collects the members it dominates and the non-dominated members within
+	 * the margin.  This method does not modify the index.
+	 *
+	 * @param point the new point
+	 * @param dominated the list that collects the dominated members
+	 * @param nearby the list that collects the non-dominated members within
+	 *        the margin of the new point
+	 * @return {@code true} if the point is not dominated by any member;
+	 *         {@code false} otherwise, in which case the lists may be
+	 *         incomplete
+	 */
+	public abstract boolean update(double[] point, List<Entry<T>> dominated,
+			List<Entry<T>> nearby);
+
+	/**
+	 * Inserts the entry into this index.
+	 *
+	 * @param entry the entry
+	 */
+	public abstract void insert(Entry<T> entry);
+
+	/**
+	 * Removes the entry from this index.
+	 *
+	 * @param entry the entry
+	 */
+	public abstract void remove(Entry<T> entry);
+
+	/**
+	 * Removes all entries from this index.
+	 */
+	public abstract void clear();
+
+	/**
+	 * Compares two points using the Pareto dominance relation, returning
+	 * {@code -1} if the first point dominates the second, {@code 1} if the
+	 * second point dominates the first, and {@code 0} otherwise.
+	 *
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @return the result of the Pareto dominance comparison
+	 */
+	static int compare(double[] point1, double[] point2) {
+		boolean dominate1 = false;
+		boolean dominate2 = false;
+
+		for (int i = 0; i < point1.length; i++) {
+			int flag = Double.compare(point1[i], point2[i]);
+
+			if (flag < 0) {
+				if (dominate2) {
+					return 0;
+				}
+
+				dominate1 = true;
+			} else if (flag > 0) {
+				if (dominate1) {
+					return 0;
+				}
+
+				dominate2 = true;
+			}
+		}
+
+		if (dominate1 == dominate2) {
+			return 0;
+		} else if (dominate1) {
+			return -1;
+		} else {
+			return 1;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if each component of the first point is at most
+	 * the corresponding component of the second point plus the margin.
+	 *
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @param margin the margin added to the second point
+	 * @return {@code true} if the first point weakly dominates the second
+	 *         point offset by the margin; {@code false} otherwise
+	 */
+	static boolean covers(double[] point1, double[] point2, double margin) {
+		for (int i = 0; i < point1.length; i++) {
+			if (Double.compare(point1[i], point2[i] + margin) > 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the squared Euclidean distance between two points.
+	 *
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @return the squared Euclidean distance between the two points
+	 */
+	static double distance(double[] point1, double[] point2) {
+		double distance = 0.0;
+
+		for (int i = 0; i < point1.length; i++) {
+			double delta = point1[i] - point2[i];
+			distance += delta * delta;
+		}
+
+		return distance;
+	}
+
+	/**
+	 * A point stored in the index along with its associated value.
+	 *
+	 * @param <T> the type of value associated with the point
+	 */
+	static class Entry<T> {
+
+		/**
+		 * The value associated with the point.  The owner may replace the
+		 * value provided the point is unchanged.
+		 */
+		T value;
+
+		/**
+		 * The point.
+		 */
+		final double[] point;
+
+		/**
+		 * The unique identifier of this entry, used to order entries with
+		 * identical points.
+		 */
+		final long id;
+
+		/**
+		 * The position of this entry in the owning collection, maintained by
+		 * the owner.
+		 */
+		int position;
+
+		/**
+		 * The ND-Tree leaf containing this entry.
+		 */
+		Node<T> leaf;
+
+		/**
+		 * Constructs a new entry.
+		 *
+		 * @param value the value associated with the point
+		 * @param point the point
+		 * @param id the unique identifier of this entry
+		 */
+		Entry(T value, double[] point, long id) {
+			super();
+			this.value = value;
+			this.point = point;
+			this.id = id;
+		}
+
+	}
+
+	/**
+	 * Index for two objectives.  Sorted by the first objective, the
+	 * non-dominated points form a staircase where the second objective is
+	 * non-increasing.  Consequently, the only member that can dominate a new
+	 * point is its predecessor, and the members it dominates are a contiguous
+	 * run of its successors.
+	 *
+	 * @param <T> the type of value associated with each point
+	 */
+	static class SortedFront<T> extends DominanceIndex<T>
+	implements Comparator<Entry<T>> {
+
+		/**
+		 * The entries sorted by the first objective.
+		 */
+		private final TreeSet<Entry<T>> front;
+
+		/**
+		 * Constructs an empty index for two objectives.
+		 *
+		 * @param margin the margin within which non-dominated members are
+		 *        reported as nearby
+		 */
+		public SortedFront(double margin) {
+			super(margin);
+
+			front = new TreeSet<Entry<T>>(this);
+		}
+
+		@Override
+		public int compare(Entry<T> entry1, Entry<T> entry2) {
+			int flag = Double.compare(entry1.point[0], entry2.point[0]);
+
+			if (flag == 0) {
+				flag = Double.compare(entry1.point[1], entry2.point[1]);
+			}
+
+			if (flag == 0) {
+				flag = entry1.id < entry2.id ? -1 :
+					(entry1.id > entry2.id ? 1 : 0);
+			}
+
+			return flag;
+		}
+
+		/**
+		 * Returns an entry used to search the front.
+		 *
+		 * @param objective1 the first objective
+		 * @param objective2 the second objective
+		 * @param id the identifier
+		 * @return the probe entry
+		 */
+		private Entry<T> probe(double objective1, double objective2, long id) {
+			return new Entry<T>(null, new double[] { objective1, objective2 },
+					id);
+		}
+
+		@Override
+		public boolean update(double[] point, List<Entry<T>> dominated,
+				List<Entry<T>> nearby) {
+			// the last entry whose first objective does not exceed the new
+			// point has the smallest second objective among all such entries
+			Entry<T> predecessor = front.floor(probe(point[0], Double.NaN,
+					Long.MAX_VALUE));
+
+			if ((predecessor != null) &&
+					(DominanceIndex.compare(predecessor.point, point) < 0)) {
+				return false;
+			}
+
+			// collect the non-dominated entries within the margin
+			for (Entry<T> entry : front.subSet(
+					probe(point[0] - margin, Double.NEGATIVE_INFINITY,
+							Long.MIN_VALUE), true,
+					probe(point[0] + margin, Double.NaN, Long.MAX_VALUE),
+					true)) {
+				if ((DominanceIndex.compare(point, entry.point) == 0) &&
+						(Math.abs(point[1] - entry.point[1]) <= margin)) {
+					nearby.add(entry);
+				}
+			}
+
+			// collect the run of dominated successors
+			for (Entry<T> entry : front.tailSet(probe(point[0],
+					Double.NEGATIVE_INFINITY, Long.MIN_VALUE), true)) {
+				if (Double.compare(entry.point[1], point[1]) < 0) {
+					break;
+				}
+
+				if (DominanceIndex.compare(point, entry.point) < 0) {
+					dominated.add(entry);
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public void insert(Entry<T> entry) {
+			front.add(entry);
+		}
+
+		@Override
+		public void remove(Entry<T> entry) {
+			front.remove(entry);
+		}
+
+		@Override
+		public void clear() {
+			front.clear();
+		}
+
+	}
+
+	/**
+	 * A node in the ND-Tree.  Leaf nodes store entries; internal nodes store
+	 * child nodes.  The ideal and nadir points bound all entries in the
+	 * subtree.  The bounds are expanded as entries are inserted but are not
+	 * contracted when entries are removed, which keeps them conservative.
+	 *
+	 * @param <T> the type of value associated with each point
+	 */
+	static class Node<T> {
+
+		/**
+		 * The parent node, or {@code null} if this is the root.
+		 */
+		private final Node<T> parent;
+
+		/**
+		 * The ideal point of the entries in this subtree.
+		 */
+		private final double[] ideal;
+
+		/**
+		 * The nadir point of the entries in this subtree.
+		 */
+		private final double[] nadir;
+
+		/**
+		 * The entries in this leaf node, or {@code null} if this is an
+		 * internal node.
+		 */
+		private List<Entry<T>> entries;
+
+		/**
+		 * The children of this internal node, or {@code null} if this is a
+		 * leaf node.
+		 */
+		private List<Node<T>> children;
+
+		/**
+		 * Constructs a new leaf node with bounds initialized to the given
+		 * point.
+		 *
+		 * @param parent the parent node
+		 * @param point the initial point
+		 */
+		public Node(Node<T> parent, double[] point) {
+			super();
+			this.parent = parent;
+
+			ideal = point.clone();
+			nadir = point.clone();
+			entries = new ArrayList<Entry<T>>();
+		}
+
+		/**
+		 * Returns {@code true} if this is a leaf node; {@code false}
+		 * otherwise.
+		 *
+		 * @return {@code true} if this is a leaf node; {@code false}
+		 *         otherwise
+		 */
+		public boolean isLeaf() {
+			return children == null;
+		}
+
+		/**
+		 * Returns {@code true} if this subtree contains no entries;
+		 * {@code false} otherwise.
+		 *
+		 * @return {@code true} if this subtree contains no entries;
+		 *         {@code false} otherwise
+		 */
+		public boolean isEmpty() {
+			return isLeaf() ? entries.isEmpty() : children.isEmpty();
+		}
+
+		/**
+		 * Expands the bounds of this node to include the given point.
+		 *
+		 * @param point the point
+		 */
+		public void expand(double[] point) {
+			for (int i = 0; i < point.length; i++) {
+				if (Double.compare(point[i], ideal[i]) < 0) {
+					ideal[i] = point[i];
+				}
+
+				if (Double.compare(point[i], nadir[i]) > 0) {
+					nadir[i] = point[i];
+				}
+			}
+		}
+
+		/**
+		 * Returns the squared Euclidean distance between the given point and
+		 * the midpoint of this node's bounds.
+		 *
+		 * @param point the point
+		 * @return the squared distance between the point and the midpoint of
+		 *         this node's bounds
+		 */
+		public double distance(double[] point) {
+			double distance = 0.0;
+
+			for (int i = 0; i < point.length; i++) {
+				double delta = point[i] - (ideal[i] + nadir[i]) / 2.0;
+				distance += delta * delta;
+			}
+
+			return distance;
+		}
+
+	}
+
+	/**
+	 * Index for three or more objectives using an ND-Tree.
+	 *
+	 * @param <T> the type of value associated with each point
+	 */
+	static class NDTree<T> extends DominanceIndex<T> {
+
+		/**
+		 * The number of children created when splitting a leaf node.
+		 */
+		private final int numberOfChildren;
+
+		/**
+		 * The root node, or {@code null} if this index is empty.
+		 */
+		private Node<T> root;
+
+		/**
+		 * Constructs an empty ND-Tree.
+		 *
+		 * @param numberOfObjectives the number of objectives
+		 * @param margin the margin within which non-dominated members are
+		 *        reported as nearby
+		 */
+		public NDTree(int numberOfObjectives, double margin) {
+			super(margin);
+
+			numberOfChildren = Math.max(2, numberOfObjectives + 1);
+		}
+
+		@Override
+		public boolean update(double[] point, List<Entry<T>> dominated,
+				List<Entry<T>> nearby) {
+			return (root == null) || update(root, point, dominated, nearby);
+		}
+
+		/**
+		 * Recursively updates the given subtree.
+		 *
+		 * @param node the root of the subtree
+		 * @param point the new point
+		 * @param dominated the list that collects the dominated members
+		 * @param nearby the list that collects the non-dominated members
+		 *        within the margin of the new point
+		 * @return {@code true} if the point is not dominated by any member of
+		 *         this subtree; {@code false} otherwise
+		 */
+		private boolean update(Node<T> node, double[] point,
+				List<Entry<T>> dominated, List<Entry<T>> nearby) {
+			if (DominanceIndex.compare(node.nadir, point) < 0) {
+				// every entry in this subtree dominates the new point
+				return false;
+			} else if (DominanceIndex.compare(point, node.ideal) < 0) {
+				// the new point dominates every entry in this subtree
+				collect(node, dominated);
+			} else if (covers(node.ideal, point, margin) ||
+					covers(point, node.nadir, margin)) {
+				// the subtree may contain dominating, dominated or nearby
+				// entries
+				if (node.isLeaf()) {
+					for (Entry<T> entry : node.entries) {
+						int flag = DominanceIndex.compare(point, entry.point);
+
+						if (flag < 0) {
+							dominated.add(entry);
+						} else if (flag > 0) {
+							return false;
+						} else if (covers(point, entry.point, margin) &&
+								covers(entry.point, point, margin)) {
+							nearby.add(entry);
+						}
+					}
+				} else {
+					for (Node<T> child : node.children) {
+						if (!update(child, point, dominated, nearby)) {
+							return false;
+						}
+					}
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * Collects all entries in the given subtree.
+		 *
+		 * @param node the root of the subtree
+		 * @param result the list that collects the entries
+		 */
+		private void collect(Node<T> node, List<Entry<T>> result) {
+			if (node.isLeaf()) {
+				result.addAll(node.entries);
+			} else {
+				for (Node<T> child : node.children) {
+					collect(child, result);
+				}
+			}
+		}
+
+		@Override
+		public void insert(Entry<T> entry) {
+			double[] point = entry.point;
+
+			if (root == null) {
+				root = new Node<T>(null, point);
+			}
+
+			Node<T> node = root;
+
+			while (true) {
+				node.expand(point);
+
+				if (node.isLeaf()) {
+					break;
+				}
+
+				node = closest(node.children, point);
+			}
+
+			node.entries.add(entry);
+			entry.leaf = node;
+
+			if (node.entries.size() > MAX_LEAF_SIZE) {
+				split(node);
+			}
+		}
+
+		/**
+		 * Returns the node whose midpoint is closest to the given point.
+		 *
+		 * @param nodes the candidate nodes
+		 * @param point the point
+		 * @return the node whose midpoint is closest to the given point
+		 */
+		private Node<T> closest(List<Node<T>> nodes, double[] point) {
+			Node<T> closest = null;
+			double closestDistance = Double.POSITIVE_INFINITY;
+
+			for (Node<T> node : nodes) {
+				double distance = node.distance(point);
+
+				if ((closest == null) || (distance < closestDistance)) {
+					closest = node;
+					closestDistance = distance;
+				}
+			}
+
+			return closest;
+		}
+
+		/**
+		 * Splits a leaf node into several child leaves.  The seeds of the
+		 * children are chosen to be far apart, and the remaining entries are
+		 * assigned to the child with the closest midpoint.
+		 *
+		 * @param node the leaf node to split
+		 */
+		private void split(Node<T> node) {
+			List<Entry<T>> candidates = node.entries;
+			int size = candidates.size();
+			boolean[] assigned = new boolean[size];
+			double[] minDistances = new double[size];
+			List<Node<T>> children = new ArrayList<Node<T>>();
+
+			// the first seed has the largest total distance to the others
+			int seed = -1;
+			double seedDistance = Double.NEGATIVE_INFINITY;
+
+			for (int i = 0; i < size; i++) {
+				double distance = 0.0;
+
+				for (int j = 0; j < size; j++) {
+					distance += distance(candidates.get(i).point,
+							candidates.get(j).point);
+				}
+
+				if ((seed < 0) || (distance > seedDistance)) {
+					seed = i;
+					seedDistance = distance;
+				}
+			}
+
+			Arrays.fill(minDistances, Double.POSITIVE_INFINITY);
+
+			while (true) {
+				Entry<T> entry = candidates.get(seed);
+				Node<T> child = new Node<T>(node, entry.point);
+				child.entries.add(entry);
+				entry.leaf = child;
+				children.add(child);
+				assigned[seed] = true;
+
+				if ((children.size() >= numberOfChildren) ||
+						(children.size() >= size)) {
+					break;
+				}
+
+				// the next seed is the farthest from all existing seeds
+				int nextSeed = -1;
+				double nextDistance = Double.NEGATIVE_INFINITY;
+
+				for (int i = 0; i < size; i++) {
+					if (!assigned[i]) {
+						minDistances[i] = Math.min(minDistances[i], distance(
+								candidates.get(i).point, entry.point));
+
+						if ((nextSeed < 0) || (minDistances[i] > nextDistance)) {
+							nextSeed = i;
+							nextDistance = minDistances[i];
+						}
+					}
+				}
+
+				seed = nextSeed;
+			}
+
+			// assign the remaining entries to the closest child
+			for (int i = 0; i < size; i++) {
+				if (!assigned[i]) {
+					Entry<T> entry = candidates.get(i);
+					Node<T> child = closest(children, entry.point);
+
+					child.entries.add(entry);
+					child.expand(entry.point);
+					entry.leaf = child;
+				}
+			}
+
+			node.entries = null;
+			node.children = children;
+		}
+
+		@Override
+		public void remove(Entry<T> entry) {
+			Node<T> node = entry.leaf;
+			node.entries.remove(entry);
+			entry.leaf = null;
+
+			while (node.isEmpty()) {
+				if (node.parent == null) {
+					root = null;
+					break;
+				}
+
+				node.parent.children.remove(node);
+				node = node.parent;
+			}
+		}
+
+		@Override
+		public void clear() {
+			root = null;
+		}
+
+	}
+
+}
@@ -0,0 +1,327 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.Arrays;
+
+import org.moeaframework.core.comparator.DominanceComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
+
+/**
+ * Efficient non-dominated sorting (ENS) using binary search for dominance
+ * depth ranking.  Assigns the {@code rank} and {@code crowdingDistance}
+ * attributes to solutions, producing the same ranks and crowding distances as
+ * {@link NondominatedSorting}.
+ * <p>
+ * The objectives (and aggregate constraint violations) of the population
+ * are first copied into a matrix of sort keys and sorted
+ * lexicographically.
+ * Since no solution can be dominated by a solution appearing later in this
+ * order, solutions are assigned to fronts one at a time by binary searching
+ * for the first front containing no dominating solution.  This requires
+ * O(MN log N) operations in the best case and O(MN^2) in the worst case,
+ * but avoids comparing every pair of solutions as done by
+ * {@link FastNondominatedSorting}.  Each front is scanned from its most recently
+ * added member, which is the member most likely to dominate the solution
+ * being inserted; this keeps the number of comparisons low when there are
+ * many objectives and few fronts.
+ * <p>
+ * The presorting step is only valid for Pareto dominance.  When constructed
+ * with any comparator other than {@link ParetoDominanceComparator} or
+ * {@link ParetoObjectiveComparator}, this class falls back to the naive
+ * implementation provided by {@link NondominatedSorting}.
+ * <p>
+ * References:
+ * <ol>
+ * <li>Zhang, X., Tian, Y., Cheng, R., and Jin, Y. (2015).  "An Efficient
+ * Approach to Nondominated Sorting for Evolutionary Multiobjective
+ * Optimization."  IEEE Transactions on Evolutionary Computation,
+ * 19(2):201-213.
+ * </ol>
+ */
+public class EfficientNondominatedSorting extends NondominatedSorting {
+
+	/**
+	 * {@code true} if the aggregate constraint violation is compared prior to
+	 * the objectives; {@code false} if only the objectives are compared.
+	 */
+	private final boolean useConstraints;
+
+	/**
+	 * {@code true} if the dominance comparator is not supported by the
+	 * efficient implementation and the naive implementation should be used
+	 * instead.
+	 */
+	private final boolean useFallback;
+
+	/**
+	 * Constructs an efficient non-dominated sorting operator using Pareto
+	 * dominance.
+	 */
+	public EfficientNondominatedSorting() {
+		this(new ParetoDominanceComparator());
+	}
+
+	/**
+	 * Constructs an efficient non-dominated sorting operator using the
+	 * specified dominance comparator.  Only {@link ParetoDominanceComparator}
+	 * and {@link ParetoObjectiveComparator} are sorted efficiently; all other
+	 * comparators use the naive implementation.
+	 *
+	 * @param comparator the dominance comparator
+	 */
+	public EfficientNondominatedSorting(DominanceComparator comparator) {
+		super(comparator);
+
+		Class<?> type = comparator.getClass();
+
+		useConstraints = type.equals(ParetoDominanceComparator.class);
+		useFallback = !useConstraints &&
+				!type.equals(ParetoObjectiveComparator.class);
+	}
+
+	@Override
+	public void evaluate(Population population) {
+		if (useFallback) {
+			super.evaluate(population);
+			return;
+		}
+
+		int N = population.size();
+
+		if (N == 0) {
+			return;
+		}
+
+		// copy the sort keys into a flat matrix, where each row stores the
+		// aggregate constraint violation followed by the objectives
+		PackedSolutions packed = new PackedSolutions(population);
+		double[] values = packed.getValues();
+		int stride = packed.getStride();
+		int M = packed.getNumberOfObjectives();
+		int K = M + 1;
+		double[] keys = new double[N * K];
+
+		for (int i = 0; i < N; i++) {
+			int offset = i * K;
+
+			keys[offset] = useConstraints ? packed.getAggregateConstraint(i) :
+					0.0;
+			System.arraycopy(values, i * stride, keys, offset + 1, M);
+		}
+
+		int[] order = sort(keys, N, K);
+
+		// assign each solution, in lexicographic order, to the first front
+		// not containing a dominating solution
+		int[] ranks = new int[N];
+		int[][] fronts = new int[N][];
+		int[] frontSizes = new int[N];
+		int numberOfFronts = 0;
+
+		for (int i = 0; i < N; i++) {
+			int index = order[i];
+			int low = 0;
+			int high = numberOfFronts;
+
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+
+				if (isDominatedByFront(keys, K, index, fronts[middle],
+						frontSizes[middle])) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+
+			if (low == numberOfFronts) {
+				fronts[low] = new int[4];
+				numberOfFronts++;
+			} else if (frontSizes[low] == fronts[low].length) {
+				int[] expanded = new int[2 * fronts[low].length];
+				System.arraycopy(fronts[low], 0, expanded, 0, frontSizes[low]);
+				fronts[low] = expanded;
+			}
+
+			fronts[low][frontSizes[low]++] = index;
+			ranks[index] = low;
+		}
+
+		// assign the attributes, preserving the population order within each
+		// front so crowding distances match the naive implementation
+		int[] offsets = new int[numberOfFronts + 1];
+		int[] indices = new int[N];
+
+		for (int i = 0; i < numberOfFronts; i++) {
+			offsets[i + 1] = offsets[i] + frontSizes[i];
+		}
+
+		for (int i = 0; i < N; i++) {
+			packed.get(i).setIntAttribute(RANK_KEY, ranks[i]);
+			indices[offsets[ranks[i]]++] = i;
+		}
+
+		for (int i = 0; i < numberOfFronts; i++) {
+			int start = offsets[i] - frontSizes[i];
+
+			updateCrowdingDistance(packed,
+					Arrays.copyOfRange(indices, start, offsets[i]),
+					frontSizes[i]);
+		}
+	}
+
+	/**
+	 * Returns {@code true} if any member of the front dominates the specified
+	 * solution.  Members are checked starting with the most recently added.
+	 *
+	 * @param keys the flat matrix of sort keys
+	 * @param K the number of sort keys per solution
+	 * @param index the index of the solution being inserted
+	 * @param front the indices of the solutions in the front
+	 * @param size the number of solutions in the front
+	 * @return {@code true} if any member of the front dominates the specified
+	 *         solution; {@code false} otherwise
+	 */
+	private static boolean isDominatedByFront(double[] keys, int K, int index,
+			int[] front, int size) {
+		for (int i = size - 1; i >= 0; i--) {
+			if (dominates(keys, K, front[i], index)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns {@code true} if the first solution dominates the second
+	 * solution.  This assumes the first solution precedes the second in the
+	 * lexicographic order, and therefore can not be dominated by the second.
+	 *
+	 * @param keys the flat matrix of sort keys
+	 * @param K the number of sort keys per solution
+	 * @param index1 the index of the first solution
+	 * @param index2 the index of the second solution
+	 * @return {@code true} if the first solution dominates the second
+	 *         solution; {@code false} otherwise
+	 */
+	private static boolean dominates(double[] keys, int K, int index1,
+			int index2) {
+		int offset1 = index1 * K;
+		int offset2 = index2 * K;
+
+		int flag = Double.compare(keys[offset1], keys[offset2]);
+
+		if (flag != 0) {
+			return flag < 0;
+		}
+
+		boolean strict = false;
+
+		for (int j = 1; j < K; j++) {
+			flag = Double.compare(keys[offset1 + j], keys[offset2 + j]);
+
+			if (flag > 0) {
+				return false;
+			} else if (flag < 0) {
+				strict = true;
+			}
+		}
+
+		return strict;
+	}
+
+	/**
+	 * Compares two rows of the flat matrix lexicographically.
+	 *
+	 * @param keys the flat matrix of sort keys
+	 * @param K the number of sort keys per solution
+	 * @param index1 the index of the first row
+	 * @param index2 the index of the second row
+	 * @return a negative number, zero, or a positive number if the first row
+	 *         is less than, equal to, or greater than the second row
+	 */
+	private static int compare(double[] keys, int K, int index1, int index2) {
+		int offset1 = index1 * K;
+		int offset2 = index2 * K;
+
+		for (int j = 0; j < K; j++) {
+			int flag = Double.compare(keys[offset1 + j], keys[offset2 + j]);
+
+			if (flag != 0) {
+				return flag;
+			}
+		}
+
+		return index1 - index2;
+	}
+
+	/**
+	 * Returns the row indices sorted lexicographically by their rows in the
+	 * flat matrix using a bottom-up merge sort.  Ties are broken by index, so
+	 * the sort is stable.
+	 *
+	 * @param keys the flat matrix of sort keys
+	 * @param N the number of rows
+	 * @param K the number of sort keys per solution
+	 * @return the sorted row indices
+	 */
+	private static int[] sort(double[] keys, int N, int K) {
+		int[] order = new int[N];
+		int[] buffer = new int[N];
+
+		for (int i = 0; i < N; i++) {
+			order[i] = i;
+		}
+
+		for (int width = 1; width < N; width *= 2) {
+			for (int low = 0; low < N; low += 2 * width) {
+				int middle = Math.min(low + width, N);
+				int high = Math.min(low + 2 * width, N);
+				int i = low;
+				int j = middle;
+				int k = low;
+
+				while (i < middle && j < high) {
+					if (compare(keys, K, order[i], order[j]) <= 0) {
+						buffer[k++] = order[i++];
+					} else {
+						buffer[k++] = order[j++];
+					}
+				}
+
+				while (i < middle) {
+					buffer[k++] = order[i++];
+				}
+
+				while (j < high) {
+					buffer[k++] = order[j++];
+				}
+			}
+
+			int[] temp = order;
+			order = buffer;
+			buffer = temp;
+		}
+
+		return order;
+	}
+
+}
@@ -151,16 +151,29 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 		}
 
 		if (!same) {
-			numberOfImprovements++;
-
-			if (dominates) {
-				numberOfDominatingImprovements++;
-			}
+			recordImprovement(dominates);
 		}
 
 		return forceAddWithoutCheck(newSolution);
 	}
 
+	/**
+	 * Records an &epsilon;-box improvement, which occurs when a solution is
+	 * added to this archive that does not replace a solution in the same
+	 * &epsilon;-box.  Subclasses overriding {@link #add(Solution)} must call
+	 * this method to track &epsilon;-progress.
+	 * 
+	 * @param dominates {@code true} if the new solution dominates an existing
+	 *        solution; {@code false} otherwise
+	 */
+	protected void recordImprovement(boolean dominates) {
+		numberOfImprovements++;
+
+		if (dominates) {
+			numberOfDominatingImprovements++;
+		}
+	}
+
 	/**
 	 * Returns the &epsilon;-box dominance comparator used by this archive.
 	 * 
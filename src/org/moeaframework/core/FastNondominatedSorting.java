@@ -17,10 +17,11 @@
  */
 package org.moeaframework.core;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import org.moeaframework.core.comparator.DominanceComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
 
 /**
  * Fast non-dominated sorting algorithm for dominance depth ranking. Assigns the
@@ -36,6 +37,11 @@ import org.moeaframework.core.comparator.DominanceComparator;
  * distance (and hence are truncated/pruned from the population first).
  * Therefore, duplicate solutions are assigned a crowding distance of 0.
  * <p>
+ * The objectives and constraints are copied into a {@link PackedSolutions}
+ * snapshot, leaving the solutions themselves unchanged.  When using Pareto
+ * dominance, the dominance relations are computed directly from the packed
+ * objectives and constraints rather than through the comparator.
+ * <p>
  * References:
  * <ol>
  * <li>Deb et al (2002). "A Fast and Elitist Multiobjective Genetic Algorithm:
@@ -63,80 +69,176 @@ public class FastNondominatedSorting extends NondominatedSorting {
 
 	@Override
 	public void evaluate(Population population) {
-		int N = population.size();
+		PackedSolutions packed = new PackedSolutions(population);
+		int N = packed.size();
 		
-		// precompute the dominance relations
-		int[][] dominanceChecks = new int[N][N];
+		// compute for each solution s_i the solutions s_j that it dominates
+		// and the number of times it is dominated, where the dominated
+		// solutions are stored in increasing order of their index
+		int[] dominatedCounts = new int[N];
+		int[][] dominatesList = new int[N][];
+		int[] dominatesSizes = new int[N];
+		boolean isPareto = isPareto();
+		double[] constraints = new double[N];
+		
+		if (isPareto && comparator.getClass().equals(
+				ParetoDominanceComparator.class)) {
+			for (int i = 0; i < N; i++) {
+				constraints[i] = packed.getAggregateConstraint(i);
+			}
+		}
 		
 		for (int i = 0; i < N; i++) {
-			Solution si = population.get(i);
+			dominatesList[i] = new int[4];
+		}
+		
+		for (int i = 0; i < N; i++) {
+			Solution si = packed.get(i);
 			
 			for (int j = i+1; j < N; j++) {
-				if (i != j) {
-					Solution sj = population.get(j);
+				int flag;
+				
+				if (isPareto) {
+					flag = Double.compare(constraints[i], constraints[j]);
 					
-					dominanceChecks[i][j] = comparator.compare(si, sj);
-					dominanceChecks[j][i] = -dominanceChecks[i][j];
+					if (flag == 0) {
+						flag = compareObjectives(packed, i, j);
+					}
+				} else {
+					flag = comparator.compare(si, packed.get(j));
+				}
+				
+				if (flag < 0) {
+					addDominated(dominatesList, dominatesSizes, i, j);
+					dominatedCounts[j] += 1;
+				} else if (flag > 0) {
+					addDominated(dominatesList, dominatesSizes, j, i);
+					dominatedCounts[i] += 1;
 				}
 			}
 		}
 		
-		// compute for each solution s_i the solutions s_j that it dominates
-		// and the number of times it is dominated
-		int[] dominatedCounts = new int[N];
-		List<List<Integer>> dominatesList = new ArrayList<List<Integer>>();
-		List<Integer> currentFront = new ArrayList<Integer>();
-		
+		int[] currentFront = new int[N];
+		int currentSize = 0;
 		
 		for (int i = 0; i < N; i++) {
-			List<Integer> dominates = new ArrayList<Integer>();
-			int dominatedCount = 0;
-			
-			for (int j = 0; j < N; j++) {
-				if (i != j) {
-					if (dominanceChecks[i][j] < 0) {
-						dominates.add(j);
-					} else if (dominanceChecks[j][i] < 0) {
-						dominatedCount += 1;
-					}
-				}
+			if (dominatedCounts[i] == 0) {
+				currentFront[currentSize++] = i;
 			}
-			
-			if (dominatedCount == 0) {
-				currentFront.add(i);
-			}
-			
-			dominatesList.add(dominates);
-			dominatedCounts[i] = dominatedCount;
 		}
 		
 		// assign ranks
 		int rank = 0;
+		int[] nextFront = new int[N];
 		
-		while (!currentFront.isEmpty()) {
-			List<Integer> nextFront = new ArrayList<Integer>();
-			Population solutionsInFront = new Population();
+		while (currentSize > 0) {
+			int nextSize = 0;
 			
-			for (int i = 0; i < currentFront.size(); i++) {
-				Solution solution = population.get(currentFront.get(i));
-				solution.setAttribute(RANK_ATTRIBUTE, rank);
+			for (int i = 0; i < currentSize; i++) {
+				Solution solution = packed.get(currentFront[i]);
+				solution.setIntAttribute(RANK_KEY, rank);
 				
 				// update the dominated counts as compute next front
-				for (Integer j : dominatesList.get(currentFront.get(i))) {
+				int[] dominates = dominatesList[currentFront[i]];
+				
+				for (int k = 0; k < dominatesSizes[currentFront[i]]; k++) {
+					int j = dominates[k];
 					dominatedCounts[j] -= 1;
 					
 					if (dominatedCounts[j] == 0) {
-						nextFront.add(j);
+						nextFront[nextSize++] = j;
 					}
 				}
-				
-				solutionsInFront.add(solution);
 			}
 			
-			updateCrowdingDistance(solutionsInFront);
+			updateCrowdingDistance(packed, currentFront, currentSize);
 			
-			rank += 1;
+			int[] temp = currentFront;
 			currentFront = nextFront;
+			nextFront = temp;
+			currentSize = nextSize;
+			rank += 1;
+		}
+	}
+	
+	/**
+	 * Appends a solution to the list of solutions dominated by another,
+	 * expanding the list if necessary.
+	 * 
+	 * @param dominatesList the lists of dominated solutions
+	 * @param dominatesSizes the sizes of the lists of dominated solutions
+	 * @param i the index of the dominating solution
+	 * @param j the index of the dominated solution
+	 */
+	private static void addDominated(int[][] dominatesList,
+			int[] dominatesSizes, int i, int j) {
+		if (dominatesSizes[i] == dominatesList[i].length) {
+			dominatesList[i] = Arrays.copyOf(dominatesList[i],
+					2 * dominatesList[i].length);
+		}
+		
+		dominatesList[i][dominatesSizes[i]++] = j;
+	}
+	
+	/**
+	 * Returns {@code true} if the dominance comparator is
+	 * {@link ParetoDominanceComparator} or {@link ParetoObjectiveComparator},
+	 * in which case dominance is determined directly from the packed
+	 * objectives and constraints.
+	 * 
+	 * @return {@code true} if the dominance comparator is Pareto dominance;
+	 *         {@code false} otherwise
+	 */
+	private boolean isPareto() {
+		Class<?> type = comparator.getClass();
+		
+		return type.equals(ParetoDominanceComparator.class) ||
+				type.equals(ParetoObjectiveComparator.class);
+	}
+	
+	/**
+	 * Compares the objectives of two packed solutions using Pareto dominance,
+	 * matching {@link ParetoObjectiveComparator}.
+	 * 
+	 * @param packed the packed solutions
+	 * @param index1 the index of the first solution
+	 * @param index2 the index of the second solution
+	 * @return {@code -1} if the first solution dominates the second,
+	 *         {@code 1} if the second solution dominates the first, or
+	 *         {@code 0} if the solutions are non-dominated
+	 */
+	private static int compareObjectives(PackedSolutions packed, int index1,
+			int index2) {
+		double[] values = packed.getValues();
+		int offset1 = index1 * packed.getStride();
+		int offset2 = index2 * packed.getStride();
+		boolean dominate1 = false;
+		boolean dominate2 = false;
+		
+		for (int k = 0; k < packed.getNumberOfObjectives(); k++) {
+			int flag = Double.compare(values[offset1 + k], values[offset2 + k]);
+			
+			if (flag < 0) {
+				dominate1 = true;
+				
+				if (dominate2) {
+					return 0;
+				}
+			} else if (flag > 0) {
+				dominate2 = true;
+				
+				if (dominate1) {
+					return 0;
+				}
+			}
+		}
+		
+		if (dominate1 == dominate2) {
+			return 0;
+		} else if (dominate1) {
+			return -1;
+		} else {
+			return 1;
 		}
 	}
 
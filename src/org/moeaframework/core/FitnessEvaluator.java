@@ -27,6 +27,12 @@ public interface FitnessEvaluator {
 	 * Attribute key for the fitness of a solution.
 	 */
 	public static final String FITNESS_ATTRIBUTE = "fitness";
+	
+	/**
+	 * Typed attribute for the fitness of a solution.
+	 */
+	public static final AttributeKey FITNESS_KEY = AttributeKey.register(
+			FITNESS_ATTRIBUTE, AttributeKey.Type.DOUBLE);
 
 	/**
 	 * Evaluates the solutions in the specified population assigning the
@@ -0,0 +1,499 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.moeaframework.core.DominanceIndex.Entry;
+import org.moeaframework.core.comparator.AggregateConstraintComparator;
+import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
+
+/**
+ * An &epsilon;-box dominance archive that keys its solutions by their
+ * &epsilon;-box coordinates.  Since the &epsilon;-box of a solution depends
+ * only on its objectives, the solution occupying the same box as a new
+ * solution is found with a single hash lookup, and the dominance checks are
+ * performed by a dominance-aware index over the occupied boxes rather than
+ * comparing against every solution in the archive.  The contents of this
+ * archive and the number of &epsilon;-box improvements are identical to
+ * {@link EpsilonBoxDominanceArchive}, except that removing a solution moves
+ * the last solution into its place, so the order of solutions is not
+ * preserved.
+ * <p>
+ * The index is only valid for the {@link EpsilonBoxDominanceComparator}.  When
+ * constructed with a subclass of this comparator, this archive falls back to
+ * the linear scan performed by {@link EpsilonBoxDominanceArchive}.
+ * <p>
+ * As with any population, only changes made through this archive are
+ * tracked.  Modifying the objectives of a solution after it is added will
+ * corrupt the index.
+ */
+public class HashedEpsilonBoxDominanceArchive extends
+EpsilonBoxDominanceArchive {
+
+	/**
+	 * {@code true} if the dominance comparator is supported by the index;
+	 * {@code false} if the linear scan is used instead.
+	 */
+	private final boolean useIndex;
+
+	/**
+	 * The index entries, stored in the same order as the solutions in this
+	 * archive.  The point of each entry is its &epsilon;-box coordinates.
+	 */
+	private final List<Entry<Solution>> entries;
+
+	/**
+	 * The index entries keyed by their &epsilon;-box coordinates.
+	 */
+	private final Map<Box, Entry<Solution>> boxes;
+
+	/**
+	 * The index over the occupied &epsilon;-boxes; created when the first
+	 * solution is added.
+	 */
+	private DominanceIndex<Solution> index;
+
+	/**
+	 * The aggregate constraint violation shared by all solutions in this
+	 * archive.
+	 */
+	private double violation;
+
+	/**
+	 * Constructs an empty &epsilon;-box dominance archive using an additive
+	 * &epsilon;-box dominance comparator with the specified &epsilon;.
+	 *
+	 * @param epsilon the &epsilon; value used by the additive &epsilon;-box
+	 *        dominance comparator
+	 */
+	public HashedEpsilonBoxDominanceArchive(double epsilon) {
+		this(new EpsilonBoxDominanceComparator(epsilon));
+	}
+
+	/**
+	 * Constructs an &epsilon;-box dominance archive using an additive
+	 * &epsilon;-box dominance comparator with the specified &epsilon; and
+	 * initialized with the specified solutions.
+	 *
+	 * @param epsilon the &epsilon; value used by the additive &epsilon;-box
+	 *        dominance comparator
+	 * @param iterable the solutions used to initialize this archive
+	 */
+	public HashedEpsilonBoxDominanceArchive(double epsilon,
+			Iterable<? extends Solution> iterable) {
+		this(new EpsilonBoxDominanceComparator(epsilon), iterable);
+	}
+
+	/**
+	 * Constructs an empty &epsilon;-box dominance archive using an additive
+	 * &epsilon;-box dominance comparator with the specified &epsilon; values.
+	 *
+	 * @param epsilon the &epsilon; values used by the additive &epsilon;-box
+	 *        dominance comparator
+	 */
+	public HashedEpsilonBoxDominanceArchive(double[] epsilon) {
+		this(new EpsilonBoxDominanceComparator(epsilon));
+	}
+
+	/**
+	 * Constructs an &epsilon;-box dominance archive using an additive
+	 * &epsilon;-box dominance comparator with the specified &epsilon; values
+	 * and initialized with the specified solutions.
+	 *
+	 * @param epsilon the &epsilon; values used by the additive &epsilon;-box
+	 *        dominance comparator
+	 * @param iterable the solutions used to initialize this archive
+	 */
+	public HashedEpsilonBoxDominanceArchive(double[] epsilon,
+			Iterable<? extends Solution> iterable) {
+		this(new EpsilonBoxDominanceComparator(epsilon), iterable);
+	}
+
+	/**
+	 * Constructs an empty &epsilon;-box dominance archive using the specified
+	 * &epsilon;-box dominance comparator.
+	 *
+	 * @param comparator the &epsilon;-box dominance comparator used by this
+	 *        archive
+	 */
+	public HashedEpsilonBoxDominanceArchive(
+			EpsilonBoxDominanceComparator comparator) {
+		super(comparator);
+
+		useIndex = comparator.getClass().equals(
+				EpsilonBoxDominanceComparator.class);
+		entries = new ArrayList<Entry<Solution>>();
+		boxes = new HashMap<Box, Entry<Solution>>();
+	}
+
+	/**
+	 * Constructs an &epsilon;-box dominance archive using the specified
+	 * &epsilon;-box dominance comparator and initialized with the specified
+	 * solutions.
+	 *
+	 * @param comparator the &epsilon;-box dominance comparator used by this
+	 *        archive
+	 * @param iterable the solutions used to initialize this archive
+	 */
+	public HashedEpsilonBoxDominanceArchive(
+			EpsilonBoxDominanceComparator comparator,
+			Iterable<? extends Solution> iterable) {
+		this(comparator);
+		addAll(iterable);
+	}
+
+	@Override
+	public boolean add(Solution newSolution) {
+		if (!useIndex) {
+			return super.add(newSolution);
+		}
+
+		return update(newSolution, -1, true);
+	}
+
+	@Override
+	public void replace(int index, Solution newSolution) {
+		if (!useIndex) {
+			super.replace(index, newSolution);
+			return;
+		}
+
+		update(newSolution, index, false);
+	}
+
+	@Override
+	protected boolean forceAddWithoutCheck(Solution newSolution) {
+		if (!useIndex) {
+			return super.forceAddWithoutCheck(newSolution);
+		}
+
+		if (isEmpty()) {
+			violation = AggregateConstraintComparator.getConstraints(
+					newSolution);
+		}
+
+		insertEntry(newSolution, getBox(newSolution));
+		return true;
+	}
+
+	@Override
+	public void remove(int index) {
+		if (!useIndex) {
+			super.remove(index);
+			return;
+		}
+
+		removeEntry(entries.get(index));
+	}
+
+	@Override
+	public boolean remove(Solution solution) {
+		if (!useIndex) {
+			return super.remove(solution);
+		}
+
+		int index = indexOf(solution);
+
+		if (index < 0) {
+			return false;
+		}
+
+		remove(index);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		entries.clear();
+		boxes.clear();
+
+		if (index != null) {
+			index.clear();
+		}
+	}
+
+	@Override
+	public void sort(final Comparator<? super Solution> comparator) {
+		if (!useIndex) {
+			super.sort(comparator);
+			return;
+		}
+
+		// sort the entries and rebuild the solution list in the same order
+		Collections.sort(entries, new Comparator<Entry<Solution>>() {
+
+			@Override
+			public int compare(Entry<Solution> entry1, Entry<Solution> entry2) {
+				return comparator.compare(entry1.value, entry2.value);
+			}
+
+		});
+
+		super.clear();
+
+		for (int i = 0; i < entries.size(); i++) {
+			Entry<Solution> entry = entries.get(i);
+			entry.position = i;
+			super.forceAddWithoutCheck(entry.value);
+		}
+	}
+
+	@Override
+	public void truncate(int size, Comparator<? super Solution> comparator) {
+		if (!useIndex) {
+			super.truncate(size, comparator);
+			return;
+		}
+
+		sort(comparator);
+
+		while (size() > size) {
+			remove(size() - 1);
+		}
+	}
+
+	/**
+	 * Adds the new solution to this archive if it is not &epsilon;-box
+	 * dominated by an existing solution, removing any solutions it dominates.
+	 * If the new solution occupies the same &epsilon;-box as an existing
+	 * solution, the solution nearest the corner of the box is retained.
+	 *
+	 * @param newSolution the new solution
+	 * @param replacedIndex the index of the solution being replaced by the new
+	 *        solution, or {@code -1} if no solution is being replaced
+	 * @param isTracked {@code true} if &epsilon;-box improvements are
+	 *        recorded; {@code false} otherwise
+	 * @return {@code true} if the new solution was added; {@code false}
+	 *         otherwise
+	 */
+	private boolean update(Solution newSolution, int replacedIndex,
+			boolean isTracked) {
+		Entry<Solution> replaced = replacedIndex < 0 ? null :
+			entries.get(replacedIndex);
+		boolean dominates = false;
+
+		if (!isEmpty()) {
+			int flag = Double.compare(
+					AggregateConstraintComparator.getConstraints(newSolution),
+					violation);
+
+			if (flag > 0) {
+				return false;
+			} else if (flag < 0) {
+				clear();
+				replaced = null;
+				dominates = true;
+			}
+		}
+
+		if (isEmpty()) {
+			if (isTracked) {
+				recordImprovement(dominates);
+			}
+
+			return forceAddWithoutCheck(newSolution);
+		}
+
+		double[] box = getBox(newSolution);
+		Entry<Solution> occupant = boxes.get(new Box(box));
+
+		if (occupant != null) {
+			// the same box is occupied, keep the solution nearest the corner
+			if (Double.compare(getDistance(newSolution, box),
+					getDistance(occupant.value, box)) >= 0) {
+				return false;
+			}
+
+			occupant.value = newSolution;
+			forceReplaceWithoutCheck(occupant.position, newSolution);
+
+			if ((replaced != null) && (replaced != occupant)) {
+				removeEntry(replaced);
+			}
+
+			return true;
+		}
+
+		List<Entry<Solution>> dominated = new ArrayList<Entry<Solution>>();
+		List<Entry<Solution>> nearby = new ArrayList<Entry<Solution>>();
+
+		if (!index.update(box, dominated, nearby)) {
+			return false;
+		}
+
+		for (Entry<Solution> oldEntry : dominated) {
+			if (oldEntry == replaced) {
+				replaced = null;
+			}
+
+			removeEntry(oldEntry);
+			dominates = true;
+		}
+
+		if (replaced != null) {
+			removeEntry(replaced);
+		}
+
+		if (isTracked) {
+			recordImprovement(dominates);
+		}
+
+		insertEntry(newSolution, box);
+		return true;
+	}
+
+	/**
+	 * Returns the &epsilon;-box coordinates of the solution.
+	 *
+	 * @param solution the solution
+	 * @return the &epsilon;-box coordinates of the solution
+	 */
+	private double[] getBox(Solution solution) {
+		EpsilonBoxDominanceComparator comparator = getComparator();
+		double[] box = new double[solution.getNumberOfObjectives()];
+
+		for (int i = 0; i < box.length; i++) {
+			box[i] = Math.floor(solution.getObjective(i) /
+					comparator.getEpsilon(i));
+		}
+
+		return box;
+	}
+
+	/**
+	 * Returns the squared distance between the solution and the corner of its
+	 * &epsilon;-box, computed identically to the
+	 * {@link EpsilonBoxDominanceComparator}.
+	 *
+	 * @param solution the solution
+	 * @param box the &epsilon;-box coordinates of the solution
+	 * @return the squared distance between the solution and the corner of its
+	 *         &epsilon;-box
+	 */
+	private double getDistance(Solution solution, double[] box) {
+		EpsilonBoxDominanceComparator comparator = getComparator();
+		double distance = 0.0;
+
+		for (int i = 0; i < box.length; i++) {
+			distance += Math.pow(solution.getObjective(i) -
+					box[i] * comparator.getEpsilon(i), 2.0);
+		}
+
+		return distance;
+	}
+
+	/**
+	 * Appends the solution to this archive and inserts it into the index.
+	 *
+	 * @param solution the solution
+	 * @param box the &epsilon;-box coordinates of the solution
+	 */
+	private void insertEntry(Solution solution, double[] box) {
+		if (index == null) {
+			index = DominanceIndex.create(box.length, 0.0);
+		}
+
+		Entry<Solution> entry = index.newEntry(solution, box);
+		entry.position = size();
+		super.forceAddWithoutCheck(solution);
+		entries.add(entry);
+		boxes.put(new Box(box), entry);
+		index.insert(entry);
+	}
+
+	/**
+	 * Removes the entry from the index and the solution list, moving the last
+	 * solution into the vacated position.
+	 *
+	 * @param entry the entry
+	 */
+	private void removeEntry(Entry<Solution> entry) {
+		int last = size() - 1;
+
+		if (entry.position != last) {
+			Entry<Solution> moved = entries.get(last);
+			moved.position = entry.position;
+			entries.set(entry.position, moved);
+			forceReplaceWithoutCheck(entry.position, moved.value);
+		}
+
+		Box box = new Box(entry.point);
+
+		if (boxes.get(box) == entry) {
+			boxes.remove(box);
+		}
+
+		entries.remove(last);
+		super.remove(last);
+		index.remove(entry);
+	}
+
+	/**
+	 * The &epsilon;-box coordinates used as the key in the hash map.
+	 */
+	private static class Box {
+
+		/**
+		 * The &epsilon;-box coordinates.
+		 */
+		private final double[] coordinates;
+
+		/**
+		 * The cached hash code.
+		 */
+		private final int hashCode;
+
+		/**
+		 * Constructs a new key for the given &epsilon;-box coordinates.
+		 *
+		 * @param coordinates the &epsilon;-box coordinates
+		 */
+		public Box(double[] coordinates) {
+			super();
+			this.coordinates = coordinates;
+
+			hashCode = Arrays.hashCode(coordinates);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			} else if ((obj == null) || (obj.getClass() != getClass())) {
+				return false;
+			} else {
+				return Arrays.equals(coordinates, ((Box)obj).coordinates);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,296 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.moeaframework.core.comparator.DominanceComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+
+/**
+ * Non-dominated sorting that maintains the fronts of a population as
+ * solutions are added and removed, intended for steady-state algorithms where
+ * the population changes by one solution at a time.  After the population is
+ * sorted with {@link #evaluate(Population)}, {@link #add(Solution)} and
+ * {@link #remove(Solution)} update the {@code rank} and
+ * {@code crowdingDistance} attributes without sorting the entire population.
+ * <p>
+ * Adding a solution inserts it into the first front containing no solution
+ * that dominates it; the solutions it dominates in that front move down one
+ * front, in turn moving the solutions they dominate in the next front, and so
+ * on.  Removing a solution moves up the solutions in the next front that are
+ * no longer dominated by any solution in its front, and so on.  Each update
+ * performs {@code O(MN)} comparisons in typical cases, compared to
+ * {@code O(MN^2)} when sorting the population, and only the crowding
+ * distances of the fronts that changed are recomputed.
+ * <p>
+ * The caller is responsible for keeping the population and this sorting
+ * consistent, calling {@code add} and {@code remove} for each solution added
+ * to or removed from the population.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Li, K., K. Deb, Q. Zhang, and S. Kwong (2015).  Efficient
+ *       Non-domination Level Update Approach for Steady-State Evolutionary
+ *       Multiobjective Optimization.  COIN Report 2014014, Michigan State
+ *       University.
+ * </ol>
+ */
+public class IncrementalNondominatedSorting extends NondominatedSorting {
+
+	/**
+	 * The solutions in each front, indexed by rank.
+	 */
+	private final List<List<Solution>> fronts;
+
+	/**
+	 * Constructs an incremental non-dominated sorting operator using Pareto
+	 * dominance.
+	 */
+	public IncrementalNondominatedSorting() {
+		this(new ParetoDominanceComparator());
+	}
+
+	/**
+	 * Constructs an incremental non-dominated sorting operator using the
+	 * specified dominance comparator.
+	 *
+	 * @param comparator the dominance comparator
+	 */
+	public IncrementalNondominatedSorting(DominanceComparator comparator) {
+		super(comparator);
+		fronts = new ArrayList<List<Solution>>();
+	}
+
+	/**
+	 * Performs non-dominated sorting on the specified population, assigning
+	 * the {@code rank} and {@code crowdingDistance} attributes to solutions,
+	 * and records the fronts so that subsequent changes to the population can
+	 * be applied incrementally.
+	 *
+	 * @param population the population whose solutions are to be evaluated
+	 */
+	@Override
+	public void evaluate(Population population) {
+		new FastNondominatedSorting(comparator).evaluate(population);
+		fronts.clear();
+
+		for (Solution solution : population) {
+			int rank = solution.getIntAttribute(RANK_KEY);
+
+			while (fronts.size() <= rank) {
+				fronts.add(new ArrayList<Solution>());
+			}
+
+			fronts.get(rank).add(solution);
+		}
+	}
+
+	/**
+	 * Adds a solution, updating the {@code rank} and {@code crowdingDistance}
+	 * attributes of all affected solutions.
+	 *
+	 * @param solution the solution being added
+	 */
+	public void add(Solution solution) {
+		int rank = 0;
+
+		while ((rank < fronts.size()) &&
+				isDominated(solution, fronts.get(rank))) {
+			rank++;
+		}
+
+		int firstRank = rank;
+		List<Solution> moving = new ArrayList<Solution>();
+		moving.add(solution);
+
+		// the moving solutions dominate some solutions in the front, which
+		// then move down one front
+		while (!moving.isEmpty()) {
+			if (rank == fronts.size()) {
+				fronts.add(new ArrayList<Solution>());
+			}
+
+			List<Solution> front = fronts.get(rank);
+			List<Solution> dominated = new ArrayList<Solution>();
+			int size = 0;
+
+			for (Solution member : front) {
+				if (isDominated(member, moving)) {
+					dominated.add(member);
+				} else {
+					front.set(size++, member);
+				}
+			}
+
+			truncate(front, size);
+
+			for (Solution member : moving) {
+				member.setIntAttribute(RANK_KEY, rank);
+				front.add(member);
+			}
+
+			moving = dominated;
+			rank++;
+		}
+
+		updateCrowdingDistance(firstRank, rank);
+	}
+
+	/**
+	 * Removes a solution, updating the {@code rank} and
+	 * {@code crowdingDistance} attributes of all affected solutions.
+	 *
+	 * @param solution the solution being removed
+	 * @return {@code true} if the solution was removed; {@code false} if the
+	 *         solution was not found
+	 */
+	public boolean remove(Solution solution) {
+		int firstRank = solution.hasAttribute(RANK_KEY) ?
+				solution.getIntAttribute(RANK_KEY) : -1;
+
+		if ((firstRank < 0) || (firstRank >= fronts.size()) ||
+				!removeIdentical(fronts.get(firstRank), solution)) {
+			return false;
+		}
+
+		int rank = firstRank;
+		List<Solution> removed = new ArrayList<Solution>();
+		removed.add(solution);
+
+		// solutions in the next front dominated only by the removed solutions
+		// move up to this front, leaving the next front in turn
+		while (!removed.isEmpty() && (rank + 1 < fronts.size())) {
+			List<Solution> front = fronts.get(rank);
+			List<Solution> next = fronts.get(rank + 1);
+			List<Solution> promoted = new ArrayList<Solution>();
+			int size = 0;
+
+			for (Solution member : next) {
+				if (isDominated(member, removed) &&
+						!isDominated(member, front)) {
+					promoted.add(member);
+				} else {
+					next.set(size++, member);
+				}
+			}
+
+			truncate(next, size);
+
+			for (Solution member : promoted) {
+				member.setIntAttribute(RANK_KEY, rank);
+				front.add(member);
+			}
+
+			removed = promoted;
+			rank++;
+		}
+
+		while (!fronts.isEmpty() && fronts.get(fronts.size() - 1).isEmpty()) {
+			fronts.remove(fronts.size() - 1);
+		}
+
+		updateCrowdingDistance(firstRank, Math.min(rank + 1, fronts.size()));
+		return true;
+	}
+
+	/**
+	 * Returns the number of fronts.
+	 *
+	 * @return the number of fronts
+	 */
+	public int getNumberOfFronts() {
+		return fronts.size();
+	}
+
+	/**
+	 * Returns an unmodifiable view of the solutions with the specified rank.
+	 *
+	 * @param rank the rank
+	 * @return an unmodifiable view of the solutions with the specified rank
+	 */
+	public List<Solution> getFront(int rank) {
+		return Collections.unmodifiableList(fronts.get(rank));
+	}
+
+	/**
+	 * Returns {@code true} if any of the given solutions dominates the
+	 * specified solution; {@code false} otherwise.
+	 *
+	 * @param solution the solution
+	 * @param solutions the solutions that may dominate the solution
+	 * @return {@code true} if any of the given solutions dominates the
+	 *         specified solution; {@code false} otherwise
+	 */
+	private boolean isDominated(Solution solution, List<Solution> solutions) {
+		for (Solution member : solutions) {
+			if (comparator.compare(member, solution) < 0) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Recomputes the crowding distances of the fronts with ranks in the
+	 * specified range.
+	 *
+	 * @param fromRank the first rank, inclusive
+	 * @param toRank the last rank, exclusive
+	 */
+	private void updateCrowdingDistance(int fromRank, int toRank) {
+		for (int rank = fromRank; rank < toRank; rank++) {
+			updateCrowdingDistance(new Population(fronts.get(rank)));
+		}
+	}
+
+	/**
+	 * Removes the specified solution from the list, comparing solutions by
+	 * identity.
+	 *
+	 * @param list the list
+	 * @param solution the solution to remove
+	 * @return {@code true} if the solution was removed; {@code false}
+	 *         otherwise
+	 */
+	private static boolean removeIdentical(List<Solution> list,
+			Solution solution) {
+		for (int i = 0; i < list.size(); i++) {
+			if (list.get(i) == solution) {
+				list.remove(i);
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Removes all elements of the list after the specified size.
+	 *
+	 * @param list the list
+	 * @param size the new size of the list
+	 */
+	private static void truncate(List<Solution> list, int size) {
+		list.subList(size, list.size()).clear();
+	}
+
+}
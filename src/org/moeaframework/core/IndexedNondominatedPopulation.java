@@ -0,0 +1,381 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.moeaframework.core.DominanceIndex.Entry;
+import org.moeaframework.core.comparator.AggregateConstraintComparator;
+import org.moeaframework.core.comparator.DominanceComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
+
+/**
+ * A non-dominated population backed by a dominance-aware index, providing
+ * sub-linear expected insertion cost for large archives.  With two
+ * objectives, the solutions are kept in a balanced tree sorted by the first
+ * objective, so only the neighbors of a new solution need to be compared.
+ * With three or more objectives, the solutions are stored in an ND-Tree,
+ * where each node tracks the ideal and nadir points of its subtree so
+ * entire subtrees can be accepted, rejected or skipped without comparing the
+ * individual solutions.  This population is a drop-in replacement for
+ * {@link NondominatedPopulation}, with the following differences:
+ * <ol>
+ *   <li>Removing a solution moves the last solution into its place, so the
+ *       order of solutions is not preserved.  Removal is therefore O(1)
+ *       rather than O(N).
+ *   <li>A solution rejected as a duplicate does not remove any solutions it
+ *       dominates.
+ *   <li>When using {@link DuplicateMode#ALLOW_DUPLICATE_OBJECTIVES}, the
+ *       decision variables are only compared against solutions whose
+ *       objectives are within {@value Settings#EPS} of the new solution.
+ * </ol>
+ * The index is only valid for Pareto dominance.  When constructed with any
+ * comparator other than {@link ParetoDominanceComparator} or
+ * {@link ParetoObjectiveComparator}, this population falls back to the
+ * linear scan performed by {@link NondominatedPopulation}.
+ * <p>
+ * As with any population, only changes made through this population are
+ * tracked.  Modifying the objectives of a solution after it is added will
+ * corrupt the index.
+ */
+public class IndexedNondominatedPopulation extends NondominatedPopulation {
+
+	/**
+	 * {@code true} if the dominance comparator is supported by the index;
+	 * {@code false} if the linear scan is used instead.
+	 */
+	private final boolean useIndex;
+
+	/**
+	 * {@code true} if the aggregate constraint violation is compared prior to
+	 * the objectives; {@code false} if only the objectives are compared.
+	 */
+	private final boolean useConstraints;
+
+	/**
+	 * The index entries, stored in the same order as the solutions in this
+	 * population.
+	 */
+	private final List<Entry<Solution>> entries;
+
+	/**
+	 * The index over the objectives of the solutions in this population;
+	 * created when the first solution is added.
+	 */
+	private DominanceIndex<Solution> index;
+
+	/**
+	 * The aggregate constraint violation shared by all solutions in this
+	 * population.  Since a solution with a smaller constraint violation
+	 * dominates one with a larger violation, all non-dominated solutions have
+	 * the same violation.
+	 */
+	private double violation;
+
+	/**
+	 * Constructs an empty indexed non-dominated population using the Pareto
+	 * dominance relation.
+	 */
+	public IndexedNondominatedPopulation() {
+		this(new ParetoDominanceComparator());
+	}
+
+	/**
+	 * Constructs an empty indexed non-dominated population using the Pareto
+	 * dominance relation.
+	 *
+	 * @param duplicateMode specifies how duplicate solutions are handled
+	 */
+	public IndexedNondominatedPopulation(DuplicateMode duplicateMode) {
+		this(new ParetoDominanceComparator(), duplicateMode);
+	}
+
+	/**
+	 * Constructs an empty indexed non-dominated population using the
+	 * specified dominance relation.
+	 *
+	 * @param comparator the dominance relation used by this non-dominated
+	 *        population
+	 */
+	public IndexedNondominatedPopulation(DominanceComparator comparator) {
+		this(comparator, Settings.getDuplicateMode());
+	}
+
+	/**
+	 * Constructs an empty indexed non-dominated population using the
+	 * specified dominance relation.
+	 *
+	 * @param comparator the dominance relation used by this non-dominated
+	 *        population
+	 * @param duplicateMode specifies how duplicate solutions are handled
+	 */
+	public IndexedNondominatedPopulation(DominanceComparator comparator,
+			DuplicateMode duplicateMode) {
+		super(comparator, duplicateMode);
+
+		Class<?> type = comparator.getClass();
+
+		useConstraints = type.equals(ParetoDominanceComparator.class);
+		useIndex = useConstraints ||
+				type.equals(ParetoObjectiveComparator.class);
+		entries = new ArrayList<Entry<Solution>>();
+	}
+
+	/**
+	 * Constructs an indexed non-dominated population using the Pareto
+	 * dominance relation and initialized with the specified solutions.
+	 *
+	 * @param iterable the solutions used to initialize this non-dominated
+	 *        population
+	 */
+	public IndexedNondominatedPopulation(
+			Iterable<? extends Solution> iterable) {
+		this();
+		addAll(iterable);
+	}
+
+	/**
+	 * Constructs an indexed non-dominated population using the specified
+	 * dominance comparator and initialized with the specified solutions.
+	 *
+	 * @param comparator the dominance relation used by this non-dominated
+	 *        population
+	 * @param iterable the solutions used to initialize this non-dominated
+	 *        population
+	 */
+	public IndexedNondominatedPopulation(DominanceComparator comparator,
+			Iterable<? extends Solution> iterable) {
+		this(comparator);
+		addAll(iterable);
+	}
+
+	@Override
+	public boolean add(Solution newSolution) {
+		if (!useIndex) {
+			return super.add(newSolution);
+		}
+
+		return update(newSolution, -1);
+	}
+
+	@Override
+	public void replace(int index, Solution newSolution) {
+		if (!useIndex) {
+			super.replace(index, newSolution);
+			return;
+		}
+
+		update(newSolution, index);
+	}
+
+	@Override
+	protected boolean forceAddWithoutCheck(Solution newSolution) {
+		if (!useIndex) {
+			return super.forceAddWithoutCheck(newSolution);
+		}
+
+		if (isEmpty() && useConstraints) {
+			violation = AggregateConstraintComparator.getConstraints(
+					newSolution);
+		}
+
+		insertEntry(newSolution);
+		return true;
+	}
+
+	@Override
+	public void remove(int index) {
+		if (!useIndex) {
+			super.remove(index);
+			return;
+		}
+
+		removeEntry(entries.get(index));
+	}
+
+	@Override
+	public boolean remove(Solution solution) {
+		if (!useIndex) {
+			return super.remove(solution);
+		}
+
+		int index = indexOf(solution);
+
+		if (index < 0) {
+			return false;
+		}
+
+		remove(index);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		entries.clear();
+
+		if (index != null) {
+			index.clear();
+		}
+	}
+
+	@Override
+	public void sort(final Comparator<? super Solution> comparator) {
+		if (!useIndex) {
+			super.sort(comparator);
+			return;
+		}
+
+		// sort the entries and rebuild the solution list in the same order
+		Collections.sort(entries, new Comparator<Entry<Solution>>() {
+
+			@Override
+			public int compare(Entry<Solution> entry1, Entry<Solution> entry2) {
+				return comparator.compare(entry1.value, entry2.value);
+			}
+
+		});
+
+		super.clear();
+
+		for (int i = 0; i < entries.size(); i++) {
+			Entry<Solution> entry = entries.get(i);
+			entry.position = i;
+			super.forceAddWithoutCheck(entry.value);
+		}
+	}
+
+	@Override
+	public void truncate(int size, Comparator<? super Solution> comparator) {
+		if (!useIndex) {
+			super.truncate(size, comparator);
+			return;
+		}
+
+		sort(comparator);
+
+		while (size() > size) {
+			remove(size() - 1);
+		}
+	}
+
+	/**
+	 * Adds the new solution to this population if it is not dominated by or a
+	 * duplicate of an existing solution, removing any solutions it dominates.
+	 *
+	 * @param newSolution the new solution
+	 * @param replacedIndex the index of the solution being replaced by the new
+	 *        solution, or {@code -1} if no solution is being replaced
+	 * @return {@code true} if the new solution was added; {@code false}
+	 *         otherwise
+	 */
+	private boolean update(Solution newSolution, int replacedIndex) {
+		Entry<Solution> replaced = replacedIndex < 0 ? null :
+			entries.get(replacedIndex);
+
+		if (!isEmpty() && useConstraints) {
+			int flag = Double.compare(
+					AggregateConstraintComparator.getConstraints(newSolution),
+					violation);
+
+			if (flag > 0) {
+				return false;
+			} else if (flag < 0) {
+				clear();
+				replaced = null;
+			}
+		}
+
+		if (isEmpty()) {
+			return forceAddWithoutCheck(newSolution);
+		}
+
+		List<Entry<Solution>> dominated = new ArrayList<Entry<Solution>>();
+		List<Entry<Solution>> nearby = new ArrayList<Entry<Solution>>();
+
+		if (!index.update(newSolution.getObjectives(), dominated, nearby)) {
+			return false;
+		}
+
+		for (Entry<Solution> oldEntry : nearby) {
+			if (isDuplicate(newSolution, oldEntry.value)) {
+				return false;
+			}
+		}
+
+		for (Entry<Solution> oldEntry : dominated) {
+			if (oldEntry == replaced) {
+				replaced = null;
+			}
+
+			removeEntry(oldEntry);
+		}
+
+		if (replaced != null) {
+			removeEntry(replaced);
+		}
+
+		insertEntry(newSolution);
+		return true;
+	}
+
+	/**
+	 * Appends the solution to this population and inserts it into the index.
+	 *
+	 * @param solution the solution
+	 */
+	private void insertEntry(Solution solution) {
+		double[] point = solution.getObjectives();
+
+		if (index == null) {
+			index = DominanceIndex.create(point.length, Settings.EPS);
+		}
+
+		Entry<Solution> entry = index.newEntry(solution, point);
+		entry.position = size();
+		super.forceAddWithoutCheck(solution);
+		entries.add(entry);
+		index.insert(entry);
+	}
+
+	/**
+	 * Removes the entry from the index and the solution list, moving the last
+	 * solution into the vacated position.
+	 *
+	 * @param entry the entry
+	 */
+	private void removeEntry(Entry<Solution> entry) {
+		int last = size() - 1;
+
+		if (entry.position != last) {
+			Entry<Solution> moved = entries.get(last);
+			moved.position = entry.position;
+			entries.set(entry.position, moved);
+			forceReplaceWithoutCheck(entry.position, moved.value);
+		}
+
+		entries.remove(last);
+		super.remove(last);
+		index.remove(entry);
+	}
+
+}
@@ -223,6 +223,21 @@ public class NondominatedPopulation extends Population {
 	protected boolean forceAddWithoutCheck(Solution newSolution) {
 		return super.add(newSolution);
 	}
+	
+	/**
+	 * Replaces the solution at the given index, bypassing the non-domination
+	 * check. This method should only be used when a non-domination check has
+	 * been performed elsewhere, such as in a subclass.
+	 * <p>
+	 * <b>This method should only be used internally, and should never be made
+	 * public by any subclasses.</b>
+	 * 
+	 * @param index the index to replace
+	 * @param newSolution the new solution
+	 */
+	protected void forceReplaceWithoutCheck(int index, Solution newSolution) {
+		super.replace(index, newSolution);
+	}
 
 	/**
 	 * Returns the Euclidean distance between two solutions in objective space.
@@ -262,7 +277,8 @@ public class NondominatedPopulation extends Population {
 			}
 			
 			for (int i = 0; i < s1.getNumberOfVariables(); i++) {
-				if (!s1.getVariable(i).equals(s2.getVariable(i))) {
+				if (!s1.getVariableReadOnly(i).equals(
+						s2.getVariableReadOnly(i))) {
 					return false;
 				}
 			}
@@ -22,7 +22,6 @@ import java.util.List;
 
 import org.moeaframework.core.NondominatedPopulation.DuplicateMode;
 import org.moeaframework.core.comparator.DominanceComparator;
-import org.moeaframework.core.comparator.ObjectiveComparator;
 import org.moeaframework.core.comparator.ParetoDominanceComparator;
 
 /**
@@ -53,6 +52,18 @@ public class NondominatedSorting {
 	 * Attribute key for the crowding distance of a solution.
 	 */
 	public static final String CROWDING_ATTRIBUTE = "crowdingDistance";
+	
+	/**
+	 * Typed attribute for the rank of a solution.
+	 */
+	public static final AttributeKey RANK_KEY = AttributeKey.register(
+			RANK_ATTRIBUTE, AttributeKey.Type.INT);
+	
+	/**
+	 * Typed attribute for the crowding distance of a solution.
+	 */
+	public static final AttributeKey CROWDING_KEY = AttributeKey.register(
+			CROWDING_ATTRIBUTE, AttributeKey.Type.DOUBLE);
 
 	/**
 	 * The dominance comparator.
@@ -114,7 +125,7 @@ public class NondominatedSorting {
 
 			for (Solution solution : front) {
 				remaining.remove(solution);
-				solution.setAttribute(RANK_ATTRIBUTE, rank);
+				solution.setIntAttribute(RANK_KEY, rank);
 			}
 
 			updateCrowdingDistance(front);
@@ -131,65 +142,141 @@ public class NondominatedSorting {
 	 * @param front the population whose solutions are to be evaluated
 	 */
 	public void updateCrowdingDistance(Population front) {
-		// initially assign all crowding distances of 0.0
-		for (Solution solution : front) {
-			solution.setAttribute(CROWDING_ATTRIBUTE, 0.0);
+		PackedSolutions packed = new PackedSolutions(front);
+		int[] indices = new int[packed.size()];
+		
+		for (int i = 0; i < indices.length; i++) {
+			indices[i] = i;
 		}
 		
+		updateCrowdingDistance(packed, indices, indices.length);
+	}
+	
+	/**
+	 * Computes and assigns the {@code crowdingDistance} attribute to a subset
+	 * of packed solutions, which should be within the same front/rank.  The
+	 * crowding distances depend on the order of the indices when solutions
+	 * share objective values.
+	 * 
+	 * @param packed the packed solutions
+	 * @param front the indices of the solutions in the front
+	 * @param size the number of solutions in the front
+	 */
+	protected void updateCrowdingDistance(PackedSolutions packed, int[] front,
+			int size) {
+		double[] values = packed.getValues();
+		int stride = packed.getStride();
+		int numberOfObjectives = packed.getNumberOfObjectives();
+		
 		// remove any duplicate solutions, the duplicate solutions will retain
 		// the crowding distance of 0.0
-		Population uniqueFront = new Population();
+		double[] distances = new double[size];
+		int[] unique = new int[size];
+		int n = 0;
 		
-		for (Solution s1 : front) {
+		for (int i = 0; i < size; i++) {
+			int offset1 = front[i] * stride;
 			boolean isDuplicate = false;
 			
-			for (Solution s2 : uniqueFront) {
-				if (NondominatedPopulation.distance(s1, s2) < Settings.EPS) {
+			for (int j = 0; j < n; j++) {
+				int offset2 = front[unique[j]] * stride;
+				double distance = 0.0;
+				
+				for (int k = 0; k < numberOfObjectives; k++) {
+					double difference = values[offset1 + k] -
+							values[offset2 + k];
+					distance += difference * difference;
+				}
+				
+				if (Math.sqrt(distance) < Settings.EPS) {
 					isDuplicate = true;
 					break;
 				}
 			}
 			
 			if (!isDuplicate) {
-				uniqueFront.add(s1);
+				unique[n++] = i;
 			}
 		}
-		
-		front = uniqueFront;
 
 		// then compute the crowding distance for the unique solutions
-		int n = front.size();
-		
 		if (n < 3) {
-			for (Solution solution : front) {
-				solution.setAttribute(CROWDING_ATTRIBUTE,
-						Double.POSITIVE_INFINITY);
+			for (int i = 0; i < n; i++) {
+				distances[unique[i]] = Double.POSITIVE_INFINITY;
 			}
 		} else {
-			int numberOfObjectives = front.get(0).getNumberOfObjectives();
-
-			for (int i = 0; i < numberOfObjectives; i++) {
-				front.sort(new ObjectiveComparator(i));
-
-				double minObjective = front.get(0).getObjective(i);
-				double maxObjective = front.get(n - 1).getObjective(i);
+			int[] buffer = new int[n];
+			
+			for (int k = 0; k < numberOfObjectives; k++) {
+				// the order is sorted in place, so ties retain their order
+				// from the previous objective
+				sort(values, stride, k, front, unique, buffer, n);
+				
+				double minObjective = values[front[unique[0]] * stride + k];
+				double maxObjective = values[front[unique[n - 1]] * stride + k];
 				
 				if (maxObjective - minObjective >= Settings.EPS) {
-					front.get(0).setAttribute(CROWDING_ATTRIBUTE,
-							Double.POSITIVE_INFINITY);
-					front.get(n - 1).setAttribute(CROWDING_ATTRIBUTE,
-							Double.POSITIVE_INFINITY);
-
+					distances[unique[0]] = Double.POSITIVE_INFINITY;
+					distances[unique[n - 1]] = Double.POSITIVE_INFINITY;
+					
 					for (int j = 1; j < n - 1; j++) {
-						double distance = (Double)front.get(j).getAttribute(
-								CROWDING_ATTRIBUTE);
-						distance += (front.get(j + 1).getObjective(i) - 
-								front.get(j - 1).getObjective(i))
-								/ (maxObjective - minObjective);
-						front.get(j).setAttribute(CROWDING_ATTRIBUTE, distance);
+						distances[unique[j]] +=
+								(values[front[unique[j + 1]] * stride + k] -
+								values[front[unique[j - 1]] * stride + k]) /
+								(maxObjective - minObjective);
+					}
+				}
+			}
+		}
+		
+		for (int i = 0; i < size; i++) {
+			packed.get(front[i]).setDoubleAttribute(CROWDING_KEY,
+					distances[i]);
+		}
+	}
+	
+	/**
+	 * Sorts the positions of solutions within a front by the specified
+	 * objective using a stable merge sort.
+	 * 
+	 * @param values the packed objectives and constraints
+	 * @param stride the number of values stored for each solution
+	 * @param objective the index of the objective
+	 * @param front the indices of the solutions in the front
+	 * @param order the positions in the front being sorted
+	 * @param buffer temporary storage with the same length as the order
+	 * @param n the number of positions being sorted
+	 */
+	private static void sort(double[] values, int stride, int objective,
+			int[] front, int[] order, int[] buffer, int n) {
+		for (int width = 1; width < n; width *= 2) {
+			for (int low = 0; low < n; low += 2 * width) {
+				int middle = Math.min(low + width, n);
+				int high = Math.min(low + 2 * width, n);
+				int i = low;
+				int j = middle;
+				int k = low;
+				
+				while (i < middle && j < high) {
+					if (Double.compare(
+							values[front[order[i]] * stride + objective],
+							values[front[order[j]] * stride + objective]) <= 0) {
+						buffer[k++] = order[i++];
+					} else {
+						buffer[k++] = order[j++];
 					}
 				}
+				
+				while (i < middle) {
+					buffer[k++] = order[i++];
+				}
+				
+				while (j < high) {
+					buffer[k++] = order[j++];
+				}
 			}
+			
+			System.arraycopy(buffer, 0, order, 0, n);
 		}
 	}
 
@@ -17,7 +17,7 @@
  */
 package org.moeaframework.core;
 
-import static org.moeaframework.core.NondominatedSorting.RANK_ATTRIBUTE;
+import static org.moeaframework.core.NondominatedSorting.RANK_KEY;
 
 import java.util.Comparator;
 import java.util.Iterator;
@@ -69,13 +69,60 @@ public class NondominatedSortingPopulation extends Population {
 	 * @param comparator the dominance comparator
 	 */
 	public NondominatedSortingPopulation(DominanceComparator comparator) {
+		this(createNondominatedSorting(comparator));
+	}
+	
+	/**
+	 * Constructs an empty population that maintains the {@code rank} and
+	 * {@code crowdingDistance} attributes for its solutions using the given
+	 * non-dominated sorting implementation.
+	 * 
+	 * @param nondominatedSorting the non-dominated sorting implementation
+	 */
+	public NondominatedSortingPopulation(
+			NondominatedSorting nondominatedSorting) {
 		super();
+		this.nondominatedSorting = nondominatedSorting;
 		modified = false;
+	}
+	
+	/**
+	 * Constructs a population initialized with the specified solutions that 
+	 * maintains the {@code rank} and {@code crowdingDistance} attributes for 
+	 * its solutions using the given non-dominated sorting implementation.
+	 * 
+	 * @param nondominatedSorting the non-dominated sorting implementation
+	 * @param iterable the solutions used to initialize this population
+	 */
+	public NondominatedSortingPopulation(
+			NondominatedSorting nondominatedSorting,
+			Iterable<? extends Solution> iterable) {
+		this(nondominatedSorting);
+		addAll(iterable);
+	}
+	
+	/**
+	 * Returns the non-dominated sorting implementation configured by
+	 * {@link Settings#getNondominatedSorting()}.
+	 * 
+	 * @param comparator the dominance comparator
+	 * @return the non-dominated sorting implementation
+	 * @throws FrameworkException if the configured implementation is not
+	 *         recognized
+	 */
+	private static NondominatedSorting createNondominatedSorting(
+			DominanceComparator comparator) {
+		String name = Settings.getNondominatedSorting();
 		
-		if (Settings.useFastNondominatedSorting()) {
-			nondominatedSorting = new FastNondominatedSorting(comparator);
+		if (name.equalsIgnoreCase("naive")) {
+			return new NondominatedSorting(comparator);
+		} else if (name.equalsIgnoreCase("fast")) {
+			return new FastNondominatedSorting(comparator);
+		} else if (name.equalsIgnoreCase("efficient")) {
+			return new EfficientNondominatedSorting(comparator);
 		} else {
-			nondominatedSorting = new NondominatedSorting(comparator);
+			throw new FrameworkException(
+					"unknown non-dominated sorting implementation: " + name);
 		}
 	}
 
@@ -196,12 +243,12 @@ public class NondominatedSortingPopulation extends Population {
 
 		//collect all solutions in the front which must be pruned
 		//note the use of super to prevent repeatedly triggering update()
-		int maxRank = (Integer)super.get(size-1).getAttribute(RANK_ATTRIBUTE);
+		int maxRank = super.get(size-1).getIntAttribute(RANK_KEY);
 		Population front = new Population();
 
 		for (int i=size()-1; i>=0; i--) {
 			Solution solution = super.get(i);
-			int rank = (Integer)solution.getAttribute(RANK_ATTRIBUTE);
+			int rank = solution.getIntAttribute(RANK_KEY);
 			
 			if (rank >= maxRank) {
 				super.remove(i);
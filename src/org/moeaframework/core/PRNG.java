@@ -33,7 +33,10 @@ import org.apache.commons.math3.random.RandomAdaptor;
  * {@code PRNG} relies on an underlying source of randomness, and inherits
  * thread safety from the underlying implementation.  Unless the underlying
  * implementation is known to be thread-safe, assume that {@code PRNG} is not
- * thread-safe.
+ * thread-safe.  Threads requiring independent and reproducible streams, such
+ * as concurrent runs of an algorithm, can instead assign their own source of
+ * randomness using {@link #setLocalRandom(Random)}, such as the independent
+ * streams produced by {@link XoroshiroRandom#split()}.
  */
 public class PRNG {
 
@@ -41,6 +44,13 @@ public class PRNG {
 	 * Internal source of randomness.
 	 */
 	private static Random random;
+	
+	/**
+	 * The source of randomness assigned to individual threads, overriding the
+	 * internal source of randomness for those threads.
+	 */
+	private static final ThreadLocal<Random> localRandom =
+			new ThreadLocal<Random>();
 
 	/**
 	 * Initialize the static variables.
@@ -66,11 +76,12 @@ public class PRNG {
 	 * @param seed the new seed
 	 */
 	public static synchronized void setSeed(long seed) {
-		random.setSeed(seed);
+		getRandom().setSeed(seed);
 	}
 
 	/**
-	 * Sets the source of randomness to be used.
+	 * Sets the source of randomness to be used by all threads that have not
+	 * been assigned their own source with {@link #setLocalRandom(Random)}.
 	 * 
 	 * @param random the source of randomness to be used
 	 */
@@ -79,12 +90,31 @@ public class PRNG {
 	}
 
 	/**
-	 * Returns the source of randomness currently used.
+	 * Sets the source of randomness used by the calling thread, overriding
+	 * the source of randomness shared by all other threads.  Setting
+	 * {@code null} reverts the calling thread to the shared source of
+	 * randomness.
 	 * 
-	 * @return the source of randomness currently used
+	 * @param random the source of randomness used by the calling thread; or
+	 *        {@code null} to use the shared source of randomness
+	 */
+	public static void setLocalRandom(Random random) {
+		if (random == null) {
+			localRandom.remove();
+		} else {
+			localRandom.set(random);
+		}
+	}
+
+	/**
+	 * Returns the source of randomness currently used by the calling thread.
+	 * 
+	 * @return the source of randomness currently used by the calling thread
 	 */
 	public static Random getRandom() {
-		return random;
+		Random random = localRandom.get();
+		
+		return random == null ? PRNG.random : random;
 	}
 
 	/**
@@ -95,7 +125,7 @@ public class PRNG {
 	 *         between 0.0 and 1.0
 	 */
 	public static float nextFloat() {
-		return random.nextFloat();
+		return getRandom().nextFloat();
 	}
 
 	/**
@@ -106,7 +136,7 @@ public class PRNG {
 	 *         between {@code min} and {@code max}
 	 */
 	public static float nextFloat(float min, float max) {
-		return min + random.nextFloat() * (max - min);
+		return min + getRandom().nextFloat() * (max - min);
 	}
 
 	/**
@@ -117,7 +147,7 @@ public class PRNG {
 	 *         between 0.0 and 1.0
 	 */
 	public static double nextDouble() {
-		return random.nextDouble();
+		return getRandom().nextDouble();
 	}
 
 	/**
@@ -128,7 +158,7 @@ public class PRNG {
 	 *         between {@code min} and {@code max}
 	 */
 	public static double nextDouble(double min, double max) {
-		return min + random.nextDouble() * (max - min);
+		return min + getRandom().nextDouble() * (max - min);
 	}
 
 	/**
@@ -139,7 +169,7 @@ public class PRNG {
 	 *         {@code Integer.MIN_VALUE} and {@code Integer.MAX_VALUE}.
 	 */
 	public static int nextInt() {
-		return random.nextInt();
+		return getRandom().nextInt();
 	}
 
 	/**
@@ -150,7 +180,7 @@ public class PRNG {
 	 *         {@code 0} (inclusive) and {@code n} (exclusive).
 	 */
 	public static int nextInt(int n) {
-		return random.nextInt(n);
+		return getRandom().nextInt(n);
 	}
 
 	/**
@@ -161,7 +191,18 @@ public class PRNG {
 	 *         {@code min} and {@code max} (both inclusive).
 	 */
 	public static int nextInt(int min, int max) {
-		return min + random.nextInt(max - min + 1);
+		return min + getRandom().nextInt(max - min + 1);
+	}
+
+	/**
+	 * Returns the next random, uniformly distributed {@code long} value between
+	 * {@code Long.MIN_VALUE} and {@code Long.MAX_VALUE}.
+	 * 
+	 * @return the next random, uniformly distributed {@code long} value between
+	 *         {@code Long.MIN_VALUE} and {@code Long.MAX_VALUE}
+	 */
+	public static long nextLong() {
+		return getRandom().nextLong();
 	}
 
 	/**
@@ -170,7 +211,7 @@ public class PRNG {
 	 * @return the next random, uniformly distributed {@code boolean} value.
 	 */
 	public static boolean nextBoolean() {
-		return random.nextBoolean();
+		return getRandom().nextBoolean();
 	}
 
 	/**
@@ -181,7 +222,7 @@ public class PRNG {
 	 *         mean {@code 0.0} and standard deviation {@code 1.0}.
 	 */
 	public static double nextGaussian() {
-		return random.nextGaussian();
+		return getRandom().nextGaussian();
 	}
 
 	/**
@@ -192,7 +233,7 @@ public class PRNG {
 	 *         mean {@code mean} and standard deviation {@code stdev}.
 	 */
 	public static double nextGaussian(double mean, double stdev) {
-		return stdev * random.nextGaussian() + mean;
+		return stdev * getRandom().nextGaussian() + mean;
 	}
 
 	/**
@@ -349,7 +390,7 @@ public class PRNG {
 	 * @param list the list to be shuffled
 	 */
 	public static <T> void shuffle(List<T> list) {
-		Collections.shuffle(list, random);
+		Collections.shuffle(list, getRandom());
 	}
 
 	/**
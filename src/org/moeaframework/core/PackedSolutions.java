@@ -0,0 +1,303 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The objectives and constraints of a collection of solutions stored in a
+ * single contiguous array.  The row of the {@code i}-th solution begins at
+ * index {@code i * getStride()} and stores its objectives followed by its
+ * constraints.  Loops over the objectives of many solutions should read this
+ * array directly rather than calling {@link Solution#getObjective(int)}.
+ * <p>
+ * Instances are created in one of two ways.  {@link Population#pack()} moves
+ * the rows of its members into the array, after which the solutions are views
+ * over the array and any changes to their objectives or constraints are
+ * reflected in the array.  The public constructor instead copies the values,
+ * leaving the solutions unchanged; the copy does not observe later changes.
+ * <p>
+ * All solutions must define the same number of objectives and constraints.
+ */
+public class PackedSolutions {
+
+	/**
+	 * The packed solutions.
+	 */
+	private final Solution[] solutions;
+
+	/**
+	 * The objectives and constraints of the packed solutions.
+	 */
+	private final double[] values;
+
+	/**
+	 * The number of objectives defined by each solution.
+	 */
+	private final int numberOfObjectives;
+
+	/**
+	 * The number of constraints defined by each solution.
+	 */
+	private final int numberOfConstraints;
+
+	/**
+	 * The number of values stored for each solution.
+	 */
+	private final int stride;
+
+	/**
+	 * Constructs a copy of the objectives and constraints of the specified
+	 * solutions.
+	 *
+	 * @param solutions the solutions
+	 * @throws IllegalArgumentException if the solutions do not define the same
+	 *         number of objectives and constraints
+	 */
+	public PackedSolutions(Iterable<? extends Solution> solutions) {
+		this(toList(solutions), false);
+	}
+
+	/**
+	 * Constructs the packed objectives and constraints of the specified
+	 * solutions.
+	 *
+	 * @param solutions the solutions
+	 * @param bind {@code true} if the solutions become views over the packed
+	 *        array; {@code false} if the values are copied
+	 * @throws IllegalArgumentException if the solutions do not define the same
+	 *         number of objectives and constraints
+	 */
+	PackedSolutions(List<? extends Solution> solutions, boolean bind) {
+		super();
+		this.solutions = solutions.toArray(new Solution[solutions.size()]);
+
+		if (this.solutions.length == 0) {
+			numberOfObjectives = 0;
+			numberOfConstraints = 0;
+		} else {
+			numberOfObjectives = this.solutions[0].getNumberOfObjectives();
+			numberOfConstraints = this.solutions[0].getNumberOfConstraints();
+		}
+
+		stride = numberOfObjectives + numberOfConstraints;
+		values = new double[this.solutions.length * stride];
+
+		for (int i = 0; i < this.solutions.length; i++) {
+			Solution solution = this.solutions[i];
+			int offset = i * stride;
+
+			if ((solution.getNumberOfObjectives() != numberOfObjectives) ||
+					(solution.getNumberOfConstraints() != numberOfConstraints)) {
+				throw new IllegalArgumentException(
+						"solutions must define the same number of objectives " +
+						"and constraints");
+			}
+
+			if (bind) {
+				solution.bind(values, offset);
+			} else {
+				for (int j = 0; j < numberOfObjectives; j++) {
+					values[offset + j] = solution.getObjective(j);
+				}
+
+				for (int j = 0; j < numberOfConstraints; j++) {
+					values[offset + numberOfObjectives + j] =
+							solution.getConstraint(j);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the solutions in a list.
+	 *
+	 * @param solutions the solutions
+	 * @return the solutions in a list
+	 */
+	private static List<Solution> toList(
+			Iterable<? extends Solution> solutions) {
+		List<Solution> list = new ArrayList<Solution>();
+
+		for (Solution solution : solutions) {
+			list.add(solution);
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns {@code true} if the specified solutions, in order, are views
+	 * over this packed array; {@code false} otherwise.
+	 *
+	 * @param solutions the solutions
+	 * @return {@code true} if the specified solutions, in order, are views
+	 *         over this packed array; {@code false} otherwise
+	 */
+	boolean isPacked(List<? extends Solution> solutions) {
+		if (solutions.size() != this.solutions.length) {
+			return false;
+		}
+
+		for (int i = 0; i < this.solutions.length; i++) {
+			Solution solution = solutions.get(i);
+
+			if ((solution != this.solutions[i]) ||
+					!solution.isBound(values, i * stride)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Copies the values of any solutions that are still views over this
+	 * packed array into arrays owned by those solutions.  This is called when
+	 * the array is replaced, so solutions removed from a population do not
+	 * keep the array reachable.
+	 */
+	void release() {
+		for (int i = 0; i < solutions.length; i++) {
+			if (solutions[i].isBound(values, i * stride)) {
+				solutions[i].unbind();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of packed solutions.
+	 *
+	 * @return the number of packed solutions
+	 */
+	public int size() {
+		return solutions.length;
+	}
+
+	/**
+	 * Returns the packed solution at the specified index.
+	 *
+	 * @param index the index of the solution
+	 * @return the packed solution at the specified index
+	 */
+	public Solution get(int index) {
+		return solutions[index];
+	}
+
+	/**
+	 * Returns the number of objectives defined by each solution.
+	 *
+	 * @return the number of objectives defined by each solution
+	 */
+	public int getNumberOfObjectives() {
+		return numberOfObjectives;
+	}
+
+	/**
+	 * Returns the number of constraints defined by each solution.
+	 *
+	 * @return the number of constraints defined by each solution
+	 */
+	public int getNumberOfConstraints() {
+		return numberOfConstraints;
+	}
+
+	/**
+	 * Returns the number of values stored for each solution, which is the
+	 * number of objectives plus the number of constraints.
+	 *
+	 * @return the number of values stored for each solution
+	 */
+	public int getStride() {
+		return stride;
+	}
+
+	/**
+	 * Returns the packed array.  The array is not copied, so modifying the
+	 * array modifies any solutions that are views over the array.
+	 *
+	 * @return the packed array
+	 */
+	public double[] getValues() {
+		return values;
+	}
+
+	/**
+	 * Returns the specified objective of the specified solution.
+	 *
+	 * @param index the index of the solution
+	 * @param objective the index of the objective
+	 * @return the specified objective of the specified solution
+	 */
+	public double getObjective(int index, int objective) {
+		return values[index * stride + objective];
+	}
+
+	/**
+	 * Returns the specified constraint of the specified solution.
+	 *
+	 * @param index the index of the solution
+	 * @param constraint the index of the constraint
+	 * @return the specified constraint of the specified solution
+	 */
+	public double getConstraint(int index, int constraint) {
+		return values[index * stride + numberOfObjectives + constraint];
+	}
+
+	/**
+	 * Returns {@code true} if the specified solution violates any of its
+	 * constraints; {@code false} otherwise.
+	 *
+	 * @param index the index of the solution
+	 * @return {@code true} if the specified solution violates any of its
+	 *         constraints; {@code false} otherwise
+	 */
+	public boolean violatesConstraints(int index) {
+		int start = index * stride + numberOfObjectives;
+
+		for (int j = 0; j < numberOfConstraints; j++) {
+			if (values[start + j] != 0.0) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the sum of the absolute constraint violations of the specified
+	 * solution, matching
+	 * {@link org.moeaframework.core.comparator.AggregateConstraintComparator#getConstraints(Solution)}.
+	 *
+	 * @param index the index of the solution
+	 * @return the sum of the absolute constraint violations of the specified
+	 *         solution
+	 */
+	public double getAggregateConstraint(int index) {
+		int start = index * stride + numberOfObjectives;
+		double constraints = 0.0;
+
+		for (int j = 0; j < numberOfConstraints; j++) {
+			constraints += Math.abs(values[start + j]);
+		}
+
+		return constraints;
+	}
+
+}
@@ -36,6 +36,12 @@ public class Population implements Iterable<Solution> {
 	 */
 	private final List<Solution> data;
 
+	/**
+	 * The packed objectives and constraints of this population, or
+	 * {@code null} if this population has not been packed.
+	 */
+	private PackedSolutions packed;
+
 	/**
 	 * Constructs an empty population.
 	 */
@@ -299,6 +305,33 @@ public class Population implements Iterable<Solution> {
 		}
 	}
 
+	/**
+	 * Returns the objectives and constraints of the solutions in this
+	 * population, in order, stored in a single contiguous array.  The
+	 * solutions become views over this array, so changes to their objectives
+	 * or constraints are visible in the packed array.  The packed array is
+	 * reused until this population is modified or reordered, or until one of
+	 * its solutions is packed by another population.
+	 * 
+	 * @return the packed objectives and constraints of the solutions in this
+	 *         population
+	 * @throws IllegalArgumentException if the solutions do not define the same
+	 *         number of objectives and constraints
+	 */
+	public PackedSolutions pack() {
+		if ((packed == null) || !packed.isPacked(data)) {
+			PackedSolutions previous = packed;
+			
+			packed = new PackedSolutions(data, true);
+			
+			if (previous != null) {
+				previous.release();
+			}
+		}
+		
+		return packed;
+	}
+
 	/*
 	 * The following code is based on the Apache Commons Collections library.
 	 * This is to provide a similar iterator behavior to other collection
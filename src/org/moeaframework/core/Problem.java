@@ -55,6 +55,13 @@ public interface Problem {
 	 * Evaluates the solution, updating the solution's objectives in place.
 	 * Algorithms must explicitly call this method when appropriate to evaluate
 	 * new solutions or reevaluate modified solutions.
+	 * <p>
+	 * Implementations are expected to only read the decision variables, using
+	 * {@link Solution#getVariableReadOnly(int)} or the array getters of
+	 * {@link org.moeaframework.core.variable.EncodingUtils}.  Retrieving a
+	 * variable with {@link Solution#getVariable(int)} copies any variable
+	 * shared with other solutions and discards the changes recorded for
+	 * delta evaluation, since it allows the variable to be modified.
 	 * 
 	 * @param solution the solution to be evaluated
 	 */
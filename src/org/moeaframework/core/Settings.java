@@ -35,6 +35,7 @@ import org.moeaframework.util.TypedProperties;
 import org.moeaframework.util.io.FileProtection;
 import org.moeaframework.core.NondominatedPopulation.DuplicateMode;
 import org.moeaframework.core.indicator.Hypervolume;
+import org.moeaframework.core.indicator.MonteCarloHypervolume;
 
 /**
  * Global settings used by this framework.  The {@code PROPERTIES} object
@@ -100,6 +101,19 @@ public class Settings {
 	public static final String KEY_FAST_NONDOMINATED_SORTING = KEY_PREFIX +
 			"core.fast_nondominated_sorting";
 	
+	/**
+	 * The property key for the non-dominated sorting implementation.
+	 */
+	public static final String KEY_NONDOMINATED_SORTING = KEY_PREFIX +
+			"core.nondominated_sorting";
+	
+	/**
+	 * The property key for enabling the hashed &epsilon;-box dominance
+	 * archive.
+	 */
+	public static final String KEY_HASHED_EPSILON_ARCHIVE = KEY_PREFIX +
+			"core.hashed_epsilon_archive";
+	
 	/**
 	 * The property key for the continuity correction flag.
 	 */
@@ -143,6 +157,30 @@ public class Settings {
 	public static final String KEY_HYPERVOLUME_ENABLED = KEY_PREFIX +
 			"core.indicator.hypervolume_enabled";
 	
+	/**
+	 * The property key for enabling the approximate hypervolume.
+	 */
+	public static final String KEY_HYPERVOLUME_APPROXIMATE = KEY_PREFIX +
+			"core.indicator.hypervolume_approximate";
+	
+	/**
+	 * The property key for the sample budget of the approximate hypervolume.
+	 */
+	public static final String KEY_HYPERVOLUME_SAMPLES = KEY_PREFIX +
+			"core.indicator.hypervolume_samples";
+	
+	/**
+	 * The property key for the error target of the approximate hypervolume.
+	 */
+	public static final String KEY_HYPERVOLUME_ERROR = KEY_PREFIX +
+			"core.indicator.hypervolume_error";
+	
+	/**
+	 * The property key for the seed of the approximate hypervolume.
+	 */
+	public static final String KEY_HYPERVOLUME_SEED = KEY_PREFIX +
+			"core.indicator.hypervolume_seed";
+	
 	/**
 	 * The prefix for all problem property keys.
 	 */
@@ -367,6 +405,33 @@ public class Settings {
 		return PROPERTIES.getBoolean(KEY_FAST_NONDOMINATED_SORTING, false);
 	}
 	
+	/**
+	 * Returns the name of the non-dominated sorting implementation used by
+	 * {@link NondominatedSortingPopulation}.  Valid values are {@code naive},
+	 * {@code fast} and {@code efficient}.  If not set, defaults to
+	 * {@code fast} or {@code naive} depending on
+	 * {@link #useFastNondominatedSorting()}.
+	 * 
+	 * @return the name of the non-dominated sorting implementation
+	 */
+	public static String getNondominatedSorting() {
+		return PROPERTIES.getString(KEY_NONDOMINATED_SORTING,
+				useFastNondominatedSorting() ? "fast" : "naive");
+	}
+	
+	/**
+	 * Returns {@code true} if {@link HashedEpsilonBoxDominanceArchive} is used
+	 * in place of {@link EpsilonBoxDominanceArchive} by the algorithms and
+	 * executors that create &epsilon;-box dominance archives.  Default is
+	 * {@code false}.
+	 * 
+	 * @return {@code true} if the hashed &epsilon;-box dominance archive is
+	 *         used; {@code false} otherwise
+	 */
+	public static boolean useHashedEpsilonArchive() {
+		return PROPERTIES.getBoolean(KEY_HASHED_EPSILON_ARCHIVE, false);
+	}
+	
 	/**
 	 * Returns the delta applied to the nadir point of the reference set when 
 	 * calculating the hypervolume.  Having a non-zero delta is necessary to 
@@ -424,6 +489,56 @@ public class Settings {
 		return PROPERTIES.getBoolean(KEY_HYPERVOLUME_ENABLED, true);
 	}
 	
+	/**
+	 * Returns {@code true} if the hypervolume is estimated using
+	 * {@link MonteCarloHypervolume} rather than computed exactly; {@code false}
+	 * otherwise.  The estimate is used even if the exact hypervolume is
+	 * {@link #isHypervolumeEnabled() disabled}.  Default is {@code false}.
+	 * 
+	 * @return {@code true} if the hypervolume is estimated; {@code false}
+	 *         otherwise
+	 */
+	public static boolean isHypervolumeApproximate() {
+		return PROPERTIES.getBoolean(KEY_HYPERVOLUME_APPROXIMATE, false);
+	}
+	
+	/**
+	 * Returns the maximum number of samples drawn when estimating the
+	 * hypervolume.  Default is {@code 100000}.
+	 * 
+	 * @return the maximum number of samples drawn when estimating the
+	 *         hypervolume
+	 */
+	public static int getHypervolumeSamples() {
+		return PROPERTIES.getInt(KEY_HYPERVOLUME_SAMPLES, 100000);
+	}
+	
+	/**
+	 * Returns the target half-width of the 95% confidence interval when
+	 * estimating the hypervolume.  Sampling stops early once this target is
+	 * reached.  Default is {@code 0}, which always draws the full sample
+	 * budget.
+	 * 
+	 * @return the target half-width of the 95% confidence interval when
+	 *         estimating the hypervolume
+	 */
+	public static double getHypervolumeError() {
+		return PROPERTIES.getDouble(KEY_HYPERVOLUME_ERROR, 0.0);
+	}
+	
+	/**
+	 * Returns the seed of the random stream used when estimating the
+	 * hypervolume.  The estimates do not draw from {@link PRNG}, so they are
+	 * reproducible and do not affect the random numbers used by algorithms.
+	 * Default is {@code 0}.
+	 * 
+	 * @return the seed of the random stream used when estimating the
+	 *         hypervolume
+	 */
+	public static long getHypervolumeSeed() {
+		return PROPERTIES.getLong(KEY_HYPERVOLUME_SEED, 0L);
+	}
+	
 	/**
 	 * Returns the list of available problems.  This allows enumerating
 	 * additional problems without the need for defining and registering a 
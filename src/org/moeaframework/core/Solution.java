@@ -17,7 +17,12 @@
  */
 package org.moeaframework.core;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -32,30 +37,124 @@ import org.apache.commons.lang3.SerializationUtils;
  * Solutions should only be constructed in {@link Problem#newSolution()} or 
  * cloned from an existing solution with {@link #copy()}.  This ensures the
  * solutions and configured correctly for the given optimization problem.
+ * <p>
+ * The objectives and constraints are stored together in a single row of a
+ * {@code double[]}.  Initially each solution owns its row, but
+ * {@link Population#pack()} moves the rows of all members into one contiguous
+ * array, after which the solutions are views over that array.  This is
+ * transparent to users of this class.
+ * <p>
+ * This class is not thread safe.  A solution may be read by multiple threads
+ * concurrently, using {@link #copy()}, {@link #getVariableReadOnly(int)} and
+ * the getters of the objectives, constraints and attributes, provided no
+ * thread modifies it at the same time.  Although {@code copy()} marks the
+ * variables of this solution as shared with the copy, doing so is
+ * idempotent and safe to perform concurrently.  All other methods, including
+ * {@link #getVariable(int)}, which may copy a shared variable and allows it to
+ * be modified, require exclusive access.  A solution copied or read on
+ * another thread must only be modified once those threads have finished,
+ * such as after waiting on the {@link java.util.concurrent.Future} of the
+ * task.  Code that only reads the decision variables, particularly code that
+ * may run in parallel, should therefore use {@code getVariableReadOnly}.
  */
 public class Solution implements Serializable {
 
 	private static final long serialVersionUID = -1192586435663892479L;
 
 	/**
-	 * The decision variables of this solution.
+	 * The serialized fields of this solution.  The objectives and constraints
+	 * are serialized as separate arrays, regardless of how they are stored, to
+	 * remain compatible with previously serialized solutions.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("variables", Variable[].class),
+			new ObjectStreamField("objectives", double[].class),
+			new ObjectStreamField("constraints", double[].class),
+			new ObjectStreamField("attributes", Map.class) };
+
+	/**
+	 * The decision variables of this solution.  This field is not final since
+	 * it is assigned during deserialization.
 	 */
-	private final Variable[] variables;
+	private Variable[] variables;
+	
+	/**
+	 * Flags identifying the variables that may be shared with other
+	 * solutions, or {@code null} if no variables are shared.  Copying a
+	 * solution shares its variables with the copy instead of copying them;
+	 * a shared variable is copied the first time it is retrieved through
+	 * {@link #getVariable(int)}, so unmodified variables are never copied.
+	 */
+	private transient boolean[] shared;
 
 	/**
-	 * The objectives of this solution.
+	 * The array storing the objectives followed by the constraints of this
+	 * solution, starting at {@code offset}.  This array is either owned by
+	 * this solution or shared with the other members of a packed population.
 	 */
-	private final double[] objectives;
+	private double[] values;
 
 	/**
-	 * The constraints of this solution.
+	 * The index in {@code values} of the first objective of this solution.
 	 */
-	private final double[] constraints;
+	private int offset;
 
 	/**
-	 * The attributes of this solutions.
+	 * The number of objectives defined by this solution.
+	 */
+	private int numberOfObjectives;
+
+	/**
+	 * The number of constraints defined by this solution.
+	 */
+	private int numberOfConstraints;
+
+	/**
+	 * The attributes of this solutions, excluding typed attributes stored in
+	 * slots.  This field is not final since it is assigned during
+	 * deserialization.
+	 */
+	private Map<String, Serializable> attributes;
+	
+	/**
+	 * Bit mask identifying the typed attributes stored in slots, where bit
+	 * {@code i} is set if the attribute whose key has index {@code i} is
+	 * stored.  A typed attribute is stored either in its slot or in the
+	 * attribute map, never both.
+	 */
+	private transient long slotMask;
+	
+	/**
+	 * The slots storing {@code int} typed attributes, indexed by the key
+	 * index, or {@code null} if not yet allocated.
+	 */
+	private transient int[] intSlots;
+	
+	/**
+	 * The slots storing {@code double} typed attributes, indexed by the key
+	 * index, or {@code null} if not yet allocated.
+	 */
+	private transient double[] doubleSlots;
+	
+	/**
+	 * The slots storing object typed attributes, indexed by the key index, or
+	 * {@code null} if not yet allocated.
+	 */
+	private transient Serializable[] objectSlots;
+	
+	/**
+	 * The positions where this solution may differ from its parent, or
+	 * {@code null} if no changes are recorded.  The record is neither copied
+	 * nor serialized.
 	 */
-	private final Map<String, Serializable> attributes;
+	private transient Changes changes;
+	
+	/**
+	 * {@code true} if this solution was evaluated by an algorithm and its
+	 * variables have not been modified since; {@code false} otherwise.  Only
+	 * evaluated solutions serve as the parent of recorded {@link Changes}.
+	 */
+	private transient boolean evaluated;
 
 	/**
 	 * Constructs a solution with the specified number of variables and 
@@ -81,9 +180,11 @@ public class Solution implements Serializable {
 	 */
 	public Solution(int numberOfVariables, int numberOfObjectives,
 			int numberOfConstraints) {
+		this.numberOfObjectives = numberOfObjectives;
+		this.numberOfConstraints = numberOfConstraints;
+		
 		variables = new Variable[numberOfVariables];
-		objectives = new double[numberOfObjectives];
-		constraints = new double[numberOfConstraints];
+		values = new double[numberOfObjectives + numberOfConstraints];
 		attributes = new HashMap<String, Serializable>();
 	}
 
@@ -102,7 +203,9 @@ public class Solution implements Serializable {
 	}
 
 	/**
-	 * Copy constructor.
+	 * Copy constructor.  The variables are shared by both solutions until
+	 * either solution retrieves them through {@link #getVariable(int)}, at
+	 * which point that solution receives its own copy.
 	 * 
 	 * @param solution the solution being copied
 	 */
@@ -110,17 +213,33 @@ public class Solution implements Serializable {
 		this(solution.getNumberOfVariables(), solution.getNumberOfObjectives(),
 				solution.getNumberOfConstraints());
 
-		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-			setVariable(i, solution.getVariable(i).copy());
+		if (variables.length > 0) {
+			System.arraycopy(solution.variables, 0, variables, 0,
+					variables.length);
+			solution.shareVariables();
+			shareVariables();
 		}
 
-		for (int i = 0; i < getNumberOfObjectives(); i++) {
-			setObjective(i, solution.getObjective(i));
-		}
-
-		for (int i = 0; i < getNumberOfConstraints(); i++) {
-			setConstraint(i, solution.getConstraint(i));
+		System.arraycopy(solution.values, solution.offset, values, 0,
+				values.length);
+		
+		evaluated = solution.evaluated;
+	}
+	
+	/**
+	 * Marks all variables of this solution as shared.  The flags are filled
+	 * before being assigned, so concurrent copies of this solution never
+	 * leave a variable unmarked.
+	 */
+	private void shareVariables() {
+		boolean[] flags = shared;
+		
+		if (flags == null) {
+			flags = new boolean[variables.length];
 		}
+		
+		Arrays.fill(flags, true);
+		shared = flags;
 	}
 
 	/**
@@ -150,7 +269,14 @@ public class Solution implements Serializable {
 	public Solution deepCopy() {
 		Solution copy = copy();
 		
-		for (Map.Entry<String, Serializable> entry : getAttributes().entrySet()) {
+		for (Map.Entry<String, Serializable> entry : attributes.entrySet()) {
+			copy.setAttribute(
+					entry.getKey(),
+					SerializationUtils.clone(entry.getValue()));
+		}
+		
+		for (Map.Entry<String, Serializable> entry :
+				getSlotAttributes().entrySet()) {
 			copy.setAttribute(
 					entry.getKey(),
 					SerializationUtils.clone(entry.getValue()));
@@ -165,7 +291,7 @@ public class Solution implements Serializable {
 	 * @return the number of objectives defined by this solution
 	 */
 	public int getNumberOfObjectives() {
-		return objectives.length;
+		return numberOfObjectives;
 	}
 
 	/**
@@ -183,7 +309,7 @@ public class Solution implements Serializable {
 	 * @return the number of constraints defined by this solution
 	 */
 	public int getNumberOfConstraints() {
-		return constraints.length;
+		return numberOfConstraints;
 	}
 
 	/**
@@ -195,11 +321,15 @@ public class Solution implements Serializable {
 	 *         {@code (index < 0) || (index >= getNumberOfObjectives())}
 	 */
 	public double getObjective(int index) {
-		return objectives[index];
+		checkObjectiveIndex(index);
+		return values[offset + index];
 	}
 
 	/**
-	 * Returns the variable at the specified index.
+	 * Returns the variable at the specified index.  If the variable is shared
+	 * with another solution, it is first copied so the returned variable can
+	 * be modified without altering other solutions.  Since the returned
+	 * variable may be modified, any recorded {@link Changes} are discarded.
 	 * 
 	 * @param index index of the variable to return
 	 * @return the variable at the specified index
@@ -207,6 +337,49 @@ public class Solution implements Serializable {
 	 *         {@code (index < 0) || (index >= getNumberOfVariables())}
 	 */
 	public Variable getVariable(int index) {
+		changes = null;
+		return getRecordedVariable(index);
+	}
+	
+	/**
+	 * Returns the variable at the specified index for modification, like
+	 * {@link #getVariable(int)}, but keeps the recorded {@link Changes}.  The
+	 * caller must record every position it modifies.
+	 * 
+	 * @param index index of the variable to return
+	 * @return the variable at the specified index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0) || (index >= getNumberOfVariables())}
+	 */
+	Variable getRecordedVariable(int index) {
+		Variable variable = variables[index];
+		
+		if ((shared != null) && shared[index]) {
+			if (variable != null) {
+				variable = variable.copy();
+				variables[index] = variable;
+			}
+			
+			shared[index] = false;
+		}
+		
+		evaluated = false;
+		return variable;
+	}
+	
+	/**
+	 * Returns the variable at the specified index without copying it, even if
+	 * the variable is shared with other solutions.  The returned variable
+	 * must not be modified; use {@link #getVariable(int)} instead when the
+	 * variable may be modified.  This avoids copying variables that are only
+	 * read, such as when evaluating a solution.
+	 * 
+	 * @param index index of the variable to return
+	 * @return the variable at the specified index, which must not be modified
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0) || (index >= getNumberOfVariables())}
+	 */
+	public Variable getVariableReadOnly(int index) {
 		return variables[index];
 	}
 
@@ -219,7 +392,8 @@ public class Solution implements Serializable {
 	 *         {@code (index < 0) || (index >= getNumberOfObjectives())}
 	 */
 	public void setObjective(int index, double objective) {
-		objectives[index] = objective;
+		checkObjectiveIndex(index);
+		values[offset + index] = objective;
 	}
 
 	/**
@@ -230,13 +404,11 @@ public class Solution implements Serializable {
 	 *         getNumberOfObjectives()}
 	 */
 	public void setObjectives(double[] objectives) {
-		if (objectives.length != this.objectives.length) {
+		if (objectives.length != numberOfObjectives) {
 			throw new IllegalArgumentException("invalid number of objectives");
 		}
 
-		for (int i = 0; i < objectives.length; i++) {
-			this.objectives[i] = objectives[i];
-		}
+		System.arraycopy(objectives, 0, values, offset, numberOfObjectives);
 	}
 
 	/**
@@ -246,7 +418,7 @@ public class Solution implements Serializable {
 	 * @return an array containing the objectives of this solution
 	 */
 	public double[] getObjectives() {
-		return objectives.clone();
+		return Arrays.copyOfRange(values, offset, offset + numberOfObjectives);
 	}
 
 	/**
@@ -259,6 +431,102 @@ public class Solution implements Serializable {
 	 */
 	public void setVariable(int index, Variable variable) {
 		variables[index] = variable;
+		evaluated = false;
+		changes = null;
+		
+		if (shared != null) {
+			shared[index] = false;
+		}
+	}
+
+	/**
+	 * Exchanges the variable at the specified index with the variable at the
+	 * same index in another solution.  Unlike exchanging the variables using
+	 * {@link #getVariable(int)} and {@link #setVariable(int, Variable)},
+	 * neither variable is copied; variables shared with other solutions
+	 * remain shared.
+	 * 
+	 * @param index index of the variables being exchanged
+	 * @param solution the other solution
+	 * @throws IndexOutOfBoundsException if the index is out of range for
+	 *         either solution
+	 */
+	public void swapVariable(int index, Solution solution) {
+		Variable variable = variables[index];
+		boolean isShared = (shared != null) && shared[index];
+		boolean isOtherShared = (solution.shared != null) &&
+				solution.shared[index];
+		
+		variables[index] = solution.variables[index];
+		solution.variables[index] = variable;
+		setShared(index, isOtherShared);
+		solution.setShared(index, isShared);
+		evaluated = false;
+		solution.evaluated = false;
+		changes = null;
+		solution.changes = null;
+	}
+	
+	/**
+	 * Sets the flag identifying if the variable at the specified index may be
+	 * shared with other solutions.
+	 * 
+	 * @param index index of the variable
+	 * @param isShared {@code true} if the variable may be shared with other
+	 *        solutions; {@code false} otherwise
+	 */
+	private void setShared(int index, boolean isShared) {
+		if (isShared && (shared == null)) {
+			shared = new boolean[variables.length];
+		}
+		
+		if (shared != null) {
+			shared[index] = isShared;
+		}
+	}
+	
+	/**
+	 * Returns the positions where this solution may differ from its parent,
+	 * or {@code null} if no changes are recorded.
+	 * 
+	 * @return the positions where this solution may differ from its parent,
+	 *         or {@code null} if no changes are recorded
+	 */
+	Changes getChanges() {
+		return changes;
+	}
+	
+	/**
+	 * Sets the positions where this solution may differ from its parent.
+	 * 
+	 * @param changes the positions where this solution may differ from its
+	 *        parent, or {@code null} to discard the record
+	 */
+	void setChanges(Changes changes) {
+		this.changes = changes;
+	}
+	
+	/**
+	 * Returns {@code true} if this solution was evaluated by an algorithm and
+	 * its variables have not been modified since; {@code false} otherwise.
+	 * 
+	 * @return {@code true} if this solution was evaluated by an algorithm and
+	 *         its variables have not been modified since; {@code false}
+	 *         otherwise
+	 */
+	boolean isEvaluated() {
+		return evaluated;
+	}
+	
+	/**
+	 * Sets the flag indicating if this solution was evaluated by an algorithm
+	 * and its variables have not been modified since.
+	 * 
+	 * @param evaluated {@code true} if this solution was evaluated by an
+	 *        algorithm; {@code false} otherwise
+	 */
+	void setEvaluated(boolean evaluated) {
+		this.evaluated = evaluated;
 	}
 
 	/**
@@ -269,8 +537,10 @@ public class Solution implements Serializable {
 	 *         {@code false} otherwise
 	 */
 	public boolean violatesConstraints() {
-		for (int i = 0; i < constraints.length; i++) {
-			if (constraints[i] != 0.0) {
+		int start = offset + numberOfObjectives;
+		
+		for (int i = 0; i < numberOfConstraints; i++) {
+			if (values[start + i] != 0.0) {
 				return true;
 			}
 		}
@@ -287,7 +557,8 @@ public class Solution implements Serializable {
 	 *         {@code (index < 0) || (index >= getNumberOfConstraints())}
 	 */
 	public double getConstraint(int index) {
-		return constraints[index];
+		checkConstraintIndex(index);
+		return values[offset + numberOfObjectives + index];
 	}
 
 	/**
@@ -298,13 +569,12 @@ public class Solution implements Serializable {
 	 *         getNumberOfConstraints()}
 	 */
 	public void setConstraints(double[] constraints) {
-		if (constraints.length != this.constraints.length) {
+		if (constraints.length != numberOfConstraints) {
 			throw new IllegalArgumentException("invalid number of constraints");
 		}
 
-		for (int i = 0; i < constraints.length; i++) {
-			this.constraints[i] = constraints[i];
-		}
+		System.arraycopy(constraints, 0, values, offset + numberOfObjectives,
+				numberOfConstraints);
 	}
 
 	/**
@@ -314,7 +584,8 @@ public class Solution implements Serializable {
 	 * @return an array containing the constraints of this solution
 	 */
 	public double[] getConstraints() {
-		return constraints.clone();
+		int start = offset + numberOfObjectives;
+		return Arrays.copyOfRange(values, start, start + numberOfConstraints);
 	}
 
 	/**
@@ -326,25 +597,34 @@ public class Solution implements Serializable {
 	 *         {@code (index < 0) || (index >= getNumberOfConstraints())}
 	 */
 	public void setConstraint(int index, double constraint) {
-		constraints[index] = constraint;
+		checkConstraintIndex(index);
+		values[offset + numberOfObjectives + index] = constraint;
 	}
 
 	/**
 	 * Returns the value of the attribute that is associated with the specified
 	 * key, or {@code null} if no value has been associated with the key.
+	 * Typed attributes are boxed.
 	 * 
 	 * @param key the key whose associated value is to be returned
 	 * @return the value associated with the specified key, or {@code null} if
 	 *         no value has been associated with the key
 	 */
 	public Object getAttribute(String key) {
+		AttributeKey typedKey = AttributeKey.forName(key);
+		
+		if ((typedKey != null) && isSlotSet(typedKey)) {
+			return getSlot(typedKey);
+		}
+		
 		return attributes.get(key);
 	}
 
 	/**
 	 * Associates the specified value with the specified key. Returns the old
 	 * value associated with the key, or {@code null} if no prior value has been
-	 * associated with the key.
+	 * associated with the key.  If the key names a typed attribute and the
+	 * value has the matching type, the value is stored in its slot.
 	 * 
 	 * @param key the key with which the specified value is to be associated
 	 * @param value the value to be associated with the specified key
@@ -352,7 +632,19 @@ public class Solution implements Serializable {
 	 *         prior value has been associated with the key
 	 */
 	public Object setAttribute(String key, Serializable value) {
-		return attributes.put(key, value);
+		AttributeKey typedKey = AttributeKey.forName(key);
+		
+		if (typedKey == null) {
+			return attributes.put(key, value);
+		} else if (typedKey.accepts(value)) {
+			Object oldValue = removeAttribute(typedKey);
+			setSlot(typedKey, value);
+			return oldValue;
+		} else {
+			Object oldValue = removeAttribute(typedKey);
+			attributes.put(key, value);
+			return oldValue;
+		}
 	}
 
 	/**
@@ -365,6 +657,12 @@ public class Solution implements Serializable {
 	 *         prior value has been associated with the key
 	 */
 	public Object removeAttribute(String key) {
+		AttributeKey typedKey = AttributeKey.forName(key);
+		
+		if (typedKey != null) {
+			return removeAttribute(typedKey);
+		}
+		
 		return attributes.remove(key);
 	}
 
@@ -377,15 +675,33 @@ public class Solution implements Serializable {
 	 *         attributes; {@code false} otherwise
 	 */
 	public boolean hasAttribute(String key) {
+		AttributeKey typedKey = AttributeKey.forName(key);
+		
+		if ((typedKey != null) && isSlotSet(typedKey)) {
+			return true;
+		}
+		
 		return attributes.containsKey(key);
 	}
 
 	/**
-	 * Returns the {@link Map} containing this solution's attributes.
+	 * Returns the {@link Map} containing this solution's attributes.  Any
+	 * typed attributes are first moved from their slots into the map, so the
+	 * map contains all attributes and changes to the map are reflected in
+	 * this solution.
 	 * 
 	 * @return the {@code Map} containing this solution's attributes
 	 */
 	public Map<String, Serializable> getAttributes() {
+		if (slotMask != 0) {
+			attributes.putAll(getSlotAttributes());
+			slotMask = 0;
+			
+			if (objectSlots != null) {
+				Arrays.fill(objectSlots, null);
+			}
+		}
+		
 		return attributes;
 	}
 
@@ -403,7 +719,434 @@ public class Solution implements Serializable {
 	 * Removes all keys and values from this solution's attributes.
 	 */
 	public void clearAttributes() {
+		slotMask = 0;
+		
+		if (objectSlots != null) {
+			Arrays.fill(objectSlots, null);
+		}
+		
 		attributes.clear();
 	}
+	
+	/**
+	 * Returns the value of the specified {@code int} typed attribute.
+	 * 
+	 * @param key the typed attribute
+	 * @return the value of the typed attribute
+	 * @throws NullPointerException if no value is associated with the key
+	 * @throws IllegalArgumentException if the key is not an {@code int} typed
+	 *         attribute
+	 */
+	public int getIntAttribute(AttributeKey key) {
+		checkType(key, AttributeKey.Type.INT);
+		
+		if (isSlotSet(key)) {
+			return intSlots[key.getIndex()];
+		}
+		
+		return (Integer)getMappedAttribute(key);
+	}
+	
+	/**
+	 * Sets the value of the specified {@code int} typed attribute.
+	 * 
+	 * @param key the typed attribute
+	 * @param value the new value of the typed attribute
+	 * @throws IllegalArgumentException if the key is not an {@code int} typed
+	 *         attribute
+	 */
+	public void setIntAttribute(AttributeKey key, int value) {
+		checkType(key, AttributeKey.Type.INT);
+		clearMappedAttribute(key);
+		
+		if ((intSlots == null) || (key.getIndex() >= intSlots.length)) {
+			intSlots = Arrays.copyOf(intSlots == null ? new int[0] : intSlots,
+					AttributeKey.getNumberOfKeys());
+		}
+		
+		intSlots[key.getIndex()] = value;
+		slotMask |= 1L << key.getIndex();
+	}
+	
+	/**
+	 * Returns the value of the specified {@code double} typed attribute.
+	 * 
+	 * @param key the typed attribute
+	 * @return the value of the typed attribute
+	 * @throws NullPointerException if no value is associated with the key
+	 * @throws IllegalArgumentException if the key is not a {@code double}
+	 *         typed attribute
+	 */
+	public double getDoubleAttribute(AttributeKey key) {
+		checkType(key, AttributeKey.Type.DOUBLE);
+		
+		if (isSlotSet(key)) {
+			return doubleSlots[key.getIndex()];
+		}
+		
+		return (Double)getMappedAttribute(key);
+	}
+	
+	/**
+	 * Sets the value of the specified {@code double} typed attribute.
+	 * 
+	 * @param key the typed attribute
+	 * @param value the new value of the typed attribute
+	 * @throws IllegalArgumentException if the key is not a {@code double}
+	 *         typed attribute
+	 */
+	public void setDoubleAttribute(AttributeKey key, double value) {
+		checkType(key, AttributeKey.Type.DOUBLE);
+		clearMappedAttribute(key);
+		
+		if ((doubleSlots == null) || (key.getIndex() >= doubleSlots.length)) {
+			doubleSlots = Arrays.copyOf(doubleSlots == null ? new double[0] :
+					doubleSlots, AttributeKey.getNumberOfKeys());
+		}
+		
+		doubleSlots[key.getIndex()] = value;
+		slotMask |= 1L << key.getIndex();
+	}
+	
+	/**
+	 * Returns the value of the specified typed attribute, or {@code null} if
+	 * no value has been associated with the key.  {@code int} and
+	 * {@code double} values are boxed.
+	 * 
+	 * @param key the typed attribute
+	 * @return the value of the typed attribute, or {@code null} if no value
+	 *         has been associated with the key
+	 */
+	public Object getAttribute(AttributeKey key) {
+		if (isSlotSet(key)) {
+			return getSlot(key);
+		}
+		
+		return attributes.isEmpty() ? null : attributes.get(key.getName());
+	}
+	
+	/**
+	 * Associates the specified value with the typed attribute.  This is
+	 * equivalent to {@link #setAttribute(String, Serializable)}.
+	 * 
+	 * @param key the typed attribute
+	 * @param value the value to be associated with the typed attribute
+	 * @return the old value associated with the key, or {@code null} if no
+	 *         prior value has been associated with the key
+	 */
+	public Object setAttribute(AttributeKey key, Serializable value) {
+		return setAttribute(key.getName(), value);
+	}
+	
+	/**
+	 * Returns {@code true} if a value is associated with the typed attribute;
+	 * {@code false} otherwise.
+	 * 
+	 * @param key the typed attribute
+	 * @return {@code true} if a value is associated with the typed attribute;
+	 *         {@code false} otherwise
+	 */
+	public boolean hasAttribute(AttributeKey key) {
+		return isSlotSet(key) || (!attributes.isEmpty() &&
+				attributes.containsKey(key.getName()));
+	}
+	
+	/**
+	 * Removes the typed attribute from this solution.  Returns the old value
+	 * associated with the key, or {@code null} if no prior value has been
+	 * associated with the key.
+	 * 
+	 * @param key the typed attribute
+	 * @return the old value associated with the key, or {@code null} if no
+	 *         prior value has been associated with the key
+	 */
+	public Object removeAttribute(AttributeKey key) {
+		Object oldValue = null;
+		
+		if (isSlotSet(key)) {
+			oldValue = getSlot(key);
+			clearSlot(key);
+		}
+		
+		if (!attributes.isEmpty() && attributes.containsKey(key.getName())) {
+			oldValue = attributes.remove(key.getName());
+		}
+		
+		return oldValue;
+	}
+	
+	/**
+	 * Throws an exception if the typed attribute does not store values of the
+	 * specified type.
+	 * 
+	 * @param key the typed attribute
+	 * @param type the required type
+	 * @throws IllegalArgumentException if the typed attribute does not store
+	 *         values of the specified type
+	 */
+	private static void checkType(AttributeKey key, AttributeKey.Type type) {
+		if (key.getType() != type) {
+			throw new IllegalArgumentException("attribute " + key +
+					" does not store " + type + " values");
+		}
+	}
+	
+	/**
+	 * Returns a new map containing the boxed values of the typed attributes
+	 * stored in slots.
+	 * 
+	 * @return a new map containing the boxed values of the typed attributes
+	 *         stored in slots
+	 */
+	private Map<String, Serializable> getSlotAttributes() {
+		Map<String, Serializable> result = new HashMap<String, Serializable>();
+		long mask = slotMask;
+		
+		while (mask != 0) {
+			AttributeKey key = AttributeKey.forIndex(
+					Long.numberOfTrailingZeros(mask));
+			result.put(key.getName(), getSlot(key));
+			mask &= mask - 1;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns {@code true} if the typed attribute is stored in its slot;
+	 * {@code false} otherwise.
+	 * 
+	 * @param key the typed attribute
+	 * @return {@code true} if the typed attribute is stored in its slot;
+	 *         {@code false} otherwise
+	 */
+	private boolean isSlotSet(AttributeKey key) {
+		return (slotMask & (1L << key.getIndex())) != 0;
+	}
+	
+	/**
+	 * Returns the boxed value stored in the slot of the typed attribute.
+	 * 
+	 * @param key the typed attribute
+	 * @return the boxed value stored in the slot of the typed attribute
+	 */
+	private Serializable getSlot(AttributeKey key) {
+		switch (key.getType()) {
+		case INT:
+			return intSlots[key.getIndex()];
+		case DOUBLE:
+			return doubleSlots[key.getIndex()];
+		default:
+			return objectSlots[key.getIndex()];
+		}
+	}
+	
+	/**
+	 * Stores a value, which must be accepted by the typed attribute, in the
+	 * slot of the typed attribute.
+	 * 
+	 * @param key the typed attribute
+	 * @param value the value
+	 */
+	private void setSlot(AttributeKey key, Serializable value) {
+		switch (key.getType()) {
+		case INT:
+			setIntAttribute(key, (Integer)value);
+			break;
+		case DOUBLE:
+			setDoubleAttribute(key, (Double)value);
+			break;
+		default:
+			clearMappedAttribute(key);
+			
+			if ((objectSlots == null) ||
+					(key.getIndex() >= objectSlots.length)) {
+				objectSlots = Arrays.copyOf(objectSlots == null ?
+						new Serializable[0] : objectSlots,
+						AttributeKey.getNumberOfKeys());
+			}
+			
+			objectSlots[key.getIndex()] = value;
+			slotMask |= 1L << key.getIndex();
+		}
+	}
+	
+	/**
+	 * Clears the slot of the typed attribute.
+	 * 
+	 * @param key the typed attribute
+	 */
+	private void clearSlot(AttributeKey key) {
+		slotMask &= ~(1L << key.getIndex());
+		
+		if (key.getType() == AttributeKey.Type.OBJECT) {
+			objectSlots[key.getIndex()] = null;
+		}
+	}
+	
+	/**
+	 * Returns the value of a typed attribute stored in the attribute map,
+	 * which occurs after {@link #getAttributes()} or deserialization.
+	 * 
+	 * @param key the typed attribute
+	 * @return the value of the typed attribute
+	 * @throws NullPointerException if no value is associated with the key
+	 */
+	private Object getMappedAttribute(AttributeKey key) {
+		Object value = attributes.isEmpty() ? null :
+				attributes.get(key.getName());
+		
+		if (value == null) {
+			throw new NullPointerException("attribute " + key + " is not set");
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * Removes a typed attribute from the attribute map prior to storing the
+	 * attribute in its slot.
+	 * 
+	 * @param key the typed attribute
+	 */
+	private void clearMappedAttribute(AttributeKey key) {
+		if (!attributes.isEmpty()) {
+			attributes.remove(key.getName());
+		}
+	}
+
+	/**
+	 * Throws an exception if the objective index is out of range.  Since the
+	 * row of this solution may be part of a larger array, the index is
+	 * checked explicitly.
+	 * 
+	 * @param index the objective index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	private void checkObjectiveIndex(int index) {
+		if ((index < 0) || (index >= numberOfObjectives)) {
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+	}
+	
+	/**
+	 * Throws an exception if the constraint index is out of range.  Since the
+	 * row of this solution may be part of a larger array, the index is
+	 * checked explicitly.
+	 * 
+	 * @param index the constraint index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	private void checkConstraintIndex(int index) {
+		if ((index < 0) || (index >= numberOfConstraints)) {
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+	}
+	
+	/**
+	 * Copies the objectives and constraints of this solution into the
+	 * specified array, after which this solution is a view over that array.
+	 * The values are read through {@link #getObjective(int)} and
+	 * {@link #getConstraint(int)} so subclasses can supply pending values.
+	 * 
+	 * @param buffer the array that will store the objectives and constraints
+	 * @param offset the index in the array of the first objective
+	 */
+	void bind(double[] buffer, int offset) {
+		for (int i = 0; i < numberOfObjectives; i++) {
+			buffer[offset + i] = getObjective(i);
+		}
+		
+		for (int i = 0; i < numberOfConstraints; i++) {
+			buffer[offset + numberOfObjectives + i] = getConstraint(i);
+		}
+		
+		this.values = buffer;
+		this.offset = offset;
+	}
+	
+	/**
+	 * Returns {@code true} if this solution is a view over the specified
+	 * array starting at the specified offset; {@code false} otherwise.
+	 * 
+	 * @param buffer the array
+	 * @param offset the index in the array of the first objective
+	 * @return {@code true} if this solution is a view over the specified
+	 *         array starting at the specified offset; {@code false} otherwise
+	 */
+	boolean isBound(double[] buffer, int offset) {
+		return (values == buffer) && (this.offset == offset);
+	}
+	
+	/**
+	 * Copies the objectives and constraints of this solution into an array
+	 * owned by this solution, so it is no longer a view over a shared array.
+	 */
+	void unbind() {
+		values = Arrays.copyOfRange(values, offset,
+				offset + numberOfObjectives + numberOfConstraints);
+		offset = 0;
+	}
+	
+	/**
+	 * Writes this solution, storing the objectives and constraints in
+	 * separate arrays and the typed attributes in the attribute map.
+	 * 
+	 * @param stream the output stream
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		int start = offset + numberOfObjectives;
+		ObjectOutputStream.PutField fields = stream.putFields();
+		
+		fields.put("variables", variables);
+		fields.put("objectives", Arrays.copyOfRange(values, offset, start));
+		fields.put("constraints", Arrays.copyOfRange(values, start,
+				start + numberOfConstraints));
+		
+		if (slotMask == 0) {
+			fields.put("attributes", attributes);
+		} else {
+			Map<String, Serializable> allAttributes =
+					new HashMap<String, Serializable>(attributes);
+			allAttributes.putAll(getSlotAttributes());
+			fields.put("attributes", allAttributes);
+		}
+		
+		stream.writeFields();
+	}
+	
+	/**
+	 * Reads a solution written by {@link #writeObject(ObjectOutputStream)}.
+	 * 
+	 * @param stream the input stream
+	 * @throws IOException if an I/O error occurred
+	 * @throws ClassNotFoundException if the class of a serialized object could
+	 *         not be found
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream stream) throws IOException,
+			ClassNotFoundException {
+		ObjectInputStream.GetField fields = stream.readFields();
+		double[] objectives = (double[])fields.get("objectives", null);
+		double[] constraints = (double[])fields.get("constraints", null);
+		
+		variables = (Variable[])fields.get("variables", null);
+		attributes = (Map<String, Serializable>)fields.get("attributes",
+				null);
+		numberOfObjectives = objectives.length;
+		numberOfConstraints = constraints.length;
+		values = new double[numberOfObjectives + numberOfConstraints];
+		offset = 0;
+		
+		System.arraycopy(objectives, 0, values, 0, numberOfObjectives);
+		System.arraycopy(constraints, 0, values, numberOfObjectives,
+				numberOfConstraints);
+		
+		// solutions serialized together may still share variables
+		if (variables.length > 0) {
+			shareVariables();
+		}
+	}
 
 }
@@ -0,0 +1,234 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.Random;
+
+/**
+ * Fast, splittable pseudo-random number generator using the xoroshiro128**
+ * algorithm [1] with 128 bits of state, seeded using SplitMix64 [2].  The
+ * generator can be {@link #split() split} into independent streams, each
+ * covering a non-overlapping subsequence of 2<sup>64</sup> values, which are
+ * intended to be assigned to concurrent runs with
+ * {@link PRNG#setLocalRandom(Random)}.
+ * <p>
+ * Unlike {@link Random}, this generator is not thread-safe and performs no
+ * synchronization.  Each instance must be confined to a single thread.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Blackman, D. and Vigna, S.  "Scrambled Linear Pseudorandom Number
+ *       Generators."  ACM Transactions on Mathematical Software, 47(4):1-32,
+ *       2021.
+ *   <li>Steele, G. L., Lea, D., and Flood, C. H.  "Fast Splittable
+ *       Pseudorandom Number Generators."  Proceedings of the 2014 ACM
+ *       International Conference on Object Oriented Programming Systems
+ *       Languages &amp; Applications, pp. 453-472, 2014.
+ * </ol>
+ */
+public class XoroshiroRandom extends Random {
+
+	private static final long serialVersionUID = -6083520947331839227L;
+
+	/**
+	 * The jump polynomial advancing the state by 2<sup>64</sup> steps.
+	 */
+	private static final long[] JUMP = { 0xdf900294d8f554a5L,
+		0x170865df4b3201fcL };
+
+	/**
+	 * The first half of the state.
+	 */
+	private long state0;
+
+	/**
+	 * The second half of the state.
+	 */
+	private long state1;
+
+	/**
+	 * The second of the pair of Gaussian values generated by the polar
+	 * method; only valid if {@code hasNextGaussian} is {@code true}.
+	 */
+	private double nextGaussian;
+
+	/**
+	 * {@code true} if {@code nextGaussian} holds a value that has not yet
+	 * been returned; {@code false} otherwise.
+	 */
+	private boolean hasNextGaussian;
+
+	/**
+	 * Constructs a new generator with a seed derived from the current time.
+	 */
+	public XoroshiroRandom() {
+		this(System.nanoTime() ^ System.currentTimeMillis());
+	}
+
+	/**
+	 * Constructs a new generator with the specified seed.
+	 *
+	 * @param seed the seed
+	 */
+	public XoroshiroRandom(long seed) {
+		super(seed);
+	}
+
+	/**
+	 * Constructs a new generator with the specified state.
+	 *
+	 * @param state0 the first half of the state
+	 * @param state1 the second half of the state
+	 */
+	private XoroshiroRandom(long state0, long state1) {
+		super(0);
+		this.state0 = state0;
+		this.state1 = state1;
+	}
+
+	/**
+	 * Sets the seed of this generator.  The 128-bit state is expanded from the
+	 * seed using SplitMix64, so similar seeds produce uncorrelated streams.
+	 *
+	 * @param seed the seed
+	 */
+	@Override
+	public void setSeed(long seed) {
+		// called by the Random constructor before field initialization
+		long x = seed;
+
+		x += 0x9e3779b97f4a7c15L;
+		state0 = mix(x);
+		x += 0x9e3779b97f4a7c15L;
+		state1 = mix(x);
+		hasNextGaussian = false;
+
+		// the all-zero state is invalid
+		if ((state0 == 0) && (state1 == 0)) {
+			state1 = 1;
+		}
+	}
+
+	/**
+	 * The SplitMix64 finalizer.
+	 *
+	 * @param z the value
+	 * @return the mixed value
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	@Override
+	public long nextLong() {
+		long s0 = state0;
+		long s1 = state1;
+		long result = Long.rotateLeft(s0 * 5, 7) * 9;
+
+		s1 ^= s0;
+		state0 = Long.rotateLeft(s0, 24) ^ s1 ^ (s1 << 16);
+		state1 = Long.rotateLeft(s1, 37);
+
+		return result;
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int)(nextLong() >>> (64 - bits));
+	}
+
+	@Override
+	public double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+
+	@Override
+	public float nextFloat() {
+		return (nextLong() >>> 40) * 0x1.0p-24f;
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return nextLong() < 0;
+	}
+
+	@Override
+	public double nextGaussian() {
+		if (hasNextGaussian) {
+			hasNextGaussian = false;
+			return nextGaussian;
+		}
+
+		double v1;
+		double v2;
+		double s;
+
+		do {
+			v1 = 2.0 * nextDouble() - 1.0;
+			v2 = 2.0 * nextDouble() - 1.0;
+			s = v1 * v1 + v2 * v2;
+		} while ((s >= 1.0) || (s == 0.0));
+
+		double multiplier = StrictMath.sqrt(-2.0 * StrictMath.log(s) / s);
+
+		nextGaussian = v2 * multiplier;
+		hasNextGaussian = true;
+		return v1 * multiplier;
+	}
+
+	/**
+	 * Advances the state of this generator by 2<sup>64</sup> steps.
+	 */
+	public void jump() {
+		long s0 = 0;
+		long s1 = 0;
+
+		for (int i = 0; i < JUMP.length; i++) {
+			for (int b = 0; b < 64; b++) {
+				if ((JUMP[i] & (1L << b)) != 0) {
+					s0 ^= state0;
+					s1 ^= state1;
+				}
+
+				nextLong();
+			}
+		}
+
+		state0 = s0;
+		state1 = s1;
+		hasNextGaussian = false;
+	}
+
+	/**
+	 * Returns a new generator producing the next 2<sup>64</sup> values of this
+	 * generator's sequence, and advances this generator past those values.
+	 * Consequently, the streams produced by repeatedly splitting a generator
+	 * never overlap, and the streams are identical each time the same seed is
+	 * split in the same order.
+	 *
+	 * @return a new generator producing an independent stream
+	 */
+	public XoroshiroRandom split() {
+		XoroshiroRandom result = new XoroshiroRandom(state0, state1);
+		jump();
+		return result;
+	}
+
+}
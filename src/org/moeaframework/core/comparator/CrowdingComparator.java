@@ -17,7 +17,7 @@
  */
 package org.moeaframework.core.comparator;
 
-import static org.moeaframework.core.FastNondominatedSorting.CROWDING_ATTRIBUTE;
+import static org.moeaframework.core.FastNondominatedSorting.CROWDING_KEY;
 
 import java.io.Serializable;
 import java.util.Comparator;
@@ -43,8 +43,8 @@ Comparator<Solution>, Serializable {
 
 	@Override
 	public int compare(Solution solution1, Solution solution2) {
-		double crowding1 = (Double)solution1.getAttribute(CROWDING_ATTRIBUTE);
-		double crowding2 = (Double)solution2.getAttribute(CROWDING_ATTRIBUTE);
+		double crowding1 = solution1.getDoubleAttribute(CROWDING_KEY);
+		double crowding2 = solution2.getDoubleAttribute(CROWDING_KEY);
 		
 		return -Double.compare(crowding1, crowding2);
 	}
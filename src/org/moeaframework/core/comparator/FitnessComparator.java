@@ -17,7 +17,7 @@
  */
 package org.moeaframework.core.comparator;
 
-import static org.moeaframework.core.FitnessEvaluator.FITNESS_ATTRIBUTE;
+import static org.moeaframework.core.FitnessEvaluator.FITNESS_KEY;
 
 import java.io.Serializable;
 import java.util.Comparator;
@@ -69,8 +69,8 @@ Comparator<Solution>, Serializable {
 	@Override
 	public int compare(Solution solution1, Solution solution2) {
 		return (largerValuesPreferred ? -1 : 1) * Double.compare(
-				(Double)solution1.getAttribute(FITNESS_ATTRIBUTE),
-				(Double)solution2.getAttribute(FITNESS_ATTRIBUTE));
+				solution1.getDoubleAttribute(FITNESS_KEY),
+				solution2.getDoubleAttribute(FITNESS_KEY));
 	}
 
 }
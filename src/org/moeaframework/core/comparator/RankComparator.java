@@ -17,7 +17,7 @@
  */
 package org.moeaframework.core.comparator;
 
-import static org.moeaframework.core.FastNondominatedSorting.RANK_ATTRIBUTE;
+import static org.moeaframework.core.FastNondominatedSorting.RANK_KEY;
 
 import java.io.Serializable;
 import java.util.Comparator;
@@ -42,8 +42,8 @@ Comparator<Solution>, Serializable {
 
 	@Override
 	public int compare(Solution solution1, Solution solution2) {
-		int rank1 = (Integer)solution1.getAttribute(RANK_ATTRIBUTE);
-		int rank2 = (Integer)solution2.getAttribute(RANK_ATTRIBUTE);
+		int rank1 = solution1.getIntAttribute(RANK_KEY);
+		int rank2 = solution2.getIntAttribute(RANK_KEY);
 		
 		return Integer.compare(rank1, rank2);
 	}
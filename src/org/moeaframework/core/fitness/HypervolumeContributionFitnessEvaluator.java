@@ -19,20 +19,36 @@ package org.moeaframework.core.fitness;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.moeaframework.core.FitnessEvaluator;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.indicator.Hypervolume;
+import org.moeaframework.core.indicator.HypervolumeContributions;
 
 /**
  * Assigns the fitness of solutions based on their contribution to the overall
  * hypervolume.
+ * <p>
+ * The contributions are computed directly using
+ * {@link HypervolumeContributions}.  With more than three objectives, the
+ * population and contributions from the previous invocation are retained.  If
+ * the population differs from the previous one by at most two added or
+ * removed solutions and the normalization bounds are unchanged, as is typical
+ * in steady-state algorithms like {@link org.moeaframework.algorithm.SMSEMOA},
+ * the contributions are updated incrementally rather than recomputed.
  */
 public class HypervolumeContributionFitnessEvaluator implements FitnessEvaluator {
 	
+	/**
+	 * The maximum number of added and removed solutions for which the
+	 * contributions are updated incrementally.
+	 */
+	private static final int MAXIMUM_CHANGES = 2;
+	
 	/**
 	 * The problem.
 	 */
@@ -44,6 +60,43 @@ public class HypervolumeContributionFitnessEvaluator implements FitnessEvaluator
 	 */
 	private final double offset;
 	
+	/**
+	 * The hypervolume contribution calculator.
+	 */
+	private final HypervolumeContributions calculator;
+	
+	/**
+	 * The reference point of the normalized objectives.
+	 */
+	private final double[] referencePoint;
+	
+	/**
+	 * The solutions from the previous invocation, or {@code null} if the
+	 * contributions can not be updated incrementally.
+	 */
+	private List<Solution> previousSolutions;
+	
+	/**
+	 * The packed, normalized objectives of the solutions from the previous
+	 * invocation.
+	 */
+	private double[] previousPoints;
+	
+	/**
+	 * The contributions of the solutions from the previous invocation.
+	 */
+	private double[] previousContributions;
+	
+	/**
+	 * The minimum bounds used to normalize the previous invocation.
+	 */
+	private double[] previousMinimum;
+	
+	/**
+	 * The maximum bounds used to normalize the previous invocation.
+	 */
+	private double[] previousMaximum;
+	
 	/**
 	 * Constructs a new hypervolume contribution fitness evaluator with an
 	 * offset of 100.
@@ -65,61 +118,189 @@ public class HypervolumeContributionFitnessEvaluator implements FitnessEvaluator
 		super();
 		this.problem = problem;
 		this.offset = offset;
+		
+		calculator = new HypervolumeContributions(
+				problem.getNumberOfObjectives());
+		referencePoint = new double[problem.getNumberOfObjectives()];
 	}
 
 	@Override
 	public void evaluate(Population population) {
 		if (population.size() <= 2) {
 			for (Solution solution : population) {
-				solution.setAttribute(FITNESS_ATTRIBUTE, 0.0);
+				solution.setDoubleAttribute(FITNESS_KEY, 0.0);
 			}
+			
+			previousSolutions = null;
 		} else {
 			int numberOfObjectives = problem.getNumberOfObjectives();
-			List<Solution> solutions = normalize(population);
-			List<Solution> solutionsCopy = new ArrayList<Solution>(solutions);
-			double totalVolume = Hypervolume.calculateHypervolume(solutionsCopy, solutionsCopy.size(), numberOfObjectives);
+			double[] minimum = new double[numberOfObjectives];
+			double[] maximum = new double[numberOfObjectives];
+			double[] points = normalize(population, minimum, maximum);
+			double[] contributions = null;
+			
+			if (numberOfObjectives > 3) {
+				contributions = update(population, points, minimum, maximum);
+			}
+			
+			if (contributions == null) {
+				contributions = calculator.calculate(points, population.size(),
+						referencePoint);
+			}
 			
 			for (int i = 0; i < population.size(); i++) {
-				solutionsCopy = new ArrayList<Solution>(solutions);
-				solutionsCopy.remove(i);
+				population.get(i).setDoubleAttribute(FITNESS_KEY,
+						contributions[i]);
+			}
+			
+			if (numberOfObjectives > 3) {
+				previousSolutions = new ArrayList<Solution>(population.size());
 				
-				double volume = Hypervolume.calculateHypervolume(solutionsCopy, solutionsCopy.size(), numberOfObjectives);
-				population.get(i).setAttribute(FITNESS_ATTRIBUTE, totalVolume - volume);
+				for (Solution solution : population) {
+					previousSolutions.add(solution);
+				}
+				
+				previousPoints = points;
+				previousContributions = contributions;
+				previousMinimum = minimum;
+				previousMaximum = maximum;
 			}
 		}
 	}
 	
+	/**
+	 * Attempts to update the contributions from the previous invocation by
+	 * removing and adding the solutions that differ.
+	 * 
+	 * @param population the population
+	 * @param points the packed, normalized objectives of the population
+	 * @param minimum the minimum bounds used to normalize the population
+	 * @param maximum the maximum bounds used to normalize the population
+	 * @return the contributions of the population, or {@code null} if the
+	 *         contributions can not be updated incrementally
+	 */
+	private double[] update(Population population, double[] points,
+			double[] minimum, double[] maximum) {
+		if ((previousSolutions == null) ||
+				!Arrays.equals(minimum, previousMinimum) ||
+				!Arrays.equals(maximum, previousMaximum)) {
+			return null;
+		}
+		
+		int M = problem.getNumberOfObjectives();
+		Map<Solution, Integer> previousIndices =
+				new IdentityHashMap<Solution, Integer>();
+		
+		for (int i = 0; i < previousSolutions.size(); i++) {
+			previousIndices.put(previousSolutions.get(i), i);
+		}
+		
+		List<Integer> added = new ArrayList<Integer>();
+		boolean[] retained = new boolean[previousSolutions.size()];
+		int numberOfRetained = 0;
+		
+		for (int i = 0; i < population.size(); i++) {
+			Integer index = previousIndices.get(population.get(i));
+			
+			if (index == null) {
+				added.add(i);
+			} else if (retained[index]) {
+				return null;
+			} else {
+				for (int j = 0; j < M; j++) {
+					if (points[i*M + j] != previousPoints[index*M + j]) {
+						return null;
+					}
+				}
+				
+				retained[index] = true;
+				numberOfRetained++;
+			}
+		}
+		
+		int numberOfRemoved = previousSolutions.size() - numberOfRetained;
+		
+		if (numberOfRemoved + added.size() > MAXIMUM_CHANGES) {
+			return null;
+		}
+		
+		int size = previousSolutions.size();
+		int capacity = size + added.size();
+		double[] workingPoints = Arrays.copyOf(previousPoints, capacity*M);
+		double[] workingContributions = Arrays.copyOf(previousContributions,
+				capacity);
+		List<Solution> workingSolutions = new ArrayList<Solution>(
+				previousSolutions);
+		
+		// remove in reverse order so the indices remain valid
+		for (int i = previousSolutions.size() - 1; i >= 0; i--) {
+			if (!retained[i]) {
+				calculator.remove(workingPoints, size, workingContributions, i,
+						referencePoint);
+				workingSolutions.remove(i);
+				size--;
+			}
+		}
+		
+		for (int i : added) {
+			System.arraycopy(points, i*M, workingPoints, size*M, M);
+			size++;
+			calculator.add(workingPoints, size, workingContributions,
+					referencePoint);
+			workingSolutions.add(population.get(i));
+		}
+		
+		Map<Solution, Integer> workingIndices =
+				new IdentityHashMap<Solution, Integer>();
+		
+		for (int i = 0; i < size; i++) {
+			workingIndices.put(workingSolutions.get(i), i);
+		}
+		
+		double[] contributions = new double[population.size()];
+		
+		for (int i = 0; i < population.size(); i++) {
+			contributions[i] = workingContributions[workingIndices.get(
+					population.get(i))];
+		}
+		
+		return contributions;
+	}
+	
 	/**
 	 * Normalizes the population using a reference point calculated by the
-	 * maximum extent of the population plus an offset.
+	 * maximum extent of the population plus an offset.  The normalized
+	 * objectives are minimized with respect to the reference point
+	 * {@code (0, 0, ..., 0)}.
 	 * 
 	 * @param population the population to normalize
-	 * @return the normalized solutions
+	 * @param min the array to store the minimum bounds of the population
+	 * @param max the array to store the maximum bounds of the population
+	 * @return the packed, normalized objectives
 	 */
-	private List<Solution> normalize(Population population) {
-		List<Solution> result = new ArrayList<Solution>();
-		
-		double[] min = new double[problem.getNumberOfObjectives()];
-		double[] max = new double[problem.getNumberOfObjectives()];
+	private double[] normalize(Population population, double[] min,
+			double[] max) {
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		double[] result = new double[population.size() * numberOfObjectives];
 		
 		Arrays.fill(min, Double.POSITIVE_INFINITY);
 		Arrays.fill(max, Double.NEGATIVE_INFINITY);
 		
 		for (Solution solution : population) {
-			for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+			for (int i = 0; i < numberOfObjectives; i++) {
 				min[i] = Math.min(min[i], solution.getObjective(i));
 				max[i] = Math.max(max[i], solution.getObjective(i));
 			}
 		}
 		
-		for (Solution solution : population) {
-			Solution newSolution = solution.copy();
+		for (int j = 0; j < population.size(); j++) {
+			Solution solution = population.get(j);
 			
-			for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-				newSolution.setObjective(i, (max[i] - (newSolution.getObjective(i) - min[i]) + offset) / (max[i] - min[i]));
+			for (int i = 0; i < numberOfObjectives; i++) {
+				result[j*numberOfObjectives + i] = -(max[i] -
+						(solution.getObjective(i) - min[i]) + offset) /
+						(max[i] - min[i]);
 			}
-
-			result.add(newSolution);
 		}
 		
 		return result;
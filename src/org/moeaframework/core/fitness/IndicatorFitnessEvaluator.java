@@ -136,7 +136,7 @@ public abstract class IndicatorFitnessEvaluator implements FitnessEvaluator {
 				}
 			}
 			
-			population.get(i).setAttribute(FitnessEvaluator.FITNESS_ATTRIBUTE, sum);
+			population.get(i).setDoubleAttribute(FitnessEvaluator.FITNESS_KEY, sum);
 		}
 	}
 	
@@ -158,12 +158,12 @@ public abstract class IndicatorFitnessEvaluator implements FitnessEvaluator {
 		for (int i = 0; i < population.size(); i++) {
 			if (i != removeIndex) {
 				Solution solution = population.get(i);
-				double fitness = (Double)solution.getAttribute(
-						FitnessEvaluator.FITNESS_ATTRIBUTE);
+				double fitness = solution.getDoubleAttribute(
+						FitnessEvaluator.FITNESS_KEY);
 				
 				fitness -= Math.exp((-fitcomp[removeIndex][i] / maxAbsIndicatorValue) / kappa);
 				
-				solution.setAttribute(FITNESS_ATTRIBUTE, fitness);
+				solution.setDoubleAttribute(FITNESS_KEY, fitness);
 			}
 		}
 		
@@ -19,7 +19,7 @@ package org.moeaframework.core.indicator;
 
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Problem;
-import org.moeaframework.core.Solution;
+import org.moeaframework.core.PackedSolutions;
 
 /**
  * Additive &epsilon;-indicator for minimization problems. Finds the minimum
@@ -61,19 +61,24 @@ public class AdditiveEpsilonIndicator extends NormalizedIndicator {
 	static double evaluate(Problem problem,
 			NondominatedPopulation approximationSet,
 			NondominatedPopulation referenceSet) {
+		PackedSolutions approximation = IndicatorUtils.pack(problem,
+				approximationSet);
+		PackedSolutions reference = IndicatorUtils.pack(problem, referenceSet);
+		double[] values1 = reference.getValues();
+		double[] values2 = approximation.getValues();
 		double eps_i = 0.0;
 
-		for (int i = 0; i < referenceSet.size(); i++) {
-			Solution solution1 = referenceSet.get(i);
+		for (int i = 0; i < reference.size(); i++) {
+			int offset1 = i * reference.getStride();
 			double eps_j = Double.POSITIVE_INFINITY;
 
-			for (int j = 0; j < approximationSet.size(); j++) {
-				Solution solution2 = approximationSet.get(j);
+			for (int j = 0; j < approximation.size(); j++) {
+				int offset2 = j * approximation.getStride();
 				double eps_k = 0.0;
 
 				for (int k = 0; k < problem.getNumberOfObjectives(); k++) {
-					eps_k = Math.max(eps_k, solution2.getObjective(k)
-							- solution1.getObjective(k));
+					eps_k = Math.max(eps_k, values2[offset2 + k]
+							- values1[offset1 + k]);
 				}
 
 				eps_j = Math.min(eps_j, eps_k);
@@ -0,0 +1,553 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.moeaframework.core.EpsilonBoxDominanceArchive;
+import org.moeaframework.core.Indicator;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PackedSolutions;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.comparator.AggregateConstraintComparator;
+import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
+
+/**
+ * Evaluates the generational distance, inverted generational distance,
+ * additive &epsilon;-indicator, maximum Pareto front error and contribution
+ * of an approximation set together.  The objectives of the approximation set
+ * are normalized into a single array without copying the solutions.  The
+ * distance from each approximation solution to the nearest reference solution
+ * is computed once and shared by the generational distance and maximum Pareto
+ * front error, and the reference set is indexed once when the evaluator is
+ * constructed.  The values are identical to those computed by {@link GenerationalDistance},
+ * {@link InvertedGenerationalDistance}, {@link AdditiveEpsilonIndicator},
+ * {@link MaximumParetoFrontError} and {@link Contribution}.
+ * <p>
+ * The generational distance and inverted generational distance use the powers
+ * configured by {@link Settings#getGDPower()} and
+ * {@link Settings#getIGDPower()}.
+ */
+public class FusedIndicatorEvaluator {
+
+	/**
+	 * The problem.
+	 */
+	private final Problem problem;
+
+	/**
+	 * The normalizer to normalize populations so that all objectives reside in
+	 * the range {@code [0, 1]}.
+	 */
+	private final Normalizer normalizer;
+
+	/**
+	 * The normalized objectives of the reference set.
+	 */
+	private final double[] normalizedReferenceSet;
+
+	/**
+	 * The index over the normalized reference set.
+	 */
+	private final NearestNeighborIndex referenceIndex;
+
+	/**
+	 * The reference set used by the contribution indicator, which is thinned
+	 * by the &epsilon;-box dominance comparator if one is given.
+	 */
+	private final PackedSolutions contributionReferenceSet;
+
+	/**
+	 * The &epsilon;-box dominance comparator used by the contribution
+	 * indicator, or {@code null} if solutions must match exactly.
+	 */
+	private final EpsilonBoxDominanceComparator comparator;
+
+	/**
+	 * The &epsilon;-boxes of the solutions in the contribution reference set,
+	 * or {@code null} if the boxes are not used.
+	 */
+	private final Box[] referenceBoxes;
+
+	/**
+	 * The contribution indicator used when the comparator is a subclass of
+	 * {@link EpsilonBoxDominanceComparator}, whose boxes may differ; or
+	 * {@code null} if not used.
+	 */
+	private final Contribution contribution;
+
+	/**
+	 * The power used by the generational distance.
+	 */
+	private final double gdPower;
+
+	/**
+	 * The power used by the inverted generational distance.
+	 */
+	private final double igdPower;
+
+	/**
+	 * {@code true} if {@code calculate} has been invoked; {@code false}
+	 * otherwise.
+	 */
+	private boolean calculated;
+
+	/**
+	 * The generational distance from the last invocation of
+	 * {@code calculate}.
+	 */
+	private double generationalDistance;
+
+	/**
+	 * The inverted generational distance from the last invocation of
+	 * {@code calculate}.
+	 */
+	private double invertedGenerationalDistance;
+
+	/**
+	 * The additive &epsilon;-indicator from the last invocation of
+	 * {@code calculate}.
+	 */
+	private double additiveEpsilonIndicator;
+
+	/**
+	 * The maximum Pareto front error from the last invocation of
+	 * {@code calculate}.
+	 */
+	private double maximumParetoFrontError;
+
+	/**
+	 * The contribution from the last invocation of {@code calculate}.
+	 */
+	private double contributionValue;
+
+	/**
+	 * Constructs a fused indicator evaluator for the specified problem and
+	 * corresponding reference set.  The contribution indicator counts
+	 * reference solutions matched exactly by the approximation set.
+	 *
+	 * @param problem the problem
+	 * @param referenceSet the reference set for the problem
+	 * @throws IllegalArgumentException if the reference set contains fewer
+	 *         than two solutions
+	 */
+	public FusedIndicatorEvaluator(Problem problem,
+			NondominatedPopulation referenceSet) {
+		this(problem, referenceSet, null);
+	}
+
+	/**
+	 * Constructs a fused indicator evaluator for the specified problem and
+	 * corresponding reference set.  The contribution indicator counts
+	 * reference solutions sharing an &epsilon;-box with the approximation set.
+	 *
+	 * @param problem the problem
+	 * @param referenceSet the reference set for the problem
+	 * @param comparator the &epsilon;-box dominance comparator used by the
+	 *        contribution indicator, or {@code null} if solutions must match
+	 *        exactly
+	 * @throws IllegalArgumentException if the reference set contains fewer
+	 *         than two solutions
+	 */
+	public FusedIndicatorEvaluator(Problem problem,
+			NondominatedPopulation referenceSet,
+			EpsilonBoxDominanceComparator comparator) {
+		super();
+		this.problem = problem;
+		this.comparator = comparator;
+
+		gdPower = Settings.getGDPower();
+		igdPower = Settings.getIGDPower();
+		normalizer = new Normalizer(problem, referenceSet);
+		normalizedReferenceSet = normalizer.normalizeObjectives(referenceSet);
+		referenceIndex = new NearestNeighborIndex(
+				problem.getNumberOfObjectives(), normalizedReferenceSet);
+
+		if (comparator == null) {
+			contributionReferenceSet = IndicatorUtils.pack(problem,
+					referenceSet);
+			referenceBoxes = null;
+			contribution = null;
+		} else if (comparator.getClass() ==
+				EpsilonBoxDominanceComparator.class) {
+			NondominatedPopulation archive = new EpsilonBoxDominanceArchive(
+					comparator, referenceSet);
+
+			contributionReferenceSet = IndicatorUtils.pack(problem, archive);
+			referenceBoxes = new Box[archive.size()];
+			contribution = null;
+
+			for (int i = 0; i < archive.size(); i++) {
+				referenceBoxes[i] = getBox(archive.get(i));
+			}
+		} else {
+			contributionReferenceSet = null;
+			referenceBoxes = null;
+			contribution = new Contribution(referenceSet, comparator);
+		}
+	}
+
+	/**
+	 * Calculates all the indicators for the specified approximation set.
+	 *
+	 * @param approximationSet the approximation set
+	 */
+	public void calculate(NondominatedPopulation approximationSet) {
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		double[] reference = normalizedReferenceSet;
+		double[] approximation = normalizer.normalizeObjectives(
+				approximationSet);
+		int referenceSize = reference.length / numberOfObjectives;
+		int approximationSize = approximation.length / numberOfObjectives;
+
+		// the nearest reference solution to each approximation solution is
+		// shared by the generational distance and maximum Pareto front error
+		if (approximationSize == 0) {
+			generationalDistance = Double.POSITIVE_INFINITY;
+			maximumParetoFrontError = Double.POSITIVE_INFINITY;
+		} else {
+			double gdSum = 0.0;
+			double max = 0.0;
+
+			for (int j = 0; j < approximationSize; j++) {
+				double distance = referenceIndex.distanceToNearest(
+						approximation, j * numberOfObjectives);
+				gdSum += Math.pow(distance, gdPower);
+				max = Math.max(max, distance);
+			}
+
+			generationalDistance = Math.pow(gdSum, 1.0 / gdPower) /
+					approximationSize;
+			maximumParetoFrontError = max;
+		}
+
+		// the nearest approximation solution to each reference solution
+		NearestNeighborIndex approximationIndex = new NearestNeighborIndex(
+				numberOfObjectives, approximation);
+		double igdSum = 0.0;
+
+		for (int i = 0; i < referenceSize; i++) {
+			igdSum += Math.pow(approximationIndex.distanceToNearest(reference,
+					i * numberOfObjectives), igdPower);
+		}
+
+		invertedGenerationalDistance = Math.pow(igdSum, 1.0 / igdPower) /
+				referenceSize;
+		additiveEpsilonIndicator = calculateAdditiveEpsilon(reference,
+				approximation, numberOfObjectives);
+		contributionValue = calculateContribution(approximationSet);
+		calculated = true;
+	}
+
+	/**
+	 * Returns the additive &epsilon;-indicator of the normalized
+	 * approximation set.  The scan over the approximation set stops early once
+	 * a reference solution can no longer increase the indicator, which does
+	 * not change the result.
+	 *
+	 * @param reference the normalized objectives of the reference set
+	 * @param approximation the normalized objectives of the approximation set
+	 * @param numberOfObjectives the number of objectives
+	 * @return the additive &epsilon;-indicator of the approximation set
+	 */
+	private static double calculateAdditiveEpsilon(double[] reference,
+			double[] approximation, int numberOfObjectives) {
+		double epsilon = 0.0;
+
+		for (int offset1 = 0; offset1 < reference.length;
+				offset1 += numberOfObjectives) {
+			double minimumEpsilon = Double.POSITIVE_INFINITY;
+
+			for (int offset2 = 0; offset2 < approximation.length;
+					offset2 += numberOfObjectives) {
+				double maximumEpsilon = 0.0;
+
+				for (int k = 0; k < numberOfObjectives; k++) {
+					maximumEpsilon = Math.max(maximumEpsilon,
+							approximation[offset2 + k] -
+							reference[offset1 + k]);
+				}
+
+				minimumEpsilon = Math.min(minimumEpsilon, maximumEpsilon);
+
+				if (minimumEpsilon <= epsilon) {
+					break;
+				}
+			}
+
+			epsilon = Math.max(epsilon, minimumEpsilon);
+		}
+
+		return epsilon;
+	}
+
+	/**
+	 * Returns the contribution of the approximation set.
+	 *
+	 * @param approximationSet the approximation set
+	 * @return the contribution of the approximation set
+	 */
+	private double calculateContribution(
+			NondominatedPopulation approximationSet) {
+		if (contribution != null) {
+			return contribution.evaluate(approximationSet);
+		}
+
+		int count = 0;
+
+		if (comparator == null) {
+			// match reference solutions within Settings.EPS, as computed by
+			// Contribution, using the nearest approximation solution
+			NearestNeighborIndex index = new NearestNeighborIndex(problem,
+					approximationSet);
+			double[] values = contributionReferenceSet.getValues();
+			int stride = contributionReferenceSet.getStride();
+
+			for (int i = 0; i < contributionReferenceSet.size(); i++) {
+				if (index.distanceToNearest(values, i * stride) <
+						Settings.EPS) {
+					count++;
+				}
+			}
+		} else {
+			// match reference solutions occupying the same epsilon-box and
+			// having the same aggregate constraint violation
+			Set<Box> boxes = new HashSet<Box>();
+
+			for (Solution solution : approximationSet) {
+				boxes.add(getBox(solution));
+			}
+
+			for (Box box : referenceBoxes) {
+				if (boxes.contains(box)) {
+					count++;
+				}
+			}
+		}
+
+		return count / (double)contributionReferenceSet.size();
+	}
+
+	/**
+	 * Returns the &epsilon;-box and aggregate constraint violation of the
+	 * specified solution, which are equal for two solutions if and only if
+	 * {@link EpsilonBoxDominanceComparator} reports they are in the same box.
+	 *
+	 * @param solution the solution
+	 * @return the &epsilon;-box and aggregate constraint violation of the
+	 *         specified solution
+	 */
+	private Box getBox(Solution solution) {
+		double[] coordinates = new double[problem.getNumberOfObjectives() + 1];
+
+		coordinates[0] = AggregateConstraintComparator.getConstraints(
+				solution);
+
+		for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+			coordinates[i + 1] = Math.floor(solution.getObjective(i) /
+					comparator.getEpsilon(i));
+		}
+
+		return new Box(coordinates);
+	}
+
+	/**
+	 * Returns {@code true} if the specified indicator is computed by this
+	 * evaluator; {@code false} otherwise.
+	 *
+	 * @param indicator the type of the indicator
+	 * @return {@code true} if the specified indicator is computed by this
+	 *         evaluator; {@code false} otherwise
+	 */
+	public static boolean isSupported(Class<? extends Indicator> indicator) {
+		return GenerationalDistance.class.equals(indicator) ||
+				InvertedGenerationalDistance.class.equals(indicator) ||
+				AdditiveEpsilonIndicator.class.equals(indicator) ||
+				MaximumParetoFrontError.class.equals(indicator) ||
+				Contribution.class.equals(indicator);
+	}
+
+	/**
+	 * Returns the value of the specified indicator from the last invocation
+	 * of {@code calculate}.  The supported indicators are
+	 * {@link GenerationalDistance}, {@link InvertedGenerationalDistance},
+	 * {@link AdditiveEpsilonIndicator}, {@link MaximumParetoFrontError} and
+	 * {@link Contribution}.
+	 *
+	 * @param indicator the type of the indicator
+	 * @return the value of the specified indicator
+	 * @throws IllegalArgumentException if the indicator is not supported
+	 * @throws IllegalStateException if the {@code calculate} method has not
+	 *         been invoked
+	 */
+	public double getValue(Class<? extends Indicator> indicator) {
+		if (GenerationalDistance.class.equals(indicator)) {
+			return getGenerationalDistance();
+		} else if (InvertedGenerationalDistance.class.equals(indicator)) {
+			return getInvertedGenerationalDistance();
+		} else if (AdditiveEpsilonIndicator.class.equals(indicator)) {
+			return getAdditiveEpsilonIndicator();
+		} else if (MaximumParetoFrontError.class.equals(indicator)) {
+			return getMaximumParetoFrontError();
+		} else if (Contribution.class.equals(indicator)) {
+			return getContribution();
+		} else {
+			throw new IllegalArgumentException("unsupported indicator " +
+					indicator.getSimpleName());
+		}
+	}
+
+	/**
+	 * Returns the generational distance of the approximation set from the
+	 * last invocation of {@code calculate}.
+	 *
+	 * @return the generational distance of the approximation set from the
+	 *         last invocation of {@code calculate}
+	 * @throws IllegalStateException if the {@code calculate} method has not
+	 *         been invoked
+	 */
+	public double getGenerationalDistance() {
+		checkCalculateInvocation();
+
+		return generationalDistance;
+	}
+
+	/**
+	 * Returns the inverted generational distance of the approximation set
+	 * from the last invocation of {@code calculate}.
+	 *
+	 * @return the inverted generational distance of the approximation set
+	 *         from the last invocation of {@code calculate}
+	 * @throws IllegalStateException if the {@code calculate} method has not
+	 *         been invoked
+	 */
+	public double getInvertedGenerationalDistance() {
+		checkCalculateInvocation();
+
+		return invertedGenerationalDistance;
+	}
+
+	/**
+	 * Returns the additive &epsilon;-indicator of the approximation set from
+	 * the last invocation of {@code calculate}.
+	 *
+	 * @return the additive &epsilon;-indicator of the approximation set from
+	 *         the last invocation of {@code calculate}
+	 * @throws IllegalStateException if the {@code calculate} method has not
+	 *         been invoked
+	 */
+	public double getAdditiveEpsilonIndicator() {
+		checkCalculateInvocation();
+
+		return additiveEpsilonIndicator;
+	}
+
+	/**
+	 * Returns the maximum Pareto front error of the approximation set from
+	 * the last invocation of {@code calculate}.
+	 *
+	 * @return the maximum Pareto front error of the approximation set from
+	 *         the last invocation of {@code calculate}
+	 * @throws IllegalStateException if the {@code calculate} method has not
+	 *         been invoked
+	 */
+	public double getMaximumParetoFrontError() {
+		checkCalculateInvocation();
+
+		return maximumParetoFrontError;
+	}
+
+	/**
+	 * Returns the contribution of the approximation set from the last
+	 * invocation of {@code calculate}.
+	 *
+	 * @return the contribution of the approximation set from the last
+	 *         invocation of {@code calculate}
+	 * @throws IllegalStateException if the {@code calculate} method has not
+	 *         been invoked
+	 */
+	public double getContribution() {
+		checkCalculateInvocation();
+
+		return contributionValue;
+	}
+
+	/**
+	 * Throws an exception if the {@code calculate} method has not been
+	 * invoked.
+	 *
+	 * @throws IllegalStateException if the {@code calculate} method has not
+	 *         been invoked
+	 */
+	private void checkCalculateInvocation() {
+		if (!calculated) {
+			throw new IllegalStateException(
+					"invoke calculate prior to getting indicator values");
+		}
+	}
+
+	/**
+	 * The &epsilon;-box coordinates used as the key in the hash set.
+	 */
+	private static class Box {
+
+		/**
+		 * The &epsilon;-box coordinates.
+		 */
+		private final double[] coordinates;
+
+		/**
+		 * The cached hash code.
+		 */
+		private final int hashCode;
+
+		/**
+		 * Constructs a new key for the given &epsilon;-box coordinates.
+		 *
+		 * @param coordinates the &epsilon;-box coordinates
+		 */
+		public Box(double[] coordinates) {
+			super();
+			this.coordinates = coordinates;
+
+			hashCode = Arrays.hashCode(coordinates);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			} else if ((obj == null) || (obj.getClass() != getClass())) {
+				return false;
+			} else {
+				return Arrays.equals(coordinates, ((Box)obj).coordinates);
+			}
+		}
+
+	}
+
+}
@@ -17,6 +17,8 @@
  */
 package org.moeaframework.core.indicator;
 
+import java.util.concurrent.ExecutorService;
+
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Settings;
@@ -64,7 +66,7 @@ public class GenerationalDistance extends NormalizedIndicator {
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
 		return evaluate(problem, normalize(approximationSet), 
-				getNormalizedReferenceSet(), d);
+				getNormalizedReferenceIndex(), d, getExecutor());
 	}
 
 	/**
@@ -84,15 +86,42 @@ public class GenerationalDistance extends NormalizedIndicator {
 			NondominatedPopulation approximationSet,
 			NondominatedPopulation referenceSet,
 			double d) {
+		if (approximationSet.isEmpty()) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		return evaluate(problem, approximationSet,
+				new NearestNeighborIndex(problem, referenceSet), d, null);
+	}
+
+	/**
+	 * Computes the generational distance for the specified problem given an
+	 * approximation set and an index of the reference set.
+	 * 
+	 * @param problem the problem
+	 * @param approximationSet an approximation set for the problem
+	 * @param referenceIndex the index of the reference set for the problem
+	 * @param d the power, typically {@code 2.0}
+	 * @param executor the executor used for nearest neighbor queries, or
+	 *        {@code null} to compute all queries on the calling thread
+	 * @return the generational distance for the specified problem given an
+	 *         approximation set and reference set
+	 */
+	static double evaluate(Problem problem,
+			NondominatedPopulation approximationSet,
+			NearestNeighborIndex referenceIndex,
+			double d, ExecutorService executor) {
 		double sum = 0.0;
 		
 		if (approximationSet.isEmpty()) {
 			return Double.POSITIVE_INFINITY;
 		}
 
-		for (int i = 0; i < approximationSet.size(); i++) {
-			sum += Math.pow(IndicatorUtils.distanceToNearestSolution(problem,
-					approximationSet.get(i), referenceSet), d);
+		double[] distances = referenceIndex.distancesToNearest(
+				IndicatorUtils.pack(problem, approximationSet), executor);
+
+		for (int i = 0; i < distances.length; i++) {
+			sum += Math.pow(distances[i], d);
 		}
 		
 		return Math.pow(sum, 1.0 / d) / approximationSet.size();
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.moeaframework.core.FrameworkException;
@@ -66,10 +67,11 @@ import org.moeaframework.util.io.RedirectStream;
  * Hypervolume indicator. Represents the volume of objective space dominated by
  * solutions in the approximation set.
  * <p>
- * Due to the computational burden of computing the hypervolume indicator and
- * the various estimation algorithms available, the ability to redirect the
- * hypervolume calculation to an external third-party executable is provided.
- * See {@link #invokeNativeHypervolume} for details.
+ * The hypervolume is computed exactly using the {@link WFGHypervolume}
+ * algorithm.  Due to the computational burden of computing the hypervolume
+ * indicator and the various estimation algorithms available, the ability to
+ * redirect the hypervolume calculation to an external third-party executable
+ * is also provided.  See {@link #invokeNativeHypervolume} for details.
  */
 public class Hypervolume extends NormalizedIndicator {
 
@@ -253,11 +255,13 @@ public class Hypervolume extends NormalizedIndicator {
 	}
 
 	/**
-	 * The internal, unnormalized hypervolume calculation.  While this method
-	 * is public, we do not encourage its use since incorrect arguments can
-	 * cause unexpected behavior.  Instead, use the
+	 * The internal, unnormalized hypervolume calculation using the recursive
+	 * slicing algorithm on inverted solutions.  While this method is public,
+	 * we do not encourage its use since incorrect arguments can cause
+	 * unexpected behavior.  Instead, use the
 	 * {@link #Hypervolume(Problem, NondominatedPopulation)} constructor
-	 * to create a normalizing version of the hypervolume calculation.
+	 * to create a normalizing version of the hypervolume calculation, which
+	 * uses the faster {@link WFGHypervolume} algorithm.
 	 * 
 	 * @param population the population
 	 * @param numberOfSolutions the number of solutions
@@ -307,13 +311,14 @@ public class Hypervolume extends NormalizedIndicator {
 	 */
 	static double evaluate(Problem problem,
 			NondominatedPopulation approximationSet) {
-		boolean isInverted = true;
 		boolean isCustomHypervolume = (Settings.getHypervolume() != null) && 
 				(problem.getNumberOfObjectives() > 2) ;
 		
-		if (isCustomHypervolume) {
-			isInverted = Settings.isHypervolumeInverted();
+		if (!isCustomHypervolume) {
+			return calculateHypervolume(problem, approximationSet);
 		}
+		
+		boolean isInverted = Settings.isHypervolumeInverted();
 
 		List<Solution> solutions = new ArrayList<Solution>();
 
@@ -334,12 +339,38 @@ public class Hypervolume extends NormalizedIndicator {
 			solutions.add(clone);
 		}
 
-		if (isCustomHypervolume) {
-			return invokeNativeHypervolume(problem, solutions, isInverted);
-		} else {
-			return calculateHypervolume(solutions, solutions.size(), 
-					problem.getNumberOfObjectives());
+		return invokeNativeHypervolume(problem, solutions, isInverted);
+	}
+	
+	/**
+	 * Computes the hypervolume of the normalized approximation set using the
+	 * {@link WFGHypervolume} algorithm.  The objectives are packed into a
+	 * primitive array, bounded below by the ideal point, and measured against
+	 * the reference point {@code (1, 1, ..., 1)}.  Solutions exceeding the
+	 * reference point in any objective do not contribute.
+	 * 
+	 * @param problem the problem
+	 * @param approximationSet the normalized approximation set
+	 * @return the hypervolume of the normalized approximation set
+	 */
+	private static double calculateHypervolume(Problem problem,
+			NondominatedPopulation approximationSet) {
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		double[] points = new double[approximationSet.size() *
+		                             numberOfObjectives];
+		double[] referencePoint = new double[numberOfObjectives];
+		int index = 0;
+		
+		for (Solution solution : approximationSet) {
+			for (int i = 0; i < numberOfObjectives; i++) {
+				points[index++] = Math.max(0.0, solution.getObjective(i));
+			}
 		}
+		
+		Arrays.fill(referencePoint, 1.0);
+		
+		return new WFGHypervolume(numberOfObjectives).calculate(points,
+				approximationSet.size(), referencePoint);
 	}
 
 	/**
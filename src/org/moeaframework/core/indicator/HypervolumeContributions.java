@@ -0,0 +1,576 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Exact computation of the exclusive hypervolume contributions of a set of
+ * points, which is the volume dominated by each point and by no other point
+ * in the set.  Points are stored in the same packed {@code double[]} format
+ * as {@link WFGHypervolume}, and objectives are minimized.
+ * <p>
+ * Two and three objectives are handled by a dimension sweep [1], which
+ * maintains the two-dimensional contributions of the points on a staircase
+ * while sweeping along the last objective, computing all contributions in a
+ * single pass.  Higher dimensions compute the contribution of each point as
+ * the volume of its box minus the hypervolume of its limit set, the
+ * contribution-aware formulation of the WFG algorithm [2].
+ * <p>
+ * When a single point is added or removed, {@link #add} and {@link #remove}
+ * update the contributions of the remaining points by the volume they share
+ * exclusively with that point, which is zero for all but the points
+ * neighboring it.  This is considerably cheaper than recomputing all
+ * contributions when the number of objectives is large.
+ * <p>
+ * This class is not thread-safe since scratch buffers are reused between
+ * invocations.  Use a separate instance per thread.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Emmerich, M. T. M. and C. M. Fonseca (2011).  Computing Hypervolume
+ *       Contributions in Low Dimensions: Asymptotically Optimal Algorithm and
+ *       Complexity Results.  Evolutionary Multi-Criterion Optimization,
+ *       pp. 121-135.
+ *   <li>While, L., L. Bradstreet, and L. Barone (2012).  A Fast Way of
+ *       Calculating Exact Hypervolumes.  IEEE Transactions on Evolutionary
+ *       Computation, 16(1):86-95.
+ * </ol>
+ */
+public class HypervolumeContributions {
+
+	/**
+	 * The number of objectives.
+	 */
+	private final int numberOfObjectives;
+
+	/**
+	 * The hypervolume calculator for limit sets.
+	 */
+	private final WFGHypervolume hypervolume;
+
+	/**
+	 * Scratch buffer storing limit sets.
+	 */
+	private double[] limitSet;
+
+	/**
+	 * Scratch buffer storing the point whose limit set is computed.
+	 */
+	private final double[] corner;
+
+	/**
+	 * The indices of the points on the staircase used by the dimension
+	 * sweep, ordered by the first objective.
+	 */
+	private int[] staircase;
+
+	/**
+	 * The number of points on the staircase.
+	 */
+	private int staircaseSize;
+
+	/**
+	 * The current two-dimensional contribution of each point during the
+	 * dimension sweep.
+	 */
+	private double[] area;
+
+	/**
+	 * The value of the swept objective when the contribution of each point
+	 * was last accumulated during the dimension sweep.
+	 */
+	private double[] lastSwept;
+
+	/**
+	 * The points within the box of each point on the staircase that were
+	 * dominated by that point with respect to the first two objectives, whose
+	 * boxes are excluded from its two-dimensional contribution.  Each list is
+	 * ordered by the first objective.
+	 */
+	private int[][] shadows;
+
+	/**
+	 * The number of points in each shadow list.
+	 */
+	private int[] shadowSizes;
+
+	/**
+	 * Constructs a new hypervolume contribution calculator for the given
+	 * number of objectives.
+	 *
+	 * @param numberOfObjectives the number of objectives
+	 * @throws IllegalArgumentException if the number of objectives is less
+	 *         than {@code 1}
+	 */
+	public HypervolumeContributions(int numberOfObjectives) {
+		super();
+		this.numberOfObjectives = numberOfObjectives;
+
+		hypervolume = new WFGHypervolume(numberOfObjectives);
+		corner = new double[numberOfObjectives];
+	}
+
+	/**
+	 * Returns the number of objectives.
+	 *
+	 * @return the number of objectives
+	 */
+	public int getNumberOfObjectives() {
+		return numberOfObjectives;
+	}
+
+	/**
+	 * Computes the exclusive hypervolume contribution of each point.  Points
+	 * that are weakly dominated by another point, or not strictly better than
+	 * the reference point in every objective, have a contribution of
+	 * {@code 0}.  The points buffer is not modified.
+	 *
+	 * @param points the packed objectives of the points
+	 * @param numberOfPoints the number of points
+	 * @param referencePoint the reference point
+	 * @return the exclusive hypervolume contribution of each point
+	 */
+	public double[] calculate(double[] points, int numberOfPoints,
+			double[] referencePoint) {
+		double[] contributions = new double[numberOfPoints];
+
+		if ((numberOfObjectives == 2) || (numberOfObjectives == 3)) {
+			sweep(points, numberOfPoints, referencePoint, contributions);
+		} else {
+			for (int i = 0; i < numberOfPoints; i++) {
+				contributions[i] = calculate(points, numberOfPoints, i,
+						referencePoint);
+			}
+		}
+
+		return contributions;
+	}
+
+	/**
+	 * Computes the exclusive hypervolume contribution of a single point.
+	 *
+	 * @param points the packed objectives of the points
+	 * @param numberOfPoints the number of points
+	 * @param index the index of the point
+	 * @param referencePoint the reference point
+	 * @return the exclusive hypervolume contribution of the point
+	 */
+	public double calculate(double[] points, int numberOfPoints, int index,
+			double[] referencePoint) {
+		System.arraycopy(points, index*numberOfObjectives, corner, 0,
+				numberOfObjectives);
+
+		return exclusiveHypervolume(points, numberOfPoints, index, -1,
+				referencePoint);
+	}
+
+	/**
+	 * Updates the contributions after the last point, at index
+	 * {@code numberOfPoints-1}, is added to the set.  The contributions of the
+	 * other points decrease by the volume they shared exclusively with the new
+	 * point, and the contribution of the new point is stored at index
+	 * {@code numberOfPoints-1}.
+	 *
+	 * @param points the packed objectives of the points, including the new
+	 *        point
+	 * @param numberOfPoints the number of points, including the new point
+	 * @param contributions the contributions of the points prior to adding
+	 *        the new point, which are updated by this method
+	 * @param referencePoint the reference point
+	 */
+	public void add(double[] points, int numberOfPoints,
+			double[] contributions, double[] referencePoint) {
+		int index = numberOfPoints - 1;
+
+		for (int i = 0; i < index; i++) {
+			contributions[i] = Math.max(0.0, contributions[i] -
+					jointHypervolume(points, numberOfPoints, i, index,
+							referencePoint));
+		}
+
+		contributions[index] = calculate(points, numberOfPoints, index,
+				referencePoint);
+	}
+
+	/**
+	 * Updates the contributions after the point at the given index is removed
+	 * from the set.  The contributions of the other points increase by the
+	 * volume they shared exclusively with the removed point.  The removed
+	 * point is then deleted from the points and contributions buffers by
+	 * shifting the subsequent points, leaving {@code numberOfPoints-1}
+	 * points.
+	 *
+	 * @param points the packed objectives of the points, including the point
+	 *        being removed
+	 * @param numberOfPoints the number of points, including the point being
+	 *        removed
+	 * @param contributions the contributions of the points, which are updated
+	 *        by this method
+	 * @param index the index of the point being removed
+	 * @param referencePoint the reference point
+	 */
+	public void remove(double[] points, int numberOfPoints,
+			double[] contributions, int index, double[] referencePoint) {
+		int M = numberOfObjectives;
+
+		for (int i = 0; i < numberOfPoints; i++) {
+			if (i != index) {
+				contributions[i] += jointHypervolume(points, numberOfPoints, i,
+						index, referencePoint);
+			}
+		}
+
+		System.arraycopy(points, (index+1)*M, points, index*M,
+				(numberOfPoints-index-1)*M);
+		System.arraycopy(contributions, index+1, contributions, index,
+				numberOfPoints-index-1);
+	}
+
+	/**
+	 * Returns the volume dominated by both of the given points but by no other
+	 * point in the set.
+	 *
+	 * @param points the packed objectives of the points
+	 * @param numberOfPoints the number of points
+	 * @param index1 the index of the first point
+	 * @param index2 the index of the second point
+	 * @param referencePoint the reference point
+	 * @return the volume dominated by both of the given points but by no
+	 *         other point
+	 */
+	private double jointHypervolume(double[] points, int numberOfPoints,
+			int index1, int index2, double[] referencePoint) {
+		int M = numberOfObjectives;
+
+		for (int j = 0; j < M; j++) {
+			corner[j] = Math.max(points[index1*M + j], points[index2*M + j]);
+		}
+
+		return exclusiveHypervolume(points, numberOfPoints, index1, index2,
+				referencePoint);
+	}
+
+	/**
+	 * Returns the volume dominated by {@code corner} but by none of the points
+	 * other than the excluded points.  This is the volume of the box between
+	 * {@code corner} and the reference point, minus the hypervolume of the
+	 * limit set formed by bounding each remaining point by {@code corner}.
+	 *
+	 * @param points the packed objectives of the points
+	 * @param numberOfPoints the number of points
+	 * @param excluded1 the index of the first excluded point
+	 * @param excluded2 the index of the second excluded point, or {@code -1}
+	 * @param referencePoint the reference point
+	 * @return the volume dominated by {@code corner} but by none of the
+	 *         remaining points
+	 */
+	private double exclusiveHypervolume(double[] points, int numberOfPoints,
+			int excluded1, int excluded2, double[] referencePoint) {
+		int M = numberOfObjectives;
+		double volume = 1.0;
+
+		for (int j = 0; j < M; j++) {
+			if (!(corner[j] < referencePoint[j])) {
+				return 0.0;
+			}
+
+			volume *= referencePoint[j] - corner[j];
+		}
+
+		if ((limitSet == null) || (limitSet.length < numberOfPoints*M)) {
+			limitSet = new double[numberOfPoints*M];
+		}
+
+		int n = 0;
+
+		for (int i = 0; i < numberOfPoints; i++) {
+			if ((i == excluded1) || (i == excluded2)) {
+				continue;
+			}
+
+			boolean dominates = true;
+
+			for (int j = 0; j < M; j++) {
+				double value = points[i*M + j];
+
+				if (value > corner[j]) {
+					dominates = false;
+				} else {
+					value = corner[j];
+				}
+
+				limitSet[n*M + j] = value;
+			}
+
+			// the corner is weakly dominated, so nothing is exclusive
+			if (dominates) {
+				return 0.0;
+			}
+
+			n++;
+		}
+
+		return Math.max(0.0, volume - hypervolume.calculate(limitSet, n,
+				referencePoint));
+	}
+
+	/**
+	 * Computes the contributions of two- or three-dimensional points with a
+	 * dimension sweep.  Points are processed in order of their last objective
+	 * (two-dimensional points are all processed at the same level) and
+	 * inserted into a staircase of the points non-dominated with respect to
+	 * the first two objectives.  The two-dimensional contribution of each
+	 * point on the staircase, which is bounded by its neighbors and excludes
+	 * the boxes of the points it shadows, is accumulated over the swept
+	 * distance until the point is dominated or the reference point is
+	 * reached.
+	 *
+	 * @param points the packed objectives of the points
+	 * @param numberOfPoints the number of points
+	 * @param referencePoint the reference point
+	 * @param contributions the array storing the contributions
+	 */
+	private void sweep(final double[] points, int numberOfPoints,
+			double[] referencePoint, double[] contributions) {
+		final int M = numberOfObjectives;
+		Integer[] order = new Integer[numberOfPoints];
+		int n = 0;
+
+		outer: for (int i = 0; i < numberOfPoints; i++) {
+			for (int j = 0; j < M; j++) {
+				if (!(points[i*M + j] < referencePoint[j])) {
+					continue outer;
+				}
+			}
+
+			order[n++] = i;
+		}
+
+		if (M == 3) {
+			Arrays.sort(order, 0, n, new Comparator<Integer>() {
+
+				@Override
+				public int compare(Integer i1, Integer i2) {
+					return Double.compare(points[i1*M + 2], points[i2*M + 2]);
+				}
+
+			});
+		}
+
+		if ((staircase == null) || (staircase.length < numberOfPoints)) {
+			staircase = new int[numberOfPoints];
+			area = new double[numberOfPoints];
+			lastSwept = new double[numberOfPoints];
+			shadows = new int[numberOfPoints][];
+			shadowSizes = new int[numberOfPoints];
+		}
+
+		staircaseSize = 0;
+
+		for (int k = 0; k < n; k++) {
+			int i = order[k];
+			double level = M == 3 ? points[i*M + 2] : 0.0;
+
+			area[i] = 0.0;
+			lastSwept[i] = level;
+			shadowSizes[i] = 0;
+			insert(points, i, level, referencePoint, contributions);
+		}
+
+		double end = M == 3 ? referencePoint[2] : 1.0;
+
+		for (int k = 0; k < staircaseSize; k++) {
+			accumulate(staircase[k], end, contributions);
+		}
+	}
+
+	/**
+	 * Inserts a point into the staircase.  If the point is weakly dominated
+	 * by points on the staircase with respect to the first two objectives, it
+	 * never contributes and is added to their shadows.  Otherwise, the points
+	 * it dominates are moved from the staircase into its shadow and the
+	 * contributions of its neighbors are updated.
+	 *
+	 * @param points the packed objectives of the points
+	 * @param i the index of the point being inserted
+	 * @param level the current value of the swept objective
+	 * @param referencePoint the reference point
+	 * @param contributions the array storing the contributions
+	 */
+	private void insert(double[] points, int i, double level,
+			double[] referencePoint, double[] contributions) {
+		int M = numberOfObjectives;
+		double x = points[i*M];
+		double y = points[i*M + 1];
+
+		// find the first point on the staircase with x' > x
+		int low = 0;
+		int high = staircaseSize;
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+
+			if (points[staircase[mid]*M] <= x) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+
+		if ((low > 0) && (points[staircase[low-1]*M + 1] <= y)) {
+			// weakly dominated by the staircase points preceding it with
+			// y' <= y, which lie in a contiguous block
+			for (int k = low - 1; (k >= 0) &&
+					(points[staircase[k]*M + 1] <= y); k--) {
+				accumulate(staircase[k], level, contributions);
+				addShadow(points, staircase[k], i);
+				updateArea(points, k, referencePoint);
+			}
+
+			return;
+		}
+
+		// the points dominated by the new point have x' >= x and y' >= y
+		int start = low;
+
+		while ((start > 0) && (points[staircase[start-1]*M] == x)) {
+			start--;
+		}
+
+		int end = start;
+
+		while ((end < staircaseSize) &&
+				(points[staircase[end]*M + 1] >= y)) {
+			accumulate(staircase[end], level, contributions);
+			addShadow(points, i, staircase[end]);
+			end++;
+		}
+
+		if (start > 0) {
+			accumulate(staircase[start-1], level, contributions);
+		}
+
+		if (end < staircaseSize) {
+			accumulate(staircase[end], level, contributions);
+		}
+
+		System.arraycopy(staircase, end, staircase, start + 1,
+				staircaseSize - end);
+		staircaseSize += start + 1 - end;
+		staircase[start] = i;
+
+		updateArea(points, start - 1, referencePoint);
+		updateArea(points, start, referencePoint);
+		updateArea(points, start + 1, referencePoint);
+	}
+
+	/**
+	 * Adds a point to the shadow of a point on the staircase, maintaining the
+	 * order of the shadow by the first objective.
+	 *
+	 * @param points the packed objectives of the points
+	 * @param owner the index of the point on the staircase
+	 * @param i the index of the point being added to the shadow
+	 */
+	private void addShadow(double[] points, int owner, int i) {
+		int M = numberOfObjectives;
+		int size = shadowSizes[owner];
+		int[] shadow = shadows[owner];
+
+		if (shadow == null) {
+			shadow = new int[4];
+			shadows[owner] = shadow;
+		} else if (size == shadow.length) {
+			shadow = Arrays.copyOf(shadow, 2 * size);
+			shadows[owner] = shadow;
+		}
+
+		int position = size;
+
+		while ((position > 0) && (points[shadow[position-1]*M] > points[i*M])) {
+			shadow[position] = shadow[position-1];
+			position--;
+		}
+
+		shadow[position] = i;
+		shadowSizes[owner] = size + 1;
+	}
+
+	/**
+	 * Accumulates the contribution of a point on the staircase up to the
+	 * current value of the swept objective.
+	 *
+	 * @param i the index of the point
+	 * @param level the current value of the swept objective
+	 * @param contributions the array storing the contributions
+	 */
+	private void accumulate(int i, double level, double[] contributions) {
+		contributions[i] += area[i] * (level - lastSwept[i]);
+		lastSwept[i] = level;
+	}
+
+	/**
+	 * Recomputes the two-dimensional contribution of the point at the given
+	 * position on the staircase, which is the rectangle bounded by its
+	 * neighbors or the reference point, minus the union of the boxes of the
+	 * points in its shadow.
+	 *
+	 * @param points the packed objectives of the points
+	 * @param position the position on the staircase
+	 * @param referencePoint the reference point
+	 */
+	private void updateArea(double[] points, int position,
+			double[] referencePoint) {
+		int M = numberOfObjectives;
+
+		if ((position < 0) || (position >= staircaseSize)) {
+			return;
+		}
+
+		int i = staircase[position];
+		double right = position + 1 < staircaseSize ?
+				points[staircase[position+1]*M] : referencePoint[0];
+		double top = position > 0 ?
+				points[staircase[position-1]*M + 1] : referencePoint[1];
+		double result = (right - points[i*M]) * (top - points[i*M + 1]);
+
+		// subtract the union of the shadow boxes clipped to the rectangle,
+		// sweeping by the first objective
+		int[] shadow = shadows[i];
+		double bottom = top;
+
+		for (int k = 0; k < shadowSizes[i]; k++) {
+			double shadowX = points[shadow[k]*M];
+			double shadowY = points[shadow[k]*M + 1];
+
+			if (shadowX >= right) {
+				break;
+			}
+
+			if (shadowY < bottom) {
+				result -= (right - shadowX) * (bottom - shadowY);
+				bottom = shadowY;
+			}
+		}
+
+		area[i] = Math.max(0.0, result);
+	}
+
+}
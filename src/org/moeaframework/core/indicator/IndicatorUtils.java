@@ -18,6 +18,8 @@
 package org.moeaframework.core.indicator;
 
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PackedSolutions;
+import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
 
@@ -107,4 +109,65 @@ public class IndicatorUtils {
 		return minimum;
 	}
 
+	/**
+	 * Returns the Euclidean distance in objective space between the specified
+	 * packed solution and the nearest solution in a packed population.
+	 * 
+	 * @param problem the problem
+	 * @param solutions the packed solutions
+	 * @param index the index of the solution
+	 * @param population the packed population
+	 * @return the Euclidean distance in objective space between the solution
+	 *         and the nearest solution in the population
+	 */
+	public static double distanceToNearestSolution(Problem problem,
+			PackedSolutions solutions, int index, PackedSolutions population) {
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		double[] values1 = solutions.getValues();
+		double[] values2 = population.getValues();
+		int offset1 = index * solutions.getStride();
+		int stride2 = population.getStride();
+		double minimum = Double.POSITIVE_INFINITY;
+
+		// compare squared distances, taking the root only once
+		for (int i = 0; i < population.size(); i++) {
+			int offset2 = i * stride2;
+			double distance = 0.0;
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				double difference = values1[offset1 + j] - values2[offset2 + j];
+				distance += difference * difference;
+			}
+
+			minimum = Math.min(minimum, distance);
+		}
+
+		return Math.sqrt(minimum);
+	}
+
+	/**
+	 * Returns a packed copy of the objectives and constraints of the
+	 * specified population.  A copy is used, rather than
+	 * {@link Population#pack()}, since indicators do not modify the
+	 * population, which may be shared with other indicators.
+	 * 
+	 * @param problem the problem
+	 * @param population the population
+	 * @return a packed copy of the objectives and constraints of the
+	 *         population
+	 * @throws IllegalArgumentException if the solutions define fewer
+	 *         objectives than the problem
+	 */
+	public static PackedSolutions pack(Problem problem, Population population) {
+		PackedSolutions packed = new PackedSolutions(population);
+
+		if ((packed.size() > 0) && (packed.getNumberOfObjectives() <
+				problem.getNumberOfObjectives())) {
+			throw new IllegalArgumentException(
+					"solutions define fewer objectives than the problem");
+		}
+
+		return packed;
+	}
+
 }
@@ -17,6 +17,8 @@
  */
 package org.moeaframework.core.indicator;
 
+import java.util.concurrent.ExecutorService;
+
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Settings;
@@ -64,7 +66,7 @@ public class InvertedGenerationalDistance extends NormalizedIndicator {
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
 		return evaluate(problem, normalize(approximationSet), 
-				getNormalizedReferenceSet(), d);
+				getNormalizedReferenceSet(), d, getExecutor());
 	}
 
 	/**
@@ -84,11 +86,38 @@ public class InvertedGenerationalDistance extends NormalizedIndicator {
 			NondominatedPopulation approximationSet,
 			NondominatedPopulation referenceSet,
 			double d) {
+		return evaluate(problem, approximationSet, referenceSet, d, null);
+	}
+
+	/**
+	 * Computes the inverted generational distance for the specified problem
+	 * given an approximation set and reference set, dividing large reference
+	 * sets among the threads of the executor.
+	 * 
+	 * @param problem the problem
+	 * @param approximationSet an approximation set for the problem
+	 * @param referenceSet the reference set for the problem
+	 * @param d the power, typically {@code 1.0}
+	 * @param executor the executor used for nearest neighbor queries, or
+	 *        {@code null} to compute all queries on the calling thread
+	 * @return the inverted generational distance for the specified problem 
+	 *         given an approximation set and reference set
+	 */
+	static double evaluate(Problem problem,
+			NondominatedPopulation approximationSet,
+			NondominatedPopulation referenceSet,
+			double d, ExecutorService executor) {
 		double sum = 0.0;
 
-		for (int i = 0; i < referenceSet.size(); i++) {
-			sum += Math.pow(IndicatorUtils.distanceToNearestSolution(problem,
-					referenceSet.get(i), approximationSet), d);
+		// the reference set is usually much larger, so index the
+		// approximation set and query each reference point against it
+		NearestNeighborIndex approximationIndex = new NearestNeighborIndex(
+				problem, approximationSet);
+		double[] distances = approximationIndex.distancesToNearest(
+				IndicatorUtils.pack(problem, referenceSet), executor);
+
+		for (int i = 0; i < distances.length; i++) {
+			sum += Math.pow(distances[i], d);
 		}
 
 		return Math.pow(sum, 1.0 / d) / referenceSet.size();
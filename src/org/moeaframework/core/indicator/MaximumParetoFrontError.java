@@ -17,6 +17,8 @@
  */
 package org.moeaframework.core.indicator;
 
+import java.util.concurrent.ExecutorService;
+
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Problem;
 
@@ -42,7 +44,7 @@ public class MaximumParetoFrontError extends NormalizedIndicator {
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
 		return evaluate(problem, normalize(approximationSet), 
-				getNormalizedReferenceSet());
+				getNormalizedReferenceIndex(), getExecutor());
 	}
 
 	/**
@@ -63,12 +65,36 @@ public class MaximumParetoFrontError extends NormalizedIndicator {
 		if (approximationSet.isEmpty()) {
 			return Double.POSITIVE_INFINITY;
 		}
+
+		return evaluate(problem, approximationSet,
+				new NearestNeighborIndex(problem, referenceSet), null);
+	}
+
+	/**
+	 * Computes the maximum Pareto front error for the specified problem given
+	 * an approximation set and an index of the reference set.
+	 * 
+	 * @param problem the problem
+	 * @param approximationSet an approximation set for the problem
+	 * @param referenceIndex the index of the reference set for the problem
+	 * @param executor the executor used for nearest neighbor queries, or
+	 *        {@code null} to compute all queries on the calling thread
+	 * @return the maximum Pareto front error for the specified problem given
+	 *         an approximation set and reference set
+	 */
+	static double evaluate(Problem problem,
+			NondominatedPopulation approximationSet,
+			NearestNeighborIndex referenceIndex, ExecutorService executor) {
+		if (approximationSet.isEmpty()) {
+			return Double.POSITIVE_INFINITY;
+		}
 		
 		double max = 0.0;
+		double[] distances = referenceIndex.distancesToNearest(
+				IndicatorUtils.pack(problem, approximationSet), executor);
 
-		for (int i = 0; i < approximationSet.size(); i++) {
-			max = Math.max(max, IndicatorUtils.distanceToNearestSolution(
-					problem, approximationSet.get(i), referenceSet));
+		for (int i = 0; i < distances.length; i++) {
+			max = Math.max(max, distances[i]);
 		}
 
 		return max;
@@ -0,0 +1,810 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.XoroshiroRandom;
+import org.moeaframework.util.sequence.Sobol;
+
+/**
+ * Approximate hypervolume indicator using Monte-Carlo sampling.  Points are
+ * sampled uniformly within the box bounded by the ideal point of the
+ * approximation set and the reference point {@code (1, 1, ..., 1)}, and the
+ * hypervolume is estimated from the fraction of samples dominated by the
+ * approximation set.  Unlike {@link Hypervolume}, whose cost grows
+ * exponentially with the number of objectives, the cost of the estimate grows
+ * linearly, making it suitable for many-objective problems.
+ * <p>
+ * Samples are drawn in batches of independent estimates, from which the
+ * standard error and a 95% confidence interval are derived.  By default, each
+ * batch is a block of the {@link Sobol} quasi-random sequence with a random
+ * shift (i.e., randomized quasi-Monte Carlo), which typically converges faster
+ * than pseudo-random sampling.  Sampling stops once the sample budget is
+ * exhausted or the half-width of the confidence interval falls below the
+ * error target.  Batches are evaluated in parallel on a pool of daemon threads
+ * shared by all instances, or on an executor supplied with
+ * {@link #setExecutor(ExecutorService)}.  The seed of each batch and the
+ * stopping decisions are independent of the number of threads.
+ * <p>
+ * Each instance draws the seed of each estimate from its own random stream,
+ * never from {@link org.moeaframework.core.PRNG}, so the estimates are
+ * reproducible and enabling this indicator while an algorithm runs does not
+ * change the random numbers seen by the algorithm.
+ * <p>
+ * The defaults for the sample budget, error target and seed are read from
+ * {@link Settings#getHypervolumeSamples()},
+ * {@link Settings#getHypervolumeError()} and
+ * {@link Settings#getHypervolumeSeed()}.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Bader, J. and Zitzler, E.  "HypE: An Algorithm for Fast
+ *       Hypervolume-Based Many-Objective Optimization."  Evolutionary
+ *       Computation, 19(1):45-76, 2011.
+ *   <li>L'Ecuyer, P. and Lemieux, C.  "Recent Advances in Randomized
+ *       Quasi-Monte Carlo Methods."  Modeling Uncertainty, pp. 419-474, 2002.
+ * </ol>
+ */
+public class MonteCarloHypervolume extends NormalizedIndicator {
+
+	/**
+	 * The number of samples in each batch.
+	 */
+	private static final int BATCH_SIZE = 1024;
+
+	/**
+	 * The number of batches evaluated between checks of the error target.
+	 */
+	private static final int BATCHES_PER_ROUND = 16;
+
+	/**
+	 * The critical value of the standard normal distribution for a 95%
+	 * confidence interval.
+	 */
+	private static final double Z = 1.959963984540054;
+
+	/**
+	 * The pool of daemon threads shared by all instances, created when first
+	 * needed.
+	 */
+	private static ExecutorService sharedExecutor;
+
+	/**
+	 * The maximum number of samples.
+	 */
+	private int numberOfSamples;
+
+	/**
+	 * The target half-width of the 95% confidence interval, or {@code 0} to
+	 * always draw the maximum number of samples.
+	 */
+	private double targetError;
+
+	/**
+	 * {@code true} if samples are drawn from the Sobol' sequence;
+	 * {@code false} if samples are pseudo-random.
+	 */
+	private boolean quasiRandom;
+
+	/**
+	 * The number of threads used for sampling.
+	 */
+	private int numberOfThreads;
+
+	/**
+	 * The executor used for sampling, or {@code null} to use the shared pool.
+	 */
+	private ExecutorService executor;
+
+	/**
+	 * The random stream from which the seed of each estimate is drawn.
+	 */
+	private XoroshiroRandom random;
+
+	/**
+	 * Constructs an approximate hypervolume evaluator for the specified
+	 * problem and reference set.
+	 *
+	 * @param problem the problem
+	 * @param referenceSet the reference set
+	 */
+	public MonteCarloHypervolume(Problem problem,
+			NondominatedPopulation referenceSet) {
+		super(problem, referenceSet, true);
+		initialize();
+	}
+
+	/**
+	 * Constructs an approximate hypervolume evaluator for the specified
+	 * problem using the given reference set and reference point.
+	 *
+	 * @param problem the problem
+	 * @param referenceSet the reference set
+	 * @param referencePoint the reference point
+	 */
+	public MonteCarloHypervolume(Problem problem,
+			NondominatedPopulation referenceSet, double[] referencePoint) {
+		super(problem, referenceSet, referencePoint);
+		initialize();
+	}
+
+	/**
+	 * Constructs an approximate hypervolume evaluator for the specified
+	 * problem using the given minimum and maximum bounds.
+	 *
+	 * @param problem the problem
+	 * @param minimum the minimum bounds of the set
+	 * @param maximum the maximum bounds of the set
+	 */
+	public MonteCarloHypervolume(Problem problem, double[] minimum,
+			double[] maximum) {
+		super(problem, new NondominatedPopulation(), minimum, maximum);
+		initialize();
+	}
+
+	/**
+	 * Assigns the default settings.
+	 */
+	private void initialize() {
+		numberOfSamples = Math.max(2, Settings.getHypervolumeSamples());
+		targetError = Settings.getHypervolumeError();
+		quasiRandom = true;
+		numberOfThreads = Runtime.getRuntime().availableProcessors();
+		random = new XoroshiroRandom(Settings.getHypervolumeSeed());
+	}
+
+	/**
+	 * Returns the pool of daemon threads shared by all instances, creating
+	 * the pool if needed.
+	 *
+	 * @return the pool of daemon threads shared by all instances
+	 */
+	private static synchronized ExecutorService getSharedExecutor() {
+		if (sharedExecutor == null) {
+			sharedExecutor = Executors.newFixedThreadPool(
+					Runtime.getRuntime().availableProcessors(),
+					new ThreadFactory() {
+
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable,
+									"MonteCarloHypervolume");
+							thread.setDaemon(true);
+							return thread;
+						}
+
+					});
+		}
+
+		return sharedExecutor;
+	}
+
+	/**
+	 * Returns the maximum number of samples.
+	 *
+	 * @return the maximum number of samples
+	 */
+	public int getNumberOfSamples() {
+		return numberOfSamples;
+	}
+
+	/**
+	 * Sets the maximum number of samples.  At least two batches are always
+	 * drawn so the standard error can be computed.
+	 *
+	 * @param numberOfSamples the maximum number of samples
+	 * @throws IllegalArgumentException if {@code numberOfSamples < 2}
+	 */
+	public void setNumberOfSamples(int numberOfSamples) {
+		if (numberOfSamples < 2) {
+			throw new IllegalArgumentException(
+					"number of samples must be at least 2");
+		}
+
+		this.numberOfSamples = numberOfSamples;
+	}
+
+	/**
+	 * Returns the target half-width of the 95% confidence interval.
+	 *
+	 * @return the target half-width of the 95% confidence interval
+	 */
+	public double getTargetError() {
+		return targetError;
+	}
+
+	/**
+	 * Sets the target half-width of the 95% confidence interval.  Sampling
+	 * stops early once this target is reached.  A value of {@code 0} always
+	 * draws the maximum number of samples.
+	 *
+	 * @param targetError the target half-width of the 95% confidence interval
+	 * @throws IllegalArgumentException if {@code targetError < 0}
+	 */
+	public void setTargetError(double targetError) {
+		if (targetError < 0.0) {
+			throw new IllegalArgumentException(
+					"target error must not be negative");
+		}
+
+		this.targetError = targetError;
+	}
+
+	/**
+	 * Returns {@code true} if samples are drawn from the Sobol' sequence;
+	 * {@code false} if samples are pseudo-random.
+	 *
+	 * @return {@code true} if samples are drawn from the Sobol' sequence;
+	 *         {@code false} if samples are pseudo-random
+	 */
+	public boolean isQuasiRandom() {
+		return quasiRandom;
+	}
+
+	/**
+	 * Sets whether samples are drawn from the Sobol' sequence or are
+	 * pseudo-random.  Default is {@code true}.
+	 *
+	 * @param quasiRandom {@code true} if samples are drawn from the Sobol'
+	 *        sequence; {@code false} if samples are pseudo-random
+	 */
+	public void setQuasiRandom(boolean quasiRandom) {
+		this.quasiRandom = quasiRandom;
+	}
+
+	/**
+	 * Returns the number of threads used for sampling.
+	 *
+	 * @return the number of threads used for sampling
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+
+	/**
+	 * Sets the number of threads used for sampling.  Default is the number of
+	 * available processors.  A value of {@code 1} draws all samples on the
+	 * calling thread.
+	 *
+	 * @param numberOfThreads the number of threads used for sampling
+	 * @throws IllegalArgumentException if {@code numberOfThreads < 1}
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException(
+					"number of threads must be at least 1");
+		}
+
+		this.numberOfThreads = numberOfThreads;
+	}
+
+	/**
+	 * Sets the executor used for sampling.  The executor is not shut down by
+	 * this class.  Default is {@code null}, which uses a pool of daemon
+	 * threads shared by all instances.
+	 *
+	 * @param executor the executor used for sampling, or {@code null} to use
+	 *        the shared pool
+	 */
+	public void setExecutor(ExecutorService executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Reseeds the random stream from which the seed of each estimate is
+	 * drawn.  Default is {@link Settings#getHypervolumeSeed()}.
+	 *
+	 * @param seed the seed
+	 */
+	public void setSeed(long seed) {
+		synchronized (this) {
+			random = new XoroshiroRandom(seed);
+		}
+	}
+
+	@Override
+	public double evaluate(NondominatedPopulation approximationSet) {
+		return estimate(approximationSet).getValue();
+	}
+
+	/**
+	 * Estimates the hypervolume of the approximation set, returning the
+	 * estimate along with its standard error and confidence interval.
+	 *
+	 * @param approximationSet the approximation set
+	 * @return the estimated hypervolume
+	 */
+	public Estimate estimate(NondominatedPopulation approximationSet) {
+		long seed;
+
+		synchronized (this) {
+			seed = random.nextLong();
+		}
+
+		return estimate(problem, normalize(approximationSet), numberOfSamples,
+				targetError, quasiRandom, numberOfThreads, executor, seed);
+	}
+
+	/**
+	 * Estimates the hypervolume of the normalized approximation set using the
+	 * sample budget and error target from {@link Settings}.
+	 *
+	 * @param problem the problem
+	 * @param approximationSet the normalized approximation set
+	 * @param seed the seed from which the seed of each batch is derived
+	 * @return the estimated hypervolume of the normalized approximation set
+	 */
+	static double evaluate(Problem problem,
+			NondominatedPopulation approximationSet, long seed) {
+		return estimate(problem, approximationSet,
+				Math.max(2, Settings.getHypervolumeSamples()),
+				Settings.getHypervolumeError(), true,
+				Runtime.getRuntime().availableProcessors(), null,
+				seed).getValue();
+	}
+
+	/**
+	 * Estimates the hypervolume of the normalized approximation set.
+	 *
+	 * @param problem the problem
+	 * @param approximationSet the normalized approximation set
+	 * @param numberOfSamples the maximum number of samples
+	 * @param targetError the target half-width of the 95% confidence interval
+	 * @param quasiRandom {@code true} if samples are drawn from the Sobol'
+	 *        sequence; {@code false} if samples are pseudo-random
+	 * @param numberOfThreads the number of threads used for sampling
+	 * @param executor the executor used for sampling, or {@code null} to use
+	 *        the shared pool
+	 * @param seed the seed from which the seed of each batch is derived
+	 * @return the estimated hypervolume of the normalized approximation set
+	 */
+	static Estimate estimate(Problem problem,
+			NondominatedPopulation approximationSet, int numberOfSamples,
+			double targetError, boolean quasiRandom, int numberOfThreads,
+			ExecutorService executor, long seed) {
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		List<double[]> points = new ArrayList<double[]>();
+		double[] lowerBound = new double[numberOfObjectives];
+
+		Arrays.fill(lowerBound, 1.0);
+
+		outer: for (Solution solution : approximationSet) {
+			// prune any solutions which exceed the reference point
+			for (int i = 0; i < numberOfObjectives; i++) {
+				if (solution.getObjective(i) > 1.0) {
+					continue outer;
+				}
+			}
+
+			double[] point = new double[numberOfObjectives];
+
+			for (int i = 0; i < numberOfObjectives; i++) {
+				point[i] = Math.max(0.0, solution.getObjective(i));
+				lowerBound[i] = Math.min(lowerBound[i], point[i]);
+			}
+
+			points.add(point);
+		}
+
+		double boxVolume = 1.0;
+
+		for (int i = 0; i < numberOfObjectives; i++) {
+			boxVolume *= 1.0 - lowerBound[i];
+		}
+
+		if (points.isEmpty() || (boxVolume == 0.0)) {
+			return new Estimate(0.0, 0.0, 0);
+		}
+
+		// sorting by the first objective allows early termination of the
+		// dominance checks
+		Collections.sort(points, new Comparator<double[]>() {
+
+			@Override
+			public int compare(double[] point1, double[] point2) {
+				return Double.compare(point1[0], point2[0]);
+			}
+
+		});
+
+		int batchSize = Math.min(BATCH_SIZE, numberOfSamples / 2);
+		int numberOfBatches = numberOfSamples / batchSize;
+		double[] fractions = new double[numberOfBatches];
+		double[][] sortedPoints = points.toArray(new double[points.size()][]);
+		int numberOfTasks = Math.min(numberOfThreads, BATCHES_PER_ROUND);
+		int completedBatches = 0;
+		double mean = 0.0;
+		double standardError = 0.0;
+
+		if ((numberOfTasks > 1) && (executor == null)) {
+			executor = getSharedExecutor();
+		}
+
+		try {
+			while (completedBatches < numberOfBatches) {
+				int roundSize = Math.min(BATCHES_PER_ROUND,
+						numberOfBatches - completedBatches);
+				List<Batch> batches = new ArrayList<Batch>();
+
+				for (int i = 0; i < roundSize; i++) {
+					int index = completedBatches + i;
+
+					batches.add(new Batch(sortedPoints, lowerBound, index,
+							batchSize, quasiRandom,
+							seed ^ (index * 0x9e3779b97f4a7c15L)));
+				}
+
+				if (numberOfTasks <= 1) {
+					for (int i = 0; i < roundSize; i++) {
+						fractions[completedBatches + i] = batches.get(i).call();
+					}
+				} else {
+					// each task evaluates every numberOfTasks-th batch, so at
+					// most numberOfThreads threads of the pool are used
+					List<Round> tasks = new ArrayList<Round>();
+
+					for (int i = 0; i < Math.min(numberOfTasks, roundSize); i++) {
+						tasks.add(new Round(batches, i, numberOfTasks,
+								fractions, completedBatches));
+					}
+
+					for (Future<Void> future : executor.invokeAll(tasks)) {
+						future.get();
+					}
+				}
+
+				completedBatches += roundSize;
+
+				// update the estimate and its standard error
+				mean = 0.0;
+
+				for (int i = 0; i < completedBatches; i++) {
+					mean += fractions[i];
+				}
+
+				mean /= completedBatches;
+
+				double variance = 0.0;
+
+				for (int i = 0; i < completedBatches; i++) {
+					variance += Math.pow(fractions[i] - mean, 2.0);
+				}
+
+				variance /= completedBatches - 1;
+				standardError = boxVolume * Math.sqrt(variance /
+						completedBatches);
+
+				if ((targetError > 0.0) && (Z * standardError <= targetError)) {
+					break;
+				}
+			}
+		} catch (InterruptedException e) {
+			throw new FrameworkException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			} else {
+				throw new FrameworkException(e.getCause());
+			}
+		}
+
+		return new Estimate(boxVolume * mean, standardError,
+				completedBatches * batchSize);
+	}
+
+	/**
+	 * Returns {@code true} if the sample is dominated by or equal to any of
+	 * the points; {@code false} otherwise.
+	 *
+	 * @param points the points sorted by the first objective
+	 * @param sample the sample
+	 * @return {@code true} if the sample is dominated by or equal to any of
+	 *         the points; {@code false} otherwise
+	 */
+	private static boolean isDominated(double[][] points, double[] sample) {
+		outer: for (int j = 0; j < points.length; j++) {
+			double[] point = points[j];
+
+			if (point[0] > sample[0]) {
+				return false;
+			}
+
+			for (int i = 1; i < sample.length; i++) {
+				if (point[i] > sample[i]) {
+					continue outer;
+				}
+			}
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Evaluates a subset of the batches in one round, storing each fraction
+	 * at the index of its batch.
+	 */
+	private static class Round implements Callable<Void> {
+
+		/**
+		 * The batches in this round.
+		 */
+		private final List<Batch> batches;
+
+		/**
+		 * The position of the first batch evaluated by this task.
+		 */
+		private final int start;
+
+		/**
+		 * The distance between the positions of the batches evaluated by this
+		 * task.
+		 */
+		private final int step;
+
+		/**
+		 * The array storing the fraction estimated by each batch.
+		 */
+		private final double[] fractions;
+
+		/**
+		 * The index of the first batch in this round.
+		 */
+		private final int offset;
+
+		/**
+		 * Constructs a task evaluating the batches at positions
+		 * {@code start}, {@code start + step}, ... of the round.
+		 *
+		 * @param batches the batches in this round
+		 * @param start the position of the first batch evaluated by this task
+		 * @param step the distance between the positions of the batches
+		 *        evaluated by this task
+		 * @param fractions the array storing the fraction estimated by each
+		 *        batch
+		 * @param offset the index of the first batch in this round
+		 */
+		public Round(List<Batch> batches, int start, int step,
+				double[] fractions, int offset) {
+			super();
+			this.batches = batches;
+			this.start = start;
+			this.step = step;
+			this.fractions = fractions;
+			this.offset = offset;
+		}
+
+		@Override
+		public Void call() {
+			for (int i = start; i < batches.size(); i += step) {
+				fractions[offset + i] = batches.get(i).call();
+			}
+
+			return null;
+		}
+
+	}
+
+	/**
+	 * Estimates the fraction of the sampling box dominated by the points
+	 * using one batch of samples.
+	 */
+	private static class Batch implements Callable<Double> {
+
+		/**
+		 * The points sorted by the first objective.
+		 */
+		private final double[][] points;
+
+		/**
+		 * The lower bound of the sampling box; the upper bound is
+		 * {@code (1, 1, ..., 1)}.
+		 */
+		private final double[] lowerBound;
+
+		/**
+		 * The index of this batch.
+		 */
+		private final int index;
+
+		/**
+		 * The number of samples in this batch.
+		 */
+		private final int batchSize;
+
+		/**
+		 * {@code true} if samples are drawn from the Sobol' sequence;
+		 * {@code false} if samples are pseudo-random.
+		 */
+		private final boolean quasiRandom;
+
+		/**
+		 * The seed of this batch.
+		 */
+		private final long seed;
+
+		/**
+		 * Constructs a new batch.
+		 *
+		 * @param points the points sorted by the first objective
+		 * @param lowerBound the lower bound of the sampling box
+		 * @param index the index of this batch
+		 * @param batchSize the number of samples in this batch
+		 * @param quasiRandom {@code true} if samples are drawn from the
+		 *        Sobol' sequence; {@code false} if samples are pseudo-random
+		 * @param seed the seed of this batch
+		 */
+		public Batch(double[][] points, double[] lowerBound, int index,
+				int batchSize, boolean quasiRandom, long seed) {
+			super();
+			this.points = points;
+			this.lowerBound = lowerBound;
+			this.index = index;
+			this.batchSize = batchSize;
+			this.quasiRandom = quasiRandom;
+			this.seed = seed;
+		}
+
+		@Override
+		public Double call() {
+			int numberOfObjectives = lowerBound.length;
+			XoroshiroRandom random = new XoroshiroRandom(seed);
+			double[] sample = new double[numberOfObjectives];
+			double[][] sequence = null;
+			double[] shift = null;
+			int count = 0;
+
+			if (quasiRandom) {
+				// each batch uses a distinct block of the Sobol' sequence with
+				// an independent random shift, so the batches are unbiased and
+				// independent estimates
+				sequence = new Sobol().generate(index * batchSize, batchSize,
+						numberOfObjectives);
+				shift = new double[numberOfObjectives];
+
+				for (int i = 0; i < numberOfObjectives; i++) {
+					shift[i] = random.nextDouble();
+				}
+			}
+
+			for (int j = 0; j < batchSize; j++) {
+				for (int i = 0; i < numberOfObjectives; i++) {
+					double u;
+
+					if (quasiRandom) {
+						u = sequence[j][i] + shift[i];
+
+						if (u >= 1.0) {
+							u -= 1.0;
+						}
+					} else {
+						u = random.nextDouble();
+					}
+
+					sample[i] = lowerBound[i] + u * (1.0 - lowerBound[i]);
+				}
+
+				if (isDominated(points, sample)) {
+					count++;
+				}
+			}
+
+			return count / (double)batchSize;
+		}
+
+	}
+
+	/**
+	 * The hypervolume estimated by {@link MonteCarloHypervolume}.
+	 */
+	public static class Estimate {
+
+		/**
+		 * The estimated hypervolume.
+		 */
+		private final double value;
+
+		/**
+		 * The standard error of the estimate.
+		 */
+		private final double standardError;
+
+		/**
+		 * The number of samples drawn.
+		 */
+		private final int numberOfSamples;
+
+		/**
+		 * Constructs a new hypervolume estimate.
+		 *
+		 * @param value the estimated hypervolume
+		 * @param standardError the standard error of the estimate
+		 * @param numberOfSamples the number of samples drawn
+		 */
+		Estimate(double value, double standardError, int numberOfSamples) {
+			super();
+			this.value = value;
+			this.standardError = standardError;
+			this.numberOfSamples = numberOfSamples;
+		}
+
+		/**
+		 * Returns the estimated hypervolume.
+		 *
+		 * @return the estimated hypervolume
+		 */
+		public double getValue() {
+			return value;
+		}
+
+		/**
+		 * Returns the standard error of the estimate.
+		 *
+		 * @return the standard error of the estimate
+		 */
+		public double getStandardError() {
+			return standardError;
+		}
+
+		/**
+		 * Returns the number of samples drawn.
+		 *
+		 * @return the number of samples drawn
+		 */
+		public int getNumberOfSamples() {
+			return numberOfSamples;
+		}
+
+		/**
+		 * Returns the lower bound of the 95% confidence interval.
+		 *
+		 * @return the lower bound of the 95% confidence interval
+		 */
+		public double getLowerBound() {
+			return Math.max(0.0, value - Z * standardError);
+		}
+
+		/**
+		 * Returns the upper bound of the 95% confidence interval.
+		 *
+		 * @return the upper bound of the 95% confidence interval
+		 */
+		public double getUpperBound() {
+			return value + Z * standardError;
+		}
+
+	}
+
+}
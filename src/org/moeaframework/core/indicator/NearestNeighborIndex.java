@@ -0,0 +1,472 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.PackedSolutions;
+import org.moeaframework.core.Population;
+import org.moeaframework.core.Problem;
+
+/**
+ * Index for finding the Euclidean distance in objective space to the nearest
+ * member of a fixed set of solutions, such as a reference set.  The index is
+ * a k-d tree stored implicitly in a single array: the points of each subtree
+ * occupy a contiguous range whose median point splits the range along the
+ * objective with the largest spread.  Small ranges are scanned directly.
+ * <p>
+ * Distances are computed with the same arithmetic as
+ * {@link IndicatorUtils#distanceToNearestSolution(Problem, PackedSolutions,
+ * int, PackedSolutions)}, comparing squared distances and taking the root
+ * once, so the results are identical to a brute-force scan.  The index is
+ * immutable after construction and may be queried from multiple threads.
+ */
+public class NearestNeighborIndex {
+
+	/**
+	 * The largest range of points scanned directly rather than split.
+	 */
+	private static final int LEAF_SIZE = 8;
+
+	/**
+	 * The minimum number of queries in each task created by
+	 * {@link #distancesToNearest(PackedSolutions, ExecutorService)}.
+	 */
+	static final int PARALLEL_THRESHOLD = 4096;
+
+	/**
+	 * The number of objectives.
+	 */
+	private final int numberOfObjectives;
+
+	/**
+	 * The number of indexed points.
+	 */
+	private final int size;
+
+	/**
+	 * The objectives of the indexed points in tree order; the point at
+	 * position {@code i} begins at index {@code i * numberOfObjectives}.
+	 */
+	private final double[] points;
+
+	/**
+	 * The objective splitting the range whose median point is at position
+	 * {@code i}; unused for points in ranges that are scanned directly.
+	 */
+	private final int[] splits;
+
+	/**
+	 * Constructs an index over the objectives of the specified population.
+	 *
+	 * @param problem the problem
+	 * @param population the indexed solutions
+	 * @throws IllegalArgumentException if the solutions define fewer
+	 *         objectives than the problem
+	 */
+	public NearestNeighborIndex(Problem problem, Population population) {
+		this(problem.getNumberOfObjectives(),
+				IndicatorUtils.pack(problem, population));
+	}
+
+	/**
+	 * Constructs an index over the first {@code numberOfObjectives}
+	 * objectives of the specified packed solutions.
+	 *
+	 * @param numberOfObjectives the number of objectives
+	 * @param solutions the indexed solutions
+	 */
+	NearestNeighborIndex(int numberOfObjectives, PackedSolutions solutions) {
+		this(numberOfObjectives, solutions.getValues(), solutions.getStride(),
+				solutions.size());
+	}
+
+	/**
+	 * Constructs an index over the objectives stored in row-major order in
+	 * the specified array, such as the matrix returned by
+	 * {@link Normalizer#normalizeObjectives(Population)}.
+	 *
+	 * @param numberOfObjectives the number of objectives
+	 * @param objectives the objectives of the indexed points
+	 */
+	NearestNeighborIndex(int numberOfObjectives, double[] objectives) {
+		this(numberOfObjectives, objectives, numberOfObjectives,
+				objectives.length / numberOfObjectives);
+	}
+
+	/**
+	 * Constructs an index over the first {@code numberOfObjectives} values of
+	 * each point stored in the specified array.
+	 *
+	 * @param numberOfObjectives the number of objectives
+	 * @param values the array storing the points
+	 * @param stride the number of values stored for each point
+	 * @param size the number of points
+	 */
+	private NearestNeighborIndex(int numberOfObjectives, double[] values,
+			int stride, int size) {
+		super();
+		this.numberOfObjectives = numberOfObjectives;
+		this.size = size;
+
+		points = new double[size * numberOfObjectives];
+		splits = new int[size];
+
+		int[] order = new int[size];
+
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+
+		build(values, stride, order, 0, size);
+
+		// copy the points into tree order so each range is contiguous
+		for (int i = 0; i < size; i++) {
+			System.arraycopy(values, order[i] * stride, points,
+					i * numberOfObjectives, numberOfObjectives);
+		}
+	}
+
+	/**
+	 * Arranges the points in the range {@code [from, to)} of {@code order}
+	 * into a k-d tree.
+	 *
+	 * @param values the packed objectives
+	 * @param stride the number of values stored for each solution
+	 * @param order the indices of the points in tree order
+	 * @param from the start of the range, inclusive
+	 * @param to the end of the range, exclusive
+	 */
+	private void build(double[] values, int stride, int[] order, int from,
+			int to) {
+		if (to - from <= LEAF_SIZE) {
+			return;
+		}
+
+		// split along the objective with the largest spread
+		int split = 0;
+		double maxSpread = -1.0;
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			double min = Double.POSITIVE_INFINITY;
+			double max = Double.NEGATIVE_INFINITY;
+
+			for (int i = from; i < to; i++) {
+				double value = values[order[i] * stride + j];
+				min = Math.min(min, value);
+				max = Math.max(max, value);
+			}
+
+			if (max - min > maxSpread) {
+				maxSpread = max - min;
+				split = j;
+			}
+		}
+
+		int middle = (from + to) >>> 1;
+		select(values, stride, split, order, from, to - 1, middle);
+		splits[middle] = split;
+
+		build(values, stride, order, from, middle);
+		build(values, stride, order, middle + 1, to);
+	}
+
+	/**
+	 * Partially sorts the range {@code [left, right]} of {@code order} so the
+	 * point at position {@code k} is preceded by points whose objective is no
+	 * larger and followed by points whose objective is no smaller.
+	 *
+	 * @param values the packed objectives
+	 * @param stride the number of values stored for each solution
+	 * @param objective the objective being compared
+	 * @param order the indices of the points
+	 * @param left the start of the range, inclusive
+	 * @param right the end of the range, inclusive
+	 * @param k the position being selected
+	 */
+	private static void select(double[] values, int stride, int objective,
+			int[] order, int left, int right, int k) {
+		while (left < right) {
+			double pivot = values[order[(left + right) >>> 1] * stride +
+					objective];
+			int i = left;
+			int j = right;
+
+			while (i <= j) {
+				while (values[order[i] * stride + objective] < pivot) {
+					i++;
+				}
+
+				while (values[order[j] * stride + objective] > pivot) {
+					j--;
+				}
+
+				if (i <= j) {
+					int temp = order[i];
+					order[i] = order[j];
+					order[j] = temp;
+					i++;
+					j--;
+				}
+			}
+
+			if (k <= j) {
+				right = j;
+			} else if (k >= i) {
+				left = i;
+			} else {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of indexed solutions.
+	 *
+	 * @return the number of indexed solutions
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the Euclidean distance between the specified point and the
+	 * nearest indexed solution.  Returns {@code Double.POSITIVE_INFINITY} if
+	 * the index is empty.
+	 *
+	 * @param point the objectives of the point
+	 * @return the Euclidean distance between the specified point and the
+	 *         nearest indexed solution
+	 */
+	public double distanceToNearest(double[] point) {
+		return distanceToNearest(point, 0);
+	}
+
+	/**
+	 * Returns the Euclidean distance between the point stored at the
+	 * specified offset and the nearest indexed solution.
+	 *
+	 * @param values the array storing the point
+	 * @param offset the index of the first objective of the point
+	 * @return the Euclidean distance between the point and the nearest
+	 *         indexed solution
+	 */
+	double distanceToNearest(double[] values, int offset) {
+		return Math.sqrt(search(values, offset, 0, size,
+				Double.POSITIVE_INFINITY));
+	}
+
+	/**
+	 * Returns the Euclidean distance between each of the specified solutions
+	 * and the nearest indexed solution, computed on the calling thread.
+	 *
+	 * @param solutions the packed solutions
+	 * @return the Euclidean distance between each of the specified solutions
+	 *         and the nearest indexed solution
+	 */
+	public double[] distancesToNearest(PackedSolutions solutions) {
+		double[] distances = new double[solutions.size()];
+		new Query(solutions, distances, 0, distances.length).call();
+		return distances;
+	}
+
+	/**
+	 * Returns the Euclidean distance between each of the specified solutions
+	 * and the nearest indexed solution.  Large numbers of solutions are
+	 * divided into tasks of at least {@value #PARALLEL_THRESHOLD} solutions,
+	 * up to four tasks per available processor, and computed on the specified
+	 * executor, which is not shut down by this method.  Fewer solutions are
+	 * computed on the calling thread, as are all solutions if the executor is
+	 * {@code null}.
+	 *
+	 * @param solutions the packed solutions
+	 * @param executor the executor computing the distances, or {@code null}
+	 *        to compute the distances on the calling thread
+	 * @return the Euclidean distance between each of the specified solutions
+	 *         and the nearest indexed solution
+	 */
+	public double[] distancesToNearest(PackedSolutions solutions,
+			ExecutorService executor) {
+		int numberOfTasks = Math.min(
+				4 * Runtime.getRuntime().availableProcessors(),
+				solutions.size() / PARALLEL_THRESHOLD);
+
+		if ((executor == null) || (numberOfTasks <= 1)) {
+			return distancesToNearest(solutions);
+		}
+
+		double[] distances = new double[solutions.size()];
+		List<Query> queries = new ArrayList<Query>();
+		int chunkSize = (distances.length + numberOfTasks - 1) /
+				numberOfTasks;
+
+		for (int from = 0; from < distances.length; from += chunkSize) {
+			queries.add(new Query(solutions, distances, from,
+					Math.min(from + chunkSize, distances.length)));
+		}
+
+		try {
+			for (Future<Void> future : executor.invokeAll(queries)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			throw new FrameworkException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			} else {
+				throw new FrameworkException(e.getCause());
+			}
+		}
+
+		return distances;
+	}
+
+	/**
+	 * Returns the smaller of {@code best} and the squared distance between the
+	 * point and the nearest indexed solution in the range {@code [from, to)}.
+	 *
+	 * @param values the array storing the point
+	 * @param offset the index of the first objective of the point
+	 * @param from the start of the range, inclusive
+	 * @param to the end of the range, exclusive
+	 * @param best the smallest squared distance found so far
+	 * @return the smaller of {@code best} and the squared distance to the
+	 *         nearest indexed solution in the range
+	 */
+	private double search(double[] values, int offset, int from, int to,
+			double best) {
+		if (to - from <= LEAF_SIZE) {
+			for (int i = from; i < to; i++) {
+				best = Math.min(best, squaredDistance(values, offset, i));
+			}
+
+			return best;
+		}
+
+		int middle = (from + to) >>> 1;
+		int split = splits[middle];
+		double difference = values[offset + split] -
+				points[middle * numberOfObjectives + split];
+
+		best = Math.min(best, squaredDistance(values, offset, middle));
+
+		// search the side containing the point first, then the other side
+		// only if the splitting plane is closer than the best solution
+		if (difference < 0.0) {
+			best = search(values, offset, from, middle, best);
+
+			if (difference * difference < best) {
+				best = search(values, offset, middle + 1, to, best);
+			}
+		} else {
+			best = search(values, offset, middle + 1, to, best);
+
+			if (difference * difference < best) {
+				best = search(values, offset, from, middle, best);
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * Returns the squared Euclidean distance between the point and the
+	 * indexed solution at the specified position.
+	 *
+	 * @param values the array storing the point
+	 * @param offset the index of the first objective of the point
+	 * @param index the position of the indexed solution
+	 * @return the squared Euclidean distance between the point and the
+	 *         indexed solution
+	 */
+	private double squaredDistance(double[] values, int offset, int index) {
+		int start = index * numberOfObjectives;
+		double distance = 0.0;
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			double difference = values[offset + j] - points[start + j];
+			distance += difference * difference;
+		}
+
+		return distance;
+	}
+
+	/**
+	 * Computes the distances for a range of solutions.
+	 */
+	private class Query implements Callable<Void> {
+
+		/**
+		 * The packed solutions.
+		 */
+		private final PackedSolutions solutions;
+
+		/**
+		 * The array storing the distances.
+		 */
+		private final double[] distances;
+
+		/**
+		 * The start of the range, inclusive.
+		 */
+		private final int from;
+
+		/**
+		 * The end of the range, exclusive.
+		 */
+		private final int to;
+
+		/**
+		 * Constructs a query for a range of solutions.
+		 *
+		 * @param solutions the packed solutions
+		 * @param distances the array storing the distances
+		 * @param from the start of the range, inclusive
+		 * @param to the end of the range, exclusive
+		 */
+		public Query(PackedSolutions solutions, double[] distances, int from,
+				int to) {
+			super();
+			this.solutions = solutions;
+			this.distances = distances;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public Void call() {
+			double[] values = solutions.getValues();
+			int stride = solutions.getStride();
+
+			for (int i = from; i < to; i++) {
+				distances[i] = distanceToNearest(values, i * stride);
+			}
+
+			return null;
+		}
+
+	}
+
+}
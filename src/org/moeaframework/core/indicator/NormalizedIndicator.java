@@ -17,6 +17,8 @@
  */
 package org.moeaframework.core.indicator;
 
+import java.util.concurrent.ExecutorService;
+
 import org.moeaframework.core.Indicator;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Problem;
@@ -44,6 +46,18 @@ public abstract class NormalizedIndicator implements Indicator {
 	 */
 	private final NondominatedPopulation normalizedReferenceSet;
 
+	/**
+	 * The index of the normalized reference set, or {@code null} if the index
+	 * has not yet been built.
+	 */
+	private NearestNeighborIndex normalizedReferenceIndex;
+
+	/**
+	 * The executor used for nearest neighbor queries, or {@code null} to
+	 * compute all queries on the calling thread.
+	 */
+	private ExecutorService executor;
+
 	/**
 	 * Constructs a normalized indicator for the specified problem and 
 	 * corresponding reference set.
@@ -156,4 +170,47 @@ public abstract class NormalizedIndicator implements Indicator {
 		return normalizedReferenceSet;
 	}
 
+	/**
+	 * Returns the executor used for nearest neighbor queries, or {@code null}
+	 * if all queries are computed on the calling thread.
+	 * 
+	 * @return the executor used for nearest neighbor queries, or {@code null}
+	 *         if all queries are computed on the calling thread
+	 */
+	public ExecutorService getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Sets the executor used for nearest neighbor queries.  Indicators
+	 * measuring distances, such as {@link InvertedGenerationalDistance},
+	 * divide large sets of queries among the threads of the executor, as
+	 * described in {@link NearestNeighborIndex#distancesToNearest(
+	 * org.moeaframework.core.PackedSolutions, ExecutorService)}.  The values
+	 * are identical to those computed on the calling thread.  The executor is
+	 * not shut down by this class.  Default is {@code null}, which computes
+	 * all queries on the calling thread.
+	 * 
+	 * @param executor the executor used for nearest neighbor queries, or
+	 *        {@code null} to compute all queries on the calling thread
+	 */
+	public void setExecutor(ExecutorService executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the nearest neighbor index of the normalized reference set.  The
+	 * index is built on first use and reused by later evaluations.
+	 * 
+	 * @return the nearest neighbor index of the normalized reference set
+	 */
+	protected synchronized NearestNeighborIndex getNormalizedReferenceIndex() {
+		if (normalizedReferenceIndex == null) {
+			normalizedReferenceIndex = new NearestNeighborIndex(problem,
+					normalizedReferenceSet);
+		}
+
+		return normalizedReferenceIndex;
+	}
+
 }
@@ -20,6 +20,7 @@ package org.moeaframework.core.indicator;
 import java.util.Arrays;
 
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PackedSolutions;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Settings;
@@ -178,17 +179,21 @@ public class Normalizer {
 			minimum[i] = Double.POSITIVE_INFINITY;
 			maximum[i] = Double.NEGATIVE_INFINITY;
 		}
+		
+		PackedSolutions packed = IndicatorUtils.pack(problem, population);
+		double[] values = packed.getValues();
+		int stride = packed.getStride();
 
-		for (int i = 0; i < population.size(); i++) {
-			Solution solution = population.get(i);
-			
-			if (solution.violatesConstraints()) {
+		for (int i = 0; i < packed.size(); i++) {
+			if (packed.violatesConstraints(i)) {
 				continue;
 			}
 			
+			int offset = i * stride;
+			
 			for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
-				minimum[j] = Math.min(minimum[j], solution.getObjective(j));
-				maximum[j] = Math.max(maximum[j], solution.getObjective(j));
+				minimum[j] = Math.min(minimum[j], values[offset + j]);
+				maximum[j] = Math.max(maximum[j], values[offset + j]);
 			}
 		}
 		
@@ -235,18 +240,7 @@ public class Normalizer {
 	 *         solutions from the specified population
 	 */
 	public NondominatedPopulation normalize(NondominatedPopulation population) {
-		NondominatedPopulation result = new NondominatedPopulation() {
-
-			/**
-			 * Enables a performance hack to avoid performing non-dominance
-			 * checks on solutions already known to be non-dominated.
-			 */
-			public boolean add(Solution newSolution) {
-				return super.forceAddWithoutCheck(newSolution);
-			}
-
-		};
-
+		NondominatedPopulation result = newUncheckedPopulation();
 		normalize(population, result);
 		return result;
 	}
@@ -265,6 +259,84 @@ public class Normalizer {
 		return result;
 	}
 	
+	/**
+	 * Returns the normalized objectives of the feasible solutions in the
+	 * specified population.  The objectives of the {@code i}-th feasible
+	 * solution begin at index {@code i * problem.getNumberOfObjectives()}.
+	 * Unlike {@link #normalize(Population)}, the solutions are not copied, so
+	 * the cost does not depend on the size of their decision variables.
+	 * 
+	 * @param population the population
+	 * @return the normalized objectives of the feasible solutions in the
+	 *         specified population
+	 */
+	public double[] normalizeObjectives(Population population) {
+		PackedSolutions packed = IndicatorUtils.pack(problem, population);
+		double[] values = packed.getValues();
+		int stride = packed.getStride();
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		double[] result = new double[packed.size() * numberOfObjectives];
+		int count = 0;
+		
+		for (int i = 0; i < packed.size(); i++) {
+			if (packed.violatesConstraints(i)) {
+				continue;
+			}
+			
+			int offset = i * stride;
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				result[count++] = (values[offset + j] - minimum[j]) /
+						(maximum[j] - minimum[j]);
+			}
+		}
+		
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+	
+	/**
+	 * Returns a new non-dominated population containing solutions with the
+	 * specified normalized objectives, such as those returned by
+	 * {@link #normalizeObjectives(Population)}.  The solutions define only
+	 * objectives, which is sufficient for evaluating indicators.
+	 * 
+	 * @param objectives the normalized objectives
+	 * @return a new non-dominated population containing solutions with the
+	 *         specified normalized objectives
+	 */
+	NondominatedPopulation toPopulation(double[] objectives) {
+		NondominatedPopulation result = newUncheckedPopulation();
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		
+		for (int i = 0; i < objectives.length; i += numberOfObjectives) {
+			result.add(new Solution(Arrays.copyOfRange(objectives, i,
+					i + numberOfObjectives)));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a new non-dominated population that adds solutions without
+	 * checking for dominance, since normalization preserves dominance.
+	 * 
+	 * @return a new non-dominated population that adds solutions without
+	 *         checking for dominance
+	 */
+	private static NondominatedPopulation newUncheckedPopulation() {
+		return new NondominatedPopulation() {
+
+			/**
+			 * Enables a performance hack to avoid performing non-dominance
+			 * checks on solutions already known to be non-dominated.
+			 */
+			public boolean add(Solution newSolution) {
+				return super.forceAddWithoutCheck(newSolution);
+			}
+
+		};
+	}
+	
 	/**
 	 * Performs the actual normalization.  Each solution in {@code originalSet}
 	 * is copied, normalized and added to {@code normalizedSet}.
@@ -273,16 +345,21 @@ public class Normalizer {
 	 * @param normalizedSet the normalized population
 	 */
 	private void normalize(Population originalSet, Population normalizedSet) {
-		for (Solution solution : originalSet) {
-			if (solution.violatesConstraints()) {
+		PackedSolutions packed = IndicatorUtils.pack(problem, originalSet);
+		double[] values = packed.getValues();
+		int stride = packed.getStride();
+		
+		for (int i = 0; i < packed.size(); i++) {
+			if (packed.violatesConstraints(i)) {
 				continue;
 			}
 			
-			Solution clone = solution.copy();
+			Solution clone = packed.get(i).copy();
+			int offset = i * stride;
 	
 			for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
 				clone.setObjective(j,
-						(clone.getObjective(j) - minimum[j]) /
+						(values[offset + j] - minimum[j]) /
 						(maximum[j] - minimum[j]));
 			}
 	
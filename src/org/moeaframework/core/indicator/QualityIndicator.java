@@ -20,6 +20,7 @@ package org.moeaframework.core.indicator;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Settings;
+import org.moeaframework.core.XoroshiroRandom;
 
 /**
  * Evaluates multiple indicators while avoiding repetitive computations.
@@ -37,26 +38,26 @@ public class QualityIndicator {
 	private final NondominatedPopulation referenceSet;
 	
 	/**
-	 * The normalized reference set.
+	 * The evaluator computing the distance-based indicators in a single pass.
 	 */
-	private final NondominatedPopulation normalizedReferenceSet;
+	private final FusedIndicatorEvaluator fusedEvaluator;
 	
 	/**
-	 * The normalizer to normalize populations so that all objectives reside in
-	 * the range {@code [0, 1]}.
+	 * The normalizer that includes the hypervolume delta.
 	 */
-	private final Normalizer normalizer;
+	private final Normalizer hypervolumeNormalizer;
 	
 	/**
-	 * The normalizer that includes the hypervolume delta.
+	 * The random stream seeding the approximate hypervolume, which is kept
+	 * separate from {@link org.moeaframework.core.PRNG}.
 	 */
-	private final Normalizer hypervolumeNormalizer;
+	private final XoroshiroRandom hypervolumeRandom;
 	
 	/**
-	 * The approximation set used during the last invocation of
-	 * {@code calculate}.
+	 * {@code true} if {@code calculate} has been invoked; {@code false}
+	 * otherwise.
 	 */
-	private NondominatedPopulation normalizedApproximationSet;
+	private boolean calculated;
 
 	/**
 	 * The generational distance of the approximation set from the last
@@ -106,11 +107,11 @@ public class QualityIndicator {
 		this.problem = problem;
 		this.referenceSet = referenceSet;
 		
-		normalizer = new Normalizer(problem, referenceSet);
-		normalizedReferenceSet = normalizer.normalize(referenceSet);
+		fusedEvaluator = new FusedIndicatorEvaluator(problem, referenceSet);
 		
 		hypervolumeNormalizer = new Normalizer(problem, referenceSet,
 				Settings.getHypervolumeDelta());
+		hypervolumeRandom = new XoroshiroRandom(Settings.getHypervolumeSeed());
 	}
 
 	/**
@@ -169,7 +170,9 @@ public class QualityIndicator {
 
 	/**
 	 * Returns the hypervolume of the approximation set from the last invocation
-	 * of {@code calculate}.
+	 * of {@code calculate}.  The hypervolume is estimated by
+	 * {@link MonteCarloHypervolume} if
+	 * {@link Settings#isHypervolumeApproximate()} is enabled.
 	 * 
 	 * @return the hypervolume of the approximation set from the last invocation
 	 *         of {@code calculate}
@@ -231,7 +234,7 @@ public class QualityIndicator {
 	 *         been invoked
 	 */
 	private void checkCalculateInvocation() {
-		if (normalizedApproximationSet == null) {
+		if (!calculated) {
 			throw new IllegalStateException(
 					"invoke calculate prior to getting indicator values");
 		}
@@ -240,31 +243,47 @@ public class QualityIndicator {
 	/**
 	 * Calculates all the metrics for the specified approximation set. By
 	 * grouping all calculates into one method, repetitive calculates are
-	 * avoided.
+	 * avoided.  The generational distance, inverted generational distance,
+	 * additive &epsilon;-indicator and maximum Pareto front error are
+	 * computed together by a {@link FusedIndicatorEvaluator}.
 	 * 
 	 * @param approximationSet the approximation set
 	 */
 	public void calculate(NondominatedPopulation approximationSet) {
-		if (Settings.isHypervolumeEnabled()) {
+		if (Settings.isHypervolumeApproximate()) {
+			hypervolume = MonteCarloHypervolume.evaluate(problem,
+					normalizeForHypervolume(approximationSet),
+					hypervolumeRandom.nextLong());
+		} else if (Settings.isHypervolumeEnabled()) {
 			hypervolume = Hypervolume.evaluate(problem, 
-					hypervolumeNormalizer.normalize(approximationSet));
+					normalizeForHypervolume(approximationSet));
 		} else {
 			hypervolume = Double.NaN;
 		}
 		
-		normalizedApproximationSet = normalizer.normalize(approximationSet);
+		fusedEvaluator.calculate(approximationSet);
 		
-		generationalDistance = GenerationalDistance.evaluate(problem,
-				normalizedApproximationSet, normalizedReferenceSet,
-				Settings.getGDPower());
-		invertedGenerationalDistance = InvertedGenerationalDistance.evaluate(
-				problem, normalizedApproximationSet, normalizedReferenceSet,
-				Settings.getIGDPower());
-		additiveEpsilonIndicator = AdditiveEpsilonIndicator.evaluate(problem,
-				normalizedApproximationSet, normalizedReferenceSet);
-		maximumParetoFrontError = MaximumParetoFrontError.evaluate(problem,
-				normalizedApproximationSet, normalizedReferenceSet);
+		generationalDistance = fusedEvaluator.getGenerationalDistance();
+		invertedGenerationalDistance =
+				fusedEvaluator.getInvertedGenerationalDistance();
+		additiveEpsilonIndicator = fusedEvaluator.getAdditiveEpsilonIndicator();
+		maximumParetoFrontError = fusedEvaluator.getMaximumParetoFrontError();
 		spacing = Spacing.evaluate(problem, approximationSet);
+		calculated = true;
+	}
+	
+	/**
+	 * Returns the approximation set normalized for the hypervolume
+	 * calculation.  Only the objectives are normalized, avoiding the cost of
+	 * copying the decision variables of each solution.
+	 * 
+	 * @param approximationSet the approximation set
+	 * @return the approximation set normalized for the hypervolume calculation
+	 */
+	private NondominatedPopulation normalizeForHypervolume(
+			NondominatedPopulation approximationSet) {
+		return hypervolumeNormalizer.toPopulation(
+				hypervolumeNormalizer.normalizeObjectives(approximationSet));
 	}
 
 }
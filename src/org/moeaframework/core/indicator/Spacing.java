@@ -21,7 +21,7 @@ import org.apache.commons.math3.stat.StatUtils;
 import org.moeaframework.core.Indicator;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Problem;
-import org.moeaframework.core.Solution;
+import org.moeaframework.core.PackedSolutions;
 
 /**
  * Spacing metric. Represents the spread of the Pareto front.
@@ -62,27 +62,35 @@ public class Spacing implements Indicator {
 			return 0.0;
 		}
 		
-		double[] d = new double[approximationSet.size()];
+		PackedSolutions packed = IndicatorUtils.pack(problem,
+				approximationSet);
+		double[] values = packed.getValues();
+		int stride = packed.getStride();
+		boolean[] feasible = new boolean[packed.size()];
+		double[] d = new double[packed.size()];
+		
+		for (int i = 0; i < packed.size(); i++) {
+			feasible[i] = !packed.violatesConstraints(i);
+		}
 
-		for (int i = 0; i < approximationSet.size(); i++) {
+		for (int i = 0; i < packed.size(); i++) {
 			double min = Double.POSITIVE_INFINITY;
-			Solution solutionI = approximationSet.get(i);
 			
-			if (solutionI.violatesConstraints()) {
+			if (!feasible[i]) {
 				continue;
 			}
 			
-			
-			for (int j = 0; j < approximationSet.size(); j++) {
-				if (i != j) {
-					Solution solutionJ = approximationSet.get(j);
+			for (int j = 0; j < packed.size(); j++) {
+				if ((i != j) && feasible[j]) {
+					double distance = 0.0;
 					
-					if (solutionJ.violatesConstraints()) {
-						continue;
+					// the Manhattan distance between the two solutions
+					for (int k = 0; k < problem.getNumberOfObjectives(); k++) {
+						distance += Math.abs(values[i * stride + k] -
+								values[j * stride + k]);
 					}
 					
-					min = Math.min(min, IndicatorUtils.manhattanDistance(
-							problem, solutionI, solutionJ));
+					min = Math.min(min, distance);
 				}
 			}
 
@@ -92,8 +100,8 @@ public class Spacing implements Indicator {
 		double dbar = StatUtils.sum(d) / approximationSet.size();
 		double sum = 0.0;
 		
-		for (int i = 0; i < approximationSet.size(); i++) {
-			if (approximationSet.get(i).violatesConstraints()) {
+		for (int i = 0; i < packed.size(); i++) {
+			if (!feasible[i]) {
 				continue;
 			}
 			
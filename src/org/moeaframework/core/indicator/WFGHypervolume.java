@@ -0,0 +1,580 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+/**
+ * Exact hypervolume calculation using the WFG algorithm [1].  Points are
+ * stored in a packed {@code double[]} buffer, where the objectives of the
+ * {@code i}-th point occupy indices {@code i*M} through {@code i*M+M-1}.  The
+ * hypervolume is computed by slicing along the last objective and computing
+ * the exclusive hypervolume of each point against the bounded, non-dominated
+ * limit set of the preceding points.  Two and three objectives are handled by
+ * dedicated {@code O(n log n)} dimension-sweep algorithms [2], which also
+ * serve as the base case of the recursion.
+ * <p>
+ * This class is not thread-safe since scratch buffers are reused between
+ * invocations.  Use a separate instance per thread.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>While, L., L. Bradstreet, and L. Barone (2012).  A Fast Way of
+ *       Calculating Exact Hypervolumes.  IEEE Transactions on Evolutionary
+ *       Computation, 16(1):86-95.
+ *   <li>Beume, N., C. M. Fonseca, M. Lopez-Ibanez, L. Paquete, and
+ *       J. Vahrenhold (2009).  On the Complexity of Computing the
+ *       Hypervolume Indicator.  IEEE Transactions on Evolutionary
+ *       Computation, 13(5):1075-1082.
+ * </ol>
+ */
+public class WFGHypervolume {
+
+	/**
+	 * The number of objectives.
+	 */
+	private final int numberOfObjectives;
+
+	/**
+	 * Scratch buffers storing the limit sets, indexed by the number of
+	 * objectives of the points in the limit set.
+	 */
+	private final double[][] buffers;
+
+	/**
+	 * Scratch buffers used when sorting points, indexed by the number of
+	 * objectives of the points being sorted.
+	 */
+	private final double[][] sortBuffers;
+
+	/**
+	 * The first objective of the points on the two-dimensional staircase used
+	 * by the three-dimensional sweep.
+	 */
+	private double[] staircaseX;
+
+	/**
+	 * The second objective of the points on the two-dimensional staircase
+	 * used by the three-dimensional sweep.
+	 */
+	private double[] staircaseY;
+
+	/**
+	 * The number of points on the two-dimensional staircase.
+	 */
+	private int staircaseSize;
+
+	/**
+	 * Constructs a new hypervolume calculator for the given number of
+	 * objectives.
+	 *
+	 * @param numberOfObjectives the number of objectives
+	 * @throws IllegalArgumentException if the number of objectives is less
+	 *         than {@code 1}
+	 */
+	public WFGHypervolume(int numberOfObjectives) {
+		super();
+
+		if (numberOfObjectives < 1) {
+			throw new IllegalArgumentException(
+					"requires at least one objective");
+		}
+
+		this.numberOfObjectives = numberOfObjectives;
+
+		buffers = new double[numberOfObjectives + 1][];
+		sortBuffers = new double[numberOfObjectives + 1][];
+	}
+
+	/**
+	 * Returns the number of objectives.
+	 *
+	 * @return the number of objectives
+	 */
+	public int getNumberOfObjectives() {
+		return numberOfObjectives;
+	}
+
+	/**
+	 * Computes the hypervolume of the given points for a minimization problem,
+	 * which is the volume of the region dominated by at least one point and
+	 * bounded by the reference point.  Points not strictly better than the
+	 * reference point in every objective do not contribute to the volume.
+	 * The points buffer is not modified.
+	 *
+	 * @param points the packed objectives of the points
+	 * @param numberOfPoints the number of points
+	 * @param referencePoint the reference point
+	 * @return the hypervolume of the points
+	 */
+	public double calculate(double[] points, int numberOfPoints,
+			double[] referencePoint) {
+		int M = numberOfObjectives;
+		double[] buffer = getBuffer(buffers, M, numberOfPoints * M);
+		int n = 0;
+
+		// translate points so the reference point is the origin and larger
+		// values are preferred
+		outer: for (int i = 0; i < numberOfPoints; i++) {
+			for (int j = 0; j < M; j++) {
+				double value = referencePoint[j] - points[i*M + j];
+
+				if (!(value > 0.0)) {
+					continue outer;
+				}
+
+				buffer[n*M + j] = value;
+			}
+
+			n++;
+		}
+
+		if (M > 3) {
+			n = filterNondominated(buffer, n, M);
+		}
+
+		return hypervolume(buffer, n, M);
+	}
+
+	/**
+	 * Computes the hypervolume of the translated points, where the reference
+	 * point is the origin and larger values are preferred.  The order of the
+	 * points in the buffer may be modified.
+	 *
+	 * @param points the packed, translated points
+	 * @param n the number of points
+	 * @param d the number of objectives
+	 * @return the hypervolume of the points
+	 */
+	private double hypervolume(double[] points, int n, int d) {
+		if (n == 0) {
+			return 0.0;
+		} else if (n == 1) {
+			return inclusiveHypervolume(points, 0, d);
+		} else if (d == 1) {
+			double max = points[0];
+
+			for (int i = 1; i < n; i++) {
+				max = Math.max(max, points[i]);
+			}
+
+			return max;
+		} else if (d == 2) {
+			return hypervolume2D(points, n);
+		} else if (d == 3) {
+			return hypervolume3D(points, n);
+		}
+
+		// slice along the last objective, visiting points from best to worst
+		sort(points, n, d, d - 1);
+
+		double volume = 0.0;
+
+		for (int k = 0; k < n; k++) {
+			double height = points[k*d + d - 1];
+
+			if (height > 0.0) {
+				volume += height * exclusiveHypervolume(points, k, d - 1, d);
+			}
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Computes the exclusive hypervolume of the {@code k}-th point with respect
+	 * to the preceding points, considering only the first {@code d}
+	 * objectives.
+	 *
+	 * @param points the packed, translated points
+	 * @param k the index of the point
+	 * @param d the number of objectives considered
+	 * @param stride the number of objectives stored per point
+	 * @return the exclusive hypervolume of the {@code k}-th point
+	 */
+	private double exclusiveHypervolume(double[] points, int k, int d,
+			int stride) {
+		double volume = 1.0;
+
+		for (int j = 0; j < d; j++) {
+			volume *= points[k*stride + j];
+		}
+
+		if (k == 0) {
+			return volume;
+		}
+
+		// build the limit set, discarding dominated points as they are added
+		double[] limitSet = getBuffer(buffers, d, k * d);
+		int size = 0;
+
+		for (int i = 0; i < k; i++) {
+			int offset = size * d;
+
+			for (int j = 0; j < d; j++) {
+				limitSet[offset + j] = Math.min(points[i*stride + j],
+						points[k*stride + j]);
+			}
+
+			boolean isDominated = false;
+			int m = 0;
+
+			while (m < size) {
+				int flag = compare(limitSet, m*d, limitSet, offset, d);
+
+				if (flag <= 0) {
+					// the new point is dominated by or equal to point m
+					isDominated = true;
+					break;
+				} else if (flag == 2) {
+					// the new point dominates point m; move the last point
+					// into slot m and the new point into the last slot
+					size--;
+					System.arraycopy(limitSet, size*d, limitSet, m*d, d);
+					System.arraycopy(limitSet, offset, limitSet, size*d, d);
+					offset = size * d;
+				} else {
+					m++;
+				}
+			}
+
+			if (!isDominated) {
+				size++;
+			}
+		}
+
+		return volume - hypervolume(limitSet, size, d);
+	}
+
+	/**
+	 * Compares two points, where larger values are preferred.
+	 *
+	 * @param a the buffer storing the first point
+	 * @param i the offset of the first point
+	 * @param b the buffer storing the second point
+	 * @param j the offset of the second point
+	 * @param d the number of objectives
+	 * @return {@code -1} if the first point dominates the second; {@code 0} if
+	 *         the points are equal; {@code 2} if the second point dominates
+	 *         the first; or {@code 1} if the points are non-dominated
+	 */
+	private static int compare(double[] a, int i, double[] b, int j, int d) {
+		boolean better = false;
+		boolean worse = false;
+
+		for (int m = 0; m < d; m++) {
+			double x = a[i + m];
+			double y = b[j + m];
+
+			if (x > y) {
+				better = true;
+			} else if (x < y) {
+				worse = true;
+			}
+
+			if (better && worse) {
+				return 1;
+			}
+		}
+
+		if (better) {
+			return -1;
+		} else if (worse) {
+			return 2;
+		} else {
+			return 0;
+		}
+	}
+
+	/**
+	 * Removes dominated and duplicate points from the buffer, returning the
+	 * number of remaining points, which are moved to the front of the buffer.
+	 *
+	 * @param points the packed, translated points
+	 * @param n the number of points
+	 * @param d the number of objectives
+	 * @return the number of non-dominated points
+	 */
+	private static int filterNondominated(double[] points, int n, int d) {
+		int i = 0;
+
+		while (i < n) {
+			boolean isDominated = false;
+			int j = i + 1;
+
+			while (j < n) {
+				int flag = compare(points, i*d, points, j*d, d);
+
+				if (flag == -1 || flag == 0) {
+					n--;
+					System.arraycopy(points, n*d, points, j*d, d);
+				} else if (flag == 2) {
+					isDominated = true;
+					break;
+				} else {
+					j++;
+				}
+			}
+
+			if (isDominated) {
+				n--;
+				System.arraycopy(points, n*d, points, i*d, d);
+			} else {
+				i++;
+			}
+		}
+
+		return n;
+	}
+
+	/**
+	 * Computes the product of the objective values of a translated point,
+	 * which is the volume of the box dominated by the point.
+	 *
+	 * @param points the packed, translated points
+	 * @param i the index of the point
+	 * @param d the number of objectives
+	 * @return the volume of the box dominated by the point
+	 */
+	private static double inclusiveHypervolume(double[] points, int i, int d) {
+		double volume = 1.0;
+
+		for (int j = 0; j < d; j++) {
+			volume *= points[i*d + j];
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Computes the hypervolume of translated two-dimensional points by
+	 * sweeping along the first objective.
+	 *
+	 * @param points the packed, translated points
+	 * @param n the number of points
+	 * @return the hypervolume of the points
+	 */
+	private double hypervolume2D(double[] points, int n) {
+		sort(points, n, 2, 0);
+
+		double volume = 0.0;
+		double maxY = 0.0;
+
+		for (int i = 0; i < n; i++) {
+			double y = points[2*i + 1];
+
+			if (y > maxY) {
+				volume += points[2*i] * (y - maxY);
+				maxY = y;
+			}
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Computes the hypervolume of translated three-dimensional points by
+	 * sweeping along the third objective while maintaining the area of the
+	 * two-dimensional staircase formed by the points swept so far.
+	 *
+	 * @param points the packed, translated points
+	 * @param n the number of points
+	 * @return the hypervolume of the points
+	 */
+	private double hypervolume3D(double[] points, int n) {
+		sort(points, n, 3, 2);
+
+		if ((staircaseX == null) || (staircaseX.length < n)) {
+			staircaseX = new double[Math.max(n, 16)];
+			staircaseY = new double[Math.max(n, 16)];
+		}
+
+		staircaseSize = 0;
+
+		double area = 0.0;
+		double volume = 0.0;
+
+		for (int i = 0; i < n; i++) {
+			area += insert(points[3*i], points[3*i + 1]);
+
+			double z = points[3*i + 2];
+			double nextZ = (i + 1 < n) ? points[3*(i+1) + 2] : 0.0;
+			volume += area * (z - nextZ);
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Inserts a point into the two-dimensional staircase, removing any points
+	 * it dominates, and returns the increase in the area dominated by the
+	 * staircase.  The staircase is stored in ascending order of the first
+	 * objective, and consequently descending order of the second objective.
+	 *
+	 * @param x the first objective of the point
+	 * @param y the second objective of the point
+	 * @return the increase in the area dominated by the staircase
+	 */
+	private double insert(double x, double y) {
+		double[] xs = staircaseX;
+		double[] ys = staircaseY;
+		int size = staircaseSize;
+
+		// find the first point whose first objective is not less than x
+		int low = 0;
+		int high = size;
+
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+
+			if (xs[middle] < x) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		if ((low < size) && (ys[low] >= y)) {
+			return 0.0;
+		}
+
+		// the points in [start, end) are dominated by the new point
+		int end = ((low < size) && (xs[low] == x)) ? low + 1 : low;
+		int start = end;
+		double previousX = x;
+		double previousY = (end < size) ? ys[end] : 0.0;
+		double delta = 0.0;
+
+		while ((start > 0) && (ys[start - 1] <= y)) {
+			start--;
+			delta += (previousX - xs[start]) * (y - previousY);
+			previousX = xs[start];
+			previousY = ys[start];
+		}
+
+		double lowerX = (start > 0) ? xs[start - 1] : 0.0;
+		delta += (previousX - lowerX) * (y - previousY);
+
+		// replace the dominated points with the new point
+		if (end - start != 1) {
+			System.arraycopy(xs, end, xs, start + 1, size - end);
+			System.arraycopy(ys, end, ys, start + 1, size - end);
+			staircaseSize = size - (end - start) + 1;
+		}
+
+		xs[start] = x;
+		ys[start] = y;
+		return delta;
+	}
+
+	/**
+	 * Sorts the points in descending order by the given objective.
+	 *
+	 * @param points the packed points
+	 * @param n the number of points
+	 * @param d the number of objectives
+	 * @param objective the objective used to sort the points
+	 */
+	private void sort(double[] points, int n, int d, int objective) {
+		double[] temp = getBuffer(sortBuffers, d, n * d);
+		mergeSort(points, temp, 0, n, d, objective);
+	}
+
+	/**
+	 * Stable merge sort of the rows {@code [from, to)} in descending order by
+	 * the given objective.
+	 *
+	 * @param points the packed points
+	 * @param temp a scratch buffer with at least the same capacity as the
+	 *        points
+	 * @param from the first row, inclusive
+	 * @param to the last row, exclusive
+	 * @param d the number of objectives
+	 * @param objective the objective used to sort the points
+	 */
+	private static void mergeSort(double[] points, double[] temp, int from,
+			int to, int d, int objective) {
+		if (to - from < 8) {
+			// insertion sort for small ranges
+			for (int i = from + 1; i < to; i++) {
+				int j = i;
+
+				while ((j > from) && (points[(j-1)*d + objective] <
+						points[j*d + objective])) {
+					for (int m = 0; m < d; m++) {
+						double value = points[j*d + m];
+						points[j*d + m] = points[(j-1)*d + m];
+						points[(j-1)*d + m] = value;
+					}
+
+					j--;
+				}
+			}
+
+			return;
+		}
+
+		int middle = (from + to) >>> 1;
+		mergeSort(points, temp, from, middle, d, objective);
+		mergeSort(points, temp, middle, to, d, objective);
+
+		if (points[(middle-1)*d + objective] >=
+				points[middle*d + objective]) {
+			return;
+		}
+
+		int i = from;
+		int j = middle;
+		int k = from;
+
+		while ((i < middle) || (j < to)) {
+			if ((j >= to) || ((i < middle) &&
+					(points[i*d + objective] >= points[j*d + objective]))) {
+				System.arraycopy(points, i*d, temp, k*d, d);
+				i++;
+			} else {
+				System.arraycopy(points, j*d, temp, k*d, d);
+				j++;
+			}
+
+			k++;
+		}
+
+		System.arraycopy(temp, from*d, points, from*d, (to - from)*d);
+	}
+
+	/**
+	 * Returns the scratch buffer at the given index, growing the buffer if
+	 * its capacity is less than the requested size.
+	 *
+	 * @param pool the scratch buffers
+	 * @param index the index of the buffer
+	 * @param size the required capacity
+	 * @return the scratch buffer
+	 */
+	private static double[] getBuffer(double[][] pool, int index, int size) {
+		double[] buffer = pool[index];
+
+		if ((buffer == null) || (buffer.length < size)) {
+			buffer = new double[Math.max(size,
+					buffer == null ? 16 : 2 * buffer.length)];
+			pool[index] = buffer;
+		}
+
+		return buffer;
+	}
+
+}
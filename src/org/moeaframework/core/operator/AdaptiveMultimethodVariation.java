@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.math3.stat.StatUtils;
+import org.moeaframework.core.AttributeKey;
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Solution;
@@ -38,6 +39,12 @@ public class AdaptiveMultimethodVariation implements Variation {
 	 * The attribute for the operator index.
 	 */
 	public static final String OPERATOR_ATTRIBUTE = "operator";
+	
+	/**
+	 * The typed attribute for the operator index.
+	 */
+	public static final AttributeKey OPERATOR_KEY = AttributeKey.register(
+			OPERATOR_ATTRIBUTE, AttributeKey.Type.INT);
 
 	/**
 	 * The available operators.
@@ -145,8 +152,8 @@ public class AdaptiveMultimethodVariation implements Variation {
 		Arrays.fill(count, 1.0);
 
 		for (Solution solution : archive) {
-			if (solution.hasAttribute(OPERATOR_ATTRIBUTE)) {
-				count[(Integer)solution.getAttribute(OPERATOR_ATTRIBUTE)]++;
+			if (solution.hasAttribute(OPERATOR_KEY)) {
+				count[solution.getIntAttribute(OPERATOR_KEY)]++;
 			}
 		}
 
@@ -204,7 +211,7 @@ public class AdaptiveMultimethodVariation implements Variation {
 				operator.getArity()));
 
 		for (int i = 0; i < result.length; i++) {
-			result[i].setAttribute(OPERATOR_ATTRIBUTE, index);
+			result[i].setIntAttribute(OPERATOR_KEY, index);
 		}
 
 		return result;
@@ -19,7 +19,6 @@ package org.moeaframework.core.operator;
 
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
 
 /**
@@ -64,9 +63,7 @@ public class OnePointCrossover implements Variation {
 					result1.getNumberOfVariables() - 1);
 
 			for (int i = 0; i <= crossoverPoint; i++) {
-				Variable temp = result1.getVariable(i);
-				result1.setVariable(i, result2.getVariable(i));
-				result2.setVariable(i, temp);
+				result1.swapVariable(i, result2);
 			}
 		}
 
@@ -19,7 +19,6 @@ package org.moeaframework.core.operator;
 
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
 
 /**
@@ -72,9 +71,7 @@ public class TwoPointCrossover implements Variation {
 			}
 
 			for (int i = crossoverPoint1; i <= crossoverPoint2; i++) {
-				Variable temp = result1.getVariable(i);
-				result1.setVariable(i, result2.getVariable(i));
-				result2.setVariable(i, temp);
+				result1.swapVariable(i, result2);
 			}
 		}
 
@@ -19,7 +19,6 @@ package org.moeaframework.core.operator;
 
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
 
 /**
@@ -60,9 +59,7 @@ public class UniformCrossover implements Variation {
 		if (PRNG.nextDouble() <= probability) {
 			for (int i = 0; i < result1.getNumberOfVariables(); i++) {
 				if (PRNG.nextBoolean()) {
-					Variable temp = result1.getVariable(i);
-					result1.setVariable(i, result2.getVariable(i));
-					result2.setVariable(i, temp);
+					result1.swapVariable(i, result2);
 				}
 			}
 		}
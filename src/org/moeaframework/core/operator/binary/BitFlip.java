@@ -17,6 +17,7 @@
  */
 package org.moeaframework.core.operator.binary;
 
+import org.moeaframework.core.Changes;
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
@@ -58,12 +59,26 @@ public class BitFlip implements Variation {
 	@Override
 	public Solution[] evolve(Solution[] parents) {
 		Solution result = parents[0].copy();
+		Changes changes = Changes.track(result, parents[0]);
 
 		for (int i = 0; i < result.getNumberOfVariables(); i++) {
-			Variable variable = result.getVariable(i);
+			Variable variable = result.getVariableReadOnly(i);
 
 			if (variable instanceof BinaryVariable) {
-				evolve((BinaryVariable)variable, probability);
+				int numberOfBits = ((BinaryVariable)variable).getNumberOfBits();
+				int index = nextIndex(-1, probability);
+				
+				// the variable is only copied if at least one bit is flipped
+				if (index < numberOfBits) {
+					BinaryVariable binary = (BinaryVariable)Changes.getVariable(
+							result, i);
+					
+					do {
+						binary.flip(index);
+						changes.add(i, index);
+						index = nextIndex(index, probability);
+					} while (index < numberOfBits);
+				}
 			}
 		}
 
@@ -74,13 +89,40 @@ public class BitFlip implements Variation {
 	 * Mutates the specified variable using bit flip mutation.
 	 * 
 	 * @param variable the variable to be mutated
+	 * @param probability the probability of flipping a bit
 	 */
 	public static void evolve(BinaryVariable variable, double probability) {
-		for (int i = 0; i < variable.getNumberOfBits(); i++) {
-			if (PRNG.nextDouble() <= probability) {
-				variable.set(i, !variable.get(i));
-			}
+		int numberOfBits = variable.getNumberOfBits();
+		
+		for (int index = nextIndex(-1, probability); index < numberOfBits;
+				index = nextIndex(index, probability)) {
+			variable.flip(index);
+		}
+	}
+	
+	/**
+	 * Returns the index of the next bit to flip after the specified index.
+	 * Rather than drawing a random number for every bit, the number of bits
+	 * skipped before the next flip is sampled from the geometric distribution,
+	 * so only one random number is drawn per flipped bit.
+	 * 
+	 * @param index the index of the last flipped bit, or {@code -1} if no
+	 *        bits have been flipped
+	 * @param probability the probability of flipping a bit
+	 * @return the index of the next bit to flip, which may exceed the number
+	 *         of bits
+	 */
+	private static int nextIndex(int index, double probability) {
+		if (probability >= 1.0) {
+			return index + 1;
+		} else if ((probability <= 0.0) || Double.isNaN(probability)) {
+			return Integer.MAX_VALUE;
 		}
+		
+		double skip = Math.floor(Math.log(1.0 - PRNG.nextDouble()) /
+				Math.log1p(-probability));
+		
+		return (int)Math.min(index + 1 + skip, Integer.MAX_VALUE);
 	}
 
 	@Override
@@ -17,6 +17,7 @@
  */
 package org.moeaframework.core.operator.binary;
 
+import org.moeaframework.core.Changes;
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
@@ -51,15 +52,19 @@ public class HUX implements Variation {
 	public Solution[] evolve(Solution[] parents) {
 		Solution result1 = parents[0].copy();
 		Solution result2 = parents[1].copy();
+		Changes changes1 = Changes.track(result1, parents[0]);
+		Changes changes2 = Changes.track(result2, parents[1]);
 
 		for (int i = 0; i < result1.getNumberOfVariables(); i++) {
-			Variable variable1 = result1.getVariable(i);
-			Variable variable2 = result2.getVariable(i);
+			Variable variable1 = result1.getVariableReadOnly(i);
+			Variable variable2 = result2.getVariableReadOnly(i);
 
 			if ((PRNG.nextDouble() <= probability)
 					&& (variable1 instanceof BinaryVariable)
 					&& (variable2 instanceof BinaryVariable)) {
-				evolve((BinaryVariable)variable1, (BinaryVariable)variable2);
+				evolve((BinaryVariable)Changes.getVariable(result1, i),
+						(BinaryVariable)Changes.getVariable(result2, i), i,
+						changes1, changes2);
 			}
 		}
 		return new Solution[] { result1, result2 };
@@ -72,16 +77,46 @@ public class HUX implements Variation {
 	 * @param v2 the second variable
 	 */
 	public static void evolve(BinaryVariable v1, BinaryVariable v2) {
+		evolve(v1, v2, 0, null, null);
+	}
+	
+	/**
+	 * Evolves the specified variables using the HUX operator, recording the
+	 * swapped bits in the changes of both offspring.
+	 * 
+	 * @param v1 the first variable
+	 * @param v2 the second variable
+	 * @param index the index of the variables within the solutions
+	 * @param changes1 the changes of the first offspring, or {@code null}
+	 * @param changes2 the changes of the second offspring, or {@code null}
+	 */
+	private static void evolve(BinaryVariable v1, BinaryVariable v2,
+			int index, Changes changes1, Changes changes2) {
 		if (v1.getNumberOfBits() != v2.getNumberOfBits()) {
 			throw new FrameworkException("binary variables not same length");
 		}
 
-		for (int i = 0; i < v1.getNumberOfBits(); i++) {
-			boolean value = v1.get(i);
+		// each non-matching bit is swapped with probability 0.5 by swapping
+		// the bits selected by a random mask, one word at a time
+		for (int i = 0; i < v1.getNumberOfWords(); i++) {
+			long word1 = v1.getWord(i);
+			long word2 = v2.getWord(i);
+			long difference = word1 ^ word2;
 
-			if ((value != v2.get(i)) && PRNG.nextBoolean()) {
-				v1.set(i, !value);
-				v2.set(i, value);
+			if (difference != 0L) {
+				long swapped = difference & PRNG.nextLong();
+				v1.setWord(i, word1 ^ swapped);
+				v2.setWord(i, word2 ^ swapped);
+				
+				if (changes1 != null) {
+					for (long bits = swapped; bits != 0L; bits &= bits - 1) {
+						int position = Long.SIZE * i +
+								Long.numberOfTrailingZeros(bits);
+						
+						changes1.add(index, position);
+						changes2.add(index, position);
+					}
+				}
 			}
 		}
 	}
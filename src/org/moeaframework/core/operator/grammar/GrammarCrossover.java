@@ -54,13 +54,14 @@ public class GrammarCrossover implements Variation {
 		Solution result2 = parents[1].copy();
 
 		for (int i = 0; i < result1.getNumberOfVariables(); i++) {
-			Variable variable1 = result1.getVariable(i);
-			Variable variable2 = result2.getVariable(i);
+			Variable variable1 = result1.getVariableReadOnly(i);
+			Variable variable2 = result2.getVariableReadOnly(i);
 
 			if ((PRNG.nextDouble() <= probability)
 					&& (variable1 instanceof Grammar)
 					&& (variable2 instanceof Grammar)) {
-				evolve((Grammar)variable1, (Grammar)variable2);
+				evolve((Grammar)result1.getVariable(i),
+						(Grammar)result2.getVariable(i));
 			}
 		}
 
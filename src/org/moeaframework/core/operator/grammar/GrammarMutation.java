@@ -54,10 +54,21 @@ public class GrammarMutation implements Variation {
 		Solution result1 = parents[0].copy();
 
 		for (int i = 0; i < result1.getNumberOfVariables(); i++) {
-			Variable variable1 = result1.getVariable(i);
+			Variable variable1 = result1.getVariableReadOnly(i);
 
 			if (variable1 instanceof Grammar) {
-				evolve((Grammar)variable1, probability);
+				Grammar grammar = (Grammar)variable1;
+				
+				// the variable is only copied once the first codon changes
+				for (int j = 0; j < grammar.size(); j++) {
+					if (PRNG.nextDouble() <= probability) {
+						if (grammar == variable1) {
+							grammar = (Grammar)result1.getVariable(i);
+						}
+						
+						grammar.set(j, PRNG.nextInt(grammar.getMaximumValue()));
+					}
+				}
 			}
 		}
 
@@ -141,13 +141,14 @@ public class PMX implements Variation {
 		Solution result2 = parents[1].copy();
 
 		for (int i = 0; i < result1.getNumberOfVariables(); i++) {
-			Variable variable1 = result1.getVariable(i);
-			Variable variable2 = result2.getVariable(i);
+			Variable variable1 = result1.getVariableReadOnly(i);
+			Variable variable2 = result2.getVariableReadOnly(i);
 
 			if ((PRNG.nextDouble() <= probability)
 					&& (variable1 instanceof Permutation)
 					&& (variable2 instanceof Permutation)) {
-				evolve((Permutation)variable1, (Permutation)variable2);
+				evolve((Permutation)result1.getVariable(i),
+						(Permutation)result2.getVariable(i));
 			}
 		}
 
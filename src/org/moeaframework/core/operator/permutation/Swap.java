@@ -17,6 +17,7 @@
  */
 package org.moeaframework.core.operator.permutation;
 
+import org.moeaframework.core.Changes;
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
@@ -50,13 +51,14 @@ public class Swap implements Variation {
 	@Override
 	public Solution[] evolve(Solution[] parents) {
 		Solution result = parents[0].copy();
+		Changes changes = Changes.track(result, parents[0]);
 
 		for (int i = 0; i < result.getNumberOfVariables(); i++) {
-			Variable variable = result.getVariable(i);
+			Variable variable = result.getVariableReadOnly(i);
 
 			if ((PRNG.nextDouble() <= probability)
 					&& (variable instanceof Permutation)) {
-				evolve((Permutation)variable);
+				evolve((Permutation)Changes.getVariable(result, i), i, changes);
 			}
 		}
 
@@ -69,6 +71,19 @@ public class Swap implements Variation {
 	 * @param permutation the permutation to be mutated
 	 */
 	public static void evolve(Permutation permutation) {
+		evolve(permutation, 0, null);
+	}
+	
+	/**
+	 * Evolves the specified permutation using the swap mutation operator,
+	 * recording the modified positions in the changes of the offspring.
+	 * 
+	 * @param permutation the permutation to be mutated
+	 * @param index the index of the permutation within the offspring
+	 * @param changes the changes of the offspring, or {@code null}
+	 */
+	private static void evolve(Permutation permutation, int index,
+			Changes changes) {
 		int i = PRNG.nextInt(permutation.size());
 		int j = PRNG.nextInt(permutation.size() - 1);
 
@@ -77,6 +92,11 @@ public class Swap implements Variation {
 		}
 
 		permutation.swap(i, j);
+		
+		if (changes != null) {
+			changes.add(index, i);
+			changes.add(index, j);
+		}
 	}
 
 	@Override
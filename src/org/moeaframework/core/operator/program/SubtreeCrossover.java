@@ -60,14 +60,14 @@ public class SubtreeCrossover implements Variation {
 		Solution result2 = parents[1].copy();
 		
 		for (int i = 0; i < result1.getNumberOfVariables(); i++) {
-			Variable variable1 = result1.getVariable(i);
-			Variable variable2 = result2.getVariable(i);
+			Variable variable1 = result1.getVariableReadOnly(i);
+			Variable variable2 = result2.getVariableReadOnly(i);
 			
 			if ((PRNG.nextDouble() <= probability) &&
 					(variable1 instanceof Program) &&
 					(variable2 instanceof Program)) {
-				Program program1 = (Program)variable1;
-				Program program2 = (Program)variable2;
+				Program program1 = (Program)result1.getVariable(i);
+				Program program2 = (Program)result2.getVariable(i);
 				
 				crossover(program1, program2, program1.getRules());
 			}
@@ -17,6 +17,7 @@
  */
 package org.moeaframework.core.operator.real;
 
+import org.moeaframework.core.Changes;
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
@@ -97,13 +98,16 @@ public class PM implements Variation {
 	@Override
 	public Solution[] evolve(Solution[] parents) {
 		Solution result = parents[0].copy();
+		Changes changes = Changes.track(result, parents[0]);
 
 		for (int i = 0; i < result.getNumberOfVariables(); i++) {
-			Variable variable = result.getVariable(i);
+			Variable variable = result.getVariableReadOnly(i);
 
 			if ((PRNG.nextDouble() <= probability)
 					&& (variable instanceof RealVariable)) {
-				evolve((RealVariable)variable, distributionIndex);
+				evolve((RealVariable)Changes.getVariable(result, i),
+						distributionIndex);
+				changes.addAll(i);
 			}
 		}
 
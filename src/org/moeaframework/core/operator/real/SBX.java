@@ -155,11 +155,14 @@ public class SBX implements Variation {
 
 		if (PRNG.nextDouble() <= probability) {
 			for (int i = 0; i < result1.getNumberOfVariables(); i++) {
-				Variable variable1 = result1.getVariable(i);
-				Variable variable2 = result2.getVariable(i);
+				Variable variable1 = result1.getVariableReadOnly(i);
+				Variable variable2 = result2.getVariableReadOnly(i);
 
 				if (PRNG.nextBoolean() && (variable1 instanceof RealVariable)
 						&& (variable2 instanceof RealVariable)) {
+					variable1 = result1.getVariable(i);
+					variable2 = result2.getVariable(i);
+					
 					if (symmetric) {
 						evolve_symmetric((RealVariable)variable1,
 								(RealVariable)variable2, distributionIndex,
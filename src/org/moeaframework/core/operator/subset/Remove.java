@@ -51,11 +51,11 @@ public class Remove implements Variation {
 		Solution result = parents[0].copy();
 
 		for (int i = 0; i < result.getNumberOfVariables(); i++) {
-			Variable variable = result.getVariable(i);
+			Variable variable = result.getVariableReadOnly(i);
 
 			if ((PRNG.nextDouble() <= probability)
 					&& (variable instanceof Subset)) {
-				evolve((Subset)variable);
+				evolve((Subset)result.getVariable(i));
 			}
 		}
 
@@ -52,11 +52,11 @@ public class Replace implements Variation {
 		Solution result = parents[0].copy();
 
 		for (int i = 0; i < result.getNumberOfVariables(); i++) {
-			Variable variable = result.getVariable(i);
+			Variable variable = result.getVariableReadOnly(i);
 
 			if ((PRNG.nextDouble() <= probability)
 					&& (variable instanceof Subset)) {
-				evolve((Subset)variable);
+				evolve((Subset)result.getVariable(i));
 			}
 		}
 
@@ -85,13 +85,14 @@ public class SSX implements Variation {
 		Solution result2 = parents[1].copy();
 
 		for (int i = 0; i < result1.getNumberOfVariables(); i++) {
-			Variable variable1 = result1.getVariable(i);
-			Variable variable2 = result2.getVariable(i);
+			Variable variable1 = result1.getVariableReadOnly(i);
+			Variable variable2 = result2.getVariableReadOnly(i);
 
 			if ((PRNG.nextDouble() <= probability)
 					&& (variable1 instanceof Subset)
 					&& (variable2 instanceof Subset)) {
-				evolve((Subset)variable1, (Subset)variable2);
+				evolve((Subset)result1.getVariable(i),
+						(Subset)result2.getVariable(i));
 			}
 		}
 
@@ -17,6 +17,11 @@
  */
 package org.moeaframework.core.variable;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.util.Arrays;
 import java.util.BitSet;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
@@ -25,21 +30,36 @@ import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Variable;
 
 /**
- * Decision variable for binary strings.
+ * Decision variable for binary strings.  The bits are stored in 64-bit words,
+ * where bit {@code i} is stored in word {@code i / 64} at position
+ * {@code i % 64}.  Operators can read and write entire words using
+ * {@link #getWord(int)} and {@link #setWord(int, long)} instead of
+ * individual bits.
  */
 public class BinaryVariable implements Variable {
 
 	private static final long serialVersionUID = -682157453241538355L;
+	
+	/**
+	 * The serialized fields, which store the bits in a {@link BitSet} for
+	 * compatibility with prior versions.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("numberOfBits", int.class),
+			new ObjectStreamField("bitSet", BitSet.class) };
 
 	/**
-	 * The number of bits stored in this variable.
+	 * The number of bits stored in this variable.  This field is not final
+	 * since it is assigned during deserialization.
 	 */
-	private final int numberOfBits;
+	private int numberOfBits;
 
 	/**
-	 * The internal storage for the bits.
+	 * The internal storage for the bits.  Any bits in the last word beyond
+	 * {@code numberOfBits} are always {@code false}.  This field is not final
+	 * since it is assigned during deserialization.
 	 */
-	private final BitSet bitSet;
+	private long[] words;
 
 	/**
 	 * Constructs a binary variable with the specified number of bits. All bits
@@ -51,7 +71,7 @@ public class BinaryVariable implements Variable {
 		super();
 		this.numberOfBits = numberOfBits;
 
-		bitSet = new BitSet(numberOfBits);
+		words = new long[(numberOfBits + Long.SIZE - 1) / Long.SIZE];
 	}
 
 	/**
@@ -62,6 +82,47 @@ public class BinaryVariable implements Variable {
 	public int getNumberOfBits() {
 		return numberOfBits;
 	}
+	
+	/**
+	 * Returns the number of 64-bit words storing the bits of this variable.
+	 * 
+	 * @return the number of 64-bit words storing the bits of this variable
+	 */
+	public int getNumberOfWords() {
+		return words.length;
+	}
+	
+	/**
+	 * Returns the word storing bits {@code 64 * index} through
+	 * {@code 64 * index + 63}, where the lowest-order bit of the word is the
+	 * first bit.  Bits beyond the end of this variable are {@code false}.
+	 * 
+	 * @param index the index of the word
+	 * @return the word at the specified index
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 *         {@code (index < 0) || (index >= getNumberOfWords())}
+	 */
+	public long getWord(int index) {
+		return words[index];
+	}
+	
+	/**
+	 * Sets the word storing bits {@code 64 * index} through
+	 * {@code 64 * index + 63}, where the lowest-order bit of the word is the
+	 * first bit.  Bits beyond the end of this variable are ignored.
+	 * 
+	 * @param index the index of the word
+	 * @param word the new value of the word
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 *         {@code (index < 0) || (index >= getNumberOfWords())}
+	 */
+	public void setWord(int index, long word) {
+		if (index == words.length - 1) {
+			word &= -1L >>> -numberOfBits;
+		}
+		
+		words[index] = word;
+	}
 
 	/**
 	 * Returns the number of bits in this variable set to {@code true}.
@@ -69,14 +130,20 @@ public class BinaryVariable implements Variable {
 	 * @return the number of bits in this variable set to {@code true}
 	 */
 	public int cardinality() {
-		return bitSet.cardinality();
+		int count = 0;
+		
+		for (int i = 0; i < words.length; i++) {
+			count += Long.bitCount(words[i]);
+		}
+		
+		return count;
 	}
 
 	/**
 	 * Sets all bits in this variable to {@code false}.
 	 */
 	public void clear() {
-		bitSet.clear();
+		Arrays.fill(words, 0L);
 	}
 
 	/**
@@ -87,7 +154,13 @@ public class BinaryVariable implements Variable {
 	 *         {@code false}; {@code false} otherwise
 	 */
 	public boolean isEmpty() {
-		return bitSet.isEmpty();
+		for (int i = 0; i < words.length; i++) {
+			if (words[i] != 0L) {
+				return false;
+			}
+		}
+		
+		return true;
 	}
 
 	/**
@@ -103,7 +176,7 @@ public class BinaryVariable implements Variable {
 			throw new IndexOutOfBoundsException();
 		}
 
-		return bitSet.get(index);
+		return (words[index >>> 6] & (1L << index)) != 0L;
 	}
 
 	/**
@@ -119,7 +192,26 @@ public class BinaryVariable implements Variable {
 			throw new IndexOutOfBoundsException();
 		}
 
-		bitSet.set(index, value);
+		if (value) {
+			words[index >>> 6] |= 1L << index;
+		} else {
+			words[index >>> 6] &= ~(1L << index);
+		}
+	}
+	
+	/**
+	 * Inverts the value of the bit at the specified index.
+	 * 
+	 * @param index the index of the bit to invert
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 *         {@code (index < 0) || (index >= getNumberOfBits())}
+	 */
+	public void flip(int index) {
+		if ((index < 0) || (index >= numberOfBits)) {
+			throw new IndexOutOfBoundsException();
+		}
+		
+		words[index >>> 6] ^= 1L << index;
 	}
 
 	/**
@@ -128,7 +220,7 @@ public class BinaryVariable implements Variable {
 	 * @return a {@code BitSet} representing the state of this variable
 	 */
 	public BitSet getBitSet() {
-		return (BitSet)bitSet.clone();
+		return BitSet.valueOf(words);
 	}
 
 	/**
@@ -149,10 +241,8 @@ public class BinaryVariable implements Variable {
 
 		int count = 0;
 
-		for (int i = 0; i < numberOfBits; i++) {
-			if (bitSet.get(i) != variable.bitSet.get(i)) {
-				count++;
-			}
+		for (int i = 0; i < words.length; i++) {
+			count += Long.bitCount(words[i] ^ variable.words[i]);
 		}
 
 		return count;
@@ -161,7 +251,7 @@ public class BinaryVariable implements Variable {
 	@Override
 	public BinaryVariable copy() {
 		BinaryVariable copy = new BinaryVariable(numberOfBits);
-		copy.bitSet.or(bitSet);
+		System.arraycopy(words, 0, copy.words, 0, words.length);
 		return copy;
 	}
 	
@@ -169,7 +259,7 @@ public class BinaryVariable implements Variable {
 	public int hashCode() {
 		return new HashCodeBuilder()
 				.append(numberOfBits)
-				.append(bitSet)
+				.append(words)
 				.toHashCode();
 	}
 
@@ -184,7 +274,7 @@ public class BinaryVariable implements Variable {
 			
 			return new EqualsBuilder()
 					.append(numberOfBits, rhs.numberOfBits)
-					.append(bitSet, rhs.bitSet)
+					.append(words, rhs.words)
 					.isEquals();
 		}
 	}
@@ -194,7 +284,7 @@ public class BinaryVariable implements Variable {
 		StringBuilder sb = new StringBuilder();
 		
 		for (int i = 0; i < numberOfBits; i++) {
-			sb.append(bitSet.get(i) ? "1" : "0");
+			sb.append(get(i) ? "1" : "0");
 		}
 		
 		return sb.toString();
@@ -207,4 +297,36 @@ public class BinaryVariable implements Variable {
 		}
 	}
 
+	/**
+	 * Writes this variable to the stream in the serialized form of prior
+	 * versions, which stores the bits in a {@link BitSet}.
+	 * 
+	 * @param stream the output stream
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		ObjectOutputStream.PutField fields = stream.putFields();
+		fields.put("numberOfBits", numberOfBits);
+		fields.put("bitSet", getBitSet());
+		stream.writeFields();
+	}
+	
+	/**
+	 * Reads a variable written by {@link #writeObject(ObjectOutputStream)}.
+	 * 
+	 * @param stream the input stream
+	 * @throws IOException if an I/O error occurred
+	 * @throws ClassNotFoundException if the class of a serialized object could
+	 *         not be found
+	 */
+	private void readObject(ObjectInputStream stream) throws IOException,
+			ClassNotFoundException {
+		ObjectInputStream.GetField fields = stream.readFields();
+		BitSet bitSet = (BitSet)fields.get("bitSet", null);
+		
+		numberOfBits = fields.get("numberOfBits", 0);
+		words = Arrays.copyOf(bitSet.toLongArray(),
+				(numberOfBits + Long.SIZE - 1) / Long.SIZE);
+	}
+
 }
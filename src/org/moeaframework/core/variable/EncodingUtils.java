@@ -28,11 +28,11 @@ import org.moeaframework.core.Variable;
  * encodings.  First, these methods perform any necessary type checking and
  * type conversion.  Instead of writing:
  * <pre>
- *   double value = ((RealVariable)solution.getVariable(i)).getValue()
+ *   double value = ((RealVariable)solution.getVariableReadOnly(i)).getValue()
  * </pre>
  * the following simplified version is allowed:
  * <pre>
- *   double value = getReal(solution.getVariable(i));
+ *   double value = getReal(solution.getVariableReadOnly(i));
  * </pre>
  * <p>
  * Support for integer encodings is now supported using the
@@ -535,7 +535,7 @@ public class EncodingUtils {
 		double[] result = new double[endIndex - startIndex];
 		
 		for (int i=startIndex; i<endIndex; i++) {
-			result[i-startIndex] = getReal(solution.getVariable(i));
+			result[i-startIndex] = getReal(solution.getVariableReadOnly(i));
 		}
 		
 		return result;
@@ -575,7 +575,7 @@ public class EncodingUtils {
 		int[] result = new int[endIndex - startIndex];
 		
 		for (int i=startIndex; i<endIndex; i++) {
-			result[i-startIndex] = getInt(solution.getVariable(i));
+			result[i-startIndex] = getInt(solution.getVariableReadOnly(i));
 		}
 		
 		return result;
@@ -58,7 +58,7 @@ public class TransformObjectivePenalize extends BBOBTransformation {
 		double upperBound = 5.0;
 		
 		for (int i = 0; i < numberOfVariables; i++) {
-			RealVariable v = (RealVariable)solution.getVariable(i);
+			RealVariable v = (RealVariable)solution.getVariableReadOnly(i);
 			double c1 = v.getValue() - upperBound;
 			double c2 = lowerBound - v.getValue();
 			
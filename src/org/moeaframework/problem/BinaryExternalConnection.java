@@ -0,0 +1,461 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.util.io.RedirectStream;
+
+/**
+ * A single connection to an external process speaking the binary protocol
+ * described in {@link BinaryExternalProblem}.  Any number of requests may be
+ * in flight at once; a dedicated thread reads the responses and matches them
+ * to their requests by ID, so the process may answer in any order.
+ * <p>
+ * Requests may be sent from multiple threads.  Each request is written as one
+ * frame while holding the lock on the output stream.
+ */
+class BinaryExternalConnection {
+
+	/**
+	 * The number of bytes in the frame header following the length prefix,
+	 * which stores the request ID.
+	 */
+	private static final int HEADER_SIZE = 4;
+
+	/**
+	 * The stream sending requests to the process.
+	 */
+	private final OutputStream output;
+
+	/**
+	 * The stream receiving responses from the process.
+	 */
+	private final DataInputStream input;
+
+	/**
+	 * The requests awaiting a response, keyed by request ID.
+	 */
+	private final Map<Integer, Request> pending;
+
+	/**
+	 * The ID of the next request.
+	 */
+	private int nextRequestID;
+
+	/**
+	 * The error that ended the connection, or {@code null} if the connection
+	 * is open.
+	 */
+	private IOException error;
+
+	/**
+	 * {@code true} if the streams have been closed.
+	 */
+	private boolean closed;
+
+	/**
+	 * Constructs a connection using the specified socket.
+	 *
+	 * @param socket the socket connected to the remote process
+	 * @throws IOException if an I/O error occurred
+	 */
+	public BinaryExternalConnection(Socket socket) throws IOException {
+		this(socket.getInputStream(), socket.getOutputStream());
+	}
+
+	/**
+	 * Constructs a connection using the standard input and output of the
+	 * specified process.  The process' error stream is redirected to
+	 * {@code System.err}.
+	 *
+	 * @param process the process
+	 */
+	public BinaryExternalConnection(Process process) {
+		this(process.getInputStream(), process.getOutputStream());
+		RedirectStream.redirect(process.getErrorStream(), System.err);
+	}
+
+	/**
+	 * Constructs a connection using the specified input and output streams.
+	 *
+	 * @param input the stream receiving responses from the process
+	 * @param output the stream sending requests to the process
+	 */
+	public BinaryExternalConnection(InputStream input, OutputStream output) {
+		super();
+		this.input = new DataInputStream(new BufferedInputStream(input));
+		this.output = new BufferedOutputStream(output);
+
+		pending = new ConcurrentHashMap<Integer, Request>();
+
+		Thread readerThread = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				readResponses();
+			}
+
+		}, "BinaryExternalConnection");
+		readerThread.setDaemon(true);
+		readerThread.start();
+	}
+
+	/**
+	 * Returns the number of requests awaiting a response.
+	 *
+	 * @return the number of requests awaiting a response
+	 */
+	public int getNumberOfPendingRequests() {
+		return pending.size();
+	}
+
+	/**
+	 * Sends the variables of the specified solution to the process.  The
+	 * request is buffered; call {@link #flush()} to ensure it is delivered.
+	 *
+	 * @param solution the solution to evaluate
+	 * @return the pending request
+	 * @throws IOException if the variables could not be serialized or the
+	 *         connection is closed
+	 */
+	public Request send(Solution solution) throws IOException {
+		byte[] frame = encode(solution);
+
+		synchronized (output) {
+			if (error != null) {
+				throw error;
+			}
+
+			int id = nextRequestID++;
+			Request request = new Request();
+
+			ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN).putInt(4,
+					id);
+			pending.put(id, request);
+
+			try {
+				output.write(frame);
+			} catch (IOException e) {
+				fail(e);
+				throw e;
+			}
+
+			return request;
+		}
+	}
+
+	/**
+	 * Delivers all buffered requests to the process.
+	 *
+	 * @throws IOException if an I/O error occurred
+	 */
+	public void flush() throws IOException {
+		synchronized (output) {
+			if (error != null) {
+				throw error;
+			}
+
+			try {
+				output.flush();
+			} catch (IOException e) {
+				fail(e);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Closes the connection.  The process sees the end of its input stream
+	 * and should terminate; any requests still awaiting a response fail.
+	 *
+	 * @throws IOException if an I/O error occurred
+	 */
+	public void close() throws IOException {
+		try {
+			synchronized (output) {
+				if (error == null) {
+					error = new IOException("connection closed");
+				}
+
+				if (closed) {
+					return;
+				}
+
+				closed = true;
+				output.close();
+			}
+		} finally {
+			input.close();
+		}
+	}
+
+	/**
+	 * Ends the connection after a failed write.  The write may have left a
+	 * partial frame in the stream, which the process can no longer parse, so
+	 * the connection is closed and all pending requests fail.  The caller
+	 * must hold the lock on the output stream.
+	 *
+	 * @param cause the error that caused the write to fail
+	 */
+	private void fail(IOException cause) {
+		if (error == null) {
+			error = cause;
+		}
+
+		closed = true;
+
+		try {
+			output.close();
+		} catch (IOException e) {
+			// ignore, the original error is reported
+		}
+
+		try {
+			input.close();
+		} catch (IOException e) {
+			// ignore, the original error is reported
+		}
+
+		failPending(error);
+	}
+
+	/**
+	 * Fails all requests awaiting a response with the specified error.
+	 *
+	 * @param cause the error that prevented the responses from being received
+	 */
+	private void failPending(IOException cause) {
+		for (Integer id : pending.keySet()) {
+			Request request = pending.remove(id);
+
+			if (request != null) {
+				request.complete(null, cause);
+			}
+		}
+	}
+
+	/**
+	 * Returns the request frame for the specified solution: the frame length,
+	 * a placeholder for the request ID, and the encoded variables.
+	 *
+	 * @param solution the solution
+	 * @return the request frame for the specified solution
+	 * @throws IOException if a variable could not be serialized
+	 */
+	private static byte[] encode(Solution solution) throws IOException {
+		int size = 0;
+
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			Variable variable = solution.getVariableReadOnly(i);
+
+			if (variable instanceof RealVariable) {
+				size += 8;
+			} else if (variable instanceof BinaryVariable) {
+				size += (((BinaryVariable)variable).getNumberOfBits() + 7) / 8;
+			} else if (variable instanceof Permutation) {
+				size += 4 * ((Permutation)variable).size();
+			} else {
+				throw new IOException("unable to serialize variable");
+			}
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(4 + HEADER_SIZE + size);
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(HEADER_SIZE + size);
+		buffer.putInt(0);
+
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			Variable variable = solution.getVariableReadOnly(i);
+
+			if (variable instanceof RealVariable) {
+				buffer.putDouble(((RealVariable)variable).getValue());
+			} else if (variable instanceof BinaryVariable) {
+				BinaryVariable bv = (BinaryVariable)variable;
+				int numberOfBytes = (bv.getNumberOfBits() + 7) / 8;
+
+				// bit i is stored in byte i / 8 at position i % 8, which
+				// matches the order of the bits within each word
+				for (int j = 0; j < numberOfBytes; j++) {
+					buffer.put((byte)(bv.getWord(j / 8) >>> (8 * (j % 8))));
+				}
+			} else {
+				Permutation permutation = (Permutation)variable;
+
+				for (int j = 0; j < permutation.size(); j++) {
+					buffer.putInt(permutation.get(j));
+				}
+			}
+		}
+
+		return buffer.array();
+	}
+
+	/**
+	 * Reads responses until the end of stream is reached or an error
+	 * occurs, completing the matching requests.  Requests still pending when
+	 * the connection ends fail with the cause.
+	 */
+	private void readResponses() {
+		IOException cause = null;
+
+		try {
+			while (true) {
+				int length;
+
+				try {
+					length = Integer.reverseBytes(input.readInt());
+				} catch (EOFException e) {
+					cause = new EOFException(
+							"end of stream reached when response expected");
+					break;
+				}
+
+				if (length < HEADER_SIZE) {
+					throw new IOException("invalid response length " + length);
+				}
+
+				int id = Integer.reverseBytes(input.readInt());
+				byte[] payload = new byte[length - HEADER_SIZE];
+				input.readFully(payload);
+
+				Request request = pending.remove(id);
+
+				if (request == null) {
+					throw new IOException("response to unknown request " + id);
+				}
+
+				request.complete(payload, null);
+			}
+		} catch (IOException e) {
+			cause = e;
+		}
+
+		synchronized (output) {
+			if (error == null) {
+				error = cause;
+			} else {
+				cause = error;
+			}
+		}
+
+		failPending(cause);
+	}
+
+	/**
+	 * A request awaiting its response from the process.
+	 */
+	public static class Request {
+
+		/**
+		 * Signals when the response has been received.
+		 */
+		private final CountDownLatch latch;
+
+		/**
+		 * The response payload storing the objectives and constraints.
+		 */
+		private byte[] payload;
+
+		/**
+		 * The error that prevented the response from being received.
+		 */
+		private IOException error;
+
+		/**
+		 * Constructs a new pending request.
+		 */
+		Request() {
+			super();
+			latch = new CountDownLatch(1);
+		}
+
+		/**
+		 * Completes this request with either the response payload or an
+		 * error.
+		 *
+		 * @param payload the response payload
+		 * @param error the error that prevented the response from being
+		 *        received
+		 */
+		void complete(byte[] payload, IOException error) {
+			this.payload = payload;
+			this.error = error;
+			latch.countDown();
+		}
+
+		/**
+		 * Waits for the response and stores the objectives and constraints
+		 * it contains in the specified solution.
+		 *
+		 * @param solution the solution being evaluated
+		 * @throws IOException if the response could not be received or does
+		 *         not contain the expected number of values
+		 * @throws InterruptedException if the current thread was interrupted
+		 *         while waiting
+		 */
+		public void await(Solution solution) throws IOException,
+		InterruptedException {
+			latch.await();
+
+			if (error != null) {
+				throw error;
+			}
+
+			int numberOfObjectives = solution.getNumberOfObjectives();
+			int numberOfConstraints = solution.getNumberOfConstraints();
+
+			if (payload.length != 8 * (numberOfObjectives +
+					numberOfConstraints)) {
+				throw new IOException("response contained " +
+						(payload.length / 8) + " values, expected " +
+						(numberOfObjectives + numberOfConstraints));
+			}
+
+			ByteBuffer buffer = ByteBuffer.wrap(payload);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+			for (int i = 0; i < numberOfObjectives; i++) {
+				solution.setObjective(i, buffer.getDouble());
+			}
+
+			for (int i = 0; i < numberOfConstraints; i++) {
+				solution.setConstraint(i, buffer.getDouble());
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,351 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.core.BatchProblem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.problem.BinaryExternalConnection.Request;
+
+/**
+ * Evaluate solutions using an externally-defined problem that speaks a
+ * binary, pipelined protocol.  Unlike {@link ExternalProblem}, which sends one
+ * line of text and waits for the reply, this class allows many requests to be
+ * in flight on each connection and distributes the requests across a pool of
+ * processes or sockets.  Solutions can therefore be evaluated concurrently by
+ * calling {@link #evaluate(Solution)} from multiple threads, such as through a
+ * {@link org.moeaframework.util.distributed.DistributedProblem}, or by passing
+ * an entire population to {@link #evaluateAll(List)}.
+ *
+ * <h4>Processes and Sockets</h4>
+ * The {@link #BinaryExternalProblem(int, String...)} constructor launches the
+ * given number of copies of the program, each communicating over its standard
+ * input and output streams.  The
+ * {@link #BinaryExternalProblem(String, int, int)} and
+ * {@link #BinaryExternalProblem(InetAddress, int, int)} constructors instead
+ * open the given number of socket connections to a remote process, which
+ * should be listening on the port before the constructor is invoked.
+ *
+ * <h4>Protocol</h4>
+ * All values are little-endian.  Each message, in either direction, is a frame
+ * consisting of a 32-bit length counting the bytes that follow, a 32-bit
+ * request ID, and the payload.  The payload of a request contains the
+ * decision variables in order:
+ * <ul>
+ *   <li>a real variable is a 64-bit IEEE 754 double;
+ *   <li>a binary variable of {@code n} bits is packed into
+ *       {@code (n + 7) / 8} bytes, with bit {@code i} stored in byte
+ *       {@code i / 8} at bit position {@code i % 8}, counting from the least
+ *       significant bit; and
+ *   <li>a permutation of {@code n} elements is {@code n} 32-bit integers.
+ * </ul>
+ * The payload of a response contains the objectives followed by the
+ * constraints, each a 64-bit double, and carries the ID of the request it
+ * answers.  The process may read further requests before responding and may
+ * respond in any order.  The process must only terminate when the end of
+ * stream is reached.
+ * <p>
+ * <b>It is critical that the {@link #close()} method be invoked to ensure the
+ * external processes are shutdown cleanly.</b>
+ */
+public abstract class BinaryExternalProblem implements BatchProblem {
+
+	/**
+	 * The connections to the external processes.
+	 */
+	private final List<BinaryExternalConnection> connections;
+
+	/**
+	 * The index of the connection receiving the next request when requests
+	 * are assigned in turn.
+	 */
+	private int nextConnection;
+
+	/**
+	 * Constructs an external problem that launches the specified number of
+	 * processes using {@code new ProcessBuilder(command).start()}.  If the
+	 * command contains arguments, the arguments should be passed in as
+	 * separate strings, such as
+	 * <pre>
+	 *   new BinaryExternalProblem(4, "command", "arg1", "arg2");
+	 * </pre>
+	 *
+	 * @param numberOfProcesses the number of processes
+	 * @param command a specified system command
+	 * @throws IllegalArgumentException if {@code numberOfProcesses <= 0}
+	 * @throws IOException if an I/O error occurred
+	 */
+	public BinaryExternalProblem(int numberOfProcesses, String... command)
+			throws IOException {
+		this(createProcessConnections(numberOfProcesses, command));
+	}
+
+	/**
+	 * Constructs an external problem that opens the specified number of
+	 * socket connections to a remote process.  The remote process should be
+	 * instantiated and already listening to the designated port number prior
+	 * to invoking this constructor.
+	 *
+	 * @param host the host name of the remote system; or {@code null} to use
+	 *        the local host
+	 * @param port the port number
+	 * @param numberOfConnections the number of connections
+	 * @throws IllegalArgumentException if {@code numberOfConnections <= 0}
+	 * @throws UnknownHostException if the IP address of the specified host
+	 *         could not be determined
+	 * @throws IOException if an I/O error occurred
+	 */
+	public BinaryExternalProblem(String host, int port,
+			int numberOfConnections) throws IOException, UnknownHostException {
+		this(InetAddress.getByName(host), port, numberOfConnections);
+	}
+
+	/**
+	 * Constructs an external problem that opens the specified number of
+	 * socket connections to a remote process.  The remote process should be
+	 * instantiated and already listening to the designated port number prior
+	 * to invoking this constructor.
+	 *
+	 * @param address the IP address of the remote system
+	 * @param port the port number
+	 * @param numberOfConnections the number of connections
+	 * @throws IllegalArgumentException if {@code numberOfConnections <= 0}
+	 * @throws IOException if an I/O error occurred
+	 */
+	public BinaryExternalProblem(InetAddress address, int port,
+			int numberOfConnections) throws IOException {
+		this(createSocketConnections(address, port, numberOfConnections));
+	}
+
+	/**
+	 * Constructs an external problem using the specified connections.
+	 *
+	 * @param connections the connections to the external processes
+	 */
+	BinaryExternalProblem(List<BinaryExternalConnection> connections) {
+		super();
+		this.connections = connections;
+	}
+
+	/**
+	 * Launches the specified number of processes and connects to each.
+	 *
+	 * @param numberOfProcesses the number of processes
+	 * @param command a specified system command
+	 * @return the connections to the processes
+	 * @throws IllegalArgumentException if {@code numberOfProcesses <= 0}
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static List<BinaryExternalConnection> createProcessConnections(
+			int numberOfProcesses, String... command) throws IOException {
+		if (numberOfProcesses <= 0) {
+			throw new IllegalArgumentException("invalid number of processes");
+		}
+
+		List<BinaryExternalConnection> connections =
+				new ArrayList<BinaryExternalConnection>();
+
+		try {
+			for (int i = 0; i < numberOfProcesses; i++) {
+				connections.add(new BinaryExternalConnection(
+						new ProcessBuilder(command).start()));
+			}
+		} catch (IOException e) {
+			closeQuietly(connections);
+			throw e;
+		}
+
+		return connections;
+	}
+
+	/**
+	 * Opens the specified number of socket connections to a remote process.
+	 *
+	 * @param address the IP address of the remote system
+	 * @param port the port number
+	 * @param numberOfConnections the number of connections
+	 * @return the connections to the remote process
+	 * @throws IllegalArgumentException if {@code numberOfConnections <= 0}
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static List<BinaryExternalConnection> createSocketConnections(
+			InetAddress address, int port, int numberOfConnections)
+			throws IOException {
+		if (numberOfConnections <= 0) {
+			throw new IllegalArgumentException(
+					"invalid number of connections");
+		}
+
+		List<BinaryExternalConnection> connections =
+				new ArrayList<BinaryExternalConnection>();
+
+		try {
+			for (int i = 0; i < numberOfConnections; i++) {
+				connections.add(new BinaryExternalConnection(
+						new Socket(address, port)));
+			}
+		} catch (IOException e) {
+			closeQuietly(connections);
+			throw e;
+		}
+
+		return connections;
+	}
+
+	/**
+	 * Closes the specified connections, ignoring any errors.
+	 *
+	 * @param connections the connections
+	 */
+	private static void closeQuietly(
+			List<BinaryExternalConnection> connections) {
+		for (BinaryExternalConnection connection : connections) {
+			try {
+				connection.close();
+			} catch (IOException e) {
+				// ignore, the original error is reported
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of connections to external processes.
+	 *
+	 * @return the number of connections to external processes
+	 */
+	public int getNumberOfConnections() {
+		return connections.size();
+	}
+
+	/**
+	 * Closes the connections to the processes.  No further invocations of
+	 * {@code evaluate} are permitted.
+	 */
+	@Override
+	public void close() {
+		IOException error = null;
+
+		for (BinaryExternalConnection connection : connections) {
+			try {
+				connection.close();
+			} catch (IOException e) {
+				if (error == null) {
+					error = e;
+				}
+			}
+		}
+
+		if (error != null) {
+			throw new ProblemException(this, error);
+		}
+	}
+
+	/**
+	 * Evaluates the specified solution using the connection with the fewest
+	 * pending requests.  This method may be invoked concurrently from
+	 * multiple threads.
+	 *
+	 * @param solution the solution to evaluate
+	 */
+	@Override
+	public void evaluate(Solution solution) throws ProblemException {
+		BinaryExternalConnection connection = connections.get(0);
+
+		for (int i = 1; i < connections.size(); i++) {
+			if (connections.get(i).getNumberOfPendingRequests() <
+					connection.getNumberOfPendingRequests()) {
+				connection = connections.get(i);
+			}
+		}
+
+		Request request = null;
+
+		try {
+			request = connection.send(solution);
+			connection.flush();
+		} catch (IOException e) {
+			throw new ProblemException(this,
+					"error sending variables to external process", e);
+		}
+
+		receive(solution, request);
+	}
+
+	/**
+	 * Evaluates the specified solutions by sending all requests, assigned to
+	 * the connections in turn, before waiting for any response.
+	 *
+	 * @param solutions the solutions to evaluate
+	 */
+	@Override
+	public void evaluateAll(List<Solution> solutions) {
+		List<Request> requests = new ArrayList<Request>(solutions.size());
+		int offset;
+
+		synchronized (this) {
+			offset = nextConnection;
+			nextConnection = (nextConnection + solutions.size()) %
+					connections.size();
+		}
+
+		try {
+			for (int i = 0; i < solutions.size(); i++) {
+				requests.add(connections.get((offset + i) % connections.size())
+						.send(solutions.get(i)));
+			}
+
+			for (BinaryExternalConnection connection : connections) {
+				connection.flush();
+			}
+		} catch (IOException e) {
+			throw new ProblemException(this,
+					"error sending variables to external process", e);
+		}
+
+		for (int i = 0; i < solutions.size(); i++) {
+			receive(solutions.get(i), requests.get(i));
+		}
+	}
+
+	/**
+	 * Waits for the response to the specified request and stores the
+	 * objectives and constraints in the solution.
+	 *
+	 * @param solution the solution being evaluated
+	 * @param request the pending request
+	 */
+	private void receive(Solution solution, Request request) {
+		try {
+			request.await(solution);
+		} catch (IOException e) {
+			throw new ProblemException(this,
+					"error receiving objectives from external process", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ProblemException(this,
+					"interrupted while waiting for external process", e);
+		}
+	}
+
+}
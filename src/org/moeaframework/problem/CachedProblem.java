@@ -0,0 +1,462 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.moeaframework.core.BatchProblem;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+
+/**
+ * Decorates a problem to cache the objectives and constraints of recently
+ * evaluated solutions.  Solutions whose decision variables match a cached
+ * solution exactly are not evaluated again, which helps when variation
+ * operators reproduce a parent or elitist algorithms resample the same
+ * individuals.  Solutions are keyed by a 64-bit hash of their
+ * {@link RealVariable}, {@link BinaryVariable} and {@link Permutation}
+ * values; solutions with any other type of variable are always evaluated.
+ * The least recently used entry is evicted when the cache is full.
+ * <p>
+ * Only the objectives and constraints are cached, so the decorated problem
+ * must be deterministic and must not rely on other side effects of evaluation,
+ * such as attributes.  Algorithms count every call to {@code evaluate} towards
+ * the number of function evaluations, including cache hits; the number of
+ * evaluations of the decorated problem is given by {@link #getMisses()}.
+ * <p>
+ * This class is thread safe if the decorated problem is, and can therefore be
+ * wrapped by a {@link org.moeaframework.util.distributed.DistributedProblem}.
+ * Two threads evaluating the same solution at once may both miss the cache.
+ */
+public class CachedProblem implements BatchProblem {
+
+	/**
+	 * The decorated problem.
+	 */
+	private final Problem problem;
+
+	/**
+	 * The cached objectives followed by constraints, in access order.
+	 */
+	private final Map<Key, double[]> cache;
+
+	/**
+	 * The number of evaluations answered by the cache.
+	 */
+	private final AtomicLong hits;
+
+	/**
+	 * The number of evaluations passed to the decorated problem.
+	 */
+	private final AtomicLong misses;
+
+	/**
+	 * Decorates the specified problem to cache the results of up to
+	 * {@code capacity} solutions.
+	 *
+	 * @param problem the problem to decorate
+	 * @param capacity the maximum number of cached solutions
+	 * @throws IllegalArgumentException if {@code capacity <= 0}
+	 */
+	public CachedProblem(Problem problem, final int capacity) {
+		super();
+
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("invalid capacity");
+		}
+
+		this.problem = problem;
+
+		cache = new LinkedHashMap<Key, double[]>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 4563437926718531539L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<Key, double[]> eldest) {
+				return size() > capacity;
+			}
+
+		};
+
+		hits = new AtomicLong();
+		misses = new AtomicLong();
+	}
+
+	@Override
+	public String getName() {
+		return problem.getName();
+	}
+
+	@Override
+	public int getNumberOfVariables() {
+		return problem.getNumberOfVariables();
+	}
+
+	@Override
+	public int getNumberOfObjectives() {
+		return problem.getNumberOfObjectives();
+	}
+
+	@Override
+	public int getNumberOfConstraints() {
+		return problem.getNumberOfConstraints();
+	}
+
+	@Override
+	public void evaluate(Solution solution) {
+		Key key = Key.of(solution);
+
+		if (!lookup(key, solution)) {
+			problem.evaluate(solution);
+			store(key, solution);
+		}
+	}
+
+	/**
+	 * Evaluates the specified solutions, passing the solutions missing from
+	 * the cache to the decorated problem in one batch if it is a
+	 * {@link BatchProblem}.  Solutions with the same decision variables are
+	 * evaluated once, and the others sharing those variables count as hits.
+	 *
+	 * @param solutions the solutions to be evaluated
+	 */
+	@Override
+	public void evaluateAll(List<Solution> solutions) {
+		List<Key> keys = new ArrayList<Key>();
+		List<Solution> missing = new ArrayList<Solution>();
+		Map<Key, List<Solution>> duplicates =
+				new HashMap<Key, List<Solution>>();
+
+		for (Solution solution : solutions) {
+			Key key = Key.of(solution);
+			List<Solution> group = (key == null) ? null :
+				duplicates.get(key);
+
+			if (group != null) {
+				group.add(solution);
+			} else if (!lookup(key, solution)) {
+				keys.add(key);
+				missing.add(solution);
+
+				if (key != null) {
+					duplicates.put(key, new ArrayList<Solution>());
+				}
+			}
+		}
+
+		if (problem instanceof BatchProblem) {
+			((BatchProblem)problem).evaluateAll(missing);
+		} else {
+			for (Solution solution : missing) {
+				problem.evaluate(solution);
+			}
+		}
+
+		for (int i = 0; i < missing.size(); i++) {
+			Key key = keys.get(i);
+			Solution solution = missing.get(i);
+
+			store(key, solution);
+
+			// copy the results to the solutions sharing the same variables
+			if (key != null) {
+				for (Solution duplicate : duplicates.get(key)) {
+					setValues(duplicate, getValues(solution));
+					hits.incrementAndGet();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Copies the cached objectives and constraints into the solution,
+	 * returning {@code true} if the solution was found in the cache.
+	 *
+	 * @param key the key of the solution, or {@code null} if the solution
+	 *        can not be cached
+	 * @param solution the solution being evaluated
+	 * @return {@code true} if the solution was found in the cache;
+	 *         {@code false} otherwise
+	 */
+	private boolean lookup(Key key, Solution solution) {
+		double[] values = null;
+
+		if (key != null) {
+			synchronized (cache) {
+				values = cache.get(key);
+			}
+		}
+
+		if (values == null) {
+			misses.incrementAndGet();
+			return false;
+		}
+
+		setValues(solution, values);
+		hits.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Stores the objectives and constraints of the evaluated solution in the
+	 * cache.
+	 *
+	 * @param key the key of the solution, or {@code null} if the solution
+	 *        can not be cached
+	 * @param solution the evaluated solution
+	 */
+	private void store(Key key, Solution solution) {
+		if (key == null) {
+			return;
+		}
+
+		double[] values = getValues(solution);
+
+		synchronized (cache) {
+			cache.put(key, values);
+		}
+	}
+
+	/**
+	 * Returns the objectives followed by the constraints of the solution.
+	 *
+	 * @param solution the evaluated solution
+	 * @return the objectives followed by the constraints of the solution
+	 */
+	private static double[] getValues(Solution solution) {
+		int numberOfObjectives = solution.getNumberOfObjectives();
+		double[] values = new double[numberOfObjectives +
+				solution.getNumberOfConstraints()];
+
+		for (int i = 0; i < numberOfObjectives; i++) {
+			values[i] = solution.getObjective(i);
+		}
+
+		for (int i = 0; i < solution.getNumberOfConstraints(); i++) {
+			values[numberOfObjectives + i] = solution.getConstraint(i);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Copies the objectives followed by the constraints into the solution.
+	 *
+	 * @param solution the solution
+	 * @param values the objectives followed by the constraints
+	 */
+	private static void setValues(Solution solution, double[] values) {
+		int numberOfObjectives = solution.getNumberOfObjectives();
+
+		for (int i = 0; i < numberOfObjectives; i++) {
+			solution.setObjective(i, values[i]);
+		}
+
+		for (int i = 0; i < solution.getNumberOfConstraints(); i++) {
+			solution.setConstraint(i, values[numberOfObjectives + i]);
+		}
+	}
+
+	@Override
+	public Solution newSolution() {
+		return problem.newSolution();
+	}
+
+	/**
+	 * Returns the number of evaluations answered by the cache.
+	 *
+	 * @return the number of evaluations answered by the cache
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of evaluations passed to the decorated problem.
+	 *
+	 * @return the number of evaluations passed to the decorated problem
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of solutions currently cached.
+	 *
+	 * @return the number of solutions currently cached
+	 */
+	public int getCacheSize() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Clears the cache and resets the hit and miss counters.
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+
+		hits.set(0);
+		misses.set(0);
+	}
+
+	@Override
+	public void close() {
+		problem.close();
+	}
+
+	/**
+	 * The decision variables of a solution encoded as 64-bit values, along
+	 * with their 64-bit hash.
+	 */
+	private static class Key {
+
+		/**
+		 * The encoded decision variables.
+		 */
+		private final long[] values;
+
+		/**
+		 * The 64-bit hash of the encoded decision variables.
+		 */
+		private final long hash;
+
+		/**
+		 * Constructs a key for the encoded decision variables.
+		 *
+		 * @param values the encoded decision variables
+		 */
+		private Key(long[] values) {
+			super();
+			this.values = values;
+
+			long h = values.length;
+
+			for (long value : values) {
+				h = Long.rotateLeft(h ^ (value * 0x9E3779B97F4A7C15L), 31) *
+						0xBF58476D1CE4E5B9L;
+			}
+
+			// final avalanche so every input bit affects the low bits
+			h ^= h >>> 33;
+			h *= 0xFF51AFD7ED558CCDL;
+			h ^= h >>> 33;
+			hash = h;
+		}
+
+		/**
+		 * Returns the key of the specified solution, or {@code null} if the
+		 * solution contains a variable that can not be encoded.  Each
+		 * variable is prefixed by its length, so variables of different
+		 * types and sizes never produce the same encoding.
+		 *
+		 * @param solution the solution
+		 * @return the key of the specified solution, or {@code null} if the
+		 *         solution can not be cached
+		 */
+		public static Key of(Solution solution) {
+			int size = 0;
+
+			for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+				Variable variable = solution.getVariableReadOnly(i);
+
+				if (variable instanceof RealVariable) {
+					size += 2;
+				} else if (variable instanceof BinaryVariable) {
+					size += 1 + ((BinaryVariable)variable).getNumberOfWords();
+				} else if (variable instanceof Permutation) {
+					size += 1 + (((Permutation)variable).size() + 1) / 2;
+				} else {
+					return null;
+				}
+			}
+
+			long[] values = new long[size];
+			int index = 0;
+
+			for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+				Variable variable = solution.getVariableReadOnly(i);
+
+				if (variable instanceof RealVariable) {
+					values[index++] = 1L << 32;
+					values[index++] = Double.doubleToLongBits(
+							((RealVariable)variable).getValue());
+				} else if (variable instanceof BinaryVariable) {
+					BinaryVariable bv = (BinaryVariable)variable;
+
+					values[index++] = (2L << 32) | bv.getNumberOfBits();
+
+					for (int j = 0; j < bv.getNumberOfWords(); j++) {
+						values[index++] = bv.getWord(j);
+					}
+				} else {
+					Permutation permutation = (Permutation)variable;
+
+					values[index++] = (3L << 32) | permutation.size();
+
+					// pack two elements into each value
+					for (int j = 0; j < permutation.size(); j += 2) {
+						long value = permutation.get(j) & 0xFFFFFFFFL;
+
+						if (j + 1 < permutation.size()) {
+							value |= (long)permutation.get(j + 1) << 32;
+						}
+
+						values[index++] = value;
+					}
+				}
+			}
+
+			return new Key(values);
+		}
+
+		@Override
+		public int hashCode() {
+			return (int)(hash ^ (hash >>> 32));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			} else if ((obj == null) || (obj.getClass() != getClass())) {
+				return false;
+			} else {
+				Key rhs = (Key)obj;
+
+				return (hash == rhs.hash) && Arrays.equals(values, rhs.values);
+			}
+		}
+
+	}
+
+}
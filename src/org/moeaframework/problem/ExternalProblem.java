@@ -85,6 +85,11 @@ import org.moeaframework.util.io.RedirectStream;
  * newline is either the line feed ('\n'), carriage return ('\r') or a carriage
  * return followed immediately by a line feed ("\r\n"). 
  * <p>
+ * This class evaluates one solution at a time.  To evaluate solutions
+ * concurrently across several processes or connections, see
+ * {@link BinaryExternalProblem}, which uses a binary protocol supporting
+ * multiple in-flight requests.
+ * <p>
  * <b>It is critical that the {@link #close()} method be invoked to ensure the
  * external process is shutdown cleanly.</b>
  */
@@ -251,11 +256,11 @@ public abstract class ExternalProblem implements Problem {
 		try {
 			StringBuilder sb = new StringBuilder();
 			
-			sb.append(encode(solution.getVariable(0)));
+			sb.append(encode(solution.getVariableReadOnly(0)));
 			
 			for (int i = 1; i < solution.getNumberOfVariables(); i++) {
 				sb.append(" ");
-				sb.append(encode(solution.getVariable(i)));
+				sb.append(encode(solution.getVariableReadOnly(i)));
 			}
 			
 			sb.append(Settings.NEW_LINE);
@@ -85,7 +85,8 @@ public class RotatedProblem implements Problem {
 		upperBounds = new double[getNumberOfVariables()];
 		
 		for (int i = 0; i < getNumberOfVariables(); i++) {
-			RealVariable variable = (RealVariable)solution.getVariable(i);
+			RealVariable variable =
+					(RealVariable)solution.getVariableReadOnly(i);
 			
 			center[i] = (variable.getLowerBound() + variable.getUpperBound()) /
 					2.0;
@@ -44,11 +44,11 @@ public class ZDT5 extends ZDT {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double f = 1 + ((BinaryVariable)solution.getVariable(0)).cardinality();
+		double f = 1 + ((BinaryVariable)solution.getVariableReadOnly(0)).cardinality();
 
 		double g = 0.0;
 		for (int i = 1; i < numberOfVariables; i++) {
-			g += v(((BinaryVariable)solution.getVariable(i)).cardinality());
+			g += v(((BinaryVariable)solution.getVariableReadOnly(i)).cardinality());
 		}
 
 		double h = 1.0 / f;
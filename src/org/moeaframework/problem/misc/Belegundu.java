@@ -53,8 +53,8 @@ public class Belegundu extends AbstractProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = ((RealVariable)solution.getVariable(0)).getValue();
-		double y = ((RealVariable)solution.getVariable(1)).getValue();
+		double x = ((RealVariable)solution.getVariableReadOnly(0)).getValue();
+		double y = ((RealVariable)solution.getVariableReadOnly(1)).getValue();
 		double f1 = -2.0*x + y;
 		double f2 = 2.0*x + y;
 		double c1 = -x + y - 1.0;
@@ -53,8 +53,8 @@ public class Binh2 extends AbstractProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = ((RealVariable)solution.getVariable(0)).getValue();
-		double y = ((RealVariable)solution.getVariable(1)).getValue();
+		double x = ((RealVariable)solution.getVariableReadOnly(0)).getValue();
+		double y = ((RealVariable)solution.getVariableReadOnly(1)).getValue();
 		double f1 = 4.0*Math.pow(x, 2.0) + 4.0*Math.pow(y, 2.0);
 		double f2 = Math.pow(x - 5.0, 2.0) + Math.pow(y - 5.0, 2.0);
 		double c1 = Math.pow(x - 5.0, 2.0) + Math.pow(y, 2.0) - 25.0;
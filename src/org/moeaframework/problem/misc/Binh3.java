@@ -50,8 +50,8 @@ public class Binh3 extends AbstractProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = ((RealVariable)solution.getVariable(0)).getValue();
-		double y = ((RealVariable)solution.getVariable(1)).getValue();
+		double x = ((RealVariable)solution.getVariableReadOnly(0)).getValue();
+		double y = ((RealVariable)solution.getVariableReadOnly(1)).getValue();
 		
 		solution.setObjective(0, x - 1e6);
 		solution.setObjective(1, y - 2e-6);
@@ -54,8 +54,8 @@ public class Binh4 extends AbstractProblem implements AnalyticalProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = EncodingUtils.getReal(solution.getVariable(0));
-		double y = EncodingUtils.getReal(solution.getVariable(1));
+		double x = EncodingUtils.getReal(solution.getVariableReadOnly(0));
+		double y = EncodingUtils.getReal(solution.getVariableReadOnly(1));
 		double f1 = 1.5 - x*(1.0 - y);
 		double f2 = 2.25 - x*(1.0 - Math.pow(y, 2.0));
 		double f3 = 2.625 - x*(1.0 - Math.pow(y, 3.0));
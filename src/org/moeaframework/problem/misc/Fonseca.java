@@ -53,8 +53,8 @@ public class Fonseca extends AbstractProblem implements AnalyticalProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = EncodingUtils.getReal(solution.getVariable(0));
-		double y = EncodingUtils.getReal(solution.getVariable(1));
+		double x = EncodingUtils.getReal(solution.getVariableReadOnly(0));
+		double y = EncodingUtils.getReal(solution.getVariableReadOnly(1));
 		double f1 = 1.0 - Math.exp(-Math.pow(x-1.0, 2.0) - 
 				Math.pow(y+1.0, 2.0));
 		double f2 = 1.0 - Math.exp(-Math.pow(x+1.0, 2.0) - 
@@ -57,8 +57,8 @@ public class Jimenez extends AbstractProblem implements AnalyticalProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = EncodingUtils.getReal(solution.getVariable(0));
-		double y = EncodingUtils.getReal(solution.getVariable(1));
+		double x = EncodingUtils.getReal(solution.getVariableReadOnly(0));
+		double y = EncodingUtils.getReal(solution.getVariableReadOnly(1));
 		double f1 = 5.0*x + 3.0*y;
 		double f2 = 2.0*x + 8.0*y;
 		double c1 = x + 4.0*y - 100.0;
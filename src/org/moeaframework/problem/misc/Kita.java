@@ -54,8 +54,8 @@ public class Kita extends AbstractProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = ((RealVariable)solution.getVariable(0)).getValue();
-		double y = ((RealVariable)solution.getVariable(1)).getValue();
+		double x = ((RealVariable)solution.getVariableReadOnly(0)).getValue();
+		double y = ((RealVariable)solution.getVariableReadOnly(1)).getValue();
 		double f1 = -Math.pow(x,  2.0) + y;
 		double f2 = 0.5*x + y + 1.0;
 		double c1 = 1.0/6.0*x + y - 13.0/2.0;
@@ -51,8 +51,8 @@ public class Lis extends AbstractProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = ((RealVariable)solution.getVariable(0)).getValue();
-		double y = ((RealVariable)solution.getVariable(1)).getValue();
+		double x = ((RealVariable)solution.getVariableReadOnly(0)).getValue();
+		double y = ((RealVariable)solution.getVariableReadOnly(1)).getValue();
 		double f1 = Math.pow(Math.pow(x, 2.0) + Math.pow(y, 2.0), 1.0/8.0);
 		double f2 = Math.pow(Math.pow(x-0.5, 2.0) + 
 				Math.pow(y-0.5, 2.0), 1.0/4.0);
@@ -56,8 +56,8 @@ public class Obayashi extends AbstractProblem implements AnalyticalProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = EncodingUtils.getReal(solution.getVariable(0));
-		double y = EncodingUtils.getReal(solution.getVariable(1));
+		double x = EncodingUtils.getReal(solution.getVariableReadOnly(0));
+		double y = EncodingUtils.getReal(solution.getVariableReadOnly(1));
 		double c = Math.pow(x, 2.0) + Math.pow(y, 2.0) - 1.0;
 		
 		solution.setObjective(0, -x);
@@ -52,8 +52,8 @@ public class Osyczka extends AbstractProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = ((RealVariable)solution.getVariable(0)).getValue();
-		double y = ((RealVariable)solution.getVariable(1)).getValue();
+		double x = ((RealVariable)solution.getVariableReadOnly(0)).getValue();
+		double y = ((RealVariable)solution.getVariableReadOnly(1)).getValue();
 		double f1 = x + Math.pow(y, 2.0);
 		double f2 = Math.pow(x, 2.0) + y;
 		double c1 = 12.0 - x - y;
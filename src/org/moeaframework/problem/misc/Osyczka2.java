@@ -52,12 +52,12 @@ public class Osyczka2 extends AbstractProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x1 = ((RealVariable)solution.getVariable(0)).getValue();
-		double x2 = ((RealVariable)solution.getVariable(1)).getValue();
-		double x3 = ((RealVariable)solution.getVariable(2)).getValue();
-		double x4 = ((RealVariable)solution.getVariable(3)).getValue();
-		double x5 = ((RealVariable)solution.getVariable(4)).getValue();
-		double x6 = ((RealVariable)solution.getVariable(5)).getValue();
+		double x1 = ((RealVariable)solution.getVariableReadOnly(0)).getValue();
+		double x2 = ((RealVariable)solution.getVariableReadOnly(1)).getValue();
+		double x3 = ((RealVariable)solution.getVariableReadOnly(2)).getValue();
+		double x4 = ((RealVariable)solution.getVariableReadOnly(3)).getValue();
+		double x5 = ((RealVariable)solution.getVariableReadOnly(4)).getValue();
+		double x6 = ((RealVariable)solution.getVariableReadOnly(5)).getValue();
 		double f1 = -(25.0*Math.pow(x1 - 2.0, 2.0) + Math.pow(x2 - 2.0, 2.0) +
 				Math.pow(x3 - 1.0, 2.0) + Math.pow(x4 - 4.0, 2.0) +
 				Math.pow(x5 - 1.0, 2.0));
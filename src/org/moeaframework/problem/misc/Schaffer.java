@@ -58,7 +58,7 @@ public class Schaffer extends AbstractProblem implements AnalyticalProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = EncodingUtils.getReal(solution.getVariable(0));
+		double x = EncodingUtils.getReal(solution.getVariableReadOnly(0));
 		
 		solution.setObjective(0, Math.pow(x, 2.0));
 		solution.setObjective(1, Math.pow(x - 2.0, 2.0));
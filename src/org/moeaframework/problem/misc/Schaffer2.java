@@ -58,7 +58,7 @@ public class Schaffer2 extends AbstractProblem implements AnalyticalProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = EncodingUtils.getReal(solution.getVariable(0));
+		double x = EncodingUtils.getReal(solution.getVariableReadOnly(0));
 		
 		if (x <= 1.0) {
 			solution.setObjective(0, -x);
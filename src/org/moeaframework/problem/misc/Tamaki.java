@@ -50,9 +50,9 @@ public class Tamaki extends AbstractProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = ((RealVariable)solution.getVariable(0)).getValue();
-		double y = ((RealVariable)solution.getVariable(1)).getValue();
-		double z = ((RealVariable)solution.getVariable(2)).getValue();
+		double x = ((RealVariable)solution.getVariableReadOnly(0)).getValue();
+		double y = ((RealVariable)solution.getVariableReadOnly(1)).getValue();
+		double z = ((RealVariable)solution.getVariableReadOnly(2)).getValue();
 		double c = Math.pow(x, 2.0) + Math.pow(y, 2.0) + Math.pow(z, 2.0) - 1.0;
 		
 		solution.setObjective(0, -x);
@@ -51,8 +51,8 @@ public class Viennet extends AbstractProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = ((RealVariable)solution.getVariable(0)).getValue();
-		double y = ((RealVariable)solution.getVariable(1)).getValue();
+		double x = ((RealVariable)solution.getVariableReadOnly(0)).getValue();
+		double y = ((RealVariable)solution.getVariableReadOnly(1)).getValue();
 		double f1 = Math.pow(x, 2.0) + Math.pow(y - 1.0, 2.0);
 		double f2 = Math.pow(x, 2.0) + Math.pow(y + 1.0, 2.0) + 1.0;
 		double f3 = Math.pow(x - 1.0, 2.0) + Math.pow(y, 2.0) + 2.0;
@@ -51,8 +51,8 @@ public class Viennet3 extends AbstractProblem {
 
 	@Override
 	public void evaluate(Solution solution) {
-		double x = ((RealVariable)solution.getVariable(0)).getValue();
-		double y = ((RealVariable)solution.getVariable(1)).getValue();
+		double x = ((RealVariable)solution.getVariableReadOnly(0)).getValue();
+		double y = ((RealVariable)solution.getVariableReadOnly(1)).getValue();
 		double A = Math.pow(x, 2.0) + Math.pow(y, 2.0);
 		double f1 = 0.5 * A + Math.sin(A);
 		double f2 = Math.pow(3.0*x - 2.0*y + 4.0, 2.0) / 8.0 +
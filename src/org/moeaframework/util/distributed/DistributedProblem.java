@@ -18,10 +18,16 @@
 package org.moeaframework.util.distributed;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.moeaframework.core.BatchProblem;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
 import org.moeaframework.problem.ProblemException;
@@ -31,8 +37,15 @@ import org.moeaframework.problem.ProblemException;
  * cores or compute nodes using the provided {@link ExecutorService}. The
  * {@code ExecutorService} defines the type and method of distribution. The
  * problem must be {@link Serializable} if executing on remote nodes.
+ * <p>
+ * When algorithms evaluate many solutions at once through
+ * {@link #evaluateAll(List)}, the solutions can be grouped into a fixed number
+ * of tasks rather than submitting one task per solution, which reduces the
+ * scheduling overhead for inexpensive problems.  If the underlying problem is
+ * itself a {@link BatchProblem}, each task evaluates its solutions with a
+ * single call.
  */
-public class DistributedProblem implements Problem {
+public class DistributedProblem implements BatchProblem {
 
 	/**
 	 * The {@code ExecutorService} for distributing jobs across multiple
@@ -53,10 +66,16 @@ public class DistributedProblem implements Problem {
 	 */
 	private long nextDistributedEvaluationID = 0;
 	
+	/**
+	 * The maximum number of tasks submitted when evaluating many solutions at
+	 * once; or {@code -1} if one task is submitted per solution.
+	 */
+	private final int numberOfTasks;
+	
 	/**
 	 * Decorates a problem for distributing the evaluation of the problem across
 	 * multiple threads, cores or compute nodes as defined by the specified
-	 * {@code ExecutorService}.
+	 * {@code ExecutorService}.  Each solution is evaluated by a separate task.
 	 * 
 	 * @param problem the problem being distributed
 	 * @param executor the {@code ExecutorService} for distributing jobs across
@@ -66,6 +85,35 @@ public class DistributedProblem implements Problem {
 		super();
 		this.innerProblem = problem;
 		this.executor = executor;
+		this.numberOfTasks = -1;
+	}
+	
+	/**
+	 * Decorates a problem for distributing the evaluation of the problem across
+	 * multiple threads, cores or compute nodes as defined by the specified
+	 * {@code ExecutorService}.  When evaluating many solutions at once, the
+	 * solutions are divided into at most {@code numberOfTasks} tasks of
+	 * similar size, typically the number of threads available to the
+	 * executor.
+	 * 
+	 * @param problem the problem being distributed
+	 * @param executor the {@code ExecutorService} for distributing jobs across
+	 *        multiple threads, cores or compute nodes
+	 * @param numberOfTasks the maximum number of tasks submitted when
+	 *        evaluating many solutions at once
+	 * @throws IllegalArgumentException if {@code numberOfTasks <= 0}
+	 */
+	public DistributedProblem(Problem problem, ExecutorService executor,
+			int numberOfTasks) {
+		super();
+		
+		if (numberOfTasks <= 0) {
+			throw new IllegalArgumentException("invalid number of tasks");
+		}
+		
+		this.innerProblem = problem;
+		this.executor = executor;
+		this.numberOfTasks = numberOfTasks;
 	}
 
 	/**
@@ -89,23 +137,39 @@ public class DistributedProblem implements Problem {
 		 * The solution being evaluated.
 		 */
 		private final Solution solution;
+		
+		/**
+		 * The solution signalled when the evaluation finishes; {@code null}
+		 * if this job was serialized to a remote node.
+		 */
+		private final transient FutureSolution original;
 
 		/**
 		 * Constructs a distributed job to evaluate the specified solution.
 		 * 
 		 * @param problem the problem
 		 * @param solution the solution to be evaluated
+		 * @param original the solution signalled when the evaluation
+		 *        finishes
 		 */
-		public ProblemEvaluator(Problem problem, Solution solution) {
+		public ProblemEvaluator(Problem problem, Solution solution,
+				FutureSolution original) {
 			super();
 			this.problem = problem;
 			this.solution = solution;
+			this.original = original;
 		}
 
 		@Override
 		public Solution call() throws Exception {
-			problem.evaluate(solution);
-			return solution;
+			try {
+				problem.evaluate(solution);
+				return solution;
+			} finally {
+				if (original != null) {
+					original.finishEvaluation();
+				}
+			}
 		}
 
 	}
@@ -114,15 +178,205 @@ public class DistributedProblem implements Problem {
 	public void evaluate(Solution solution) {
 		if (solution instanceof FutureSolution) {
 			FutureSolution futureSolution = (FutureSolution)solution;
-			futureSolution.setDistributedEvaluationID(nextDistributedEvaluationID());
+			long id = nextDistributedEvaluationID();
+			futureSolution.setDistributedEvaluationID(id);
+			
+			// evaluate a copy so a problem reading the objectives it has
+			// set, such as a CachedProblem, never blocks on this future
+			FutureSolution copy = futureSolution.copy();
+			copy.setFuture(null);
+			copy.setDistributedEvaluationID(id);
+			
+			futureSolution.startEvaluation();
 			Future<Solution> future = executor.submit(new ProblemEvaluator(
-					innerProblem, futureSolution));
+					innerProblem, copy, futureSolution));
 			futureSolution.setFuture(future);
 		} else {
 			throw new ProblemException(this, "requires FutureSolution");
 		}
 	}
 
+	@Override
+	public void evaluateAll(List<Solution> solutions) {
+		if (numberOfTasks < 0) {
+			for (Solution solution : solutions) {
+				evaluate(solution);
+			}
+			
+			return;
+		}
+		
+		for (Solution solution : solutions) {
+			if (!(solution instanceof FutureSolution)) {
+				throw new ProblemException(this, "requires FutureSolution");
+			}
+		}
+		
+		int size = solutions.size();
+		int tasks = Math.min(numberOfTasks, size);
+		int start = 0;
+		
+		for (int i = 0; i < tasks; i++) {
+			int end = start + (size - start) / (tasks - i);
+			List<Solution> batch = new ArrayList<Solution>(end - start);
+			List<FutureSolution> originals =
+					new ArrayList<FutureSolution>(end - start);
+			
+			// evaluate copies so the tasks never block on the futures of
+			// the solutions being evaluated
+			for (int j = start; j < end; j++) {
+				FutureSolution solution = (FutureSolution)solutions.get(j);
+				long id = nextDistributedEvaluationID();
+				
+				solution.setDistributedEvaluationID(id);
+				
+				// the copy must not share a pending evaluation of the solution
+				FutureSolution copy = solution.copy();
+				copy.setFuture(null);
+				copy.setDistributedEvaluationID(id);
+				batch.add(copy);
+				
+				solution.startEvaluation();
+				originals.add(solution);
+			}
+			
+			Future<List<Solution>> future = executor.submit(
+					new BatchProblemEvaluator(innerProblem, batch, originals));
+			
+			for (int j = start; j < end; j++) {
+				((FutureSolution)solutions.get(j)).setFuture(
+						new BatchFuture(future, j - start));
+			}
+			
+			start = end;
+		}
+	}
+	
+	/**
+	 * The {@link Callable} sent to the {@code ExecutorService} to evaluate a
+	 * batch of solutions.  As with {@link ProblemEvaluator}, the returned
+	 * solutions may be different instances than those provided to the
+	 * constructor.
+	 */
+	private static class BatchProblemEvaluator implements
+			Callable<List<Solution>>, Serializable {
+
+		private static final long serialVersionUID = 2862452938346717504L;
+
+		/**
+		 * The problem.
+		 */
+		private final Problem problem;
+
+		/**
+		 * The solutions being evaluated.
+		 */
+		private final List<Solution> solutions;
+		
+		/**
+		 * The solutions signalled when the evaluations finish; {@code null}
+		 * if this job was serialized to a remote node.
+		 */
+		private final transient List<FutureSolution> originals;
+
+		/**
+		 * Constructs a distributed job to evaluate the specified solutions.
+		 * 
+		 * @param problem the problem
+		 * @param solutions the solutions to be evaluated
+		 * @param originals the solutions signalled when the evaluations
+		 *        finish
+		 */
+		public BatchProblemEvaluator(Problem problem,
+				List<Solution> solutions, List<FutureSolution> originals) {
+			super();
+			this.problem = problem;
+			this.solutions = solutions;
+			this.originals = originals;
+		}
+
+		@Override
+		public List<Solution> call() throws Exception {
+			try {
+				if (problem instanceof BatchProblem) {
+					((BatchProblem)problem).evaluateAll(solutions);
+				} else {
+					for (Solution solution : solutions) {
+						problem.evaluate(solution);
+					}
+				}
+				
+				return solutions;
+			} finally {
+				if (originals != null) {
+					for (FutureSolution original : originals) {
+						original.finishEvaluation();
+					}
+				}
+			}
+		}
+
+	}
+	
+	/**
+	 * Adapts the future result of a batch of solutions to the future result
+	 * of an individual solution in the batch.
+	 */
+	private static class BatchFuture implements Future<Solution> {
+		
+		/**
+		 * The future result of the batch.
+		 */
+		private final Future<List<Solution>> future;
+		
+		/**
+		 * The index of the solution in the batch.
+		 */
+		private final int index;
+		
+		/**
+		 * Constructs a future for the solution at the given index in the
+		 * batch.
+		 * 
+		 * @param future the future result of the batch
+		 * @param index the index of the solution in the batch
+		 */
+		public BatchFuture(Future<List<Solution>> future, int index) {
+			super();
+			this.future = future;
+			this.index = index;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return future.cancel(mayInterruptIfRunning);
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return future.isCancelled();
+		}
+
+		@Override
+		public boolean isDone() {
+			return future.isDone();
+		}
+
+		@Override
+		public Solution get() throws InterruptedException,
+				ExecutionException {
+			return future.get().get(index);
+		}
+
+		@Override
+		public Solution get(long timeout, TimeUnit unit)
+				throws InterruptedException, ExecutionException,
+				TimeoutException {
+			return future.get(timeout, unit).get(index);
+		}
+		
+	}
+
 	synchronized long nextDistributedEvaluationID() {
 		return nextDistributedEvaluationID++;
 	}
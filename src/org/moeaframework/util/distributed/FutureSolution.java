@@ -19,8 +19,10 @@ package org.moeaframework.util.distributed;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Future;
 
+import org.moeaframework.core.AttributeKey;
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.Solution;
 
@@ -35,6 +37,10 @@ import org.moeaframework.core.Solution;
  * will block until the asynchronous evaluation completes. This behavior is
  * achieved by assigning a {@link Future} through the {@link #setFuture(Future)}
  * method prior to submitting this solution for evaluation.
+ * <p>
+ * A thread waiting on several solutions can register a queue with
+ * {@link #setCompletionQueue(BlockingQueue)} to learn which evaluation
+ * finishes first.
  */
 public class FutureSolution extends Solution {
 
@@ -45,6 +51,14 @@ public class FutureSolution extends Solution {
 	 * {@code null} if no asynchronous evaluation is underway.
 	 */
 	private transient Future<Solution> future;
+	
+	/**
+	 * {@code true} if the attributes of the result of the {@code Future} are
+	 * copied into this solution; {@code false} if this solution is a copy
+	 * sharing the {@code Future} of the original solution, in which case only
+	 * the objectives and constraints are copied.
+	 */
+	private transient boolean updateAttributes;
 
 	/**
 	 * Each FutureSolution may be assigned a unique identifier, which Problems 
@@ -52,6 +66,21 @@ public class FutureSolution extends Solution {
 	 */
 	private long distributedEvaluationID;
 	
+	/**
+	 * The queue receiving this solution when its evaluation finishes, or
+	 * {@code null} if no queue is registered.  This field is not guarded by
+	 * the lock on this solution, since the evaluating thread must never wait
+	 * on a thread blocked in {@link #update()}.
+	 */
+	private transient volatile BlockingQueue<? super FutureSolution>
+			completionQueue;
+	
+	/**
+	 * {@code true} if the evaluation submitted for this solution has finished
+	 * running in this JVM; {@code false} otherwise.
+	 */
+	private transient volatile boolean finished;
+	
 	/**
 	 * Constructs a future solution. This future solution replaces the nested
 	 * solution; there should exist no direct access to the nested solution.
@@ -69,6 +98,7 @@ public class FutureSolution extends Solution {
 	 */
 	synchronized void setFuture(Future<Solution> future) {
 		this.future = future;
+		this.updateAttributes = true;
 	}
 
 	/**
@@ -91,6 +121,63 @@ public class FutureSolution extends Solution {
 		return this.distributedEvaluationID;		
 	}
 	
+	/**
+	 * Returns {@code true} if the evaluation of this solution has completed
+	 * or no evaluation is underway; {@code false} if reading the objectives,
+	 * constraints or attributes of this solution would block.
+	 * 
+	 * @return {@code true} if the evaluation of this solution has completed
+	 *         or no evaluation is underway; {@code false} otherwise
+	 */
+	public synchronized boolean isDone() {
+		return (future == null) || future.isDone();
+	}
+	
+	/**
+	 * Registers a queue that receives this solution once its evaluation
+	 * finishes, so a thread can wait for whichever of several solutions
+	 * finishes first.  If the evaluation has already finished, this solution
+	 * is added to the queue immediately.  The solution may be added more than
+	 * once, and reading its objectives may still wait briefly while the
+	 * executor publishes the result.
+	 * <p>
+	 * Only evaluations running in this JVM are signalled.  Evaluations sent
+	 * to remote nodes must instead be detected with {@link #isDone()}.
+	 * 
+	 * @param queue the queue receiving this solution once its evaluation
+	 *        finishes, or {@code null} to remove the registered queue
+	 */
+	public void setCompletionQueue(BlockingQueue<? super FutureSolution> queue) {
+		completionQueue = queue;
+		
+		if ((queue != null) && finished) {
+			queue.offer(this);
+		}
+	}
+	
+	/**
+	 * Marks the start of a new evaluation of this solution.  This must be
+	 * called before the evaluation is submitted.
+	 */
+	void startEvaluation() {
+		finished = false;
+	}
+	
+	/**
+	 * Signals that the evaluation of this solution has finished running,
+	 * adding this solution to the registered queue, if any.  This is called
+	 * by the evaluating thread and must not acquire the lock on this solution.
+	 */
+	void finishEvaluation() {
+		finished = true;
+		
+		BlockingQueue<? super FutureSolution> queue = completionQueue;
+		
+		if (queue != null) {
+			queue.offer(this);
+		}
+	}
+	
 	/**
 	 * Updates this solution with the result of the {@code Future}, or blocks
 	 * until the result is available. Since the result is a serialized copy of
@@ -105,8 +192,10 @@ public class FutureSolution extends Solution {
 				setObjectives(solution.getObjectives());
 				setConstraints(solution.getConstraints());
 				
-				for (Map.Entry<String, Serializable> entry : solution.getAttributes().entrySet()) {
-					setAttribute(entry.getKey(), entry.getValue());
+				if (updateAttributes) {
+					for (Map.Entry<String, Serializable> entry : solution.getAttributes().entrySet()) {
+						setAttribute(entry.getKey(), entry.getValue());
+					}
 				}
 			} catch (Exception e) {
 				throw new FrameworkException(e);
@@ -114,10 +203,23 @@ public class FutureSolution extends Solution {
 		}
 	}
 	
+	/**
+	 * Returns a copy of this solution.  If the evaluation of this solution is
+	 * still underway, this method does not block; instead, the copy shares
+	 * the {@code Future} of this solution and blocks when its objectives or
+	 * constraints are read.
+	 */
 	@Override
-	public FutureSolution copy() {
-		update();
-		return new FutureSolution(this);
+	public synchronized FutureSolution copy() {
+		if (isDone()) {
+			update();
+			return new FutureSolution(this);
+		} else {
+			FutureSolution copy = new FutureSolution(this);
+			copy.future = future;
+			copy.updateAttributes = false;
+			return copy;
+		}
 	}
 
 	@Override
@@ -162,6 +264,30 @@ public class FutureSolution extends Solution {
 		return super.hasAttribute(key);
 	}
 	
+	@Override
+	public int getIntAttribute(AttributeKey key) {
+		update();
+		return super.getIntAttribute(key);
+	}
+	
+	@Override
+	public double getDoubleAttribute(AttributeKey key) {
+		update();
+		return super.getDoubleAttribute(key);
+	}
+	
+	@Override
+	public Object getAttribute(AttributeKey key) {
+		update();
+		return super.getAttribute(key);
+	}
+	
+	@Override
+	public boolean hasAttribute(AttributeKey key) {
+		update();
+		return super.hasAttribute(key);
+	}
+	
 	@Override
 	public Map<String, Serializable> getAttributes() {
 		update();
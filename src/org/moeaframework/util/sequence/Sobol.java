@@ -163,12 +163,27 @@ public class Sobol implements Sequence {
 	 */
 	@Override
 	public double[][] generate(int N, int D) {
+		return generate(0, N, D);
+	}
+
+	/**
+	 * Generates the points {@code start} through {@code start+N-1} of the
+	 * Sobol' sequence, allowing large sequences to be generated in blocks.
+	 * Each point is computed from its Gray code, so the blocks are identical
+	 * to the corresponding rows returned by {@link #generate(int, int)}.
+	 * 
+	 * @param start the index of the first point
+	 * @param N the number of points
+	 * @param D the dimension of each point
+	 * @return the {@code N} points of dimension {@code D}
+	 */
+	public double[][] generate(int start, int N, int D) {
 		if (D > DIRECTIONS.length + 1) {
 			throw new FrameworkException("not enough dimensions");
 		}
 
 		// max number of bits needed
-		int L = (int)Math.ceil(Math.log(N) / Math.log(2));
+		int L = (int)Math.ceil(Math.log((long)start + N) / Math.log(2));
 
 		if (L > scale) {
 			throw new FrameworkException("not enough bits");
@@ -207,9 +222,23 @@ public class Sobol implements Sequence {
 				}
 			}
 
+			// the first point is the sum of the directions selected by the
+			// Gray code of its index
 			long X = 0;
+			int gray = start ^ (start >>> 1);
+			
+			for (int j = 1; gray != 0; j++, gray >>>= 1) {
+				if ((gray & 1) != 0) {
+					X ^= V[j];
+				}
+			}
+			
+			if (N > 0) {
+				points[0][i] = (double)X / Math.pow(2, scale);
+			}
+			
 			for (int j = 1; j < N; j++) {
-				X ^= V[indexOfLeastSignificantZeroBit(j - 1)];
+				X ^= V[indexOfLeastSignificantZeroBit(start + j - 1)];
 				points[j][i] = (double)X / Math.pow(2, scale);
 			}
 		}
@@ -27,9 +27,12 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.moeaframework.Analyzer.AlgorithmResult;
+import org.moeaframework.Analyzer.AnalyzerResults;
 import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.PopulationIO;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.spi.AlgorithmFactoryTestWrapper;
 import org.moeaframework.core.spi.ProblemFactoryTestWrapper;
 
@@ -79,6 +82,30 @@ public class AnalyzerTest {
 	
 	//TODO: this should result in a warning and not an exception, to avoid data
 	//loss in case printAnalysis() is followed by saveData()
+	@Test
+	public void testApproximateHypervolume() throws IOException {
+		AnalyzerResults results = new Analyzer()
+				.withProblem("DTLZ2_2")
+				.includeHypervolume()
+				.includeApproximateHypervolume()
+				.addAll("NSGAII", new Executor()
+						.withProblem("DTLZ2_2")
+						.withAlgorithm("NSGAII")
+						.withMaxEvaluations(1000)
+						.runSeeds(2))
+				.getAnalysis();
+		
+		AlgorithmResult result = results.get("NSGAII");
+		double[] expected = result.get("Hypervolume").getValues();
+		double[] actual = result.get("MonteCarloHypervolume").getValues();
+		
+		Assert.assertEquals(expected.length, actual.length);
+		
+		for (int i = 0; i < expected.length; i++) {
+			Assert.assertEquals(expected[i], actual[i], 0.01);
+		}
+	}
+	
 	@Test(expected = IllegalArgumentException.class)
 	public void testNoProblem() throws IOException {
 		new Analyzer()
@@ -125,6 +152,48 @@ public class AnalyzerTest {
 				TestUtils.loadFile(actualFile));
 	}
 	
+	@Test
+	public void testParallel() throws IOException {
+		assertParallelEquals(generate());
+	}
+	
+	@Test
+	public void testParallelWithoutEpsilon() throws IOException {
+		Analyzer analyzer = new Analyzer()
+				.withProblem("DTLZ2_2")
+				.includeAllMetrics()
+				.includeApproximateHypervolume()
+				.showAll();
+		
+		for (String algorithm : new String[] { "eMOEA", "NSGAII" }) {
+			analyzer.addAll(algorithm, new Executor()
+					.withProblem("DTLZ2_2")
+					.withAlgorithm(algorithm)
+					.withMaxEvaluations(1000)
+					.runSeeds(10));
+		}
+		
+		assertParallelEquals(analyzer);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidNumberOfThreads() {
+		new Analyzer().distributeOn(0);
+	}
+	
+	private void assertParallelEquals(Analyzer analyzer) {
+		PRNG.setSeed(1234);
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		analyzer.printAnalysis(new PrintStream(expected));
+		
+		PRNG.setSeed(1234);
+		ByteArrayOutputStream actual = new ByteArrayOutputStream();
+		analyzer.distributeOn(4).printAnalysis(new PrintStream(actual));
+		
+		Assert.assertArrayEquals(expected.toByteArray(),
+				actual.toByteArray());
+	}
+	
 	private Analyzer generate() {
 		String[] algorithms = { "eMOEA", "NSGAII" };
 		
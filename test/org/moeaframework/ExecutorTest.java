@@ -18,10 +18,16 @@
 package org.moeaframework;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
 import org.moeaframework.core.spi.AlgorithmFactoryTestWrapper;
 import org.moeaframework.core.spi.ProblemFactoryTestWrapper;
 
@@ -125,6 +131,134 @@ public class ExecutorTest {
 		Assert.assertEquals(0.0, listener.getLastEvent().getRemainingTime(), 0.0);
 	}
 
+	@Test
+	public void testRunSeedsInParallel() {
+		TestProgressListener listener = new TestProgressListener();
+		
+		Assert.assertEquals(10, new Executor()
+				.usingAlgorithmFactory(algorithmFactory)
+				.usingProblemFactory(problemFactory)
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withProgressListener(listener)
+				.withProperty("populationSize", 100)
+				.withProperty("maxEvaluations", 1000)
+				.runSeedsInParallel(10, 4).size());
+		
+		Assert.assertEquals(10, algorithmFactory.getTerminateCount());
+		Assert.assertEquals(10, problemFactory.getCloseCount());
+		Assert.assertEquals(10, listener.getSeedCount());
+		Assert.assertEquals(10, listener.getLastEvent().getTotalSeeds());
+	}
+	
+	@Test
+	public void testRunSeedsInParallelIsReproducible() {
+		PRNG.setSeed(1337);
+		List<NondominatedPopulation> serial = runSeedsInParallel(6, 1);
+		
+		PRNG.setSeed(1337);
+		List<NondominatedPopulation> parallel = runSeedsInParallel(6, 3);
+		
+		Assert.assertEquals(6, serial.size());
+		assertEquals(serial, parallel);
+		
+		// distinct seeds should produce distinct results
+		Assert.assertFalse(serial.get(0).get(0).getObjective(0) ==
+				serial.get(1).get(0).getObjective(0));
+	}
+	
+	@Test
+	public void testRunSeedsMatchesRunSeedsInParallel() {
+		PRNG.setSeed(1337);
+		List<NondominatedPopulation> sequential = new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(1000)
+				.runSeeds(6);
+		
+		PRNG.setSeed(1337);
+		List<NondominatedPopulation> parallel = runSeedsInParallel(6, 3);
+		
+		Assert.assertEquals(6, sequential.size());
+		assertEquals(sequential, parallel);
+	}
+	
+	@Test
+	public void testRunSeedsInParallelInstrumented() {
+		Instrumenter instrumenter = new Instrumenter()
+				.withProblem("DTLZ2_2")
+				.withFrequency(100)
+				.attachElapsedTimeCollector();
+		
+		Executor executor = new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(1000)
+				.withInstrumenter(instrumenter);
+		
+		executor.runSeedsInParallel(4, 2);
+		
+		Assert.assertEquals(4, executor.getAccumulators().size());
+		
+		for (int i = 0; i < 4; i++) {
+			Assert.assertTrue(executor.getAccumulators().get(i).size(
+					"Elapsed Time") > 0);
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testRunSeedsInParallelInvalidThreads() {
+		new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.runSeedsInParallel(2, 0);
+	}
+	
+	@Test
+	public void testRunMatchesRunSeeds() {
+		PRNG.setSeed(1337);
+		NondominatedPopulation result = new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(1000)
+				.run();
+		
+		PRNG.setSeed(1337);
+		List<NondominatedPopulation> results = new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(1000)
+				.runSeeds(1);
+		
+		assertEquals(results, Collections.singletonList(result));
+	}
+	
+	private void assertEquals(List<NondominatedPopulation> expected,
+			List<NondominatedPopulation> actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i).size(), actual.get(i).size());
+			
+			for (int j = 0; j < expected.get(i).size(); j++) {
+				Solution solution1 = expected.get(i).get(j);
+				Solution solution2 = actual.get(i).get(j);
+				
+				Assert.assertArrayEquals(solution1.getObjectives(),
+						solution2.getObjectives(), 0.0);
+			}
+		}
+	}
+	
+	private List<NondominatedPopulation> runSeedsInParallel(int numberOfSeeds,
+			int numberOfThreads) {
+		return new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(1000)
+				.runSeedsInParallel(numberOfSeeds, numberOfThreads);
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void testNoProblem() {
 		new Executor().withAlgorithm("NSGAII").run();
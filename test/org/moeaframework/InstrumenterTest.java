@@ -20,6 +20,7 @@ package org.moeaframework;
 import java.io.NotSerializableException;
 import java.io.Serializable;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.Stack;
 
@@ -32,13 +33,18 @@ import org.moeaframework.analysis.collector.AttachPoint;
 import org.moeaframework.analysis.collector.Collector;
 import org.moeaframework.core.Algorithm;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variation;
 import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.indicator.AdditiveEpsilonIndicator;
+import org.moeaframework.core.indicator.Contribution;
+import org.moeaframework.core.indicator.GenerationalDistance;
 import org.moeaframework.core.operator.TournamentSelection;
 import org.moeaframework.core.operator.real.UM;
+import org.moeaframework.core.spi.ProblemFactory;
 import org.moeaframework.problem.MockRealProblem;
 
 /**
@@ -246,4 +252,103 @@ public class InstrumenterTest {
 		Assert.assertEquals(13, accumulator.keySet().size());
 	}
 	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testFusedIndicators() {
+		Instrumenter instrumenter = new Instrumenter()
+				.withProblem("DTLZ2_2")
+				.withFrequency(500)
+				.attachGenerationalDistanceCollector()
+				.attachAdditiveEpsilonIndicatorCollector()
+				.attachContributionCollector()
+				.attachApproximationSetCollector();
+		
+		new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(1000)
+				.withInstrumenter(instrumenter)
+				.run();
+		
+		Accumulator accumulator = instrumenter.getLastAccumulator();
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_2");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance()
+				.getReferenceSet("DTLZ2_2");
+		
+		for (int i = 0; i < accumulator.size("Approximation Set"); i++) {
+			NondominatedPopulation approximationSet = new NondominatedPopulation(
+					(List<Solution>)accumulator.get("Approximation Set", i));
+			
+			Assert.assertEquals(
+					new GenerationalDistance(problem, referenceSet)
+							.evaluate(approximationSet),
+					((Number)accumulator.get("GenerationalDistance", i))
+							.doubleValue(), 0.0);
+			Assert.assertEquals(
+					new AdditiveEpsilonIndicator(problem, referenceSet)
+							.evaluate(approximationSet),
+					((Number)accumulator.get("AdditiveEpsilonIndicator", i))
+							.doubleValue(), 0.0);
+			Assert.assertEquals(
+					new Contribution(referenceSet).evaluate(approximationSet),
+					((Number)accumulator.get("Contribution", i))
+							.doubleValue(), 0.0);
+		}
+	}
+	
+	@Test
+	public void testApproximateHypervolume() {
+		Instrumenter instrumenter = new Instrumenter()
+				.withProblem("DTLZ2_2")
+				.withFrequency(500)
+				.attachHypervolumeCollector()
+				.attachApproximateHypervolumeCollector();
+		
+		new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(1000)
+				.withInstrumenter(instrumenter)
+				.run();
+		
+		Accumulator accumulator = instrumenter.getLastAccumulator();
+		
+		Assert.assertEquals(accumulator.size("Hypervolume"),
+				accumulator.size("MonteCarloHypervolume"));
+		
+		for (int i = 0; i < accumulator.size("Hypervolume"); i++) {
+			Assert.assertEquals(
+					((Number)accumulator.get("Hypervolume", i)).doubleValue(),
+					((Number)accumulator.get("MonteCarloHypervolume", i))
+							.doubleValue(), 0.01);
+		}
+	}
+	
+	@Test
+	public void testApproximateHypervolumeDoesNotChangeRun() {
+		Instrumenter instrumenter = new Instrumenter()
+				.withProblem("DTLZ2_2")
+				.withFrequency(100)
+				.attachApproximateHypervolumeCollector();
+		
+		PRNG.setSeed(1234);
+		NondominatedPopulation expected = new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(1000)
+				.run();
+		
+		PRNG.setSeed(1234);
+		NondominatedPopulation actual = new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(1000)
+				.withInstrumenter(instrumenter)
+				.run();
+		
+		Assert.assertTrue(instrumenter.getLastAccumulator().size(
+				"MonteCarloHypervolume") > 0);
+		TestUtils.assertEquals(expected, actual);
+	}
+	
 }
@@ -19,14 +19,30 @@ package org.moeaframework.algorithm;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.moeaframework.TestUtils;
+import org.moeaframework.core.BatchProblem;
+import org.moeaframework.core.Changes;
+import org.moeaframework.core.DeltaProblem;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variation;
+import org.moeaframework.core.operator.CompoundVariation;
+import org.moeaframework.core.operator.OnePointCrossover;
+import org.moeaframework.core.operator.binary.BitFlip;
+import org.moeaframework.core.operator.binary.HUX;
+import org.moeaframework.core.operator.permutation.Insertion;
+import org.moeaframework.core.operator.permutation.Swap;
+import org.moeaframework.core.operator.real.PM;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
 
 /**
  * Tests the {@link AbstractAlgorithm} class.
@@ -75,6 +91,141 @@ public class AbstractAlgorithmTest {
 
 	}
 
+	/**
+	 * Test problem that counts the number of batch and individual
+	 * evaluations.
+	 */
+	private static class TestBatchProblem extends TestProblem implements
+	BatchProblem {
+		
+		/**
+		 * The number of times the {@code evaluateAll} method is invoked.
+		 */
+		private int batches;
+		
+		/**
+		 * The number of times the {@code evaluate} method is invoked.
+		 */
+		private int evaluations;
+		
+		@Override
+		public void evaluate(Solution solution) {
+			evaluations++;
+		}
+
+		@Override
+		public void evaluateAll(List<Solution> solutions) {
+			batches++;
+		}
+		
+	}
+
+	/**
+	 * Test problem supporting delta evaluation that counts the number of full
+	 * and delta evaluations.  The objectives are the number of set bits, the
+	 * weighted sum of the permutation and the square of the real variable.
+	 */
+	private static class TestDeltaProblem extends TestProblem implements
+	DeltaProblem {
+		
+		/**
+		 * The number of times the {@code evaluate} method is invoked.
+		 */
+		private int evaluations;
+		
+		/**
+		 * The number of times the {@code evaluateDelta} method is invoked.
+		 */
+		private int deltaEvaluations;
+		
+		@Override
+		public void evaluate(Solution solution) {
+			BinaryVariable binary = (BinaryVariable)solution.getVariable(0);
+			Permutation permutation = (Permutation)solution.getVariable(1);
+			double sum = 0.0;
+			
+			for (int i = 0; i < permutation.size(); i++) {
+				sum += i * permutation.get(i);
+			}
+			
+			solution.setObjective(0, binary.cardinality());
+			solution.setObjective(1, sum);
+			solution.setObjective(2, Math.pow(
+					((RealVariable)solution.getVariable(2)).getValue(), 2.0));
+			evaluations++;
+		}
+
+		@Override
+		public void evaluateDelta(Solution parent, Solution offspring,
+				Changes changes) {
+			BinaryVariable binary1 =
+					(BinaryVariable)parent.getVariableReadOnly(0);
+			BinaryVariable binary2 =
+					(BinaryVariable)offspring.getVariableReadOnly(0);
+			Permutation permutation1 =
+					(Permutation)parent.getVariableReadOnly(1);
+			Permutation permutation2 =
+					(Permutation)offspring.getVariableReadOnly(1);
+			double count = parent.getObjective(0);
+			double sum = parent.getObjective(1);
+			
+			for (int i : changes.getPositions(0)) {
+				if (binary1.get(i) != binary2.get(i)) {
+					count += binary2.get(i) ? 1 : -1;
+				}
+			}
+			
+			for (int i : changes.getPositions(1)) {
+				sum += i * (permutation2.get(i) - permutation1.get(i));
+			}
+			
+			offspring.setObjective(0, count);
+			offspring.setObjective(1, sum);
+			offspring.setObjective(2, changes.isChanged(2) ? Math.pow(
+					((RealVariable)offspring.getVariable(2)).getValue(), 2.0) :
+					parent.getObjective(2));
+			deltaEvaluations++;
+		}
+		
+		@Override
+		public Solution newSolution() {
+			Solution solution = new Solution(3, 3);
+			solution.setVariable(0, new BinaryVariable(200));
+			solution.setVariable(1, new Permutation(20));
+			solution.setVariable(2, new RealVariable(0.0, 1.0));
+			
+			for (int i = 0; i < 3; i++) {
+				solution.getVariable(i).randomize();
+			}
+			
+			return solution;
+		}
+		
+	}
+
+	/**
+	 * Test problem supporting delta and batch evaluation that records the
+	 * size of each batch.
+	 */
+	private static class TestBatchDeltaProblem extends TestDeltaProblem
+	implements BatchProblem {
+		
+		/**
+		 * The size of each batch passed to the {@code evaluateAll} method.
+		 */
+		private final List<Integer> batches = new ArrayList<Integer>();
+
+		@Override
+		public void evaluateAll(List<Solution> solutions) {
+			batches.add(solutions.size());
+			
+			for (Solution solution : solutions) {
+				evaluate(solution);
+			}
+		}
+		
+	}
+
 	/**
 	 * Test {@code AbstractAlgorithm} that counts the number of times the
 	 * {@code iterate} method is invoked.
@@ -90,7 +241,16 @@ public class AbstractAlgorithmTest {
 		 * Constructs a test {@code AbstractAlgorithm}.
 		 */
 		public TestAbstractAlgorithm() {
-			super(new TestProblem());
+			this(new TestProblem());
+		}
+		
+		/**
+		 * Constructs a test {@code AbstractAlgorithm} for the given problem.
+		 * 
+		 * @param problem the problem
+		 */
+		public TestAbstractAlgorithm(Problem problem) {
+			super(problem);
 		}
 
 		@Override
@@ -265,6 +425,109 @@ public class AbstractAlgorithmTest {
 		Assert.assertEquals(202, algorithm.getNumberOfEvaluations());
 	}
 
+	/**
+	 * Tests if {@link BatchProblem}s evaluate all solutions in a single call
+	 * while tracking the number of evaluations.
+	 */
+	@Test
+	public void testBatchProblem() {
+		TestBatchProblem problem = new TestBatchProblem();
+		AbstractAlgorithm algorithm = new TestAbstractAlgorithm(problem);
+		Solution[] solutions = new Solution[100];
+
+		algorithm.evaluateAll(Arrays.asList(solutions));
+		algorithm.evaluate(null);
+		algorithm.evaluateAll(solutions);
+
+		Assert.assertEquals(201, algorithm.getNumberOfEvaluations());
+		Assert.assertEquals(2, problem.batches);
+		Assert.assertEquals(1, problem.evaluations);
+	}
+
+	/**
+	 * Tests if offspring with recorded changes are evaluated incrementally by
+	 * {@link DeltaProblem}s, producing the same objectives as a full
+	 * evaluation.
+	 */
+	@Test
+	public void testDeltaProblem() {
+		TestDeltaProblem problem = new TestDeltaProblem();
+		AbstractAlgorithm algorithm = new TestAbstractAlgorithm(problem);
+		CompoundVariation variation = new CompoundVariation(new HUX(1.0),
+				new BitFlip(0.05), new Swap(0.5), new Insertion(0.5),
+				new PM(0.5, 20.0));
+		Solution[] parents = new Solution[] { problem.newSolution(),
+				problem.newSolution() };
+		
+		algorithm.evaluateAll(parents);
+		Assert.assertEquals(2, problem.evaluations);
+		
+		for (int i = 0; i < 100; i++) {
+			Solution[] offspring = variation.evolve(parents);
+			
+			for (Solution solution : offspring) {
+				Solution expected = solution.copy();
+				problem.evaluate(expected);
+				algorithm.evaluate(solution);
+				
+				Assert.assertArrayEquals(expected.getObjectives(),
+						solution.getObjectives(), 0.000001);
+			}
+			
+			parents = offspring;
+		}
+		
+		Assert.assertEquals(202, problem.evaluations);
+		Assert.assertEquals(200, problem.deltaEvaluations);
+		
+		// offspring of operators not recording changes are fully evaluated
+		variation = new CompoundVariation(new OnePointCrossover(1.0),
+				new BitFlip(0.05));
+		algorithm.evaluateAll(variation.evolve(parents));
+		
+		Assert.assertEquals(204, problem.evaluations);
+		Assert.assertEquals(200, problem.deltaEvaluations);
+	}
+
+	/**
+	 * Tests if offspring with recorded changes are evaluated incrementally
+	 * when the {@link DeltaProblem} is also a {@link BatchProblem}, while the
+	 * remaining solutions are evaluated in one batch.
+	 */
+	@Test
+	public void testBatchDeltaProblem() {
+		TestBatchDeltaProblem problem = new TestBatchDeltaProblem();
+		AbstractAlgorithm algorithm = new TestAbstractAlgorithm(problem);
+		Variation variation = new CompoundVariation(new HUX(1.0),
+				new BitFlip(0.05));
+		Solution[] parents = new Solution[] { problem.newSolution(),
+				problem.newSolution() };
+		
+		algorithm.evaluateAll(parents);
+		
+		List<Solution> solutions = new ArrayList<Solution>();
+		solutions.addAll(Arrays.asList(variation.evolve(parents)));
+		solutions.add(problem.newSolution());
+		
+		List<Solution> expected = new ArrayList<Solution>();
+		
+		for (Solution solution : solutions) {
+			expected.add(solution.copy());
+			problem.evaluate(expected.get(expected.size() - 1));
+		}
+		
+		algorithm.evaluateAll(solutions);
+		
+		Assert.assertEquals(Arrays.asList(2, 1), problem.batches);
+		Assert.assertEquals(2, ((TestDeltaProblem)problem).deltaEvaluations);
+		Assert.assertEquals(5, algorithm.getNumberOfEvaluations());
+		
+		for (int i = 0; i < solutions.size(); i++) {
+			Assert.assertArrayEquals(expected.get(i).getObjectives(),
+					solutions.get(i).getObjectives(), 0.000001);
+		}
+	}
+
 	/**
 	 * While this is technically an error as the {@code AbstractAlgorithm} is
 	 * not serializable, the current contract of {@link Checkpoints} requires
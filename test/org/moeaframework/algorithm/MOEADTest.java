@@ -18,11 +18,11 @@
 package org.moeaframework.algorithm;
 
 import java.io.IOException;
+import java.io.NotSerializableException;
 import java.util.HashMap;
 import java.util.Properties;
 
 import jmetal.core.Operator;
-import jmetal.metaheuristics.moead.MOEAD;
 import jmetal.operators.crossover.DifferentialEvolutionCrossover;
 import jmetal.operators.mutation.PolynomialMutation;
 
@@ -34,8 +34,11 @@ import org.moeaframework.TravisRunner;
 import org.moeaframework.algorithm.jmetal.JMetalAlgorithmAdapter;
 import org.moeaframework.algorithm.jmetal.JMetalProblemAdapter;
 import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.core.spi.ProblemFactory;
 import org.moeaframework.problem.MockRealProblem;
 import org.moeaframework.util.TypedProperties;
 
@@ -55,7 +58,8 @@ public class MOEADTest extends AlgorithmTest {
 				TypedProperties tp = new TypedProperties(properties);
 				JMetalProblemAdapter adapter = new JMetalProblemAdapter(
 						problem);
-				MOEAD algorithm = new MOEAD(adapter);
+				jmetal.metaheuristics.moead.MOEAD algorithm =
+						new jmetal.metaheuristics.moead.MOEAD(adapter);
 
 				// Algorithm parameters
 				algorithm.setInputParameter("populationSize",
@@ -114,13 +118,13 @@ public class MOEADTest extends AlgorithmTest {
 	
 	@Test
 	public void testSelection() {
-		org.moeaframework.algorithm.MOEAD moead = null;
+		MOEAD moead = null;
 		
 		Problem problem = new MockRealProblem();
 		Properties properties = new Properties();
 		
 		//the default is de+pm
-		moead = (org.moeaframework.algorithm.MOEAD)AlgorithmFactory.getInstance()
+		moead = (MOEAD)AlgorithmFactory.getInstance()
 				.getAlgorithm("MOEA/D", properties, problem);
 		
 		Assert.assertTrue(moead.useDE);
@@ -128,7 +132,7 @@ public class MOEADTest extends AlgorithmTest {
 		//test with just de
 		properties.setProperty("operator", "de");
 		
-		moead = (org.moeaframework.algorithm.MOEAD)AlgorithmFactory.getInstance()
+		moead = (MOEAD)AlgorithmFactory.getInstance()
 				.getAlgorithm("MOEA/D", properties, problem);
 		
 		Assert.assertTrue(moead.useDE);
@@ -136,10 +140,63 @@ public class MOEADTest extends AlgorithmTest {
 		//test with a different operator
 		properties.setProperty("operator", "sbx+pm");
 		
-		moead = (org.moeaframework.algorithm.MOEAD)AlgorithmFactory.getInstance()
+		moead = (MOEAD)AlgorithmFactory.getInstance()
 				.getAlgorithm("MOEA/D", properties, problem);
 		
 		Assert.assertFalse(moead.useDE);
 	}
+	
+	/**
+	 * Tests if a run restored from its state continues exactly as the
+	 * uninterrupted run, which requires the neighborhoods and cached fitness
+	 * values to be rebuilt identically.
+	 */
+	@Test
+	public void testSetState() throws NotSerializableException {
+		PRNG.setSeed(1337);
+		Algorithm uninterrupted = createMOEAD();
+		
+		for (int i = 0; i < 10; i++) {
+			uninterrupted.step();
+		}
+		
+		PRNG.setSeed(1337);
+		Algorithm interrupted = createMOEAD();
+		
+		for (int i = 0; i < 5; i++) {
+			interrupted.step();
+		}
+		
+		Algorithm restored = createMOEAD();
+		restored.setState(interrupted.getState());
+		
+		for (int i = 0; i < 5; i++) {
+			restored.step();
+		}
+		
+		NondominatedPopulation expected = uninterrupted.getResult();
+		NondominatedPopulation actual = restored.getResult();
+		
+		Assert.assertEquals(expected.size(), actual.size());
+		
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertArrayEquals(expected.get(i).getObjectives(),
+					actual.get(i).getObjectives(), 0.0);
+		}
+	}
+	
+	/**
+	 * Returns a new instance of MOEA/D solving the 2-objective DTLZ2 problem.
+	 * 
+	 * @return a new instance of MOEA/D
+	 */
+	private Algorithm createMOEAD() {
+		Properties properties = new Properties();
+		properties.setProperty("populationSize", "50");
+		properties.setProperty("neighborhoodSize", "0.2");
+		
+		return AlgorithmFactory.getInstance().getAlgorithm("MOEA/D",
+				properties, ProblemFactory.getInstance().getProblem("DTLZ2_2"));
+	}
 
 }
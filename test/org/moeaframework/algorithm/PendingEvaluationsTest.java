@@ -0,0 +1,370 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.Executor;
+import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.core.variable.EncodingUtils;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.problem.AbstractProblem;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+import org.moeaframework.util.TypedProperties;
+import org.moeaframework.util.distributed.DistributedProblem;
+import org.moeaframework.util.distributed.FutureSolution;
+
+/**
+ * Tests the {@link PendingEvaluations} class and the asynchronous execution
+ * of the steady-state algorithms.
+ */
+public class PendingEvaluationsTest {
+	
+	/**
+	 * Tests if the queue is full once the number of offspring reaches its
+	 * capacity and that offspring are returned in order when evaluated
+	 * synchronously.
+	 */
+	@Test
+	public void testCapacity() {
+		PendingEvaluations<Integer> pending = new PendingEvaluations<Integer>();
+		
+		Assert.assertEquals(1, pending.getCapacity());
+		Assert.assertTrue(pending.isEmpty());
+		
+		pending.setCapacity(3);
+		
+		for (int i = 0; i < 3; i++) {
+			Assert.assertFalse(pending.isFull());
+			pending.add(new Solution(0, 0), i);
+		}
+		
+		Assert.assertTrue(pending.isFull());
+		
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals(i, pending.next().getContext().intValue());
+		}
+		
+		Assert.assertTrue(pending.isEmpty());
+	}
+	
+	/**
+	 * Tests if the completed offspring are returned without removing them
+	 * from the queue.
+	 */
+	@Test
+	public void testGetCompleted() {
+		PendingEvaluations<Void> pending = new PendingEvaluations<Void>();
+		Solution first = new Solution(0, 0);
+		Solution second = new Solution(0, 0);
+		
+		pending.setCapacity(3);
+		pending.add(first, null);
+		pending.add(second, null);
+		
+		Assert.assertEquals(2, pending.getCompleted().size());
+		Assert.assertSame(first, pending.getCompleted().get(0));
+		Assert.assertSame(second, pending.getCompleted().get(1));
+		Assert.assertSame(first, pending.next().getSolution());
+		Assert.assertEquals(1, pending.getCompleted().size());
+	}
+	
+	/**
+	 * Tests if an invalid capacity is rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCapacity() {
+		new PendingEvaluations<Void>().setCapacity(0);
+	}
+	
+	/**
+	 * Tests if completed evaluations are returned before older evaluations
+	 * that are still in flight.
+	 */
+	@Test
+	public void testCompletedFirst() throws InterruptedException {
+		final CountDownLatch latch = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		
+		DistributedProblem problem = new DistributedProblem(
+				new AbstractProblem(1, 1) {
+
+			@Override
+			public void evaluate(Solution solution) {
+				double x = EncodingUtils.getReal(solution.getVariable(0));
+				
+				if (x > 0.0) {
+					try {
+						latch.await();
+					} catch (InterruptedException e) {
+						throw new RuntimeException(e);
+					}
+				}
+				
+				solution.setObjective(0, x);
+			}
+
+			@Override
+			public Solution newSolution() {
+				Solution solution = new Solution(1, 1);
+				solution.setVariable(0, new RealVariable(0.0, 1.0));
+				return solution;
+			}
+			
+		}, executor);
+		
+		Solution slow = problem.newSolution();
+		Solution fast = problem.newSolution();
+		EncodingUtils.setReal(slow.getVariable(0), 1.0);
+		
+		PendingEvaluations<Void> pending = new PendingEvaluations<Void>();
+		pending.setCapacity(2);
+		
+		problem.evaluate(slow);
+		pending.add(slow, null);
+		problem.evaluate(fast);
+		pending.add(fast, null);
+		
+		while (!((FutureSolution)fast).isDone()) {
+			Thread.sleep(10);
+		}
+		
+		Assert.assertFalse(((FutureSolution)slow).isDone());
+		Assert.assertSame(fast, pending.next().getSolution());
+		
+		latch.countDown();
+		
+		Assert.assertSame(slow, pending.next().getSolution());
+		Assert.assertEquals(1.0, slow.getObjective(0), 0.0);
+		
+		executor.shutdown();
+	}
+	
+	/**
+	 * Tests if waiting for an offspring returns whichever evaluation
+	 * completes first rather than waiting on the oldest evaluation.
+	 */
+	@Test
+	public void testWaitsForFirstCompletion() throws InterruptedException {
+		final CountDownLatch slowLatch = new CountDownLatch(1);
+		final CountDownLatch fastLatch = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		
+		DistributedProblem problem = new DistributedProblem(
+				new AbstractProblem(1, 1) {
+
+			@Override
+			public void evaluate(Solution solution) {
+				double x = EncodingUtils.getReal(solution.getVariable(0));
+				
+				try {
+					if (x > 0.0) {
+						slowLatch.await();
+					} else {
+						fastLatch.await();
+					}
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				
+				solution.setObjective(0, x);
+			}
+
+			@Override
+			public Solution newSolution() {
+				Solution solution = new Solution(1, 1);
+				solution.setVariable(0, new RealVariable(0.0, 1.0));
+				return solution;
+			}
+			
+		}, executor);
+		
+		try {
+			Solution slow = problem.newSolution();
+			Solution fast = problem.newSolution();
+			EncodingUtils.setReal(slow.getVariable(0), 1.0);
+			EncodingUtils.setReal(fast.getVariable(0), 0.0);
+			
+			PendingEvaluations<Void> pending = new PendingEvaluations<Void>();
+			pending.setCapacity(2);
+			
+			problem.evaluate(slow);
+			pending.add(slow, null);
+			problem.evaluate(fast);
+			pending.add(fast, null);
+			
+			// neither evaluation has completed when next() starts waiting
+			new Thread() {
+				
+				@Override
+				public void run() {
+					try {
+						Thread.sleep(100);
+					} catch (InterruptedException e) {
+						// release the evaluation early
+					}
+					
+					fastLatch.countDown();
+				}
+				
+			}.start();
+			
+			Assert.assertSame(fast, pending.next().getSolution());
+			Assert.assertEquals(0.0, fast.getObjective(0), 0.0);
+			Assert.assertFalse(((FutureSolution)slow).isDone());
+			
+			slowLatch.countDown();
+			
+			Assert.assertSame(slow, pending.next().getSolution());
+			Assert.assertEquals(1.0, slow.getObjective(0), 0.0);
+			Assert.assertTrue(pending.isEmpty());
+		} finally {
+			slowLatch.countDown();
+			fastLatch.countDown();
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests if the steady-state algorithms accept the
+	 * {@code pendingEvaluations} property.
+	 */
+	@Test
+	public void testProperty() {
+		TypedProperties properties = new TypedProperties();
+		properties.setInt("pendingEvaluations", 4);
+		
+		Assert.assertEquals(4, ((MOEAD)AlgorithmFactory.getInstance()
+				.getAlgorithm("MOEAD", properties.getProperties(),
+						new DTLZ2(2))).getMaximumPendingEvaluations());
+		Assert.assertEquals(4, ((EpsilonMOEA)AlgorithmFactory.getInstance()
+				.getAlgorithm("eMOEA", properties.getProperties(),
+						new DTLZ2(2))).getMaximumPendingEvaluations());
+		Assert.assertEquals(4, ((SMSEMOA)AlgorithmFactory.getInstance()
+				.getAlgorithm("SMSEMOA", properties.getProperties(),
+						new DTLZ2(2))).getMaximumPendingEvaluations());
+	}
+	
+	/**
+	 * Tests running MOEA/D with several evaluations in flight.
+	 */
+	@Test
+	public void testMOEAD() {
+		testRun("MOEAD");
+	}
+	
+	/**
+	 * Tests running &epsilon;-MOEA with several evaluations in flight.
+	 */
+	@Test
+	public void testEpsilonMOEA() {
+		testRun("eMOEA");
+	}
+	
+	/**
+	 * Tests running SMS-EMOA with several evaluations in flight.
+	 */
+	@Test
+	public void testSMSEMOA() {
+		testRun("SMSEMOA");
+	}
+	
+	/**
+	 * Tests if reading the result of the steady-state algorithms with several
+	 * evaluations in flight does not change the search.
+	 */
+	@Test
+	public void testGetResultUnchanged() {
+		for (String algorithm : new String[] { "MOEAD", "eMOEA", "SMSEMOA" }) {
+			NondominatedPopulation expected = runObserved(algorithm, false);
+			NondominatedPopulation actual = runObserved(algorithm, true);
+			
+			Assert.assertEquals(expected.size(), actual.size());
+			
+			for (int i = 0; i < expected.size(); i++) {
+				Assert.assertArrayEquals(expected.get(i).getObjectives(),
+						actual.get(i).getObjectives(), 0.0);
+			}
+		}
+	}
+	
+	/**
+	 * Runs the algorithm with several evaluations in flight on a problem
+	 * evaluated synchronously, returning the result.
+	 * 
+	 * @param algorithm the algorithm name
+	 * @param observe {@code true} if the result is read after each step;
+	 *        {@code false} otherwise
+	 * @return the result
+	 */
+	private NondominatedPopulation runObserved(String algorithm,
+			boolean observe) {
+		TypedProperties properties = new TypedProperties();
+		properties.setInt("populationSize", 20);
+		properties.setInt("pendingEvaluations", 4);
+		
+		PRNG.setSeed(1337);
+		
+		Algorithm instance = AlgorithmFactory.getInstance().getAlgorithm(
+				algorithm, properties.getProperties(), new DTLZ2(2));
+		
+		while (instance.getNumberOfEvaluations() < 500) {
+			instance.step();
+			
+			if (observe) {
+				instance.getResult();
+			}
+		}
+		
+		return instance.getResult();
+	}
+	
+	/**
+	 * Runs the algorithm on a distributed problem with several evaluations in
+	 * flight and checks that the result converges near the Pareto front.
+	 * 
+	 * @param algorithm the algorithm name
+	 */
+	private void testRun(String algorithm) {
+		NondominatedPopulation result = new Executor()
+				.withProblemClass(DTLZ2.class, 2)
+				.withAlgorithm(algorithm)
+				.withProperty("populationSize", 50)
+				.withProperty("pendingEvaluations", 4)
+				.withMaxEvaluations(5000)
+				.distributeOn(4)
+				.run();
+		
+		Assert.assertFalse(result.isEmpty());
+		
+		for (Solution solution : result) {
+			double radius = Math.hypot(solution.getObjective(0),
+					solution.getObjective(1));
+			Assert.assertEquals(1.0, radius, 0.1);
+		}
+	}
+
+}
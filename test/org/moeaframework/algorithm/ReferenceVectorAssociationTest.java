@@ -0,0 +1,216 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Population;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.util.Vector;
+import org.moeaframework.util.weights.NormalBoundaryIntersectionGenerator;
+
+/**
+ * Tests the {@link ReferenceVectorAssociation} class.
+ */
+public class ReferenceVectorAssociationTest {
+
+	/**
+	 * Tests if each point is associated with the reference point with the
+	 * minimum perpendicular distance.
+	 */
+	@Test
+	public void testAssociateByDistance() {
+		List<double[]> weights = new NormalBoundaryIntersectionGenerator(
+				5, 4).generate();
+		ReferenceVectorAssociation association =
+				new ReferenceVectorAssociation(5, weights);
+		Population population = createRandomPopulation(100, 5);
+
+		int[] indices = association.associateByDistance(
+				ReferenceVectorAssociation.pack(population, 5));
+
+		Assert.assertEquals(population.size(), indices.length);
+
+		for (int i = 0; i < population.size(); i++) {
+			double[] point = getPoint(population.get(i));
+			double minDistance = Double.POSITIVE_INFINITY;
+
+			for (double[] weight : weights) {
+				minDistance = Math.min(minDistance,
+						ReferencePointNondominatedSortingPopulation.pointLineDistance(
+								weight, point));
+			}
+
+			Assert.assertEquals(minDistance,
+					ReferencePointNondominatedSortingPopulation.pointLineDistance(
+							weights.get(indices[i]), point),
+					Settings.EPS);
+		}
+	}
+
+	/**
+	 * Tests if each point is associated with the reference vector with the
+	 * smallest angle.
+	 */
+	@Test
+	public void testAssociateByAngle() {
+		List<double[]> weights = new NormalBoundaryIntersectionGenerator(
+				5, 4).generate();
+
+		for (int i = 0; i < weights.size(); i++) {
+			weights.set(i, Vector.normalize(weights.get(i)));
+		}
+
+		ReferenceVectorAssociation association =
+				new ReferenceVectorAssociation(5, weights);
+		Population population = createRandomPopulation(100, 5);
+
+		int[] indices = association.associateByAngle(
+				ReferenceVectorAssociation.pack(population, 5));
+
+		for (int i = 0; i < population.size(); i++) {
+			double[] point = getPoint(population.get(i));
+			double maxCosine = Double.NEGATIVE_INFINITY;
+
+			for (double[] weight : weights) {
+				maxCosine = Math.max(maxCosine,
+						ReferenceVectorGuidedPopulation.cosine(weight, point));
+			}
+
+			Assert.assertEquals(maxCosine,
+					ReferenceVectorGuidedPopulation.cosine(
+							weights.get(indices[i]), point),
+					Settings.EPS);
+		}
+	}
+
+	/**
+	 * Tests if ties are resolved in favor of the first reference vector and
+	 * that undefined associations are reported.
+	 */
+	@Test
+	public void testTies() {
+		List<double[]> weights = new NormalBoundaryIntersectionGenerator(
+				2, 2).generate();
+		ReferenceVectorAssociation association =
+				new ReferenceVectorAssociation(2, weights);
+		double[] points = new double[] { 1.0, 1.0, 0.0, 0.0, 1.0, 0.0,
+				Double.NaN, 0.0 };
+		int[] expected = new int[] { 1, 0, indexOf(weights, 1.0, 0.0), -1 };
+
+		Assert.assertArrayEquals(expected,
+				association.associateByDistance(points));
+		Assert.assertArrayEquals(expected,
+				association.associateByAngle(points));
+	}
+
+	/**
+	 * Tests if the smallest angles between reference vectors are computed
+	 * correctly.
+	 */
+	@Test
+	public void testSmallestAngles() {
+		List<double[]> weights = new NormalBoundaryIntersectionGenerator(
+				3, 6).generate();
+		double[] angles = new ReferenceVectorAssociation(3, weights)
+				.smallestAngles();
+
+		for (int i = 0; i < weights.size(); i++) {
+			double[] weight = Vector.normalize(weights.get(i));
+			double smallestAngle = Double.POSITIVE_INFINITY;
+
+			for (int j = 0; j < weights.size(); j++) {
+				if (i != j) {
+					smallestAngle = Math.min(smallestAngle,
+							ReferenceVectorGuidedPopulation.acosine(weight,
+									weights.get(j)));
+				}
+			}
+
+			Assert.assertEquals(smallestAngle, angles[i], Settings.EPS);
+		}
+
+		Assert.assertArrayEquals(
+				new double[] { Double.POSITIVE_INFINITY },
+				new ReferenceVectorAssociation(2, weights.subList(0, 1))
+						.smallestAngles(),
+				Settings.EPS);
+	}
+
+	/**
+	 * Returns the index of the specified weight.
+	 *
+	 * @param weights the weights
+	 * @param weight the weight being searched
+	 * @return the index of the specified weight
+	 */
+	private int indexOf(List<double[]> weights, double... weight) {
+		for (int i = 0; i < weights.size(); i++) {
+			if (weights.get(i)[0] == weight[0] &&
+					weights.get(i)[1] == weight[1]) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the normalized objectives of the solution.
+	 *
+	 * @param solution the solution
+	 * @return the normalized objectives of the solution
+	 */
+	private double[] getPoint(Solution solution) {
+		return (double[])solution.getAttribute(
+				ReferencePointNondominatedSortingPopulation.NORMALIZED_OBJECTIVES_KEY);
+	}
+
+	/**
+	 * Returns a population of solutions with random normalized objectives.
+	 *
+	 * @param size the number of solutions
+	 * @param numberOfObjectives the number of objectives
+	 * @return a population of solutions with random normalized objectives
+	 */
+	private Population createRandomPopulation(int size,
+			int numberOfObjectives) {
+		Population population = new Population();
+
+		for (int i = 0; i < size; i++) {
+			Solution solution = new Solution(0, numberOfObjectives);
+			double[] point = new double[numberOfObjectives];
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				point[j] = PRNG.nextDouble();
+			}
+
+			solution.setAttribute(
+					ReferencePointNondominatedSortingPopulation.NORMALIZED_OBJECTIVES_KEY,
+					point);
+			population.add(solution);
+		}
+
+		return population;
+	}
+
+}
@@ -187,5 +187,60 @@ public class ReferenceVectorGuidedPopulationTest {
 		Assert.assertArrayEquals(new double[] { 1.0, 0.0 }, population.weights.get(2), Settings.EPS);
 		Assert.assertTrue(population.weights.get(1)[0] <= population.weights.get(1)[1]);
 	}
+	
+	/**
+	 * Tests if the smallest angles between the reference vectors are updated
+	 * when the vectors are adapted and restored from a saved state.
+	 */
+	@Test
+	public void testSmallestAngleBetweenWeights() {
+		ReferenceVectorGuidedPopulation population =
+				new ReferenceVectorGuidedPopulation(2, 4, 2.0);
+		
+		assertSmallestAngles(population);
+		
+		population.add(TestUtils.newSolution(0.0, 4.0));
+		population.add(TestUtils.newSolution(1.0, 0.0));
+		population.adapt();
+		assertSmallestAngles(population);
+		
+		ReferenceVectorGuidedPopulation copy =
+				new ReferenceVectorGuidedPopulation(2, 4, 2.0);
+		copy.setState(population.getState());
+		assertSmallestAngles(copy);
+		
+		// the restored reference vectors are also used for association
+		copy.calculateIdealPoint();
+		copy.translateByIdealPoint();
+		Assert.assertEquals(
+				population.associateToReferencePoint(population).size(),
+				copy.associateToReferencePoint(copy).size());
+	}
+	
+	/**
+	 * Asserts that the smallest angles between the reference vectors match
+	 * the angles computed directly from the vectors.
+	 * 
+	 * @param population the population
+	 */
+	private void assertSmallestAngles(
+			ReferenceVectorGuidedPopulation population) {
+		List<double[]> weights = population.weights;
+		
+		for (int i = 0; i < weights.size(); i++) {
+			double expected = Double.POSITIVE_INFINITY;
+			
+			for (int j = 0; j < weights.size(); j++) {
+				if (i != j) {
+					expected = Math.min(expected,
+							ReferenceVectorGuidedPopulation.acosine(
+									weights.get(i), weights.get(j)));
+				}
+			}
+			
+			Assert.assertEquals(expected,
+					population.smallestAngleBetweenWeights(i), 1e-7);
+		}
+	}
 
 }
@@ -131,6 +131,31 @@ public class SPEA2Test extends AlgorithmTest {
 		Assert.assertFalse(result.contains(solution3));
 	}
 	
+	@Test
+	public void testMutableDistanceMap() {
+		// points at 0, 1, 2 and 4 on a line
+		double[] points = new double[] { 0.0, 1.0, 2.0, 4.0 };
+		double[][] distances = new double[points.length][points.length];
+		
+		for (int i = 0; i < points.length; i++) {
+			for (int j = 0; j < points.length; j++) {
+				distances[i][j] = Math.abs(points[i] - points[j]);
+			}
+		}
+		
+		SPEA2.MutableDistanceMap map = new SPEA2.MutableDistanceMap(distances);
+		
+		// the points at 1 and 2 tie on their nearest neighbor
+		Assert.assertEquals(1, map.findMostCrowdedPoint());
+		map.removePoint(1);
+		
+		Assert.assertEquals(1, map.findMostCrowdedPoint());
+		map.removePoint(1);
+		
+		// the remaining points are equally crowded
+		Assert.assertEquals(0, map.findMostCrowdedPoint());
+	}
+	
 	@Test
 	public void testFitnessNondominated() {
 		SPEA2 spea2 = new SPEA2(new MockRealProblem(), null, null, 0, 1);
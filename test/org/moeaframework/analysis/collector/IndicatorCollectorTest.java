@@ -17,9 +17,16 @@
  */
 package org.moeaframework.analysis.collector;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 import org.moeaframework.core.Indicator;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.indicator.FusedIndicatorEvaluator;
+import org.moeaframework.core.indicator.GenerationalDistance;
+import org.moeaframework.core.indicator.InvertedGenerationalDistance;
+import org.moeaframework.core.spi.ProblemFactory;
 
 /**
  * Tests the {@link IndicatorCollector} class.
@@ -64,5 +71,20 @@ public class IndicatorCollectorTest extends CollectorTest {
 	public void testRandom() {
 		test("Random", new IndicatorCollector(new MockIndicator()), true);
 	}
+	
+	@Test
+	public void testFused() {
+		List<Class<? extends Indicator>> indicators =
+				new ArrayList<Class<? extends Indicator>>();
+		indicators.add(GenerationalDistance.class);
+		indicators.add(InvertedGenerationalDistance.class);
+		
+		FusedIndicatorEvaluator evaluator = new FusedIndicatorEvaluator(
+				ProblemFactory.getInstance().getProblem("DTLZ2_2"),
+				ProblemFactory.getInstance().getReferenceSet("DTLZ2_2"));
+		
+		test("NSGAII", new IndicatorCollector(evaluator, indicators, null),
+				true);
+	}
 
 }
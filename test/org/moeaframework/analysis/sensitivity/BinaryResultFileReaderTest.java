@@ -0,0 +1,206 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.sensitivity;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.TestUtils;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tests the {@link BinaryResultFileReader} class.
+ */
+public class BinaryResultFileReaderTest {
+
+	/**
+	 * Tests if entries can be read in any order.
+	 *
+	 * @throws IOException should not occur
+	 */
+	@Test
+	public void testRandomAccess() throws IOException {
+		File file = createFile(new ProblemStub(2), 10);
+		BinaryResultFileReader reader = null;
+
+		try {
+			reader = new BinaryResultFileReader(new ProblemStub(2), file);
+			Assert.assertEquals(10, reader.getNumberOfEntries());
+
+			for (int i = 9; i >= 0; i--) {
+				assertEntry(i, reader.get(i));
+			}
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Tests if the complete entries are read when the index at the end of the
+	 * file is missing.
+	 *
+	 * @throws IOException should not occur
+	 */
+	@Test
+	public void testMissingIndex() throws IOException {
+		File file = createFile(new ProblemStub(2), 10);
+		BinaryResultFileReader reader = null;
+
+		// the index stores 10 positions, so this removes the index and
+		// trailer plus part of the last entry
+		truncate(file, 8 + 8 * 10 + 12 + 1);
+
+		try {
+			reader = new BinaryResultFileReader(new ProblemStub(2), file);
+			Assert.assertEquals(9, reader.getNumberOfEntries());
+
+			int count = 0;
+
+			while (reader.hasNext()) {
+				assertEntry(count++, reader.next());
+			}
+
+			Assert.assertEquals(9, count);
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Tests if an exception is thrown when the number of objectives differs
+	 * from the problem.
+	 *
+	 * @throws IOException should not occur
+	 */
+	@Test(expected = FrameworkException.class)
+	public void testInvalidNumberOfObjectives() throws IOException {
+		File file = createFile(new ProblemStub(2), 1);
+		new BinaryResultFileReader(new ProblemStub(3), file);
+	}
+
+	/**
+	 * Tests if an exception is thrown when reading a text result file.
+	 *
+	 * @throws IOException should not occur
+	 */
+	@Test(expected = FrameworkException.class)
+	public void testTextFile() throws IOException {
+		File file = TestUtils.createTempFile(ResultFileReaderTest.COMPLETE);
+		new BinaryResultFileReader(new ProblemStub(2), file);
+	}
+
+	/**
+	 * Tests if binary result files are detected.
+	 *
+	 * @throws IOException should not occur
+	 */
+	@Test
+	public void testIsBinaryResultFile() throws IOException {
+		Assert.assertTrue(BinaryResultFileReader.isBinaryResultFile(
+				createFile(new ProblemStub(2), 1)));
+		Assert.assertFalse(BinaryResultFileReader.isBinaryResultFile(
+				TestUtils.createTempFile(ResultFileReaderTest.COMPLETE)));
+		Assert.assertFalse(BinaryResultFileReader.isBinaryResultFile(
+				TestUtils.createTempFile()));
+	}
+
+	/**
+	 * Creates a binary result file where entry {@code i} contains a single
+	 * solution with objectives {@code (i, -i)} and the property {@code i}.
+	 *
+	 * @param problem the problem
+	 * @param numberOfEntries the number of entries
+	 * @return the binary result file
+	 * @throws IOException if an I/O error occurred
+	 */
+	private File createFile(Problem problem, int numberOfEntries)
+			throws IOException {
+		File file = TestUtils.createTempFile();
+		BinaryResultFileWriter writer = null;
+
+		try {
+			writer = new BinaryResultFileWriter(problem, file);
+
+			for (int i = 0; i < numberOfEntries; i++) {
+				NondominatedPopulation population = new NondominatedPopulation();
+				Solution solution = problem.newSolution();
+				solution.setObjectives(new double[] { i, -i });
+				population.add(solution);
+
+				Properties properties = new Properties();
+				properties.setProperty("i", Integer.toString(i));
+
+				writer.append(new ResultEntry(population, properties));
+			}
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+
+		return file;
+	}
+
+	/**
+	 * Asserts that the entry matches the entry created by
+	 * {@link #createFile(Problem, int)}.
+	 *
+	 * @param i the index of the entry
+	 * @param entry the entry
+	 */
+	private void assertEntry(int i, ResultEntry entry) {
+		Assert.assertEquals(1, entry.getPopulation().size());
+		Assert.assertArrayEquals(new double[] { i, -i },
+				entry.getPopulation().get(0).getObjectives(), Settings.EPS);
+		Assert.assertEquals(Integer.toString(i),
+				entry.getProperties().getProperty("i"));
+	}
+
+	/**
+	 * Removes the specified number of bytes from the end of a file.
+	 *
+	 * @param file the file
+	 * @param length the number of bytes removed
+	 * @throws IOException if an I/O error occurred
+	 */
+	static void truncate(File file, long length) throws IOException {
+		RandomAccessFile raf = null;
+
+		try {
+			raf = new RandomAccessFile(file, "rw");
+			raf.setLength(raf.length() - length);
+		} finally {
+			if (raf != null) {
+				raf.close();
+			}
+		}
+	}
+
+}
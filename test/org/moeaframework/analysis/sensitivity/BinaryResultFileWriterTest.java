@@ -0,0 +1,349 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.analysis.sensitivity;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.TestUtils;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Grammar;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.problem.AbstractProblem;
+
+/**
+ * Tests the {@link BinaryResultFileWriter} class.
+ */
+public class BinaryResultFileWriterTest {
+
+	/**
+	 * The problem used for testing.
+	 */
+	private Problem problem;
+
+	/**
+	 * A feasible solution.
+	 */
+	private Solution solution1;
+
+	/**
+	 * Another feasible solution.
+	 */
+	private Solution solution2;
+
+	/**
+	 * A solution violating its constraints.
+	 */
+	private Solution solution3;
+
+	/**
+	 * Creates the problem used for testing.
+	 */
+	@Before
+	public void setUp() {
+		problem = new AbstractProblem(4, 2, 1) {
+
+			@Override
+			public void evaluate(Solution solution) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public Solution newSolution() {
+				Solution solution = new Solution(4, 2, 1);
+				solution.setVariable(0, new RealVariable(0.0, 1.0));
+				solution.setVariable(1, new BinaryVariable(70));
+				solution.setVariable(2, new Permutation(3));
+				solution.setVariable(3, new Grammar(4));
+				return solution;
+			}
+
+		};
+
+		solution1 = problem.newSolution();
+		((RealVariable)solution1.getVariable(0)).setValue(0.0);
+		((BinaryVariable)solution1.getVariable(1)).set(2, true);
+		((BinaryVariable)solution1.getVariable(1)).set(68, true);
+		((Permutation)solution1.getVariable(2)).swap(0, 2);
+		((Grammar)solution1.getVariable(3)).set(1, 3);
+		solution1.setObjectives(new double[] { 0.0, 1.0 });
+
+		solution2 = problem.newSolution();
+		((RealVariable)solution2.getVariable(0)).setValue(1.0);
+		((BinaryVariable)solution2.getVariable(1)).set(1, true);
+		((Permutation)solution2.getVariable(2)).swap(0, 1);
+		((Grammar)solution2.getVariable(3)).set(3, 7);
+		solution2.setObjectives(new double[] { 1.0, 0.0 });
+
+		solution3 = problem.newSolution();
+		((RealVariable)solution3.getVariable(0)).setValue(0.5);
+		((BinaryVariable)solution3.getVariable(1)).set(1, true);
+		((Permutation)solution3.getVariable(2)).swap(1, 2);
+		solution3.setObjectives(new double[] { 0.5, 0.5 });
+		solution3.setConstraints(new double[] { -1.0 });
+	}
+
+	/**
+	 * Removes references to shared objects so they can be garbage collected.
+	 */
+	@After
+	public void tearDown() {
+		problem = null;
+		solution1 = null;
+		solution2 = null;
+		solution3 = null;
+	}
+
+	/**
+	 * Tests if the decision variables, objectives and properties are written
+	 * and read back exactly, and that infeasible solutions are excluded.
+	 *
+	 * @throws IOException should not occur
+	 */
+	@Test
+	public void testRoundTrip() throws IOException {
+		File file = TestUtils.createTempFile();
+
+		BinaryResultFileWriter writer = null;
+		BinaryResultFileReader reader = null;
+
+		NondominatedPopulation population = new NondominatedPopulation();
+		population.add(solution1);
+		population.add(solution2);
+		population.add(solution3);
+
+		Properties properties = new Properties();
+		properties.setProperty("foo", "bar");
+		properties.setProperty("\"'!@#$=:%^&*()\\\r\n//\t ", "\"'!@#$=:%^&*()\\\r\n//\t ");
+
+		try {
+			writer = new BinaryResultFileWriter(problem, file);
+			writer.append(new ResultEntry(population, properties));
+			writer.append(new ResultEntry(new NondominatedPopulation(),
+					(Properties)null));
+			Assert.assertEquals(2, writer.getNumberOfEntries());
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+
+		population.remove(solution3);
+
+		try {
+			reader = new BinaryResultFileReader(problem, file);
+
+			Assert.assertEquals(2, reader.getNumberOfEntries());
+
+			ResultEntry entry = reader.next();
+			TestUtils.assertEquals(population, entry.getPopulation());
+			Assert.assertEquals(properties, entry.getProperties());
+
+			entry = reader.next();
+			Assert.assertEquals(0, entry.getPopulation().size());
+			Assert.assertTrue(entry.getProperties().isEmpty());
+
+			Assert.assertFalse(reader.hasNext());
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Tests if only the objectives are written when the decision variables
+	 * are excluded.
+	 *
+	 * @throws IOException should not occur
+	 */
+	@Test
+	public void testNoVariables() throws IOException {
+		File file = TestUtils.createTempFile();
+
+		BinaryResultFileWriter writer = null;
+		BinaryResultFileReader reader = null;
+
+		NondominatedPopulation population = new NondominatedPopulation();
+		population.add(solution1);
+		population.add(solution2);
+
+		try {
+			writer = new BinaryResultFileWriter(problem, file, false);
+			writer.append(new ResultEntry(population, (Properties)null));
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+
+		try {
+			reader = new BinaryResultFileReader(problem, file);
+			ResultEntry entry = reader.next();
+
+			Assert.assertEquals(2, entry.getPopulation().size());
+
+			for (Solution solution : entry.getPopulation()) {
+				Assert.assertEquals(0, solution.getNumberOfVariables());
+			}
+
+			Assert.assertArrayEquals(solution1.getObjectives(),
+					entry.getPopulation().get(0).getObjectives(), Settings.EPS);
+			Assert.assertArrayEquals(solution2.getObjectives(),
+					entry.getPopulation().get(1).getObjectives(), Settings.EPS);
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Tests if the writer resumes appending to an existing file.
+	 *
+	 * @throws IOException should not occur
+	 */
+	@Test
+	public void testResume() throws IOException {
+		File file = TestUtils.createTempFile();
+
+		BinaryResultFileWriter writer = null;
+		BinaryResultFileReader reader = null;
+
+		NondominatedPopulation population = new NondominatedPopulation();
+		population.add(solution1);
+		population.add(solution2);
+
+		try {
+			writer = new BinaryResultFileWriter(problem, file);
+			writer.append(new ResultEntry(population, (Properties)null));
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+
+		try {
+			writer = new BinaryResultFileWriter(problem, file);
+			Assert.assertEquals(1, writer.getNumberOfEntries());
+			writer.append(new ResultEntry(population, (Properties)null));
+			Assert.assertEquals(2, writer.getNumberOfEntries());
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+
+		try {
+			reader = new BinaryResultFileReader(problem, file);
+			Assert.assertEquals(2, reader.getNumberOfEntries());
+
+			for (ResultEntry entry : reader) {
+				TestUtils.assertEquals(population, entry.getPopulation());
+			}
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Tests if the writer resumes after the last complete entry when the file
+	 * was not closed properly.
+	 *
+	 * @throws IOException should not occur
+	 */
+	@Test
+	public void testResumeTruncated() throws IOException {
+		File file = TestUtils.createTempFile();
+
+		BinaryResultFileWriter writer = null;
+		BinaryResultFileReader reader = null;
+
+		NondominatedPopulation population = new NondominatedPopulation();
+		population.add(solution1);
+
+		try {
+			writer = new BinaryResultFileWriter(problem, file);
+			writer.append(new ResultEntry(population, (Properties)null));
+			writer.append(new ResultEntry(population, (Properties)null));
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+
+		// remove the index and part of the last entry
+		BinaryResultFileReaderTest.truncate(file, 41);
+
+		try {
+			writer = new BinaryResultFileWriter(problem, file);
+			Assert.assertEquals(1, writer.getNumberOfEntries());
+			writer.append(new ResultEntry(population, (Properties)null));
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+
+		try {
+			reader = new BinaryResultFileReader(problem, file);
+			Assert.assertEquals(2, reader.getNumberOfEntries());
+			TestUtils.assertEquals(population, reader.get(1).getPopulation());
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Tests if an exception is thrown when resuming a file written for a
+	 * different problem.
+	 *
+	 * @throws IOException should not occur
+	 */
+	@Test(expected = FrameworkException.class)
+	public void testResumeDifferentProblem() throws IOException {
+		File file = TestUtils.createTempFile();
+		BinaryResultFileWriter writer = null;
+
+		try {
+			writer = new BinaryResultFileWriter(problem, file);
+		} finally {
+			if (writer != null) {
+				writer.close();
+			}
+		}
+
+		new BinaryResultFileWriter(new ProblemStub(3), file);
+	}
+
+}
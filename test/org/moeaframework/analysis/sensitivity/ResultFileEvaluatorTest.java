@@ -73,6 +73,43 @@ public class ResultFileEvaluatorTest {
 		}
 	}
 	
+	@Test
+	public void testBinary() throws Exception {
+		File input = TestUtils.createTempFile(COMPLETE);
+		File binary = TestUtils.createTempFile();
+
+		ResultFileConverter.main(new String[] {
+			"--problem", "DTLZ2_2",
+			"--input", input.getAbsolutePath(),
+			"--output", binary.getAbsolutePath()});
+
+		Assert.assertTrue(BinaryResultFileReader.isBinaryResultFile(binary));
+
+		File output = TestUtils.createTempFile();
+
+		ResultFileEvaluator.main(new String[] {
+			"--problem", "DTLZ2_2",
+			"--reference", "pf/DTLZ2.2D.pf",
+			"--input", binary.getAbsolutePath(),
+			"--output", output.getAbsolutePath()});
+
+		MetricFileReader reader = null;
+
+		try {
+			reader = new MetricFileReader(output);
+
+			Assert.assertTrue(reader.hasNext());
+			Assert.assertNotNull(reader.next());
+			Assert.assertTrue(reader.hasNext());
+			Assert.assertNotNull(reader.next());
+			Assert.assertFalse(reader.hasNext());
+		} finally {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+
 	@Test
 	public void testEmpty() throws Exception {
 		File input = TestUtils.createTempFile(EMPTY);
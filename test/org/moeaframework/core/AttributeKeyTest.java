@@ -0,0 +1,196 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link AttributeKey} class and the typed attribute methods of
+ * {@link Solution}.
+ */
+public class AttributeKeyTest {
+
+	/**
+	 * Keys registered for these tests.
+	 */
+	private static final AttributeKey INT_KEY = AttributeKey.register(
+			"AttributeKeyTest.int", AttributeKey.Type.INT);
+
+	private static final AttributeKey DOUBLE_KEY = AttributeKey.register(
+			"AttributeKeyTest.double", AttributeKey.Type.DOUBLE);
+
+	private static final AttributeKey OBJECT_KEY = AttributeKey.register(
+			"AttributeKeyTest.object", AttributeKey.Type.OBJECT);
+
+	/**
+	 * Tests if registering a name twice returns the same key.
+	 */
+	@Test
+	public void testRegister() {
+		Assert.assertSame(INT_KEY, AttributeKey.register(
+				"AttributeKeyTest.int", AttributeKey.Type.INT));
+		Assert.assertSame(INT_KEY, AttributeKey.forName("AttributeKeyTest.int"));
+		Assert.assertNull(AttributeKey.forName("AttributeKeyTest.missing"));
+		Assert.assertSame(NondominatedSorting.RANK_KEY,
+				AttributeKey.forName(NondominatedSorting.RANK_ATTRIBUTE));
+	}
+
+	/**
+	 * Tests if registering a name with a different type fails.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testRegisterWithDifferentType() {
+		AttributeKey.register("AttributeKeyTest.int", AttributeKey.Type.DOUBLE);
+	}
+
+	/**
+	 * Tests reading, writing and removing typed attributes.
+	 */
+	@Test
+	public void testTypedAttributes() {
+		Solution solution = new Solution(0, 0);
+
+		Assert.assertFalse(solution.hasAttribute(INT_KEY));
+
+		solution.setIntAttribute(INT_KEY, 5);
+		solution.setDoubleAttribute(DOUBLE_KEY, 0.5);
+		solution.setAttribute(OBJECT_KEY, new double[] { 1.0 });
+
+		Assert.assertTrue(solution.hasAttribute(INT_KEY));
+		Assert.assertEquals(5, solution.getIntAttribute(INT_KEY));
+		Assert.assertEquals(0.5, solution.getDoubleAttribute(DOUBLE_KEY),
+				Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 1.0 },
+				(double[])solution.getAttribute(OBJECT_KEY), Settings.EPS);
+
+		Assert.assertEquals(5, solution.removeAttribute(INT_KEY));
+		Assert.assertFalse(solution.hasAttribute(INT_KEY));
+		Assert.assertNull(solution.getAttribute(INT_KEY));
+	}
+
+	/**
+	 * Tests if typed attributes are interchangeable with the string-based
+	 * attribute methods.
+	 */
+	@Test
+	public void testStringCompatibility() {
+		Solution solution = new Solution(0, 0);
+
+		// typed values are visible by name
+		solution.setIntAttribute(INT_KEY, 5);
+		Assert.assertTrue(solution.hasAttribute("AttributeKeyTest.int"));
+		Assert.assertEquals(5, solution.getAttribute("AttributeKeyTest.int"));
+
+		// values set by name are visible through the typed key
+		solution.setAttribute("AttributeKeyTest.double", 0.5);
+		Assert.assertEquals(0.5, solution.getDoubleAttribute(DOUBLE_KEY),
+				Settings.EPS);
+
+		// values of the wrong type are kept in the map
+		solution.setAttribute("AttributeKeyTest.int", "foo");
+		Assert.assertEquals("foo", solution.getAttribute(INT_KEY));
+		Assert.assertEquals("foo", solution.getAttributes().get(
+				"AttributeKeyTest.int"));
+
+		solution.setIntAttribute(INT_KEY, 6);
+		Assert.assertEquals(6, solution.getAttribute("AttributeKeyTest.int"));
+
+		solution.removeAttribute("AttributeKeyTest.int");
+		Assert.assertFalse(solution.hasAttribute(INT_KEY));
+	}
+
+	/**
+	 * Tests if {@link Solution#getAttributes()} includes typed attributes.
+	 */
+	@Test
+	public void testGetAttributes() {
+		Solution solution = new Solution(0, 0);
+		solution.setIntAttribute(INT_KEY, 5);
+		solution.setAttribute("foo", "bar");
+
+		Map<String, ?> attributes = solution.getAttributes();
+
+		Assert.assertEquals(2, attributes.size());
+		Assert.assertEquals(5, attributes.get("AttributeKeyTest.int"));
+
+		// the map is live after the typed values are moved into it
+		attributes.remove("AttributeKeyTest.int");
+		Assert.assertFalse(solution.hasAttribute(INT_KEY));
+
+		solution.setIntAttribute(INT_KEY, 6);
+		solution.clearAttributes();
+		Assert.assertFalse(solution.hasAttribute(INT_KEY));
+		Assert.assertFalse(solution.hasAttribute("foo"));
+	}
+
+	/**
+	 * Tests if typed attributes are copied independently.
+	 */
+	@Test
+	public void testCopy() {
+		Solution solution = new Solution(0, 0);
+		solution.setIntAttribute(INT_KEY, 5);
+		solution.setDoubleAttribute(DOUBLE_KEY, 0.5);
+
+		Solution copy = solution.deepCopy();
+		copy.setIntAttribute(INT_KEY, 6);
+
+		Assert.assertEquals(5, solution.getIntAttribute(INT_KEY));
+		Assert.assertEquals(6, copy.getIntAttribute(INT_KEY));
+		Assert.assertEquals(0.5, copy.getDoubleAttribute(DOUBLE_KEY),
+				Settings.EPS);
+	}
+
+	/**
+	 * Tests if typed attributes are serialized.
+	 */
+	@Test
+	public void testSerialization() {
+		Solution solution = new Solution(0, 0);
+		solution.setIntAttribute(INT_KEY, 5);
+		solution.setDoubleAttribute(DOUBLE_KEY, 0.5);
+
+		Solution copy = SerializationUtils.clone(solution);
+
+		Assert.assertEquals(5, copy.getIntAttribute(INT_KEY));
+		Assert.assertEquals(0.5, copy.getDoubleAttribute(DOUBLE_KEY),
+				Settings.EPS);
+		Assert.assertEquals(5, copy.getAttribute("AttributeKeyTest.int"));
+	}
+
+	/**
+	 * Tests if reading a missing primitive attribute fails.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testMissingAttribute() {
+		new Solution(0, 0).getIntAttribute(INT_KEY);
+	}
+
+	/**
+	 * Tests if reading a typed attribute as the wrong type fails.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testWrongType() {
+		new Solution(0, 0).getDoubleAttribute(INT_KEY);
+	}
+
+}
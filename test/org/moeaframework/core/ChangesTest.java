@@ -0,0 +1,200 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.RealVariable;
+
+/**
+ * Tests the {@link Changes} class.
+ */
+public class ChangesTest {
+
+	/**
+	 * The evaluated parent.
+	 */
+	private Solution parent;
+
+	/**
+	 * Creates the evaluated parent.
+	 */
+	@Before
+	public void setUp() {
+		parent = new Solution(2, 1);
+		parent.setVariable(0, new BinaryVariable(100));
+		parent.setVariable(1, new RealVariable(0.5, 0.0, 1.0));
+		Changes.markEvaluated(parent);
+	}
+
+	/**
+	 * Tests recording positions, including duplicates.
+	 */
+	@Test
+	public void testTrack() {
+		Solution offspring = parent.copy();
+		Changes changes = Changes.track(offspring, parent);
+
+		Assert.assertSame(changes, Changes.getChanges(offspring));
+		Assert.assertSame(parent, changes.getParent());
+		Assert.assertEquals(2, changes.getNumberOfVariables());
+		Assert.assertFalse(changes.isChanged(0));
+		Assert.assertArrayEquals(new int[0], changes.getPositions(0));
+
+		changes.add(0, 5);
+		changes.add(0, 2);
+		changes.add(0, 5);
+
+		Assert.assertTrue(changes.isChanged(0));
+		Assert.assertArrayEquals(new int[] { 2, 5 }, changes.getPositions(0));
+		Assert.assertFalse(changes.isChanged(1));
+
+		changes.addAll(1);
+		changes.add(1, 3);
+
+		Assert.assertTrue(changes.isChanged(1));
+		Assert.assertNull(changes.getPositions(1));
+	}
+
+	/**
+	 * Tests if positions are sorted and duplicates removed when many positions
+	 * are recorded.
+	 */
+	@Test
+	public void testManyPositions() {
+		Changes changes = Changes.track(parent.copy(), parent);
+
+		for (int i = 0; i < 10; i++) {
+			for (int j = 99; j >= 0; j--) {
+				changes.add(0, j);
+			}
+		}
+
+		int[] positions = changes.getPositions(0);
+
+		Assert.assertEquals(100, positions.length);
+
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(i, positions[i]);
+		}
+	}
+
+	/**
+	 * Tests if tracking an offspring of an unevaluated offspring extends its
+	 * record without modifying it.
+	 */
+	@Test
+	public void testChaining() {
+		Solution offspring = parent.copy();
+		Changes changes = Changes.track(offspring, parent);
+		changes.add(0, 5);
+
+		Solution child = offspring.copy();
+		Changes childChanges = Changes.track(child, offspring);
+		childChanges.add(0, 7);
+
+		Assert.assertSame(parent, childChanges.getParent());
+		Assert.assertArrayEquals(new int[] { 5, 7 },
+				childChanges.getPositions(0));
+		Assert.assertArrayEquals(new int[] { 5 }, changes.getPositions(0));
+	}
+
+	/**
+	 * Tests if modifying a variable obtained through
+	 * {@link Changes#getVariable(Solution, int)} keeps the record.
+	 */
+	@Test
+	public void testGetVariable() {
+		Solution offspring = parent.copy();
+		Changes changes = Changes.track(offspring, parent);
+
+		((BinaryVariable)Changes.getVariable(offspring, 0)).flip(3);
+		changes.add(0, 3);
+
+		Assert.assertSame(changes, Changes.getChanges(offspring));
+		Assert.assertFalse(offspring.isEvaluated());
+		Assert.assertArrayEquals(new int[] { 3 }, changes.getPositions(0));
+		Assert.assertFalse(((BinaryVariable)parent.getVariableReadOnly(0))
+				.get(3));
+	}
+
+	/**
+	 * Tests if an unevaluated parent modified in place after its changes
+	 * were recorded does not pass the stale record to its offspring.
+	 */
+	@Test
+	public void testModifiedOffspringAsParent() {
+		Solution offspring = parent.copy();
+		Changes.track(offspring, parent).add(0, 7);
+		((BinaryVariable)Changes.getVariable(offspring, 0)).flip(7);
+
+		// an unrecorded in-place edit
+		((BinaryVariable)offspring.getVariable(0)).flip(11);
+
+		Solution child = offspring.copy();
+		Changes.track(child, offspring);
+		Assert.assertNull(Changes.getChanges(child));
+	}
+
+	/**
+	 * Tests if no changes are recorded for offspring of parents that were
+	 * not evaluated or were modified since being evaluated.
+	 */
+	@Test
+	public void testUnevaluatedParent() {
+		Solution solution = parent.copy();
+		solution.getVariable(0);
+
+		Solution offspring = solution.copy();
+		Assert.assertNotNull(Changes.track(offspring, solution));
+		Assert.assertNull(Changes.getChanges(offspring));
+
+		offspring = new Solution(2, 1);
+		Changes.track(offspring, new Solution(2, 1));
+		Assert.assertNull(Changes.getChanges(offspring));
+	}
+
+	/**
+	 * Tests if records are discarded when copying, serializing, replacing a
+	 * variable or evaluating a solution.
+	 */
+	@Test
+	public void testDiscard() {
+		Solution offspring = parent.copy();
+		Changes.track(offspring, parent);
+
+		Assert.assertNull(Changes.getChanges(offspring.copy()));
+		Assert.assertNull(Changes.getChanges(
+				SerializationUtils.clone(offspring)));
+
+		offspring.setVariable(1, new RealVariable(0.25, 0.0, 1.0));
+		Assert.assertNull(Changes.getChanges(offspring));
+
+		Changes.track(offspring, parent);
+		((BinaryVariable)offspring.getVariable(0)).flip(3);
+		Assert.assertNull(Changes.getChanges(offspring));
+
+		Changes.track(offspring, parent);
+		Changes.markEvaluated(offspring);
+		Assert.assertNull(Changes.getChanges(offspring));
+	}
+
+}
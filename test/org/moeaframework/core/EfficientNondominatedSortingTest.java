@@ -0,0 +1,116 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
+
+/**
+ * Tests the {@link EfficientNondominatedSorting} class.
+ */
+public class EfficientNondominatedSortingTest extends NondominatedSortingTest {
+
+	/**
+	 * Prepare an empty population and a sorting object using a dummy problem.
+	 */
+	@Before
+	@Override
+	public void setUp() {
+		population = new Population();
+		sorting = new EfficientNondominatedSorting();
+	}
+
+	/**
+	 * Tests if the ranks and crowding distances are identical to the naive
+	 * implementation on random populations with few objectives.
+	 */
+	@Test
+	public void testRandomPopulationsTwoObjectives() {
+		for (int i = 0; i < 100; i++) {
+			testAgainstNaive(createRandomPopulation(100, 2, 0, false),
+					new EfficientNondominatedSorting(),
+					new NondominatedSorting());
+		}
+	}
+
+	/**
+	 * Tests if the ranks and crowding distances are identical to the naive
+	 * implementation on random populations with many objectives.
+	 */
+	@Test
+	public void testRandomPopulationsManyObjectives() {
+		for (int i = 0; i < 20; i++) {
+			testAgainstNaive(createRandomPopulation(100, 10, 0, false),
+					new EfficientNondominatedSorting(),
+					new NondominatedSorting());
+		}
+	}
+
+	/**
+	 * Tests if the ranks and crowding distances are identical to the naive
+	 * implementation when the objectives contain many ties and duplicates.
+	 */
+	@Test
+	public void testRandomPopulationsWithDuplicates() {
+		for (int i = 0; i < 100; i++) {
+			testAgainstNaive(createRandomPopulation(100, 3, 0, true),
+					new EfficientNondominatedSorting(),
+					new NondominatedSorting());
+		}
+	}
+
+	/**
+	 * Tests if the ranks and crowding distances are identical to the naive
+	 * implementation when solutions violate constraints.
+	 */
+	@Test
+	public void testRandomPopulationsWithConstraints() {
+		for (int i = 0; i < 100; i++) {
+			testAgainstNaive(createRandomPopulation(100, 3, 2, true),
+					new EfficientNondominatedSorting(),
+					new NondominatedSorting());
+		}
+	}
+
+	/**
+	 * Tests if constraints are ignored when using the objective-only
+	 * comparator.
+	 */
+	@Test
+	public void testRandomPopulationsIgnoringConstraints() {
+		for (int i = 0; i < 100; i++) {
+			testAgainstNaive(createRandomPopulation(100, 3, 2, true),
+					new EfficientNondominatedSorting(
+							new ParetoObjectiveComparator()),
+					new NondominatedSorting(
+							new ParetoObjectiveComparator()));
+		}
+	}
+
+	/**
+	 * Tests if an empty population is handled.
+	 */
+	@Test
+	public void testEmptyPopulation() {
+		sorting.evaluate(population);
+		Assert.assertTrue(population.isEmpty());
+	}
+
+}
@@ -18,6 +18,8 @@
 package org.moeaframework.core;
 
 import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
 
 /**
  * Tests the {@link FastNondominatedSorting} class.
@@ -33,4 +35,35 @@ public class FastNondominatedSortingTest extends NondominatedSortingTest {
 		sorting = new FastNondominatedSorting();
 	}
 
+	/**
+	 * Tests if the ranks and crowding distances computed from the packed
+	 * population are identical to the naive implementation when solutions
+	 * violate constraints.  Continuous objectives are used since, when
+	 * objectives are tied, the crowding distances depend on the order in which
+	 * the fronts are discovered.
+	 */
+	@Test
+	public void testRandomPopulationsWithConstraints() {
+		for (int i = 0; i < 100; i++) {
+			testAgainstNaive(createRandomPopulation(100, 3, 2, false),
+					new FastNondominatedSorting(),
+					new NondominatedSorting());
+		}
+	}
+
+	/**
+	 * Tests if constraints are ignored when using the objective-only
+	 * comparator.
+	 */
+	@Test
+	public void testRandomPopulationsIgnoringConstraints() {
+		for (int i = 0; i < 100; i++) {
+			testAgainstNaive(createRandomPopulation(100, 3, 2, false),
+					new FastNondominatedSorting(
+							new ParetoObjectiveComparator()),
+					new NondominatedSorting(
+							new ParetoObjectiveComparator()));
+		}
+	}
+
 }
@@ -0,0 +1,246 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
+import org.moeaframework.core.comparator.ObjectiveComparator;
+
+/**
+ * Tests the {@link HashedEpsilonBoxDominanceArchive} class.
+ */
+public class HashedEpsilonBoxDominanceArchiveTest {
+
+	/**
+	 * Tests if the improvement counts discount discarded solutions.
+	 */
+	@Test
+	public void testDiscarded() {
+		EpsilonBoxDominanceArchive archive =
+				new HashedEpsilonBoxDominanceArchive(0.5);
+
+		Solution solution1 = new Solution(new double[] { 0.0, 0.0 });
+		Solution solution2 = new Solution(new double[] { 1.0, 1.0 });
+		Solution solution3 = new Solution(new double[] { 1.0, 0.0 });
+
+		Assert.assertTrue(archive.add(solution1));
+		Assert.assertFalse(archive.add(solution2));
+		Assert.assertFalse(archive.add(solution3));
+		Assert.assertEquals(1, archive.size());
+		Assert.assertEquals(0, archive.getNumberOfDominatingImprovements());
+		Assert.assertEquals(1, archive.getNumberOfImprovements());
+		Assert.assertSame(solution1, archive.get(0));
+	}
+
+	/**
+	 * Tests if a solution in the same &epsilon;-box replaces the existing
+	 * solution only when it is nearer the corner of the box, and that the
+	 * replacement is not counted as an improvement.
+	 */
+	@Test
+	public void testSameBox() {
+		EpsilonBoxDominanceArchive archive =
+				new HashedEpsilonBoxDominanceArchive(0.5);
+
+		Solution solution1 = new Solution(new double[] { 0.3, 0.3 });
+		Solution solution2 = new Solution(new double[] { 0.4, 0.4 });
+		Solution solution3 = new Solution(new double[] { 0.1, 0.2 });
+
+		Assert.assertTrue(archive.add(solution1));
+		Assert.assertFalse(archive.add(solution2));
+		Assert.assertTrue(archive.add(solution3));
+		Assert.assertEquals(1, archive.size());
+		Assert.assertSame(solution3, archive.get(0));
+		Assert.assertEquals(1, archive.getNumberOfImprovements());
+		Assert.assertEquals(0, archive.getNumberOfDominatingImprovements());
+	}
+
+	/**
+	 * Tests if the contents and improvement counts match
+	 * {@link EpsilonBoxDominanceArchive} for two objectives.
+	 */
+	@Test
+	public void testTwoObjectives() {
+		for (int i = 0; i < 20; i++) {
+			testAgainstLinearScan(2, 0, new double[] { 0.01 });
+			testAgainstLinearScan(2, 0, new double[] { 0.1, 0.05 });
+		}
+	}
+
+	/**
+	 * Tests if the contents and improvement counts match
+	 * {@link EpsilonBoxDominanceArchive} for three or more objectives.
+	 */
+	@Test
+	public void testManyObjectives() {
+		for (int i = 0; i < 10; i++) {
+			testAgainstLinearScan(3, 0, new double[] { 0.05 });
+			testAgainstLinearScan(5, 0, new double[] { 0.1 });
+		}
+	}
+
+	/**
+	 * Tests if the contents and improvement counts match
+	 * {@link EpsilonBoxDominanceArchive} when solutions violate constraints.
+	 */
+	@Test
+	public void testConstraints() {
+		for (int i = 0; i < 10; i++) {
+			testAgainstLinearScan(2, 1, new double[] { 0.01 });
+			testAgainstLinearScan(3, 1, new double[] { 0.05 });
+		}
+	}
+
+	/**
+	 * Tests if solutions can be removed through the iterator and by truncation
+	 * while keeping the index consistent.
+	 */
+	@Test
+	public void testRemove() {
+		EpsilonBoxDominanceArchive expected =
+				new EpsilonBoxDominanceArchive(0.05);
+		EpsilonBoxDominanceArchive actual =
+				new HashedEpsilonBoxDominanceArchive(0.05);
+
+		for (int i = 0; i < 1000; i++) {
+			Solution solution = newRandomSolution(3, 0);
+			expected.add(solution);
+			actual.add(solution);
+		}
+
+		Iterator<Solution> iterator = actual.iterator();
+
+		while (iterator.hasNext()) {
+			Solution solution = iterator.next();
+
+			if (PRNG.nextBoolean()) {
+				iterator.remove();
+				expected.remove(solution);
+			}
+		}
+
+		assertSameSolutions(expected, actual);
+
+		expected.truncate(10, new ObjectiveComparator(0));
+		actual.truncate(10, new ObjectiveComparator(0));
+		assertSameSolutions(expected, actual);
+
+		for (int i = 0; i < 1000; i++) {
+			Solution solution = newRandomSolution(3, 0);
+			Assert.assertEquals(expected.add(solution), actual.add(solution));
+		}
+
+		assertSameSolutions(expected, actual);
+	}
+
+	/**
+	 * Tests if subclasses of the &epsilon;-box dominance comparator use the
+	 * linear scan.
+	 */
+	@Test
+	public void testUnsupportedComparator() {
+		EpsilonBoxDominanceComparator comparator =
+				new EpsilonBoxDominanceComparator(0.1) {
+
+					private static final long serialVersionUID =
+							-2281011926582096254L;
+
+		};
+
+		EpsilonBoxDominanceArchive expected =
+				new EpsilonBoxDominanceArchive(comparator);
+		EpsilonBoxDominanceArchive actual =
+				new HashedEpsilonBoxDominanceArchive(comparator);
+
+		for (int i = 0; i < 500; i++) {
+			Solution solution = newRandomSolution(3, 0);
+			Assert.assertEquals(expected.add(solution), actual.add(solution));
+		}
+
+		assertSameSolutions(expected, actual);
+	}
+
+	/**
+	 * Adds the same random sequence of solutions to an
+	 * {@link EpsilonBoxDominanceArchive} and
+	 * {@link HashedEpsilonBoxDominanceArchive} and asserts they contain the
+	 * same solutions and record the same number of improvements.
+	 *
+	 * @param M the number of objectives
+	 * @param C the number of constraints
+	 * @param epsilon the &epsilon; values
+	 */
+	private void testAgainstLinearScan(int M, int C, double[] epsilon) {
+		EpsilonBoxDominanceArchive expected =
+				new EpsilonBoxDominanceArchive(epsilon);
+		EpsilonBoxDominanceArchive actual =
+				new HashedEpsilonBoxDominanceArchive(epsilon);
+
+		for (int i = 0; i < 2000; i++) {
+			Solution solution = newRandomSolution(M, C);
+			Assert.assertEquals(expected.add(solution), actual.add(solution));
+		}
+
+		assertSameSolutions(expected, actual);
+		Assert.assertEquals(expected.getNumberOfImprovements(),
+				actual.getNumberOfImprovements());
+		Assert.assertEquals(expected.getNumberOfDominatingImprovements(),
+				actual.getNumberOfDominatingImprovements());
+	}
+
+	/**
+	 * Returns a solution with random objectives and constraints.
+	 *
+	 * @param M the number of objectives
+	 * @param C the number of constraints
+	 * @return the random solution
+	 */
+	private Solution newRandomSolution(int M, int C) {
+		Solution solution = new Solution(0, M, C);
+
+		for (int j = 0; j < M; j++) {
+			solution.setObjective(j, PRNG.nextDouble());
+		}
+
+		for (int j = 0; j < C; j++) {
+			solution.setConstraint(j, PRNG.nextInt(4) == 0 ? 0.0 :
+				PRNG.nextInt(3) / 10.0);
+		}
+
+		return solution;
+	}
+
+	/**
+	 * Asserts that two populations contain the same solution instances,
+	 * ignoring order.
+	 *
+	 * @param expected the expected population
+	 * @param actual the actual population
+	 */
+	private void assertSameSolutions(Population expected, Population actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+
+		for (Solution solution : expected) {
+			Assert.assertTrue(actual.contains(solution));
+		}
+	}
+
+}
@@ -0,0 +1,157 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import static org.moeaframework.core.NondominatedSorting.CROWDING_ATTRIBUTE;
+import static org.moeaframework.core.NondominatedSorting.RANK_ATTRIBUTE;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link IncrementalNondominatedSorting} class.
+ */
+public class IncrementalNondominatedSortingTest extends NondominatedSortingTest {
+
+	/**
+	 * Prepare an empty population and a sorting object using a dummy problem.
+	 */
+	@Before
+	public void setUp() {
+		population = new Population();
+		sorting = new IncrementalNondominatedSorting();
+	}
+
+	/**
+	 * Tests if adding and removing solutions assigns the same ranks and
+	 * crowding distances as sorting the population.  Continuous objectives
+	 * are used since, when objectives are tied, the crowding distances depend
+	 * on the order of solutions within each front.
+	 */
+	@Test
+	public void testAddAndRemove() {
+		for (int i = 0; i < 10; i++) {
+			testAddAndRemove(false);
+		}
+	}
+
+	/**
+	 * Tests if adding and removing solutions assigns the same ranks as sorting
+	 * the population when many solutions are tied or duplicated.
+	 */
+	@Test
+	public void testAddAndRemoveDiscrete() {
+		for (int i = 0; i < 10; i++) {
+			testAddAndRemove(true);
+		}
+	}
+
+	/**
+	 * Tests if removing a solution that was never added is ignored.
+	 */
+	@Test
+	public void testRemoveMissing() {
+		IncrementalNondominatedSorting sorting =
+				new IncrementalNondominatedSorting();
+		Population population = createRandomPopulation(10, 2, 0, false);
+
+		sorting.evaluate(population);
+
+		Assert.assertFalse(sorting.remove(new Solution(0, 2)));
+		Assert.assertFalse(sorting.remove(population.get(0).copy()));
+		Assert.assertTrue(sorting.remove(population.get(0)));
+		Assert.assertFalse(sorting.remove(population.get(0)));
+	}
+
+	/**
+	 * Adds and removes random solutions, comparing the ranks and optionally
+	 * the crowding distances after each change against sorting the
+	 * population.
+	 *
+	 * @param discrete {@code true} if the objectives take discrete values
+	 *        and only the ranks are compared; {@code false} otherwise
+	 */
+	private void testAddAndRemove(boolean discrete) {
+		IncrementalNondominatedSorting sorting =
+				new IncrementalNondominatedSorting();
+		Population population = createRandomPopulation(50, 3, 1, discrete);
+
+		sorting.evaluate(population);
+
+		for (int i = 0; i < 200; i++) {
+			if (population.isEmpty() || PRNG.nextBoolean()) {
+				Solution solution = createRandomPopulation(1, 3, 1,
+						discrete).get(0);
+
+				population.add(solution);
+				sorting.add(solution);
+			} else {
+				int index = PRNG.nextInt(population.size());
+
+				Assert.assertTrue(sorting.remove(population.get(index)));
+				population.remove(index);
+			}
+
+			assertSorted(population, sorting, !discrete);
+		}
+	}
+
+	/**
+	 * Asserts that the ranks and fronts maintained by the incremental sorting
+	 * match sorting a copy of the population.
+	 *
+	 * @param population the population
+	 * @param sorting the incremental sorting of the population
+	 * @param compareCrowding {@code true} if the crowding distances are
+	 *        compared; {@code false} otherwise
+	 */
+	private void assertSorted(Population population,
+			IncrementalNondominatedSorting sorting, boolean compareCrowding) {
+		Population copy = new Population();
+		int size = 0;
+
+		for (Solution solution : population) {
+			copy.add(solution.copy());
+		}
+
+		new FastNondominatedSorting().evaluate(copy);
+
+		for (int i = 0; i < population.size(); i++) {
+			Solution solution = population.get(i);
+			int rank = (Integer)solution.getAttribute(RANK_ATTRIBUTE);
+
+			Assert.assertEquals(copy.get(i).getAttribute(RANK_ATTRIBUTE), rank);
+			Assert.assertTrue(sorting.getFront(rank).contains(solution));
+
+			if (compareCrowding) {
+				Assert.assertEquals(
+						copy.get(i).getAttribute(CROWDING_ATTRIBUTE),
+						solution.getAttribute(CROWDING_ATTRIBUTE));
+			}
+		}
+
+		for (int i = 0; i < sorting.getNumberOfFronts(); i++) {
+			Assert.assertFalse(sorting.getFront(i).isEmpty());
+			size += sorting.getFront(i).size();
+		}
+
+		Assert.assertEquals(population.size(), size);
+	}
+
+}
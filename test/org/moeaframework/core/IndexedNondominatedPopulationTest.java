@@ -0,0 +1,323 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.NondominatedPopulation.DuplicateMode;
+import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
+import org.moeaframework.core.comparator.ObjectiveComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+
+/**
+ * Tests the {@link IndexedNondominatedPopulation} class.
+ */
+public class IndexedNondominatedPopulationTest {
+
+	/**
+	 * Tests that nearly identical solutions are rejected.
+	 */
+	@Test
+	public void testAddSimilar() {
+		for (int M = 2; M <= 3; M++) {
+			NondominatedPopulation population =
+					new IndexedNondominatedPopulation();
+
+			double[] objectives1 = new double[M];
+			double[] objectives2 = new double[M];
+			objectives1[M-1] = Settings.EPS / 2.0;
+			objectives2[M-2] = Settings.EPS / 2.0;
+
+			Solution solution1 = new Solution(objectives1);
+			Solution solution2 = new Solution(objectives2);
+
+			Assert.assertTrue(population.add(solution1));
+			Assert.assertFalse(population.add(solution2));
+			Assert.assertEquals(1, population.size());
+			Assert.assertTrue(population.contains(solution1));
+		}
+	}
+
+	/**
+	 * Tests that identical solutions are kept when duplicates are allowed.
+	 */
+	@Test
+	public void testAllowDuplicates() {
+		for (int M = 2; M <= 3; M++) {
+			NondominatedPopulation population =
+					new IndexedNondominatedPopulation(
+							DuplicateMode.ALLOW_DUPLICATES);
+
+			Solution solution1 = new Solution(new double[M]);
+			Solution solution2 = new Solution(new double[M]);
+
+			Assert.assertTrue(population.add(solution1));
+			Assert.assertTrue(population.add(solution2));
+			Assert.assertEquals(2, population.size());
+		}
+	}
+
+	/**
+	 * Tests that the contents match {@link NondominatedPopulation} for random
+	 * sequences of solutions with two objectives.
+	 */
+	@Test
+	public void testTwoObjectives() {
+		for (int i = 0; i < 20; i++) {
+			testAgainstLinearScan(2, 0, false,
+					DuplicateMode.NO_DUPLICATE_OBJECTIVES);
+			testAgainstLinearScan(2, 0, true,
+					DuplicateMode.ALLOW_DUPLICATES);
+		}
+	}
+
+	/**
+	 * Tests that the contents match {@link NondominatedPopulation} for random
+	 * sequences of solutions with three or more objectives.
+	 */
+	@Test
+	public void testManyObjectives() {
+		for (int i = 0; i < 10; i++) {
+			testAgainstLinearScan(3, 0, false,
+					DuplicateMode.NO_DUPLICATE_OBJECTIVES);
+			testAgainstLinearScan(5, 0, false,
+					DuplicateMode.NO_DUPLICATE_OBJECTIVES);
+			testAgainstLinearScan(3, 0, true,
+					DuplicateMode.NO_DUPLICATE_OBJECTIVES);
+			testAgainstLinearScan(4, 0, true,
+					DuplicateMode.ALLOW_DUPLICATES);
+		}
+	}
+
+	/**
+	 * Tests that the contents match {@link NondominatedPopulation} when
+	 * solutions violate constraints.
+	 */
+	@Test
+	public void testConstraints() {
+		for (int i = 0; i < 10; i++) {
+			testAgainstLinearScan(2, 1, false,
+					DuplicateMode.NO_DUPLICATE_OBJECTIVES);
+			testAgainstLinearScan(3, 1, false,
+					DuplicateMode.NO_DUPLICATE_OBJECTIVES);
+		}
+	}
+
+	/**
+	 * Tests that unsupported comparators use the linear scan.
+	 */
+	@Test
+	public void testUnsupportedComparator() {
+		NondominatedPopulation expected = new NondominatedPopulation(
+				new EpsilonBoxDominanceComparator(0.1));
+		NondominatedPopulation actual = new IndexedNondominatedPopulation(
+				new EpsilonBoxDominanceComparator(0.1));
+
+		for (int i = 0; i < 500; i++) {
+			Solution solution = new Solution(new double[] {
+					PRNG.nextDouble(), PRNG.nextDouble(), PRNG.nextDouble() });
+
+			Assert.assertEquals(expected.add(solution), actual.add(solution));
+		}
+
+		assertSameSolutions(expected, actual);
+	}
+
+	/**
+	 * Tests that solutions can be removed through the iterator, by index and
+	 * by reference while keeping the index consistent.
+	 */
+	@Test
+	public void testRemove() {
+		for (int M = 2; M <= 3; M++) {
+			NondominatedPopulation expected = new NondominatedPopulation();
+			NondominatedPopulation actual =
+					new IndexedNondominatedPopulation();
+
+			for (int i = 0; i < 200; i++) {
+				Solution solution = newRandomSolution(M, 0, false);
+				expected.add(solution);
+				actual.add(solution);
+			}
+
+			Iterator<Solution> iterator = actual.iterator();
+
+			while (iterator.hasNext()) {
+				Solution solution = iterator.next();
+
+				if (PRNG.nextBoolean()) {
+					iterator.remove();
+					expected.remove(solution);
+				}
+			}
+
+			assertSameSolutions(expected, actual);
+
+			Solution solution = actual.get(0);
+			actual.remove(0);
+			expected.remove(solution);
+
+			if (!actual.isEmpty()) {
+				solution = actual.get(actual.size() - 1);
+				Assert.assertTrue(actual.remove(solution));
+				expected.remove(solution);
+			}
+
+			assertSameSolutions(expected, actual);
+
+			for (int i = 0; i < 200; i++) {
+				solution = newRandomSolution(M, 0, false);
+				Assert.assertEquals(expected.add(solution),
+						actual.add(solution));
+			}
+
+			assertSameSolutions(expected, actual);
+		}
+	}
+
+	/**
+	 * Tests that sorting and truncation keep the index consistent.
+	 */
+	@Test
+	public void testTruncate() {
+		NondominatedPopulation expected = new NondominatedPopulation();
+		NondominatedPopulation actual = new IndexedNondominatedPopulation();
+
+		for (int i = 0; i < 500; i++) {
+			Solution solution = newRandomSolution(3, 0, false);
+			expected.add(solution);
+			actual.add(solution);
+		}
+
+		expected.truncate(10, new ObjectiveComparator(0));
+		actual.truncate(10, new ObjectiveComparator(0));
+
+		Assert.assertEquals(10, actual.size());
+		assertSameSolutions(expected, actual);
+
+		for (int i = 0; i < actual.size(); i++) {
+			Assert.assertSame(expected.get(i), actual.get(i));
+		}
+
+		for (int i = 0; i < 500; i++) {
+			Solution solution = newRandomSolution(3, 0, false);
+			Assert.assertEquals(expected.add(solution), actual.add(solution));
+		}
+
+		assertSameSolutions(expected, actual);
+	}
+
+	/**
+	 * Tests that replacing a solution keeps the index consistent.
+	 */
+	@Test
+	public void testReplace() {
+		NondominatedPopulation population =
+				new IndexedNondominatedPopulation();
+
+		Solution solution1 = new Solution(new double[] { 0.0, 1.0, 0.5 });
+		Solution solution2 = new Solution(new double[] { 1.0, 0.0, 0.5 });
+		Solution solution3 = new Solution(new double[] { 1.0, 1.0, 1.0 });
+		Solution solution4 = new Solution(new double[] { 0.5, 0.5, 0.0 });
+
+		population.add(solution1);
+		population.add(solution2);
+
+		// dominated solutions are not inserted
+		population.replace(0, solution3);
+		Assert.assertEquals(2, population.size());
+		Assert.assertTrue(population.contains(solution1));
+		Assert.assertTrue(population.contains(solution2));
+
+		// non-dominated solutions replace the given index
+		population.replace(population.indexOf(solution1), solution4);
+		Assert.assertEquals(2, population.size());
+		Assert.assertTrue(population.contains(solution2));
+		Assert.assertTrue(population.contains(solution4));
+		Assert.assertFalse(population.add(solution3));
+	}
+
+	/**
+	 * Adds the same random sequence of solutions to a
+	 * {@link NondominatedPopulation} and {@link IndexedNondominatedPopulation}
+	 * and asserts they contain the same solutions.
+	 *
+	 * @param M the number of objectives
+	 * @param C the number of constraints
+	 * @param discrete {@code true} if objectives are drawn from a small
+	 *        discrete set, producing ties and duplicates
+	 * @param duplicateMode the duplicate mode
+	 */
+	private void testAgainstLinearScan(int M, int C, boolean discrete,
+			DuplicateMode duplicateMode) {
+		NondominatedPopulation expected = new NondominatedPopulation(
+				new ParetoDominanceComparator(), duplicateMode);
+		NondominatedPopulation actual = new IndexedNondominatedPopulation(
+				new ParetoDominanceComparator(), duplicateMode);
+
+		for (int i = 0; i < 1000; i++) {
+			Solution solution = newRandomSolution(M, C, discrete);
+			Assert.assertEquals(expected.add(solution), actual.add(solution));
+		}
+
+		assertSameSolutions(expected, actual);
+	}
+
+	/**
+	 * Returns a solution with random objectives and constraints.
+	 *
+	 * @param M the number of objectives
+	 * @param C the number of constraints
+	 * @param discrete {@code true} if objectives are drawn from a small
+	 *        discrete set, producing ties and duplicates
+	 * @return the random solution
+	 */
+	private Solution newRandomSolution(int M, int C, boolean discrete) {
+		Solution solution = new Solution(0, M, C);
+
+		for (int j = 0; j < M; j++) {
+			solution.setObjective(j, discrete ? PRNG.nextInt(5) :
+				PRNG.nextDouble());
+		}
+
+		for (int j = 0; j < C; j++) {
+			solution.setConstraint(j, PRNG.nextInt(4) == 0 ? 0.0 :
+				PRNG.nextInt(3) / 10.0);
+		}
+
+		return solution;
+	}
+
+	/**
+	 * Asserts that two populations contain the same solution instances,
+	 * ignoring order.
+	 *
+	 * @param expected the expected population
+	 * @param actual the actual population
+	 */
+	private void assertSameSolutions(Population expected, Population actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+
+		for (Solution solution : expected) {
+			Assert.assertTrue(actual.contains(solution));
+		}
+	}
+
+}
@@ -237,5 +237,27 @@ public class NondominatedSortingPopulationTest {
 		
 		Assert.assertEquals(8, population.getNumberOfUpdates());
 	}
+	
+	/**
+	 * Tests if the non-dominated sorting implementation provided to the
+	 * constructor is used.
+	 */
+	@Test
+	public void testCustomNondominatedSorting() {
+		Solution solution1 = new Solution(new double[] { 0.5, 0.5 });
+		Solution solution2 = new Solution(new double[] { 0.0, 0.0 });
+		Solution solution3 = new Solution(new double[] { 1.0, 1.0 });
+		
+		NondominatedSortingPopulation population = 
+				new NondominatedSortingPopulation(
+						new EfficientNondominatedSorting(),
+						Arrays.asList(solution1, solution2, solution3));
+
+		population.truncate(1);
+
+		Assert.assertFalse(population.contains(solution1));
+		Assert.assertTrue(population.contains(solution2));
+		Assert.assertFalse(population.contains(solution3));
+	}
 
 }
@@ -81,6 +81,30 @@ public class NondominatedSortingTest {
 	/**
 	 * Tests if the rank attribute is correctly computed.
 	 */
+	/**
+	 * Tests if sorting leaves the storage of the solutions unchanged, so a
+	 * population sharing the solutions keeps its packed array.
+	 */
+	@Test
+	public void testSolutionsUnchanged() {
+		Population other = new Population();
+		
+		for (int i = 0; i < 10; i++) {
+			Solution solution = new Solution(new double[] {
+					i % 3, 10 - i });
+			population.add(solution);
+			other.add(solution);
+		}
+		
+		PackedSolutions packed = other.pack();
+		
+		sorting.evaluate(population);
+		sorting.updateCrowdingDistance(population);
+		
+		Assert.assertSame(packed, other.pack());
+		Assert.assertEquals(9.0, packed.getObjective(1, 1), Settings.EPS);
+	}
+
 	@Test
 	public void testRankAssignment() {
 		Solution solution1 = new Solution(new double[] { 0.0, 0.0 });
@@ -182,4 +206,65 @@ public class NondominatedSortingTest {
 		}
 	}
 
+	/**
+	 * Creates a population with random objective and constraint values.
+	 *
+	 * @param N the number of solutions
+	 * @param M the number of objectives
+	 * @param C the number of constraints
+	 * @param discrete {@code true} if values are drawn from a small discrete
+	 *        set, producing ties and duplicate solutions
+	 * @return the random population
+	 */
+	protected Population createRandomPopulation(int N, int M, int C,
+			boolean discrete) {
+		Population result = new Population();
+
+		for (int i = 0; i < N; i++) {
+			Solution solution = new Solution(0, M, C);
+
+			for (int j = 0; j < M; j++) {
+				solution.setObjective(j, discrete ? PRNG.nextInt(4) :
+					PRNG.nextDouble());
+			}
+
+			for (int j = 0; j < C; j++) {
+				solution.setConstraint(j, PRNG.nextBoolean() ? 0.0 :
+					PRNG.nextInt(3));
+			}
+
+			result.add(solution);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Asserts that the two sorting implementations assign identical ranks
+	 * and crowding distances to copies of the same population.
+	 *
+	 * @param population the population
+	 * @param actualSorting the implementation being tested
+	 * @param expectedSorting the reference implementation
+	 */
+	protected void testAgainstNaive(Population population,
+			NondominatedSorting actualSorting,
+			NondominatedSorting expectedSorting) {
+		Population copy = new Population();
+
+		for (Solution solution : population) {
+			copy.add(solution.copy());
+		}
+
+		actualSorting.evaluate(population);
+		expectedSorting.evaluate(copy);
+
+		for (int i = 0; i < population.size(); i++) {
+			Assert.assertEquals(copy.get(i).getAttribute(RANK_ATTRIBUTE),
+					population.get(i).getAttribute(RANK_ATTRIBUTE));
+			Assert.assertEquals(copy.get(i).getAttribute(CROWDING_ATTRIBUTE),
+					population.get(i).getAttribute(CROWDING_ATTRIBUTE));
+		}
+	}
+
 }
@@ -21,6 +21,7 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.junit.Assert;
@@ -567,6 +568,46 @@ public class PRNGTest {
 		}
 	}
 
+	/**
+	 * Tests if the source of randomness assigned to a thread is used only by
+	 * that thread, and that assigning {@code null} reverts to the shared
+	 * source of randomness.
+	 * 
+	 * @throws InterruptedException if the thread was interrupted
+	 */
+	@Test
+	public void testLocalRandom() throws InterruptedException {
+		final Random shared = PRNG.getRandom();
+		final Random local = new Random(42);
+		final Random[] observed = new Random[1];
+		
+		PRNG.setLocalRandom(local);
+		
+		try {
+			Assert.assertSame(local, PRNG.getRandom());
+			Assert.assertEquals(new Random(42).nextDouble(),
+					PRNG.nextDouble(), 0.0);
+			
+			Thread thread = new Thread() {
+				
+				@Override
+				public void run() {
+					observed[0] = PRNG.getRandom();
+				}
+				
+			};
+			
+			thread.start();
+			thread.join();
+			
+			Assert.assertSame(shared, observed[0]);
+		} finally {
+			PRNG.setLocalRandom(null);
+		}
+		
+		Assert.assertSame(shared, PRNG.getRandom());
+	}
+
 	/**
 	 * Asserts that the array is a valid permutation of {@code n} boolean
 	 * values.
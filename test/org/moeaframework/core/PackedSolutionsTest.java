@@ -0,0 +1,174 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.core.comparator.ObjectiveComparator;
+
+/**
+ * Tests the {@link PackedSolutions} class and {@link Population#pack()}.
+ */
+public class PackedSolutionsTest {
+
+	/**
+	 * The population being packed.
+	 */
+	private Population population;
+
+	/**
+	 * Constructs the population being packed.
+	 */
+	@Before
+	public void setUp() {
+		population = new Population();
+
+		for (int i = 0; i < 3; i++) {
+			Solution solution = new Solution(0, 2, 1);
+			solution.setObjective(0, i);
+			solution.setObjective(1, 2 - i);
+			solution.setConstraint(0, -i);
+			population.add(solution);
+		}
+	}
+
+	/**
+	 * Removes references to shared objects so they can be garbage collected.
+	 */
+	@After
+	public void tearDown() {
+		population = null;
+	}
+
+	/**
+	 * Tests if packing stores the objectives and constraints in order and if
+	 * the solutions become views over the packed array.
+	 */
+	@Test
+	public void testPack() {
+		PackedSolutions packed = population.pack();
+
+		Assert.assertEquals(3, packed.size());
+		Assert.assertEquals(2, packed.getNumberOfObjectives());
+		Assert.assertEquals(1, packed.getNumberOfConstraints());
+		Assert.assertEquals(3, packed.getStride());
+		Assert.assertArrayEquals(new double[] { 0.0, 2.0, 0.0, 1.0, 1.0, -1.0,
+				2.0, 0.0, -2.0 }, packed.getValues(), Settings.EPS);
+		Assert.assertEquals(1.0, packed.getObjective(1, 0), Settings.EPS);
+		Assert.assertEquals(-2.0, packed.getConstraint(2, 0), Settings.EPS);
+		Assert.assertFalse(packed.violatesConstraints(0));
+		Assert.assertTrue(packed.violatesConstraints(1));
+		Assert.assertEquals(2.0, packed.getAggregateConstraint(2),
+				Settings.EPS);
+
+		// changes through either the solution or the array are visible
+		population.get(1).setObjective(1, 5.0);
+		Assert.assertEquals(5.0, packed.getObjective(1, 1), Settings.EPS);
+
+		packed.getValues()[0] = 7.0;
+		Assert.assertEquals(7.0, population.get(0).getObjective(0),
+				Settings.EPS);
+
+		// the packed array is reused while the population is unchanged
+		Assert.assertSame(packed, population.pack());
+	}
+
+	/**
+	 * Tests if the population is packed again after being reordered or
+	 * modified, and if removed solutions no longer use the packed array.
+	 */
+	@Test
+	public void testRepack() {
+		PackedSolutions packed = population.pack();
+		Solution removed = population.get(0);
+
+		population.sort(new ObjectiveComparator(1));
+		PackedSolutions sorted = population.pack();
+
+		Assert.assertNotSame(packed, sorted);
+		Assert.assertEquals(0.0, sorted.getObjective(0, 1), Settings.EPS);
+		Assert.assertEquals(2.0, sorted.getObjective(2, 1), Settings.EPS);
+
+		population.remove(removed);
+		PackedSolutions truncated = population.pack();
+
+		Assert.assertEquals(2, truncated.size());
+
+		truncated.getValues()[0] = 7.0;
+		sorted.getValues()[2 * sorted.getStride()] = 7.0;
+		Assert.assertEquals(0.0, removed.getObjective(0), Settings.EPS);
+	}
+
+	/**
+	 * Tests if packing a solution in a second population leaves the packed
+	 * array of the first population consistent.
+	 */
+	@Test
+	public void testSharedSolutions() {
+		Population other = new Population();
+		other.add(population.get(2));
+
+		population.pack();
+		other.pack();
+		population.get(2).setObjective(0, 9.0);
+
+		Assert.assertEquals(9.0, other.pack().getObjective(0, 0),
+				Settings.EPS);
+		Assert.assertEquals(9.0, population.pack().getObjective(2, 0),
+				Settings.EPS);
+	}
+
+	/**
+	 * Tests if the public constructor copies the values without modifying
+	 * the solutions.
+	 */
+	@Test
+	public void testCopy() {
+		PackedSolutions packed = new PackedSolutions(population);
+
+		Assert.assertEquals(3, packed.size());
+		Assert.assertEquals(1.0, packed.getObjective(1, 0), Settings.EPS);
+
+		packed.getValues()[0] = 7.0;
+		Assert.assertEquals(0.0, population.get(0).getObjective(0),
+				Settings.EPS);
+	}
+
+	/**
+	 * Tests if an empty population can be packed.
+	 */
+	@Test
+	public void testEmpty() {
+		PackedSolutions packed = new Population().pack();
+
+		Assert.assertEquals(0, packed.size());
+		Assert.assertEquals(0, packed.getValues().length);
+	}
+
+	/**
+	 * Tests if solutions with different numbers of objectives are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testMixedSolutions() {
+		population.add(new Solution(0, 3, 1));
+		population.pack();
+	}
+
+}
@@ -123,5 +123,49 @@ public class SettingsTest {
 		
 		Settings.PROPERTIES.remove(Settings.KEY_DUPLICATE_MODE);
 	}
+	
+	@Test
+	public void testNondominatedSorting() {
+		Assert.assertEquals("naive", Settings.getNondominatedSorting());
+		
+		Settings.PROPERTIES.setString(Settings.KEY_NONDOMINATED_SORTING,
+				"efficient");
+		
+		Assert.assertEquals("efficient", Settings.getNondominatedSorting());
+		
+		Settings.PROPERTIES.remove(Settings.KEY_NONDOMINATED_SORTING);
+	}
+	
+	@Test
+	public void testHashedEpsilonArchive() {
+		Assert.assertFalse(Settings.useHashedEpsilonArchive());
+		
+		Settings.PROPERTIES.setBoolean(Settings.KEY_HASHED_EPSILON_ARCHIVE,
+				true);
+		
+		Assert.assertTrue(Settings.useHashedEpsilonArchive());
+		
+		Settings.PROPERTIES.remove(Settings.KEY_HASHED_EPSILON_ARCHIVE);
+	}
+	
+	@Test
+	public void testHypervolumeApproximate() {
+		Assert.assertFalse(Settings.isHypervolumeApproximate());
+		Assert.assertEquals(100000, Settings.getHypervolumeSamples());
+		Assert.assertEquals(0.0, Settings.getHypervolumeError(), 0.0);
+		
+		Settings.PROPERTIES.setBoolean(Settings.KEY_HYPERVOLUME_APPROXIMATE,
+				true);
+		Settings.PROPERTIES.setInt(Settings.KEY_HYPERVOLUME_SAMPLES, 5000);
+		Settings.PROPERTIES.setDouble(Settings.KEY_HYPERVOLUME_ERROR, 0.01);
+		
+		Assert.assertTrue(Settings.isHypervolumeApproximate());
+		Assert.assertEquals(5000, Settings.getHypervolumeSamples());
+		Assert.assertEquals(0.01, Settings.getHypervolumeError(), 0.0);
+		
+		Settings.PROPERTIES.remove(Settings.KEY_HYPERVOLUME_APPROXIMATE);
+		Settings.PROPERTIES.remove(Settings.KEY_HYPERVOLUME_SAMPLES);
+		Settings.PROPERTIES.remove(Settings.KEY_HYPERVOLUME_ERROR);
+	}
 
 }
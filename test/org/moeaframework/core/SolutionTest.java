@@ -17,6 +17,15 @@
  */
 package org.moeaframework.core;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -427,6 +436,118 @@ public class SolutionTest {
 		Assert.assertFalse(copy.equals(solution));
 	}
 
+	/**
+	 * Tests if copies share their variables until a variable is retrieved
+	 * for modification, and if modifications are not visible in the other
+	 * solution.
+	 */
+	@Test
+	public void testCopyOnWrite() {
+		Variable original = solution.getVariable(0);
+		Solution copy = solution.copy();
+
+		Assert.assertSame(original, copy.getVariableReadOnly(0));
+
+		// retrieving the variable in the copy makes a private copy
+		RealVariable variable = (RealVariable)copy.getVariable(0);
+		Assert.assertNotSame(original, variable);
+		Assert.assertSame(variable, copy.getVariable(0));
+		variable.setValue(1.0);
+		Assert.assertEquals(0.5, ((RealVariable)original).getValue(),
+				Settings.EPS);
+
+		// the original also copies before modifying a shared variable
+		Solution other = solution.copy();
+		((RealVariable)solution.getVariable(0)).setValue(0.0);
+		Assert.assertEquals(0.5, ((RealVariable)other.getVariable(0))
+				.getValue(), Settings.EPS);
+
+		// replacing a shared variable does not affect the other solution
+		other = solution.copy();
+		other.setVariable(0, new RealVariable(0.25, 0.0, 1.0));
+		Assert.assertEquals(0.0, ((RealVariable)solution.getVariable(0))
+				.getValue(), Settings.EPS);
+	}
+
+	/**
+	 * Tests if copying a solution from multiple threads concurrently marks
+	 * its variables as shared, so modifying the solution afterwards does not
+	 * alter the copies.
+	 */
+	@Test
+	public void testConcurrentCopy() throws InterruptedException,
+			ExecutionException {
+		final Variable original = solution.getVariable(0);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<Solution>> futures = new ArrayList<Future<Solution>>();
+		
+		try {
+			for (int i = 0; i < 100; i++) {
+				futures.add(executor.submit(new Callable<Solution>() {
+
+					@Override
+					public Solution call() {
+						Assert.assertSame(original,
+								solution.getVariableReadOnly(0));
+						return solution.copy();
+					}
+					
+				}));
+			}
+			
+			List<Solution> copies = new ArrayList<Solution>();
+			
+			for (Future<Solution> future : futures) {
+				copies.add(future.get());
+			}
+			
+			((RealVariable)solution.getVariable(0)).setValue(0.0);
+			
+			for (Solution copy : copies) {
+				Assert.assertEquals(0.5, ((RealVariable)copy
+						.getVariableReadOnly(0)).getValue(), Settings.EPS);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Tests if exchanging variables between copies keeps them shared, so
+	 * modifying the exchanged variables does not alter the original.
+	 */
+	@Test
+	public void testSwapVariable() {
+		Variable original = solution.getVariable(0);
+		Solution copy1 = solution.copy();
+		Solution copy2 = new Solution(1, 0);
+		copy2.setVariable(0, new RealVariable(0.25, 0.0, 1.0));
+
+		copy1.swapVariable(0, copy2);
+
+		Assert.assertSame(original, copy2.getVariableReadOnly(0));
+		Assert.assertEquals(0.25, ((RealVariable)copy1.getVariable(0))
+				.getValue(), Settings.EPS);
+
+		((RealVariable)copy2.getVariable(0)).setValue(1.0);
+		Assert.assertEquals(0.5, ((RealVariable)solution.getVariable(0))
+				.getValue(), Settings.EPS);
+	}
+
+	/**
+	 * Tests if solutions sharing variables remain independent after being
+	 * serialized together.
+	 */
+	@Test
+	public void testCopyOnWriteSerialization() {
+		Solution[] solutions = new Solution[] { solution, solution.copy() };
+		Solution[] copies = SerializationUtils.clone(solutions);
+
+		((RealVariable)copies[1].getVariable(0)).setValue(1.0);
+		Assert.assertEquals(0.5, ((RealVariable)copies[0].getVariable(0))
+				.getValue(), Settings.EPS);
+	}
+
 	/**
 	 * Tests if the {@code violatesConstraints} method returns {@code 0} if
 	 * all constraints are satisfied and a non-zero value otherwise.
@@ -442,4 +563,41 @@ public class SolutionTest {
 		Assert.assertFalse(new Solution(0, 0, 0).violatesConstraints());
 	}
 
+	/**
+	 * Tests if a solution that is a view over a packed population is
+	 * serialized independently of the packed array.
+	 */
+	@Test
+	public void testSerializationWhenPacked() {
+		Population population = new Population();
+		population.add(new Solution(0, 2, 2));
+		population.add(solution);
+		population.pack();
+
+		Solution copy = SerializationUtils.clone(solution);
+
+		Assert.assertArrayEquals(new double[] { 1.0, 2.0 },
+				copy.getObjectives(), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 0.0, 1.0 },
+				copy.getConstraints(), Settings.EPS);
+		Assert.assertEquals("bar", copy.getAttribute("foo"));
+
+		copy.setObjective(0, 5.0);
+		Assert.assertEquals(1.0, solution.getObjective(0), Settings.EPS);
+	}
+
+	/**
+	 * Tests if indices are checked when the solution is a view over a packed
+	 * population, where the adjacent values belong to other solutions.
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetObjectiveBoundsCheckingWhenPacked() {
+		Population population = new Population();
+		population.add(solution);
+		population.add(new Solution(0, 2, 2));
+		population.pack();
+
+		solution.getObjective(2);
+	}
+
 }
@@ -0,0 +1,180 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.TestThresholds;
+
+/**
+ * Tests the {@link XoroshiroRandom} class.
+ */
+public class XoroshiroRandomTest {
+
+	/**
+	 * The number of samples used for statistics.
+	 */
+	private static final int N = 1000000;
+
+	/**
+	 * Tests if generators with the same seed produce the same sequence, and
+	 * that re-seeding restarts the sequence.
+	 */
+	@Test
+	public void testReproducible() {
+		XoroshiroRandom random1 = new XoroshiroRandom(12345);
+		XoroshiroRandom random2 = new XoroshiroRandom(12345);
+
+		long first = random1.nextLong();
+		Assert.assertEquals(first, random2.nextLong());
+
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(random1.nextLong(), random2.nextLong());
+			Assert.assertEquals(random1.nextGaussian(), random2.nextGaussian(),
+					0.0);
+		}
+
+		random1.setSeed(12345);
+		Assert.assertEquals(first, random1.nextLong());
+	}
+
+	/**
+	 * Tests if similar seeds produce different sequences.
+	 */
+	@Test
+	public void testSimilarSeeds() {
+		Set<Long> values = new HashSet<Long>();
+
+		for (int i = 0; i < 1000; i++) {
+			values.add(new XoroshiroRandom(i).nextLong());
+		}
+
+		Assert.assertEquals(1000, values.size());
+	}
+
+	/**
+	 * Tests if splitting is reproducible and produces streams that differ
+	 * from one another and from the parent stream.
+	 */
+	@Test
+	public void testSplit() {
+		XoroshiroRandom parent1 = new XoroshiroRandom(42);
+		XoroshiroRandom parent2 = new XoroshiroRandom(42);
+		XoroshiroRandom reference = new XoroshiroRandom(42);
+		Set<Long> values = new HashSet<Long>();
+
+		for (int i = 0; i < 10; i++) {
+			XoroshiroRandom child1 = parent1.split();
+			XoroshiroRandom child2 = parent2.split();
+
+			for (int j = 0; j < 10; j++) {
+				long value = child1.nextLong();
+				Assert.assertEquals(value, child2.nextLong());
+				values.add(value);
+			}
+		}
+
+		// the first split stream continues the parent's original sequence
+		XoroshiroRandom child = new XoroshiroRandom(42).split();
+
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals(reference.nextLong(), child.nextLong());
+		}
+
+		Assert.assertEquals(100, values.size());
+	}
+
+	/**
+	 * Tests if the {@code nextDouble}, {@code nextFloat} and {@code nextInt}
+	 * methods produce uniformly-distributed values in the expected ranges.
+	 */
+	@Test
+	public void testUniform() {
+		XoroshiroRandom random = new XoroshiroRandom(1);
+		DescriptiveStatistics doubles = new DescriptiveStatistics();
+		DescriptiveStatistics floats = new DescriptiveStatistics();
+		DescriptiveStatistics ints = new DescriptiveStatistics();
+
+		for (int i = 0; i < N; i++) {
+			double value = random.nextDouble();
+			Assert.assertTrue((value >= 0.0) && (value < 1.0));
+			doubles.addValue(value);
+
+			float floatValue = random.nextFloat();
+			Assert.assertTrue((floatValue >= 0.0f) && (floatValue < 1.0f));
+			floats.addValue(floatValue);
+
+			int intValue = random.nextInt(10);
+			Assert.assertTrue((intValue >= 0) && (intValue < 10));
+			ints.addValue(intValue);
+		}
+
+		Assert.assertEquals(0.5, doubles.getMean(),
+				TestThresholds.STATISTICS_EPS);
+		Assert.assertEquals(1.0 / 12.0, doubles.getVariance(),
+				TestThresholds.STATISTICS_EPS);
+		Assert.assertEquals(0.5, floats.getMean(),
+				TestThresholds.STATISTICS_EPS);
+		Assert.assertEquals(4.5, ints.getMean(),
+				TestThresholds.STATISTICS_EPS);
+	}
+
+	/**
+	 * Tests if the {@code nextBoolean} and {@code nextGaussian} methods produce
+	 * values with the expected distribution.
+	 */
+	@Test
+	public void testBooleanAndGaussian() {
+		XoroshiroRandom random = new XoroshiroRandom(2);
+		DescriptiveStatistics booleans = new DescriptiveStatistics();
+		DescriptiveStatistics gaussians = new DescriptiveStatistics();
+
+		for (int i = 0; i < N; i++) {
+			booleans.addValue(random.nextBoolean() ? 1.0 : 0.0);
+			gaussians.addValue(random.nextGaussian());
+		}
+
+		Assert.assertEquals(0.5, booleans.getMean(),
+				TestThresholds.STATISTICS_EPS);
+		Assert.assertEquals(0.0, gaussians.getMean(),
+				TestThresholds.STATISTICS_EPS);
+		Assert.assertEquals(1.0, gaussians.getStandardDeviation(),
+				TestThresholds.STATISTICS_EPS);
+	}
+
+	/**
+	 * Tests if the generator is used by {@link PRNG} when assigned to the
+	 * calling thread.
+	 */
+	@Test
+	public void testLocalRandom() {
+		PRNG.setLocalRandom(new XoroshiroRandom(7));
+
+		try {
+			Assert.assertEquals(new XoroshiroRandom(7).nextDouble(),
+					PRNG.nextDouble(), 0.0);
+		} finally {
+			PRNG.setLocalRandom(null);
+		}
+	}
+
+}
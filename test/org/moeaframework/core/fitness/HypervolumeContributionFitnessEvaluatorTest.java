@@ -0,0 +1,225 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.fitness;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.TestUtils;
+import org.moeaframework.core.FitnessEvaluator;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Population;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.comparator.FitnessComparator;
+import org.moeaframework.core.indicator.Hypervolume;
+import org.moeaframework.problem.MockRealProblem;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+
+/**
+ * Tests the {@link HypervolumeContributionFitnessEvaluator} class.
+ */
+public class HypervolumeContributionFitnessEvaluatorTest {
+	
+	/**
+	 * Tests if the fitness matches the difference in hypervolume when each
+	 * solution is removed, as computed by the slicing algorithm.  A small
+	 * offset is used since the subtraction loses precision when the reference
+	 * point is distant.
+	 */
+	@Test
+	public void testContributions() {
+		for (int M = 2; M <= 5; M++) {
+			Problem problem = new DTLZ2(M);
+			Population population = createFront(problem, 30);
+			
+			new HypervolumeContributionFitnessEvaluator(problem, 1.0).evaluate(
+					population);
+			
+			List<Solution> solutions = normalize(population, M, 1.0);
+			double total = Hypervolume.calculateHypervolume(
+					new ArrayList<Solution>(solutions), solutions.size(), M);
+			
+			for (int i = 0; i < population.size(); i++) {
+				List<Solution> remaining = new ArrayList<Solution>(solutions);
+				remaining.remove(i);
+				
+				double expected = total - Hypervolume.calculateHypervolume(
+						remaining, remaining.size(), M);
+				
+				Assert.assertEquals(expected, (Double)population.get(i)
+						.getAttribute(FitnessEvaluator.FITNESS_ATTRIBUTE),
+						Settings.EPS);
+			}
+		}
+	}
+	
+	/**
+	 * Tests if the incremental updates applied by a steady-state sequence of
+	 * additions and removals match recomputing the contributions.
+	 */
+	@Test
+	public void testIncremental() {
+		Problem problem = new DTLZ2(5);
+		Population population = createFront(problem, 30);
+		HypervolumeContributionFitnessEvaluator incremental =
+				new HypervolumeContributionFitnessEvaluator(problem, 1.0);
+		
+		incremental.evaluate(population);
+		
+		for (int i = 0; i < 50; i++) {
+			Population child = createFront(problem, 1);
+			
+			// keep the normalization bounds fixed, as when the extreme points
+			// survive
+			for (int j = 0; j < 5; j++) {
+				child.get(0).setObjective(j, Math.max(0.1,
+						Math.min(0.9, child.get(0).getObjective(j))));
+			}
+			
+			population.add(child.get(0));
+			incremental.evaluate(population);
+			
+			double[] actual = getFitness(population);
+			new HypervolumeContributionFitnessEvaluator(problem, 1.0)
+					.evaluate(population);
+			
+			Assert.assertArrayEquals(getFitness(population), actual,
+					Settings.EPS);
+			
+			population.truncate(population.size() - 1,
+					new FitnessComparator(true));
+		}
+	}
+	
+	@Test
+	public void testSmallPopulation() {
+		Population population = new Population();
+		population.add(TestUtils.newSolution(0.0, 1.0));
+		population.add(TestUtils.newSolution(1.0, 0.0));
+		
+		new HypervolumeContributionFitnessEvaluator(new MockRealProblem())
+				.evaluate(population);
+		
+		for (Solution solution : population) {
+			Assert.assertEquals(0.0, (Double)solution.getAttribute(
+					FitnessEvaluator.FITNESS_ATTRIBUTE), Settings.EPS);
+		}
+	}
+	
+	/**
+	 * Returns solutions on the DTLZ2 front, including the points at the
+	 * extremes of each objective.
+	 * 
+	 * @param problem the DTLZ2 problem
+	 * @param size the number of random solutions
+	 * @return the solutions on the DTLZ2 front
+	 */
+	private Population createFront(Problem problem, int size) {
+		int M = problem.getNumberOfObjectives();
+		Population population = new Population();
+		
+		for (int i = 0; i < size; i++) {
+			double[] objectives = new double[M];
+			double norm = 0.0;
+			
+			for (int j = 0; j < M; j++) {
+				objectives[j] = Math.abs(PRNG.nextGaussian());
+				norm += objectives[j] * objectives[j];
+			}
+			
+			for (int j = 0; j < M; j++) {
+				objectives[j] /= Math.sqrt(norm);
+			}
+			
+			population.add(new Solution(objectives));
+		}
+		
+		if (size > 1) {
+			for (int j = 0; j < M; j++) {
+				double[] objectives = new double[M];
+				objectives[j] = 1.0;
+				population.add(new Solution(objectives));
+			}
+		}
+		
+		return population;
+	}
+	
+	/**
+	 * Returns the fitness values of the population.
+	 * 
+	 * @param population the population
+	 * @return the fitness values of the population
+	 */
+	private double[] getFitness(Population population) {
+		double[] result = new double[population.size()];
+		
+		for (int i = 0; i < population.size(); i++) {
+			result[i] = (Double)population.get(i).getAttribute(
+					FitnessEvaluator.FITNESS_ATTRIBUTE);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Normalizes the population in the same way as the original
+	 * implementation, producing inverted solutions for use with
+	 * {@link Hypervolume#calculateHypervolume(List, int, int)}.
+	 * 
+	 * @param population the population
+	 * @param M the number of objectives
+	 * @param offset the offset
+	 * @return the normalized solutions
+	 */
+	private List<Solution> normalize(Population population, int M,
+			double offset) {
+		double[] min = new double[M];
+		double[] max = new double[M];
+		List<Solution> result = new ArrayList<Solution>();
+		
+		for (int i = 0; i < M; i++) {
+			min[i] = Double.POSITIVE_INFINITY;
+			max[i] = Double.NEGATIVE_INFINITY;
+			
+			for (Solution solution : population) {
+				min[i] = Math.min(min[i], solution.getObjective(i));
+				max[i] = Math.max(max[i], solution.getObjective(i));
+			}
+		}
+		
+		for (Solution solution : population) {
+			Solution newSolution = solution.copy();
+			
+			for (int i = 0; i < M; i++) {
+				newSolution.setObjective(i, (max[i] - (newSolution
+						.getObjective(i) - min[i]) + offset) /
+						(max[i] - min[i]));
+			}
+			
+			result.add(newSolution);
+		}
+		
+		return result;
+	}
+
+}
@@ -0,0 +1,190 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
+import org.moeaframework.core.spi.ProblemFactory;
+
+/**
+ * Tests the {@link FusedIndicatorEvaluator} class.
+ */
+public class FusedIndicatorEvaluatorTest {
+
+	/**
+	 * Tests if the values match the individual indicators on a two-objective
+	 * problem.
+	 */
+	@Test
+	public void testDTLZ2_2() {
+		test("DTLZ2_2");
+	}
+
+	/**
+	 * Tests if the values match the individual indicators on a
+	 * three-objective problem.
+	 */
+	@Test
+	public void testDTLZ2_3() {
+		test("DTLZ2_3");
+	}
+
+	/**
+	 * Tests if the values match the individual indicators when the
+	 * approximation set contains infeasible solutions.
+	 */
+	@Test
+	public void testInfeasibleApproximationSet() {
+		Problem problem = ProblemFactory.getInstance().getProblem("CF1");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance()
+				.getReferenceSet("CF1");
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+
+		Solution solution = problem.newSolution();
+		solution.setObjectives(new double[] { 0.5, 0.5 });
+		solution.setConstraints(new double[] { 10.0 });
+		approximationSet.add(solution);
+
+		assertEquals(problem, referenceSet, approximationSet, null);
+		assertEquals(problem, referenceSet, approximationSet,
+				new EpsilonBoxDominanceComparator(0.25));
+	}
+
+	/**
+	 * Tests if the values match the individual indicators when the
+	 * approximation set is empty.
+	 */
+	@Test
+	public void testEmptyApproximationSet() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_2");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance()
+				.getReferenceSet("DTLZ2_2");
+
+		assertEquals(problem, referenceSet, new NondominatedPopulation(),
+				null);
+	}
+
+	/**
+	 * Tests if an exception is thrown when getting values before invoking
+	 * {@code calculate}.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testCalculateNotInvoked() {
+		new FusedIndicatorEvaluator(
+				ProblemFactory.getInstance().getProblem("DTLZ2_2"),
+				ProblemFactory.getInstance().getReferenceSet("DTLZ2_2"))
+				.getGenerationalDistance();
+	}
+
+	/**
+	 * Tests if an exception is thrown when requesting an unsupported
+	 * indicator.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnsupportedIndicator() {
+		FusedIndicatorEvaluator evaluator = new FusedIndicatorEvaluator(
+				ProblemFactory.getInstance().getProblem("DTLZ2_2"),
+				ProblemFactory.getInstance().getReferenceSet("DTLZ2_2"));
+
+		evaluator.calculate(new NondominatedPopulation());
+		evaluator.getValue(Hypervolume.class);
+	}
+
+	/**
+	 * Tests if the values match the individual indicators on random
+	 * approximation sets for the specified problem.
+	 *
+	 * @param problemName the name of the problem
+	 */
+	private void test(String problemName) {
+		Problem problem = ProblemFactory.getInstance().getProblem(
+				problemName);
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance()
+				.getReferenceSet(problemName);
+
+		for (int i = 0; i < 10; i++) {
+			NondominatedPopulation approximationSet =
+					new NondominatedPopulation();
+
+			// include some reference solutions exactly, so the contribution
+			// is not zero, and perturb the others
+			for (int j = 0; j < 50; j++) {
+				Solution solution = referenceSet.get(PRNG.nextInt(
+						referenceSet.size())).copy();
+
+				if (PRNG.nextBoolean()) {
+					for (int k = 0; k < solution.getNumberOfObjectives(); k++) {
+						solution.setObjective(k, solution.getObjective(k) +
+								PRNG.nextDouble(-0.05, 0.2));
+					}
+				}
+
+				approximationSet.add(solution);
+			}
+
+			assertEquals(problem, referenceSet, approximationSet, null);
+			assertEquals(problem, referenceSet, approximationSet,
+					new EpsilonBoxDominanceComparator(0.05));
+		}
+	}
+
+	/**
+	 * Asserts that the fused indicator evaluator computes the same values as
+	 * the individual indicators.
+	 *
+	 * @param problem the problem
+	 * @param referenceSet the reference set
+	 * @param approximationSet the approximation set
+	 * @param comparator the &epsilon;-box dominance comparator used by the
+	 *        contribution indicator, or {@code null}
+	 */
+	private void assertEquals(Problem problem,
+			NondominatedPopulation referenceSet,
+			NondominatedPopulation approximationSet,
+			EpsilonBoxDominanceComparator comparator) {
+		FusedIndicatorEvaluator evaluator = new FusedIndicatorEvaluator(
+				problem, referenceSet, comparator);
+		evaluator.calculate(approximationSet);
+
+		Assert.assertEquals(new GenerationalDistance(problem, referenceSet)
+				.evaluate(approximationSet),
+				evaluator.getGenerationalDistance(), 0.0);
+		Assert.assertEquals(new InvertedGenerationalDistance(problem,
+				referenceSet).evaluate(approximationSet),
+				evaluator.getInvertedGenerationalDistance(), 0.0);
+		Assert.assertEquals(new AdditiveEpsilonIndicator(problem,
+				referenceSet).evaluate(approximationSet),
+				evaluator.getAdditiveEpsilonIndicator(), 0.0);
+		Assert.assertEquals(new MaximumParetoFrontError(problem,
+				referenceSet).evaluate(approximationSet),
+				evaluator.getMaximumParetoFrontError(), 0.0);
+		Assert.assertEquals((comparator == null ?
+				new Contribution(referenceSet) :
+				new Contribution(referenceSet, comparator))
+				.evaluate(approximationSet),
+				evaluator.getContribution(), 0.0);
+		Assert.assertEquals(evaluator.getGenerationalDistance(),
+				evaluator.getValue(GenerationalDistance.class), 0.0);
+	}
+
+}
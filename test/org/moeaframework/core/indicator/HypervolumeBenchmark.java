@@ -0,0 +1,222 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+
+/**
+ * Compares the running time of {@link WFGHypervolume} against the recursive
+ * slicing algorithm in {@link Hypervolume#calculateHypervolume(List, int,
+ * int)} on non-dominated points sampled from a spherical front.  Each
+ * configuration is warmed up before timing to allow JIT compilation.  This
+ * is not run as part of the unit tests; run the {@code main} method directly.
+ */
+public class HypervolumeBenchmark {
+	
+	/**
+	 * The number of warmup iterations before timing.
+	 */
+	private static final int WARMUP = 3;
+	
+	/**
+	 * The number of timed iterations.
+	 */
+	private static final int ITERATIONS = 5;
+	
+	/**
+	 * The maximum time, in seconds, of the first run before the remaining,
+	 * larger configurations of the recursive slicing algorithm are skipped.
+	 */
+	private static final double TIME_LIMIT = 2.0;
+
+	/**
+	 * Runs the benchmark.
+	 * 
+	 * @param args the command line arguments, which are unused
+	 */
+	public static void main(String[] args) {
+		int[] sizes = new int[] { 50, 100, 200 };
+		
+		System.out.println("M\tN\tHSO (ms)\tWFG (ms)");
+		
+		for (int M = 2; M <= 8; M++) {
+			boolean skipHSO = false;
+			
+			for (int N : sizes) {
+				double[] points = newSphericalFront(N, M);
+				double[] referencePoint = new double[M];
+				Arrays.fill(referencePoint, 1.0);
+				
+				double wfg = time(new WFGRunner(points, N, referencePoint));
+				double hso = skipHSO ? Double.NaN :
+						time(new HSORunner(points, N, M));
+				
+				skipHSO = Double.isNaN(hso);
+				
+				System.out.println(M + "\t" + N + "\t" +
+						(Double.isNaN(hso) ? "-" : String.format("%.3f", hso)) +
+						"\t" + String.format("%.3f", wfg));
+			}
+		}
+	}
+	
+	/**
+	 * Returns the average time, in milliseconds, to run the calculation, or
+	 * {@code NaN} if a single run exceeds the time limit.
+	 * 
+	 * @param runner the hypervolume calculation
+	 * @return the average time in milliseconds
+	 */
+	private static double time(Runner runner) {
+		long start = System.nanoTime();
+		runner.run();
+		
+		if ((System.nanoTime() - start) / 1e9 > TIME_LIMIT) {
+			return Double.NaN;
+		}
+		
+		for (int i = 1; i < WARMUP; i++) {
+			runner.run();
+		}
+		
+		start = System.nanoTime();
+		
+		for (int i = 0; i < ITERATIONS; i++) {
+			runner.run();
+		}
+		
+		return (System.nanoTime() - start) / 1e6 / ITERATIONS;
+	}
+	
+	/**
+	 * Returns {@code N} packed points with {@code M} objectives sampled
+	 * uniformly from the positive orthant of the unit sphere.
+	 * 
+	 * @param N the number of points
+	 * @param M the number of objectives
+	 * @return the packed points
+	 */
+	private static double[] newSphericalFront(int N, int M) {
+		double[] points = new double[N * M];
+		
+		for (int i = 0; i < N; i++) {
+			double norm = 0.0;
+			
+			for (int j = 0; j < M; j++) {
+				points[i*M + j] = Math.abs(PRNG.nextGaussian());
+				norm += points[i*M + j] * points[i*M + j];
+			}
+			
+			for (int j = 0; j < M; j++) {
+				points[i*M + j] /= Math.sqrt(norm);
+			}
+		}
+		
+		return points;
+	}
+	
+	/**
+	 * A timed hypervolume calculation.
+	 */
+	private static interface Runner {
+		
+		/**
+		 * Runs the hypervolume calculation.
+		 * 
+		 * @return the hypervolume
+		 */
+		public double run();
+		
+	}
+	
+	/**
+	 * Times the {@link WFGHypervolume} algorithm.
+	 */
+	private static class WFGRunner implements Runner {
+		
+		private final double[] points;
+		
+		private final int N;
+		
+		private final double[] referencePoint;
+		
+		private final WFGHypervolume hypervolume;
+		
+		public WFGRunner(double[] points, int N, double[] referencePoint) {
+			super();
+			this.points = points;
+			this.N = N;
+			this.referencePoint = referencePoint;
+			
+			hypervolume = new WFGHypervolume(referencePoint.length);
+		}
+
+		@Override
+		public double run() {
+			return hypervolume.calculate(points, N, referencePoint);
+		}
+		
+	}
+	
+	/**
+	 * Times the recursive slicing algorithm, including copying and inverting
+	 * the solutions as done by previous versions of {@link Hypervolume}.
+	 */
+	private static class HSORunner implements Runner {
+		
+		private final List<Solution> solutions;
+		
+		private final int M;
+		
+		public HSORunner(double[] points, int N, int M) {
+			super();
+			this.M = M;
+			
+			solutions = new ArrayList<Solution>();
+			
+			for (int i = 0; i < N; i++) {
+				solutions.add(new Solution(Arrays.copyOfRange(points, i*M,
+						(i+1)*M)));
+			}
+		}
+
+		@Override
+		public double run() {
+			List<Solution> copies = new ArrayList<Solution>();
+			
+			for (Solution solution : solutions) {
+				Solution copy = solution.copy();
+				
+				for (int j = 0; j < M; j++) {
+					copy.setObjective(j, 1.0 - copy.getObjective(j));
+				}
+				
+				copies.add(copy);
+			}
+			
+			return Hypervolume.calculateHypervolume(copies, copies.size(), M);
+		}
+		
+	}
+
+}
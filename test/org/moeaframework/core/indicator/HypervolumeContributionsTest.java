@@ -0,0 +1,179 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Settings;
+
+/**
+ * Tests the {@link HypervolumeContributions} class.
+ */
+public class HypervolumeContributionsTest {
+
+	/**
+	 * Tests simple cases with known contributions.
+	 */
+	@Test
+	public void testSimple() {
+		HypervolumeContributions contributions =
+				new HypervolumeContributions(2);
+		double[] referencePoint = new double[] { 1.0, 1.0 };
+
+		Assert.assertArrayEquals(new double[] { 0.25, 0.25, 0.0 },
+				contributions.calculate(new double[] { 0.0, 0.5, 0.5, 0.0,
+						0.6, 0.6 }, 3, referencePoint), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 0.0, 0.0 },
+				contributions.calculate(new double[] { 0.5, 0.5, 0.5, 0.5 },
+						2, referencePoint), Settings.EPS);
+
+		contributions = new HypervolumeContributions(3);
+		referencePoint = new double[] { 2.0, 2.0, 2.0 };
+
+		// each point exclusively dominates 2 of the 4 units of volume
+		Assert.assertArrayEquals(new double[] { 1.0, 1.0, 1.0 },
+				contributions.calculate(new double[] { 1.0, 1.0, 0.0, 1.0,
+						0.0, 1.0, 0.0, 1.0, 1.0 }, 3, referencePoint),
+				Settings.EPS);
+	}
+
+	/**
+	 * Tests if the contributions match the difference in hypervolume when
+	 * each point is removed, for two through six objectives, including
+	 * dominated, duplicate and tied points.
+	 */
+	@Test
+	public void testRandom() {
+		for (int M = 2; M <= 6; M++) {
+			HypervolumeContributions contributions =
+					new HypervolumeContributions(M);
+
+			for (int i = 0; i < 20; i++) {
+				int N = PRNG.nextInt(1, 40);
+				double[] points = createPoints(N, M);
+				double[] referencePoint = new double[M];
+
+				Arrays.fill(referencePoint, 1.0);
+
+				Assert.assertArrayEquals(calculate(points, N, referencePoint),
+						contributions.calculate(points, N, referencePoint),
+						Settings.EPS);
+			}
+		}
+	}
+
+	/**
+	 * Tests if adding and removing points incrementally produces the same
+	 * contributions as recomputing them.
+	 */
+	@Test
+	public void testIncremental() {
+		for (int M = 2; M <= 6; M++) {
+			HypervolumeContributions contributions =
+					new HypervolumeContributions(M);
+			double[] referencePoint = new double[M];
+			int N = 30;
+			double[] points = Arrays.copyOf(createPoints(N, M), (N+1) * M);
+
+			Arrays.fill(referencePoint, 1.0);
+
+			double[] values = Arrays.copyOf(contributions.calculate(points, N,
+					referencePoint), N + 1);
+
+			for (int i = 0; i < 50; i++) {
+				// add a new point
+				double[] point = createPoints(1, M);
+				System.arraycopy(point, 0, points, N*M, M);
+				contributions.add(points, N + 1, values, referencePoint);
+
+				Assert.assertArrayEquals(calculate(points, N + 1,
+						referencePoint), Arrays.copyOf(values, N + 1),
+						Settings.EPS);
+
+				// remove a random point
+				contributions.remove(points, N + 1, values,
+						PRNG.nextInt(N + 1), referencePoint);
+
+				Assert.assertArrayEquals(calculate(points, N, referencePoint),
+						Arrays.copyOf(values, N), Settings.EPS);
+			}
+		}
+	}
+
+	/**
+	 * Returns random points, where some objectives are rounded or copied from
+	 * earlier points to produce ties and duplicates.
+	 *
+	 * @param N the number of points
+	 * @param M the number of objectives
+	 * @return the packed objectives of the points
+	 */
+	private double[] createPoints(int N, int M) {
+		double[] points = new double[N * M];
+
+		for (int j = 0; j < N; j++) {
+			boolean duplicate = (j > 0) && (PRNG.nextInt(10) == 0);
+			int source = duplicate ? PRNG.nextInt(j) : 0;
+
+			for (int k = 0; k < M; k++) {
+				if (duplicate) {
+					points[j*M + k] = points[source*M + k];
+				} else if (PRNG.nextInt(4) == 0) {
+					points[j*M + k] = PRNG.nextInt(5) / 5.0;
+				} else {
+					points[j*M + k] = PRNG.nextDouble(0.0, 1.1);
+				}
+			}
+		}
+
+		return points;
+	}
+
+	/**
+	 * Computes the contributions by removing each point and recomputing the
+	 * hypervolume.
+	 *
+	 * @param points the packed objectives of the points
+	 * @param N the number of points
+	 * @param referencePoint the reference point
+	 * @return the contributions of the points
+	 */
+	private double[] calculate(double[] points, int N,
+			double[] referencePoint) {
+		int M = referencePoint.length;
+		WFGHypervolume hypervolume = new WFGHypervolume(M);
+		double total = hypervolume.calculate(points, N, referencePoint);
+		double[] result = new double[N];
+
+		for (int i = 0; i < N; i++) {
+			double[] remaining = new double[(N-1) * M];
+
+			System.arraycopy(points, 0, remaining, 0, i*M);
+			System.arraycopy(points, (i+1)*M, remaining, i*M, (N-i-1)*M);
+
+			result[i] = total - hypervolume.calculate(remaining, N-1,
+					referencePoint);
+		}
+
+		return result;
+	}
+
+}
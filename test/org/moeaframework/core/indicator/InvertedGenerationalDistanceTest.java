@@ -18,6 +18,8 @@
 package org.moeaframework.core.indicator;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -198,6 +200,34 @@ public class InvertedGenerationalDistanceTest extends IndicatorTest {
 		test("DTLZ7_8");
 	}
 
+	/**
+	 * Tests if dividing a large reference set among the threads of an
+	 * executor gives the same value as the calling thread.
+	 */
+	@Test
+	public void testExecutor() {
+		Problem problem = ProblemFactory.getInstance().getProblem("WFG1_2");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance()
+				.getReferenceSet("WFG1_2");
+		NondominatedPopulation approximationSet = generateApproximationSet(
+				"WFG1_2", 100);
+		InvertedGenerationalDistance indicator =
+				new InvertedGenerationalDistance(problem, referenceSet);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		try {
+			double expected = indicator.evaluate(approximationSet);
+			
+			indicator.setExecutor(executor);
+			
+			Assert.assertEquals(expected, indicator.evaluate(approximationSet),
+					0.0);
+			Assert.assertFalse(executor.isShutdown());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	/**
 	 * Generates a random approximation set and tests if the inverted
 	 * generational distance is computed correctly.
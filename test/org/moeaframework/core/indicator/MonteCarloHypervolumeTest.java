@@ -0,0 +1,297 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.TestUtils;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.indicator.MonteCarloHypervolume.Estimate;
+import org.moeaframework.core.spi.ProblemFactory;
+
+/**
+ * Tests the {@link MonteCarloHypervolume} class.
+ */
+public class MonteCarloHypervolumeTest {
+
+	/**
+	 * Tests simple cases with known hypervolumes.
+	 */
+	@Test
+	public void testSimple() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_2");
+		MonteCarloHypervolume hypervolume = new MonteCarloHypervolume(problem,
+				new double[] { 0.0, 0.0 }, new double[] { 1.0, 1.0 });
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+
+		Assert.assertEquals(0.0, hypervolume.evaluate(approximationSet),
+				Settings.EPS);
+
+		// the sampling box is entirely dominated by a single point
+		approximationSet.add(TestUtils.newSolution(0.5, 0.5));
+		Assert.assertEquals(0.25, hypervolume.evaluate(approximationSet),
+				Settings.EPS);
+
+		approximationSet.clear();
+		approximationSet.add(TestUtils.newSolution(2.0, 2.0));
+		Assert.assertEquals(0.0, hypervolume.evaluate(approximationSet),
+				Settings.EPS);
+
+		approximationSet.clear();
+		approximationSet.add(TestUtils.newSolution(-0.5, -0.5));
+		Assert.assertEquals(1.0, hypervolume.evaluate(approximationSet),
+				Settings.EPS);
+
+		approximationSet.clear();
+		approximationSet.add(TestUtils.newSolution(0.5, 0.0));
+		approximationSet.add(TestUtils.newSolution(0.0, 0.5));
+		Assert.assertEquals(0.75, hypervolume.evaluate(approximationSet),
+				0.01);
+	}
+
+	/**
+	 * Tests if the estimate agrees with the exact hypervolume on a reference
+	 * set, using both quasi-random and pseudo-random samples.
+	 */
+	@Test
+	public void testReferenceSet() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_3");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance()
+				.getReferenceSet("DTLZ2_3");
+		double expected = new Hypervolume(problem, referenceSet).evaluate(
+				referenceSet);
+
+		MonteCarloHypervolume hypervolume = new MonteCarloHypervolume(problem,
+				referenceSet);
+		hypervolume.setNumberOfSamples(200000);
+
+		test(expected, hypervolume.estimate(referenceSet));
+
+		hypervolume.setQuasiRandom(false);
+		test(expected, hypervolume.estimate(referenceSet));
+	}
+
+	/**
+	 * Tests if the estimate agrees with the exact hypervolume on random sets
+	 * with up to 8 objectives.
+	 */
+	@Test
+	public void testRandom() {
+		for (int M = 2; M <= 8; M++) {
+			Problem problem = ProblemFactory.getInstance().getProblem(
+					"DTLZ2_" + M);
+			double[] minimum = new double[M];
+			double[] maximum = new double[M];
+			NondominatedPopulation approximationSet =
+					new NondominatedPopulation();
+
+			Arrays.fill(maximum, 1.0);
+
+			for (int i = 0; i < 50; i++) {
+				Solution solution = new Solution(0, M);
+
+				for (int j = 0; j < M; j++) {
+					solution.setObjective(j, PRNG.nextDouble(0.0, 1.1));
+				}
+
+				approximationSet.add(solution);
+			}
+
+			double expected = new Hypervolume(problem, minimum, maximum)
+					.evaluate(approximationSet);
+
+			MonteCarloHypervolume hypervolume = new MonteCarloHypervolume(
+					problem, minimum, maximum);
+			hypervolume.setNumberOfSamples(100000);
+
+			test(expected, hypervolume.estimate(approximationSet));
+		}
+	}
+
+	/**
+	 * Asserts that the exact hypervolume lies within a generous multiple of
+	 * the standard error of the estimate.
+	 *
+	 * @param expected the exact hypervolume
+	 * @param estimate the estimated hypervolume
+	 */
+	private void test(double expected, Estimate estimate) {
+		Assert.assertTrue(estimate.getLowerBound() <= estimate.getValue());
+		Assert.assertTrue(estimate.getUpperBound() >= estimate.getValue());
+		Assert.assertEquals(expected, estimate.getValue(),
+				5.0 * estimate.getStandardError() + Settings.EPS);
+		Assert.assertEquals(expected, estimate.getValue(), 0.01);
+	}
+
+	/**
+	 * Tests if sampling stops early once the error target is reached.
+	 */
+	@Test
+	public void testTargetError() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_3");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance()
+				.getReferenceSet("DTLZ2_3");
+
+		MonteCarloHypervolume hypervolume = new MonteCarloHypervolume(problem,
+				referenceSet);
+		hypervolume.setNumberOfSamples(10000000);
+		hypervolume.setTargetError(0.005);
+
+		Estimate estimate = hypervolume.estimate(referenceSet);
+
+		Assert.assertTrue(estimate.getNumberOfSamples() < 10000000);
+		Assert.assertTrue(estimate.getUpperBound() - estimate.getValue() <=
+				0.005);
+	}
+
+	/**
+	 * Tests if the estimate is reproducible and independent of the number of
+	 * threads.
+	 */
+	@Test
+	public void testThreads() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_3");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance()
+				.getReferenceSet("DTLZ2_3");
+
+		MonteCarloHypervolume hypervolume = new MonteCarloHypervolume(problem,
+				referenceSet);
+		hypervolume.setNumberOfSamples(50000);
+
+		hypervolume.setNumberOfThreads(1);
+		hypervolume.setSeed(1234);
+		Estimate estimate1 = hypervolume.estimate(referenceSet);
+
+		hypervolume.setNumberOfThreads(4);
+		hypervolume.setSeed(1234);
+		Estimate estimate2 = hypervolume.estimate(referenceSet);
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try {
+			hypervolume.setExecutor(executor);
+			hypervolume.setSeed(1234);
+			Estimate estimate3 = hypervolume.estimate(referenceSet);
+
+			assertEquals(estimate1, estimate3);
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(estimate1, estimate2);
+	}
+
+	/**
+	 * Tests if the estimates are reproducible from the seed of the indicator
+	 * and do not draw random numbers from {@link PRNG}.
+	 */
+	@Test
+	public void testSeed() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_3");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance()
+				.getReferenceSet("DTLZ2_3");
+
+		MonteCarloHypervolume hypervolume1 = new MonteCarloHypervolume(
+				problem, referenceSet);
+		hypervolume1.setNumberOfSamples(10000);
+
+		MonteCarloHypervolume hypervolume2 = new MonteCarloHypervolume(
+				problem, referenceSet);
+		hypervolume2.setNumberOfSamples(10000);
+
+		PRNG.setSeed(1234);
+		long expected = PRNG.nextLong();
+
+		PRNG.setSeed(1234);
+		Estimate estimate1 = hypervolume1.estimate(referenceSet);
+		Estimate estimate2 = hypervolume1.estimate(referenceSet);
+
+		Assert.assertEquals(expected, PRNG.nextLong());
+		Assert.assertNotEquals(estimate1.getValue(), estimate2.getValue(),
+				0.0);
+
+		// a new instance repeats the same sequence of estimates
+		assertEquals(estimate1, hypervolume2.estimate(referenceSet));
+		assertEquals(estimate2, hypervolume2.estimate(referenceSet));
+	}
+
+	/**
+	 * Asserts that two estimates are identical.
+	 *
+	 * @param expected the expected estimate
+	 * @param actual the actual estimate
+	 */
+	private void assertEquals(Estimate expected, Estimate actual) {
+		Assert.assertEquals(expected.getValue(), actual.getValue(), 0.0);
+		Assert.assertEquals(expected.getStandardError(),
+				actual.getStandardError(), 0.0);
+		Assert.assertEquals(expected.getNumberOfSamples(),
+				actual.getNumberOfSamples());
+	}
+
+	/**
+	 * Tests if invalid settings are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidNumberOfSamples() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_2");
+
+		new MonteCarloHypervolume(problem, new double[] { 0.0, 0.0 },
+				new double[] { 1.0, 1.0 }).setNumberOfSamples(1);
+	}
+
+	/**
+	 * Tests if {@link QualityIndicator} reports the estimate when the
+	 * approximate hypervolume is enabled, even if the exact hypervolume is
+	 * disabled.
+	 */
+	@Test
+	public void testQualityIndicator() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_3");
+		NondominatedPopulation referenceSet = ProblemFactory.getInstance()
+				.getReferenceSet("DTLZ2_3");
+		QualityIndicator qualityIndicator = new QualityIndicator(problem,
+				referenceSet);
+
+		qualityIndicator.calculate(referenceSet);
+		double expected = qualityIndicator.getHypervolume();
+
+		try {
+			Settings.PROPERTIES.setBoolean(Settings.KEY_HYPERVOLUME_ENABLED,
+					false);
+			Settings.PROPERTIES.setBoolean(
+					Settings.KEY_HYPERVOLUME_APPROXIMATE, true);
+
+			qualityIndicator.calculate(referenceSet);
+			Assert.assertEquals(expected, qualityIndicator.getHypervolume(),
+					0.01);
+		} finally {
+			Settings.PROPERTIES.remove(Settings.KEY_HYPERVOLUME_ENABLED);
+			Settings.PROPERTIES.remove(Settings.KEY_HYPERVOLUME_APPROXIMATE);
+		}
+	}
+
+}
@@ -0,0 +1,177 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.analysis.sensitivity.ProblemStub;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.PackedSolutions;
+import org.moeaframework.core.Population;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tests the {@link NearestNeighborIndex} class.
+ */
+public class NearestNeighborIndexTest {
+
+	/**
+	 * Tests if the distances match a brute-force scan for a variety of sizes
+	 * and numbers of objectives.
+	 */
+	@Test
+	public void testRandom() {
+		for (int numberOfObjectives : new int[] { 1, 2, 3, 8 }) {
+			for (int size : new int[] { 1, 5, 9, 100, 1000 }) {
+				test(numberOfObjectives, size, 100);
+			}
+		}
+	}
+
+	/**
+	 * Tests if the distances match a brute-force scan when the indexed
+	 * solutions contain duplicates and share coordinates.
+	 */
+	@Test
+	public void testDuplicates() {
+		Problem problem = new ProblemStub(3);
+		Population population = new Population();
+
+		for (int i = 0; i < 200; i++) {
+			population.add(new Solution(new double[] { PRNG.nextInt(3), 0.5,
+					PRNG.nextInt(3) }));
+		}
+
+		assertDistances(problem, population, createRandomPopulation(3, 100));
+	}
+
+	/**
+	 * Tests if the distances are computed correctly when the queries are
+	 * divided among multiple threads.
+	 */
+	@Test
+	public void testParallel() {
+		Problem problem = new ProblemStub(3);
+		Population queries = createRandomPopulation(3,
+				4 * NearestNeighborIndex.PARALLEL_THRESHOLD + 1);
+		PackedSolutions packedQueries = IndicatorUtils.pack(problem, queries);
+		NearestNeighborIndex index = new NearestNeighborIndex(problem,
+				createRandomPopulation(3, 500));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			double[] expected = index.distancesToNearest(packedQueries);
+
+			// the executor is reused and remains usable between calls
+			for (int i = 0; i < 2; i++) {
+				Assert.assertArrayEquals(expected,
+						index.distancesToNearest(packedQueries, executor), 0.0);
+			}
+
+			Assert.assertFalse(executor.isShutdown());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Tests if an empty index returns infinite distances.
+	 */
+	@Test
+	public void testEmpty() {
+		NearestNeighborIndex index = new NearestNeighborIndex(
+				new ProblemStub(2), new NondominatedPopulation());
+
+		Assert.assertEquals(0, index.size());
+		Assert.assertEquals(Double.POSITIVE_INFINITY,
+				index.distanceToNearest(new double[] { 0.5, 0.5 }), 0.0);
+	}
+
+	/**
+	 * Tests if the index returns the same distances as a brute-force scan.
+	 *
+	 * @param numberOfObjectives the number of objectives
+	 * @param size the number of indexed solutions
+	 * @param numberOfQueries the number of queries
+	 */
+	private void test(int numberOfObjectives, int size, int numberOfQueries) {
+		assertDistances(new ProblemStub(numberOfObjectives),
+				createRandomPopulation(numberOfObjectives, size),
+				createRandomPopulation(numberOfObjectives, numberOfQueries));
+	}
+
+	/**
+	 * Asserts that the index returns the same distances as a brute-force
+	 * scan.
+	 *
+	 * @param problem the problem
+	 * @param population the indexed solutions
+	 * @param queries the query solutions
+	 */
+	private void assertDistances(Problem problem, Population population,
+			Population queries) {
+		NearestNeighborIndex index = new NearestNeighborIndex(problem,
+				population);
+		PackedSolutions packedPopulation = IndicatorUtils.pack(problem,
+				population);
+		PackedSolutions packedQueries = IndicatorUtils.pack(problem, queries);
+		double[] distances = index.distancesToNearest(packedQueries);
+
+		Assert.assertEquals(population.size(), index.size());
+		Assert.assertEquals(queries.size(), distances.length);
+
+		for (int i = 0; i < queries.size(); i++) {
+			double expected = IndicatorUtils.distanceToNearestSolution(
+					problem, packedQueries, i, packedPopulation);
+
+			Assert.assertEquals(expected, distances[i], 0.0);
+			Assert.assertEquals(expected, index.distanceToNearest(
+					queries.get(i).getObjectives()), 0.0);
+		}
+	}
+
+	/**
+	 * Returns a population of solutions with random objectives.
+	 *
+	 * @param numberOfObjectives the number of objectives
+	 * @param size the number of solutions
+	 * @return a population of solutions with random objectives
+	 */
+	private Population createRandomPopulation(int numberOfObjectives,
+			int size) {
+		Population population = new Population();
+
+		for (int i = 0; i < size; i++) {
+			double[] objectives = new double[numberOfObjectives];
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				objectives[j] = PRNG.nextDouble();
+			}
+
+			population.add(new Solution(objectives));
+		}
+
+		return population;
+	}
+
+}
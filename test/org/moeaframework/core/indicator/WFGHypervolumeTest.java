@@ -0,0 +1,176 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tests the {@link WFGHypervolume} class.
+ */
+public class WFGHypervolumeTest {
+
+	/**
+	 * Tests simple cases with known hypervolumes.
+	 */
+	@Test
+	public void testSimple() {
+		WFGHypervolume hypervolume = new WFGHypervolume(2);
+		double[] referencePoint = new double[] { 1.0, 1.0 };
+		
+		Assert.assertEquals(0.0, hypervolume.calculate(new double[0], 0,
+				referencePoint), Settings.EPS);
+		Assert.assertEquals(0.25, hypervolume.calculate(
+				new double[] { 0.5, 0.5 }, 1, referencePoint), Settings.EPS);
+		Assert.assertEquals(0.75, hypervolume.calculate(
+				new double[] { 0.5, 0.0, 0.0, 0.5 }, 2, referencePoint),
+				Settings.EPS);
+		Assert.assertEquals(0.0, hypervolume.calculate(
+				new double[] { 1.0, 0.0, 2.0, 2.0 }, 2, referencePoint),
+				Settings.EPS);
+		
+		hypervolume = new WFGHypervolume(3);
+		referencePoint = new double[] { 2.0, 2.0, 2.0 };
+		
+		Assert.assertEquals(8.0, hypervolume.calculate(
+				new double[] { 0.0, 0.0, 0.0, 1.0, 1.0, 1.0 }, 2,
+				referencePoint), Settings.EPS);
+		Assert.assertEquals(4.0, hypervolume.calculate(
+				new double[] { 1.0, 1.0, 0.0, 1.0, 0.0, 1.0, 0.0, 1.0, 1.0 },
+				3, referencePoint), Settings.EPS);
+	}
+	
+	/**
+	 * Tests if the points buffer is not modified.
+	 */
+	@Test
+	public void testPointsUnchanged() {
+		double[] points = new double[] { 0.9, 0.1, 0.5, 0.1, 0.9, 0.5, 0.5,
+				0.5, 0.1, 0.2, 0.2, 0.8 };
+		double[] copy = points.clone();
+		
+		new WFGHypervolume(3).calculate(points, 4,
+				new double[] { 1.0, 1.0, 1.0 });
+		
+		Assert.assertArrayEquals(copy, points, 0.0);
+	}
+
+	/**
+	 * Tests if the hypervolume matches the recursive slicing algorithm on
+	 * random sets for two through six objectives, including dominated and
+	 * duplicate points.
+	 */
+	@Test
+	public void testRandom() {
+		for (int M = 2; M <= 6; M++) {
+			WFGHypervolume hypervolume = new WFGHypervolume(M);
+			
+			for (int i = 0; i < 20; i++) {
+				int N = PRNG.nextInt(1, 40);
+				double[] points = new double[N * M];
+				List<Solution> solutions = new ArrayList<Solution>();
+				
+				for (int j = 0; j < N; j++) {
+					double[] objectives = new double[M];
+					
+					for (int k = 0; k < M; k++) {
+						objectives[k] = PRNG.nextInt(4) == 0 ?
+								points[PRNG.nextInt(j * M + 1) / M * M + k] :
+								PRNG.nextDouble(0.0, 1.2);
+						points[j*M + k] = objectives[k];
+					}
+					
+					solutions.add(invert(objectives));
+				}
+				
+				double[] referencePoint = new double[M];
+				Arrays.fill(referencePoint, 1.0);
+				
+				Assert.assertEquals(Hypervolume.calculateHypervolume(
+						solutions, solutions.size(), M),
+						hypervolume.calculate(points, N, referencePoint),
+						Settings.EPS);
+			}
+		}
+	}
+	
+	/**
+	 * Tests if the hypervolume matches the recursive slicing algorithm on
+	 * points lying on a spherical front, where all points are non-dominated.
+	 */
+	@Test
+	public void testSphere() {
+		for (int M = 3; M <= 6; M++) {
+			int N = 50;
+			double[] points = new double[N * M];
+			List<Solution> solutions = new ArrayList<Solution>();
+			
+			for (int j = 0; j < N; j++) {
+				double[] objectives = new double[M];
+				double norm = 0.0;
+				
+				for (int k = 0; k < M; k++) {
+					objectives[k] = Math.abs(PRNG.nextGaussian());
+					norm += objectives[k] * objectives[k];
+				}
+				
+				for (int k = 0; k < M; k++) {
+					objectives[k] /= Math.sqrt(norm);
+					points[j*M + k] = objectives[k];
+				}
+				
+				solutions.add(invert(objectives));
+			}
+			
+			double[] referencePoint = new double[M];
+			Arrays.fill(referencePoint, 1.0);
+			
+			Assert.assertEquals(Hypervolume.calculateHypervolume(
+					solutions, solutions.size(), M),
+					new WFGHypervolume(M).calculate(points, N, referencePoint),
+					Settings.EPS);
+		}
+	}
+	
+	/**
+	 * Returns a solution with the objectives inverted for use with
+	 * {@link Hypervolume#calculateHypervolume(List, int, int)}, which expects
+	 * maximized objectives with the origin as the reference point.  Points
+	 * beyond the reference point are clamped to the origin.
+	 * 
+	 * @param objectives the minimized objectives
+	 * @return the solution with inverted objectives
+	 */
+	private Solution invert(double[] objectives) {
+		double[] inverted = new double[objectives.length];
+		
+		for (int i = 0; i < objectives.length; i++) {
+			inverted[i] = Math.max(0.0, 1.0 - objectives[i]);
+		}
+		
+		return new Solution(inverted);
+	}
+
+}
@@ -71,6 +71,22 @@ public class BitFlipTest {
 				TestThresholds.VARIATION_EPS);
 	}
 
+	/**
+	 * Tests if the offspring shares the variable of its parent when no bits
+	 * are flipped.
+	 */
+	@Test
+	public void testNoCopyWhenUnchanged() {
+		Solution parent = new Solution(1, 0);
+		parent.setVariable(0, new BinaryVariable(100));
+
+		Solution offspring = new BitFlip(0.0).evolve(
+				new Solution[] { parent })[0];
+
+		Assert.assertSame(parent.getVariableReadOnly(0),
+				offspring.getVariableReadOnly(0));
+	}
+
 	/**
 	 * Tests if the parents remain unchanged during variation.
 	 */
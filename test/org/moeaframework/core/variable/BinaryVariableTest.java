@@ -19,6 +19,7 @@ package org.moeaframework.core.variable;
 
 import java.util.BitSet;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -179,4 +180,61 @@ public class BinaryVariableTest {
 		b1.hammingDistance(b2);
 	}
 
+	@Test
+	public void testFlip() {
+		value.flip(0);
+		value.flip(1);
+		
+		Assert.assertTrue(value.get(0));
+		Assert.assertFalse(value.get(1));
+	}
+	
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testFlipBoundsCheck() {
+		value.flip(2);
+	}
+	
+	@Test
+	public void testWords() {
+		BinaryVariable variable = new BinaryVariable(100);
+		
+		Assert.assertEquals(2, variable.getNumberOfWords());
+		
+		variable.set(63, true);
+		variable.set(64, true);
+		Assert.assertEquals(1L << 63, variable.getWord(0));
+		Assert.assertEquals(1L, variable.getWord(1));
+		
+		// bits beyond the end of the variable are ignored
+		variable.setWord(1, -1L);
+		Assert.assertEquals((1L << 36) - 1, variable.getWord(1));
+		Assert.assertEquals(37, variable.cardinality());
+		Assert.assertTrue(variable.get(99));
+	}
+	
+	@Test
+	public void testHammingDistanceMultipleWords() {
+		BinaryVariable b1 = new BinaryVariable(130);
+		BinaryVariable b2 = new BinaryVariable(130);
+		
+		b1.set(0, true);
+		b1.set(64, true);
+		b2.set(129, true);
+		
+		Assert.assertEquals(3, b1.hammingDistance(b2));
+	}
+	
+	@Test
+	public void testSerialization() {
+		BinaryVariable variable = new BinaryVariable(100);
+		variable.set(3, true);
+		variable.set(99, true);
+		
+		BinaryVariable copy = SerializationUtils.clone(variable);
+		
+		Assert.assertEquals(variable, copy);
+		Assert.assertEquals(100, copy.getNumberOfBits());
+		Assert.assertEquals(2, copy.cardinality());
+	}
+
 }
@@ -0,0 +1,153 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.problem.BinaryExternalConnection.Request;
+
+/**
+ * Tests the {@link BinaryExternalConnection} class.
+ */
+public class BinaryExternalConnectionTest {
+
+	@Test
+	public void testWriteError() throws IOException, InterruptedException {
+		PipedOutputStream responses = new PipedOutputStream();
+		FailingOutputStream output = new FailingOutputStream(100);
+		BinaryExternalConnection connection = new BinaryExternalConnection(
+				new PipedInputStream(responses), output);
+
+		try {
+			// the first request is buffered, the second is too large to be
+			// buffered and fails after a partial frame is written
+			Request request = connection.send(createSolution(8));
+
+			try {
+				connection.send(createSolution(100000));
+				Assert.fail("expected the write to fail");
+			} catch (IOException e) {
+				// expected
+			}
+
+			Assert.assertTrue(output.isClosed());
+			Assert.assertEquals(0, connection.getNumberOfPendingRequests());
+
+			try {
+				request.await(createSolution(8));
+				Assert.fail("expected the pending request to fail");
+			} catch (IOException e) {
+				// expected
+			}
+
+			try {
+				connection.send(createSolution(8));
+				Assert.fail("expected the connection to be closed");
+			} catch (IOException e) {
+				// expected
+			}
+		} finally {
+			connection.close();
+			responses.close();
+		}
+	}
+
+	@Test
+	public void testFlushError() throws IOException, InterruptedException {
+		PipedOutputStream responses = new PipedOutputStream();
+		FailingOutputStream output = new FailingOutputStream(0);
+		BinaryExternalConnection connection = new BinaryExternalConnection(
+				new PipedInputStream(responses), output);
+
+		try {
+			Request request = connection.send(createSolution(8));
+
+			try {
+				connection.flush();
+				Assert.fail("expected the flush to fail");
+			} catch (IOException e) {
+				// expected
+			}
+
+			try {
+				request.await(createSolution(8));
+				Assert.fail("expected the pending request to fail");
+			} catch (IOException e) {
+				// expected
+			}
+
+			try {
+				connection.flush();
+				Assert.fail("expected the connection to be closed");
+			} catch (IOException e) {
+				// expected
+			}
+		} finally {
+			connection.close();
+			responses.close();
+		}
+	}
+
+	private Solution createSolution(int numberOfBits) {
+		Solution solution = new Solution(1, 1);
+		solution.setVariable(0, new BinaryVariable(numberOfBits));
+		return solution;
+	}
+
+	/**
+	 * Output stream that fails once the given number of bytes are written.
+	 */
+	private static class FailingOutputStream extends OutputStream {
+
+		private int remaining;
+
+		private boolean closed;
+
+		public FailingOutputStream(int capacity) {
+			super();
+			remaining = capacity;
+		}
+
+		public boolean isClosed() {
+			return closed;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (closed || (remaining == 0)) {
+				throw new IOException("write failed");
+			}
+
+			remaining--;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+
+	}
+
+}
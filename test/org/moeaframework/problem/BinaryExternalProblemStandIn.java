@@ -0,0 +1,139 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Stand-in for an external program speaking the protocol of
+ * {@link BinaryExternalProblem}.  The problem has two real variables, a
+ * 10-bit binary variable and a permutation of 4 elements.  The objectives are
+ * the sum of the real variables and the number of set bits, and the constraint
+ * is the first element of the permutation.  When a second request is already
+ * waiting, the two requests are answered in reverse order.
+ * <p>
+ * Run with no arguments to serve requests on standard input and output, or
+ * with the argument {@code exit} to terminate immediately.
+ */
+public class BinaryExternalProblemStandIn {
+
+	/**
+	 * The size of the request payload.
+	 */
+	private static final int PAYLOAD_SIZE = 2 * 8 + 2 + 4 * 4;
+
+	public static void main(String[] args) throws IOException {
+		if ((args.length > 0) && args[0].equals("exit")) {
+			return;
+		}
+
+		serve(System.in, System.out);
+	}
+
+	/**
+	 * Serves requests until the end of the input stream is reached.
+	 *
+	 * @param input the stream receiving requests
+	 * @param output the stream sending responses
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static void serve(InputStream input, OutputStream output)
+			throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(
+				input));
+		OutputStream out = new BufferedOutputStream(output);
+
+		while (true) {
+			byte[] first = read(in);
+
+			if (first == null) {
+				break;
+			}
+
+			byte[] second = in.available() > 0 ? read(in) : null;
+
+			if (second != null) {
+				out.write(evaluate(second));
+			}
+
+			out.write(evaluate(first));
+			out.flush();
+		}
+
+		out.close();
+	}
+
+	/**
+	 * Reads the next request frame, returning the request ID and payload, or
+	 * {@code null} if the end of stream is reached.
+	 *
+	 * @param in the stream receiving requests
+	 * @return the request ID and payload
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static byte[] read(DataInputStream in) throws IOException {
+		int length;
+
+		try {
+			length = Integer.reverseBytes(in.readInt());
+		} catch (EOFException e) {
+			return null;
+		}
+
+		if (length != 4 + PAYLOAD_SIZE) {
+			throw new IOException("unexpected request length " + length);
+		}
+
+		byte[] request = new byte[length];
+		in.readFully(request);
+		return request;
+	}
+
+	/**
+	 * Evaluates the request, returning the response frame.
+	 *
+	 * @param request the request ID and payload
+	 * @return the response frame
+	 */
+	private static byte[] evaluate(byte[] request) {
+		ByteBuffer in = ByteBuffer.wrap(request).order(ByteOrder.LITTLE_ENDIAN);
+		int id = in.getInt();
+		double sum = in.getDouble() + in.getDouble();
+		int bits = Integer.bitCount(in.get() & 0xFF) +
+				Integer.bitCount(in.get() & 0x03);
+		int element = in.getInt();
+
+		ByteBuffer out = ByteBuffer.allocate(4 + 4 + 3 * 8);
+		out.order(ByteOrder.LITTLE_ENDIAN);
+		out.putInt(4 + 3 * 8);
+		out.putInt(id);
+		out.putDouble(sum);
+		out.putDouble(bits);
+		out.putDouble(element);
+		return out.array();
+	}
+
+}
@@ -0,0 +1,263 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.util.distributed.DistributedProblem;
+
+/**
+ * Tests the {@link BinaryExternalProblem} class using
+ * {@link BinaryExternalProblemStandIn} as the external program.
+ */
+public class BinaryExternalProblemTest {
+
+	@Test
+	public void testEvaluate() throws IOException {
+		TestProblem problem = new TestProblem(1);
+
+		try {
+			for (int i = 0; i < 100; i++) {
+				Solution solution = createSolution(problem);
+				problem.evaluate(solution);
+				assertEvaluated(solution);
+			}
+		} finally {
+			problem.close();
+		}
+	}
+
+	@Test
+	public void testEvaluateAll() throws IOException {
+		TestProblem problem = new TestProblem(3);
+
+		try {
+			Assert.assertEquals(3, problem.getNumberOfConnections());
+			test(problem, 1000);
+		} finally {
+			problem.close();
+		}
+	}
+
+	@Test
+	public void testDistributed() throws IOException {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		Problem problem = new DistributedProblem(new TestProblem(2),
+				executor);
+
+		try {
+			List<Solution> solutions = new ArrayList<Solution>();
+
+			for (int i = 0; i < 500; i++) {
+				Solution solution = createSolution(problem);
+				problem.evaluate(solution);
+				solutions.add(solution);
+			}
+
+			for (Solution solution : solutions) {
+				assertEvaluated(solution);
+			}
+		} finally {
+			problem.close();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testSocket() throws IOException {
+		final ServerSocket server = new ServerSocket(0);
+
+		Thread thread = new Thread() {
+
+			@Override
+			public void run() {
+				try {
+					for (int i = 0; i < 2; i++) {
+						final Socket socket = server.accept();
+
+						new Thread() {
+
+							@Override
+							public void run() {
+								try {
+									BinaryExternalProblemStandIn.serve(
+											socket.getInputStream(),
+											socket.getOutputStream());
+									socket.close();
+								} catch (IOException e) {
+									e.printStackTrace();
+								}
+							}
+
+						}.start();
+					}
+				} catch (IOException e) {
+					e.printStackTrace();
+				}
+			}
+
+		};
+
+		thread.start();
+
+		TestProblem problem = new TestProblem(null, server.getLocalPort(), 2);
+
+		try {
+			test(problem, 100);
+		} finally {
+			problem.close();
+			server.close();
+		}
+	}
+
+	@Test(expected = ProblemException.class)
+	public void testEndOfStream() throws IOException {
+		TestProblem problem = new TestProblem(1, "exit");
+
+		try {
+			problem.evaluate(createSolution(problem));
+		} finally {
+			problem.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidNumberOfProcesses() throws IOException {
+		new TestProblem(0);
+	}
+
+	/**
+	 * Evaluates the specified number of random solutions in one batch and
+	 * checks the results.
+	 *
+	 * @param problem the problem
+	 * @param size the number of solutions
+	 */
+	private void test(BinaryExternalProblem problem, int size) {
+		List<Solution> solutions = new ArrayList<Solution>();
+
+		for (int i = 0; i < size; i++) {
+			solutions.add(createSolution(problem));
+		}
+
+		problem.evaluateAll(solutions);
+
+		for (Solution solution : solutions) {
+			assertEvaluated(solution);
+		}
+	}
+
+	private Solution createSolution(Problem problem) {
+		Solution solution = problem.newSolution();
+
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			solution.getVariable(i).randomize();
+		}
+
+		return solution;
+	}
+
+	private void assertEvaluated(Solution solution) {
+		double sum = ((RealVariable)solution.getVariable(0)).getValue() +
+				((RealVariable)solution.getVariable(1)).getValue();
+		BinaryVariable bits = (BinaryVariable)solution.getVariable(2);
+		Permutation permutation = (Permutation)solution.getVariable(3);
+
+		Assert.assertEquals(sum, solution.getObjective(0), 0.0);
+		Assert.assertEquals(bits.cardinality(), solution.getObjective(1), 0.0);
+		Assert.assertEquals(permutation.get(0), solution.getConstraint(0),
+				0.0);
+	}
+
+	/**
+	 * The problem evaluated by {@link BinaryExternalProblemStandIn}.
+	 */
+	private static class TestProblem extends BinaryExternalProblem {
+
+		public TestProblem(int numberOfProcesses, String... args)
+				throws IOException {
+			super(numberOfProcesses, createCommand(args));
+		}
+
+		public TestProblem(String host, int port, int numberOfConnections)
+				throws IOException {
+			super(host, port, numberOfConnections);
+		}
+
+		private static String[] createCommand(String... args) {
+			List<String> command = new ArrayList<String>();
+			command.add(System.getProperty("java.home") + File.separator +
+					"bin" + File.separator + "java");
+			command.add("-cp");
+			command.add(System.getProperty("java.class.path"));
+			command.add(BinaryExternalProblemStandIn.class.getName());
+
+			for (String arg : args) {
+				command.add(arg);
+			}
+
+			return command.toArray(new String[command.size()]);
+		}
+
+		@Override
+		public String getName() {
+			return "Test";
+		}
+
+		@Override
+		public int getNumberOfVariables() {
+			return 4;
+		}
+
+		@Override
+		public int getNumberOfObjectives() {
+			return 2;
+		}
+
+		@Override
+		public int getNumberOfConstraints() {
+			return 1;
+		}
+
+		@Override
+		public Solution newSolution() {
+			Solution solution = new Solution(4, 2, 1);
+			solution.setVariable(0, new RealVariable(0.0, 1.0));
+			solution.setVariable(1, new RealVariable(-1.0, 1.0));
+			solution.setVariable(2, new BinaryVariable(10));
+			solution.setVariable(3, new Permutation(4));
+			return solution;
+		}
+
+	}
+
+}
@@ -0,0 +1,309 @@
+/* Copyright 2009-2019 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.Subset;
+import org.moeaframework.util.distributed.DistributedProblem;
+
+/**
+ * Tests the {@link CachedProblem} class.
+ */
+public class CachedProblemTest {
+
+	@Test
+	public void testHit() {
+		CountingProblem countingProblem = new CountingProblem();
+		CachedProblem problem = new CachedProblem(countingProblem, 100);
+
+		Solution solution1 = createSolution(problem);
+		Solution solution2 = solution1.copy();
+		solution2.setObjectives(new double[2]);
+		solution2.setConstraints(new double[1]);
+
+		problem.evaluate(solution1);
+		problem.evaluate(solution2);
+
+		Assert.assertEquals(1, countingProblem.getCount());
+		Assert.assertEquals(1, problem.getHits());
+		Assert.assertEquals(1, problem.getMisses());
+		assertEvaluated(solution2);
+	}
+
+	@Test
+	public void testMiss() {
+		CountingProblem countingProblem = new CountingProblem();
+		CachedProblem problem = new CachedProblem(countingProblem, 100);
+
+		Solution solution1 = createSolution(problem);
+		problem.evaluate(solution1);
+
+		// changing any one variable must miss the cache
+		Solution solution2 = solution1.copy();
+		((BinaryVariable)solution2.getVariable(1)).set(69,
+				!((BinaryVariable)solution2.getVariable(1)).get(69));
+		problem.evaluate(solution2);
+
+		Solution solution3 = solution1.copy();
+		((Permutation)solution3.getVariable(2)).swap(0, 4);
+		problem.evaluate(solution3);
+
+		Solution solution4 = solution1.copy();
+		((RealVariable)solution4.getVariable(0)).setValue(Math.nextUp(
+				((RealVariable)solution4.getVariable(0)).getValue()));
+		problem.evaluate(solution4);
+
+		Assert.assertEquals(4, countingProblem.getCount());
+		Assert.assertEquals(0, problem.getHits());
+		Assert.assertEquals(4, problem.getMisses());
+		assertEvaluated(solution2);
+		assertEvaluated(solution3);
+		assertEvaluated(solution4);
+	}
+
+	@Test
+	public void testEviction() {
+		CountingProblem countingProblem = new CountingProblem();
+		CachedProblem problem = new CachedProblem(countingProblem, 2);
+
+		Solution solution1 = createSolution(problem);
+		Solution solution2 = createSolution(problem);
+		Solution solution3 = createSolution(problem);
+
+		problem.evaluate(solution1);
+		problem.evaluate(solution2);
+		problem.evaluate(solution1.copy());
+		problem.evaluate(solution3);
+
+		// solution2 was the least recently used
+		Assert.assertEquals(2, problem.getCacheSize());
+		problem.evaluate(solution1.copy());
+		Assert.assertEquals(3, countingProblem.getCount());
+		problem.evaluate(solution2.copy());
+		Assert.assertEquals(4, countingProblem.getCount());
+	}
+
+	@Test
+	public void testUncacheableVariable() {
+		final AtomicInteger count = new AtomicInteger();
+
+		CachedProblem problem = new CachedProblem(new AbstractProblem(1, 1) {
+
+			@Override
+			public void evaluate(Solution solution) {
+				count.incrementAndGet();
+				solution.setObjective(0, 1.0);
+			}
+
+			@Override
+			public Solution newSolution() {
+				Solution solution = new Solution(1, 1);
+				solution.setVariable(0, new Subset(2, 5));
+				return solution;
+			}
+
+		}, 100);
+
+		Solution solution = problem.newSolution();
+		problem.evaluate(solution);
+		problem.evaluate(solution);
+
+		Assert.assertEquals(2, count.get());
+		Assert.assertEquals(0, problem.getCacheSize());
+		Assert.assertEquals(2, problem.getMisses());
+	}
+
+	@Test
+	public void testEvaluateAll() {
+		CountingProblem countingProblem = new CountingProblem();
+		CachedProblem problem = new CachedProblem(countingProblem, 100);
+		List<Solution> solutions = new ArrayList<Solution>();
+
+		for (int i = 0; i < 10; i++) {
+			solutions.add(createSolution(problem));
+		}
+
+		problem.evaluateAll(solutions);
+
+		for (int i = 0; i < 10; i++) {
+			solutions.add(solutions.get(i).copy());
+		}
+
+		problem.evaluateAll(solutions);
+
+		Assert.assertEquals(10, countingProblem.getCount());
+		Assert.assertEquals(20, problem.getHits());
+
+		for (Solution solution : solutions) {
+			assertEvaluated(solution);
+		}
+	}
+
+	@Test
+	public void testEvaluateAllDuplicates() {
+		CountingProblem countingProblem = new CountingProblem();
+		CachedProblem problem = new CachedProblem(countingProblem, 100);
+		List<Solution> solutions = new ArrayList<Solution>();
+
+		for (int i = 0; i < 5; i++) {
+			Solution solution = createSolution(problem);
+			solutions.add(solution);
+			solutions.add(solution.copy());
+			solutions.add(solution.copy());
+		}
+
+		problem.evaluateAll(solutions);
+
+		Assert.assertEquals(5, countingProblem.getCount());
+		Assert.assertEquals(5, problem.getMisses());
+		Assert.assertEquals(10, problem.getHits());
+
+		for (Solution solution : solutions) {
+			assertEvaluated(solution);
+		}
+	}
+
+	@Test
+	public void testClear() {
+		CachedProblem problem = new CachedProblem(new CountingProblem(), 100);
+		Solution solution = createSolution(problem);
+
+		problem.evaluate(solution);
+		problem.evaluate(solution);
+		problem.clear();
+
+		Assert.assertEquals(0, problem.getCacheSize());
+		Assert.assertEquals(0, problem.getHits());
+		Assert.assertEquals(0, problem.getMisses());
+	}
+
+	@Test
+	public void testConcurrent() {
+		CountingProblem countingProblem = new CountingProblem();
+		CachedProblem cachedProblem = new CachedProblem(countingProblem, 50);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		Problem problem = new DistributedProblem(cachedProblem, executor);
+
+		try {
+			List<Solution> prototypes = new ArrayList<Solution>();
+			List<Solution> solutions = new ArrayList<Solution>();
+
+			for (int i = 0; i < 100; i++) {
+				prototypes.add(createSolution(problem));
+			}
+
+			for (int i = 0; i < 2000; i++) {
+				Solution solution = prototypes.get(i % prototypes.size())
+						.copy();
+				problem.evaluate(solution);
+				solutions.add(solution);
+			}
+
+			for (Solution solution : solutions) {
+				assertEvaluated(solution);
+			}
+
+			Assert.assertEquals(2000, cachedProblem.getHits() +
+					cachedProblem.getMisses());
+			Assert.assertEquals(countingProblem.getCount(),
+					cachedProblem.getMisses());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCapacity() {
+		new CachedProblem(new CountingProblem(), 0);
+	}
+
+	private Solution createSolution(Problem problem) {
+		Solution solution = problem.newSolution();
+
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			solution.getVariable(i).randomize();
+		}
+
+		return solution;
+	}
+
+	private void assertEvaluated(Solution solution) {
+		Solution expected = solution.copy();
+		new CountingProblem().evaluate(expected);
+
+		Assert.assertArrayEquals(expected.getObjectives(),
+				solution.getObjectives(), 0.0);
+		Assert.assertArrayEquals(expected.getConstraints(),
+				solution.getConstraints(), 0.0);
+	}
+
+	/**
+	 * Problem with real, binary and permutation variables that counts the
+	 * number of evaluations.
+	 */
+	private static class CountingProblem extends AbstractProblem {
+
+		private final AtomicInteger count;
+
+		public CountingProblem() {
+			super(3, 2, 1);
+			count = new AtomicInteger();
+		}
+
+		public int getCount() {
+			return count.get();
+		}
+
+		@Override
+		public void evaluate(Solution solution) {
+			count.incrementAndGet();
+
+			Permutation permutation = (Permutation)solution.getVariable(2);
+
+			solution.setObjective(0,
+					((RealVariable)solution.getVariable(0)).getValue());
+			solution.setObjective(1,
+					((BinaryVariable)solution.getVariable(1)).cardinality());
+			solution.setConstraint(0, permutation.get(0) +
+					permutation.get(permutation.size() - 1));
+		}
+
+		@Override
+		public Solution newSolution() {
+			Solution solution = new Solution(3, 2, 1);
+			solution.setVariable(0, new RealVariable(0.0, 1.0));
+			solution.setVariable(1, new BinaryVariable(100));
+			solution.setVariable(2, new Permutation(7));
+			return solution;
+		}
+
+	}
+
+}
@@ -20,6 +20,8 @@ package org.moeaframework.problem;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.Assert;
 import org.junit.Test;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
 import org.moeaframework.core.spi.ProblemFactory;
 
 /**
@@ -66,6 +68,33 @@ public class StandardProblemsTest {
 		}
 	}
 	
+	/**
+	 * Ensures evaluating a copy of a solution only reads its variables, so
+	 * the copy continues to share the variables of the original.
+	 */
+	@Test
+	public void testEvaluateIsReadOnly() {
+		for (String name : problems) {
+			Problem problem = ProblemFactory.getInstance().getProblem(name);
+			Solution solution = problem.newSolution();
+			
+			for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+				solution.getVariable(i).randomize();
+			}
+			
+			Solution copy = solution.copy();
+			problem.evaluate(copy);
+			
+			for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+				Assert.assertSame("variable copied by " + name,
+						solution.getVariableReadOnly(i),
+						copy.getVariableReadOnly(i));
+			}
+			
+			problem.close();
+		}
+	}
+	
 	/**
 	 * Ensures the names are not case sensitive.
 	 */
@@ -17,17 +17,24 @@
  */
 package org.moeaframework.util.distributed;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.moeaframework.Executor;
+import org.moeaframework.core.BatchProblem;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.EncodingUtils;
+import org.moeaframework.core.variable.RealVariable;
 import org.moeaframework.problem.AbstractProblem;
 import org.moeaframework.problem.MockRealProblem;
 import org.moeaframework.problem.MockRealStochasticProblem;
@@ -181,6 +188,164 @@ public class DistributedProblemTest {
 				- (System.currentTimeMillis() - startTime)) < 1000);
 	}
 	
+	/**
+	 * Tests if evaluating many solutions at once divides the solutions into
+	 * the given number of tasks, each evaluated by the underlying batch
+	 * problem, and that the results are matched to the correct solutions.
+	 */
+	@Test
+	public void testBatch() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		final AtomicInteger batches = new AtomicInteger();
+		
+		DistributedProblem problem = new DistributedProblem(
+				new MockBatchProblem(batches), executor, 4);
+		
+		List<Solution> solutions = new ArrayList<Solution>();
+		
+		for (int i = 0; i < 10; i++) {
+			Solution solution = problem.newSolution();
+			EncodingUtils.setReal(solution.getVariable(0), i);
+			solutions.add(solution);
+		}
+		
+		problem.evaluateAll(solutions);
+		
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals(i, solutions.get(i).getObjective(0), 0.0);
+			Assert.assertEquals(i, ((FutureSolution)solutions.get(i))
+					.getDistributedEvaluationID());
+		}
+		
+		Assert.assertEquals(4, batches.get());
+		
+		executor.shutdown();
+	}
+	
+	/**
+	 * Tests if evaluating many solutions at once without specifying the number
+	 * of tasks evaluates each solution individually.
+	 */
+	@Test
+	public void testBatchDefault() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		final AtomicInteger batches = new AtomicInteger();
+		
+		DistributedProblem problem = new DistributedProblem(
+				new MockBatchProblem(batches), executor);
+		
+		List<Solution> solutions = new ArrayList<Solution>();
+		
+		for (int i = 0; i < 10; i++) {
+			Solution solution = problem.newSolution();
+			EncodingUtils.setReal(solution.getVariable(0), i);
+			solutions.add(solution);
+		}
+		
+		problem.evaluateAll(solutions);
+		
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals(i, solutions.get(i).getObjective(0), 0.0);
+		}
+		
+		Assert.assertEquals(0, batches.get());
+		
+		executor.shutdown();
+	}
+	
+	/**
+	 * Tests if copying a solution whose evaluation is underway does not block
+	 * and the copy receives the objectives once the evaluation completes.
+	 */
+	@Test
+	public void testCopyDoesNotBlock() {
+		ExecutorService executor = Executors.newFixedThreadPool(1);
+		final CountDownLatch latch = new CountDownLatch(1);
+		
+		DistributedProblem problem = new DistributedProblem(
+				new AbstractProblem(0, 1) {
+
+			@Override
+			public void evaluate(Solution solution) {
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				
+				solution.setObjective(0, 1.0);
+				solution.setAttribute("foo", "bar");
+			}
+
+			@Override
+			public Solution newSolution() {
+				return new Solution(0, 1);
+			}
+
+		}, executor);
+		
+		FutureSolution solution = (FutureSolution)problem.newSolution();
+		problem.evaluate(solution);
+		
+		FutureSolution copy = solution.copy();
+		Assert.assertFalse(copy.isDone());
+		
+		latch.countDown();
+		
+		Assert.assertEquals(1.0, copy.getObjective(0), 0.0);
+		Assert.assertEquals(1.0, solution.getObjective(0), 0.0);
+		Assert.assertEquals("bar", solution.getAttribute("foo"));
+		Assert.assertFalse(copy.hasAttribute("foo"));
+		
+		executor.shutdown();
+	}
+	
+	/**
+	 * Batch problem that copies the decision variable to the objective and
+	 * counts the number of batches.
+	 */
+	private static class MockBatchProblem extends AbstractProblem implements
+	BatchProblem {
+		
+		/**
+		 * The number of batches evaluated.
+		 */
+		private final AtomicInteger batches;
+		
+		/**
+		 * Constructs a new batch problem.
+		 * 
+		 * @param batches the number of batches evaluated
+		 */
+		public MockBatchProblem(AtomicInteger batches) {
+			super(1, 1);
+			this.batches = batches;
+		}
+
+		@Override
+		public void evaluate(Solution solution) {
+			solution.setObjective(0,
+					EncodingUtils.getReal(solution.getVariable(0)));
+		}
+		
+		@Override
+		public void evaluateAll(List<Solution> solutions) {
+			batches.incrementAndGet();
+			
+			for (Solution solution : solutions) {
+				evaluate(solution);
+			}
+		}
+
+		@Override
+		public Solution newSolution() {
+			Solution solution = new Solution(1, 1);
+			solution.setVariable(0, new RealVariable(0.0, 10.0));
+			return solution;
+		}
+		
+	}
+	
 	@Test
 	public void testReplicabilityOfStochasticDistributedProblem() {		
 		double bestSingle = getResultFromStochasticRun(1);
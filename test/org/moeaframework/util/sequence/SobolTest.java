@@ -17,6 +17,7 @@
  */
 package org.moeaframework.util.sequence;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.moeaframework.RetryOnTravis;
@@ -37,5 +38,24 @@ public class SobolTest extends SequenceTest {
 	public void test() {
 		test(new Sobol());
 	}
+	
+	/**
+	 * Tests if generating the sequence in blocks produces the same points as
+	 * generating the sequence at once.
+	 */
+	@Test
+	public void testStart() {
+		Sobol sobol = new Sobol();
+		double[][] expected = sobol.generate(1000, 5);
+		
+		for (int start = 0; start < 1000; start += 137) {
+			int N = Math.min(137, 1000 - start);
+			double[][] actual = sobol.generate(start, N, 5);
+			
+			for (int i = 0; i < N; i++) {
+				Assert.assertArrayEquals(expected[start + i], actual[i], 0.0);
+			}
+		}
+	}
 
 }